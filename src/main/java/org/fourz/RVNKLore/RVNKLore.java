@@ -7,6 +7,7 @@ import org.fourz.rvnkcore.RVNKCore;
 import org.fourz.rvnkcore.api.model.NotificationTypeDefinition;
 import org.fourz.rvnkcore.api.service.PlayerPreferencesService;
 import org.fourz.RVNKLore.lore.LoreManager;
+import org.fourz.RVNKLore.lore.LoreStatistics;
 import org.fourz.RVNKLore.config.ConfigManager;
 import org.fourz.RVNKLore.data.DatabaseManager;
 import org.fourz.rvnkcore.util.log.LogManager;
@@ -19,15 +20,22 @@ import org.fourz.RVNKLore.service.IPlayerLoreService;
 import org.fourz.RVNKLore.service.ILoreBookService;
 import org.fourz.RVNKLore.lore.item.book.LoreBookManager;
 import org.fourz.rvnkcore.util.PlayerLookup;
+import org.fourz.RVNKLore.util.StartupOrchestrator;
 import org.fourz.RVNKLore.util.UtilityManager;
+import org.fourz.RVNKLore.util.scheduler.LoreScheduler;
+import org.fourz.RVNKLore.util.scheduler.LoreTask;
 import org.fourz.RVNKLore.lore.item.ItemManager;
 import org.fourz.RVNKLore.lore.item.collection.CollectionManager;
+import org.fourz.RVNKLore.lore.submission.ModerationNotifier;
 import org.fourz.RVNKLore.lore.submission.SubmissionManager;
 import org.fourz.RVNKLore.lore.player.PlayerManager;
+import org.fourz.RVNKLore.lore.player.PlayerSessionManager;
 import org.fourz.RVNKLore.api.LoreApiEndpointImpl;
 import org.fourz.RVNKLore.discovery.DiscoveryManager;
 import org.fourz.RVNKLore.achievement.AchievementManager;
 import org.fourz.RVNKLore.gui.GuiListener;
+import org.fourz.RVNKLore.gui.browse.LoreBrowseIndex;
+import org.fourz.RVNKLore.notification.NotificationPreferenceCache;
 import org.fourz.RVNKLore.integration.placeholder.RVNKLorePlaceholderExpansion;
 import org.fourz.RVNKLore.integration.dynmap.DynmapIntegration;
 import org.fourz.RVNKLore.integration.votingplugin.VotingPluginIntegration;
@@ -53,7 +61,12 @@ public class RVNKLore extends JavaPlugin {
     private DiscoveryManager discoveryManager;
     private AchievementManager achievementManager;
     private LoreBookManager loreBookManager;
-    private int healthCheckTaskId = -1;
+    private LoreBrowseIndex browseIndex;
+    private LoreStatistics loreStatistics;
+    private NotificationPreferenceCache notificationPreferences;
+    private PlayerSessionManager playerSessions;
+    private LoreScheduler scheduler;
+    private LoreTask healthCheckTask;
     private Thread shutdownHook;
     private boolean shuttingDown = false;
     private final Object shutdownLock = new Object();
@@ -97,106 +110,131 @@ public class RVNKLore extends JavaPlugin {
 
         registerShutdownHook();
 
-        logger.info("Initializing RVNKLore...");
+        scheduler = LoreScheduler.create(this);
+        logger.info("Initializing RVNKLore" + (scheduler.isRegionized() ? " with the regionized scheduler" : "") + "...");
 
         try {
-            // First try to initialize the database
-            databaseManager = new DatabaseManager(this);
-
-            // Check database connection - allow fallback mode to continue
-            if (!databaseManager.isConnected()) {
-                // Check if fallback is disabled - only then is this fatal
-                if (!databaseManager.isFallbackEnabled()) {
-                    throw new Exception("Database connection failed and fallback is disabled. Plugin cannot function without storage.");
-                }
-                throw new Exception("Database connection failed and fallback also failed. Plugin cannot function without storage.");
-            }
-
-            // Log if running in fallback mode
-            if (databaseManager.isInFallbackMode()) {
-                logger.warning("=== PLUGIN RUNNING IN FALLBACK MODE ===");
-                logger.warning("MySQL unavailable - using SQLite fallback storage");
-                logger.warning("Some features may have limited functionality");
-            }
-
-            // Create handler factory but don't initialize it yet
-            handlerFactory = new HandlerFactory(this);
+            StartupOrchestrator startup = new StartupOrchestrator("RVNKLore-Startup",
+                Runtime.getRuntime().availableProcessors());
 
-            // Initialize utility manager for diagnostics
-            utilityManager = UtilityManager.getInstance(this);
-              // First initialize the handler factory completely before LoreManager needs it
-            handlerFactory.initialize();
-              // Now initialize LoreManager after HandlerFactory is fully initialized
-            loreManager = LoreManager.getInstance(this);
-            loreManager.initializeLore();
+            // First try to initialize the database
+            startup.phase("database", this::initializeDatabase);
+
+            // Create handler factory and register handler listeners before LoreManager needs them
+            startup.phase("handlers", () -> {
+                handlerFactory = new HandlerFactory(this);
+
+                // Initialize utility manager for diagnostics
+                utilityManager = UtilityManager.getInstance(this);
+                handlerFactory.initialize();
+            }, "database");
+
+            // Load lore entries, items and collections; nothing here touches the Bukkit API
+            startup.asyncPhase("lore", () -> {
+                loreManager = LoreManager.getInstance(this);
+                loreManager.initializeLore();
+
+                // Initialize ItemManager through LoreManager
+                this.itemManager = loreManager.getItemManager();
+            }, "handlers");
+
+            // Initialize PlayerLookup and PlayerManager for player-related lore operations
+            startup.asyncPhase("players", () -> {
+                this.playerLookup = new PlayerLookup(this);
+                this.playerManager = new PlayerManager(this);
+                this.playerManager.setPlayerLookup(playerLookup);
+                this.playerManager.initialize();
+            }, "database");
+
+            // Initialize SubmissionManager for lore submission workflow and load the moderation queue
+            startup.asyncPhase("submissions", () -> {
+                this.submissionManager = new SubmissionManager(this);
+                this.submissionManager.initialize();
+            }, "database", "lore");
+
+            // Notify staff of new submissions from the moderation queue
+            startup.phase("moderation", () -> getServer().getPluginManager().registerEvents(
+                new ModerationNotifier(this, submissionManager.getModerationQueue()), this), "submissions");
+
+            // Create DiscoveryManager and start loading first discoverers in the background
+            startup.asyncPhase("discovery-data", () -> {
+                this.discoveryManager = new DiscoveryManager(this);
+                this.discoveryManager.loadFirstDiscoverers();
+            }, "lore", "players");
 
             // Initialize LoreBookManager as plugin-level singleton
-            loreBookManager = new LoreBookManager(this);
-
-            // Initialize PlayerLookup for RVNKCore name resolution
-            this.playerLookup = new PlayerLookup(this);
-
-            // Initialize PlayerManager for player-related lore operations
-            this.playerManager = new PlayerManager(this);
-            this.playerManager.setPlayerLookup(playerLookup);
-            this.playerManager.initialize();
+            startup.phase("books", () -> loreBookManager = new LoreBookManager(this), "lore");
 
-            // Initialize ItemManager through LoreManager
-            this.itemManager = loreManager.getItemManager();
+            // Cache notification preferences per player for discovery and achievement notifications
+            startup.phase("notification-preferences", () -> {
+                this.notificationPreferences = new NotificationPreferenceCache(this);
+                this.notificationPreferences.initialize();
+            }, "database");
 
-            // Initialize SubmissionManager for lore submission workflow
-            this.submissionManager = new SubmissionManager(this);
-
-            // Initialize DiscoveryManager for lore discovery events
-            this.discoveryManager = new DiscoveryManager(this);
-            this.discoveryManager.initialize();
+            // Register discovery listeners
+            startup.phase("discovery", () -> this.discoveryManager.initialize(),
+                "discovery-data", "notification-preferences");
 
             // Initialize AchievementManager for collection achievements
-            this.achievementManager = new AchievementManager(this);
-            this.achievementManager.initialize();
-
-            // Register GUI listener for browse menus
-            getServer().getPluginManager().registerEvents(new GuiListener(), this);
-
-            // Remove direct CosmeticManager initialization (now handled by ItemManager)
-            // cosmeticManager = new CosmeticManager(this);
-            // cosmeticManager.initialize();
+            startup.phase("achievements", () -> {
+                this.achievementManager = new AchievementManager(this);
+                this.achievementManager.initialize();
+            }, "lore", "notification-preferences");
+
+            // Load per-player sessions during login and record first joins off the main thread
+            startup.phase("sessions", () -> {
+                this.playerSessions = new PlayerSessionManager(this);
+                this.playerSessions.initialize();
+            }, "players", "discovery", "achievements");
+
+            // Register GUI listener and sorted lore views for browse menus
+            startup.phase("browse", () -> {
+                this.browseIndex = new LoreBrowseIndex(loreManager);
+                getServer().getPluginManager().registerEvents(new GuiListener(), this);
+            }, "lore");
+
+            // Entry counts and approved views for the REST API and placeholders
+            startup.phase("statistics", () -> this.loreStatistics = new LoreStatistics(loreManager), "lore");
 
             // Finally initialize command system
-            commandManager = new CommandManager(this);
+            startup.phase("commands", () -> commandManager = new CommandManager(this),
+                "books", "sessions", "submissions", "browse");
 
             // Register with RVNKCore ServiceRegistry if available
-            registerWithRVNKCore();
+            startup.phase("rvnkcore", this::registerWithRVNKCore, "commands");
 
             // Register notification types with PlayerPreferencesService (Phase 3)
-            registerNotificationTypes();
+            startup.phase("notification-types", this::registerNotificationTypes, "rvnkcore");
 
             // Initialize REST API if RVNKCore is available
-            initializeRestApi();
+            startup.phase("rest-api", this::initializeRestApi, "rvnkcore", "statistics");
 
             // Register PlaceholderAPI expansion if available
-            registerPlaceholderAPI();
+            startup.phase("placeholderapi", this::registerPlaceholderAPI, "commands", "statistics");
 
             // Register Dynmap integration if available
-            registerDynmap();
+            startup.phase("dynmap", this::registerDynmap, "commands");
 
             // Register VotingPlugin integration if available
-            registerVotingPlugin();
+            startup.phase("votingplugin", this::registerVotingPlugin, "commands");
 
             // Register GriefPrevention integration if available
-            registerGriefPrevention();
+            startup.phase("griefprevention", this::registerGriefPrevention, "commands");
 
             // Register RVNKWorlds integration if available
-            registerRVNKWorlds();
+            startup.phase("rvnkworlds", this::registerRVNKWorlds, "commands");
 
             // Register Discord webhook integration if configured
-            registerDiscordWebhooks();
+            startup.phase("discord", this::registerDiscordWebhooks, "commands");
 
             // Register Citizens NPC integration if available
-            registerCitizens();
+            startup.phase("citizens", this::registerCitizens, "commands");
 
             // Start periodic health check
-            startHealthCheck();
+            startup.phase("health-check", this::startHealthCheck, "database");
+
+            startup.run();
+            logStartupTimings(startup);
 
             logger.info("RVNKLore has been enabled!");
         } catch (Exception e) {
@@ -205,6 +243,48 @@ public class RVNKLore extends JavaPlugin {
         }
     }
 
+    /**
+     * Connect to the database, falling back to SQLite when MySQL is unavailable.
+     */
+    private void initializeDatabase() throws Exception {
+        databaseManager = new DatabaseManager(this);
+
+        // Check database connection - allow fallback mode to continue
+        if (!databaseManager.isConnected()) {
+            // Check if fallback is disabled - only then is this fatal
+            if (!databaseManager.isFallbackEnabled()) {
+                throw new Exception("Database connection failed and fallback is disabled. Plugin cannot function without storage.");
+            }
+            throw new Exception("Database connection failed and fallback also failed. Plugin cannot function without storage.");
+        }
+
+        // Log if running in fallback mode
+        if (databaseManager.isInFallbackMode()) {
+            logger.warning("=== PLUGIN RUNNING IN FALLBACK MODE ===");
+            logger.warning("MySQL unavailable - using SQLite fallback storage");
+            logger.warning("Some features may have limited functionality");
+        }
+    }
+
+    /**
+     * Log how long startup took, the slowest dependency chain, and every phase.
+     */
+    private void logStartupTimings(StartupOrchestrator startup) {
+        logger.info("Startup took " + startup.getTotalMillis() + "ms (critical path: "
+            + String.join(" -> ", startup.getCriticalPath()) + ")");
+        StringBuilder phases = new StringBuilder();
+        for (StartupOrchestrator.PhaseTiming timing : startup.getTimings()) {
+            if (phases.length() > 0) {
+                phases.append(", ");
+            }
+            phases.append(timing.name()).append('=').append(timing.millis()).append("ms");
+            if (timing.async()) {
+                phases.append(" (async)");
+            }
+        }
+        logger.info("Startup phases: " + phases);
+    }
+
     private void registerShutdownHook() {
         shutdownHook = new Thread(() -> {            synchronized(shutdownLock) {
                 if (!shuttingDown) {
@@ -218,7 +298,7 @@ public class RVNKLore extends JavaPlugin {
     }
 
     private void startHealthCheck() {
-        healthCheckTaskId = getServer().getScheduler().scheduleSyncRepeatingTask(this, () -> {
+        healthCheckTask = scheduler.runGlobalTimer(() -> {
             if (databaseManager == null) {
                 return;
             }
@@ -237,6 +317,9 @@ public class RVNKLore extends JavaPlugin {
                     databaseManager.reconnect();
                 }
             }
+
+            // Drain writes journaled through repositories that outlived a connection switch
+            databaseManager.replayJournalIfNeeded();
         }, 1200L, 1200L); // Check every minute (20 ticks/sec * 60 sec)
     }
 
@@ -257,9 +340,9 @@ public class RVNKLore extends JavaPlugin {
 
         try {
             // Cancel health check task if running
-            if (healthCheckTaskId != -1) {
-                getServer().getScheduler().cancelTask(healthCheckTaskId);
-                healthCheckTaskId = -1;
+            if (healthCheckTask != null) {
+                healthCheckTask.cancel();
+                healthCheckTask = null;
             }
 
             // Remove shutdown hook to prevent duplicate cleanup
@@ -647,6 +730,19 @@ public class RVNKLore extends JavaPlugin {
             handlerFactory.unregisterAllHandlers();
             handlerFactory = null;
         }
+        if (browseIndex != null) {
+            browseIndex.close();
+            browseIndex = null;
+        }
+        if (loreStatistics != null) {
+            loreStatistics.close();
+            loreStatistics = null;
+        }
+        if (submissionManager != null) {
+            submissionManager.shutdown();
+            submissionManager = null;
+        }
+
           if (loreManager != null) {
             loreManager.cleanup();
             loreManager = null;
@@ -666,6 +762,16 @@ public class RVNKLore extends JavaPlugin {
             achievementManager = null;
         }
 
+        if (playerSessions != null) {
+            playerSessions.shutdown();
+            playerSessions = null;
+        }
+
+        if (notificationPreferences != null) {
+            notificationPreferences.shutdown();
+            notificationPreferences = null;
+        }
+
         if (itemManager != null) {
             itemManager.shutdown();
             itemManager = null;
@@ -693,6 +799,45 @@ public class RVNKLore extends JavaPlugin {
         return loreBookManager;
     }
 
+    /**
+     * Get the submission workflow manager and its moderation queue.
+     */
+    public SubmissionManager getSubmissionManager() {
+        return submissionManager;
+    }
+
+    /**
+     * Get the sorted lore views and icon cache used by the browse menus.
+     */
+    public LoreBrowseIndex getBrowseIndex() {
+        return browseIndex;
+    }
+
+    /**
+     * Get the incrementally maintained entry counts and approved-entry views.
+     */
+    public LoreStatistics getLoreStatistics() {
+        return loreStatistics;
+    }
+
+    /**
+     * Get the per-player notification preference cache.
+     *
+     * @return The cache, or null before startup or after shutdown
+     */
+    public NotificationPreferenceCache getNotificationPreferences() {
+        return notificationPreferences;
+    }
+
+    /**
+     * Get the per-player sessions loaded during login.
+     *
+     * @return The session manager, or null before startup or after shutdown
+     */
+    public PlayerSessionManager getPlayerSessions() {
+        return playerSessions;
+    }
+
     public LogManager getLogManager() {
         return logger;
     }
@@ -709,6 +854,16 @@ public class RVNKLore extends JavaPlugin {
         return databaseManager;
     }
 
+    /**
+     * Get the scheduler for running work on the thread that owns the player, location or
+     * server state it touches
+     *
+     * @return The scheduler, regionized on region-threaded servers
+     */
+    public LoreScheduler getLoreScheduler() {
+        return scheduler;
+    }
+
     /**
      * Get the handler factory for this plugin
      *
@@ -4,41 +4,68 @@ import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
 import org.fourz.RVNKLore.RVNKLore;
 import org.fourz.RVNKLore.achievement.reward.*;
 import org.fourz.RVNKLore.data.repository.AchievementRepository;
+import org.fourz.RVNKLore.data.repository.IAchievementRepository.LeaderboardEntry;
+import org.fourz.RVNKLore.discovery.DiscoveryManager;
 import org.fourz.RVNKLore.lore.item.collection.CollectionManager;
-import org.fourz.rvnkcore.RVNKCore;
+import org.fourz.RVNKLore.notification.NotificationPreferenceCache;
+import org.fourz.RVNKLore.notification.NotificationPreferences;
 import org.fourz.rvnkcore.util.log.LogManager;
-import org.fourz.rvnkcore.api.service.PlayerPreferencesService;
 
 import org.fourz.RVNKLore.lore.LoreCategory;
 import org.fourz.RVNKLore.lore.LoreEntry;
+import org.fourz.RVNKLore.lore.LoreManager;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Manages achievements, progress tracking, and reward distribution.
  *
- * Respects PlayerPreferencesService from RVNKCore (Phase 3 integration).
+ * Progress is held in memory only for online players: it is fetched while the player
+ * logs in, changed records are written back in periodic batches, and the player's
+ * progress is flushed and dropped when they quit. Questions about all players, such as
+ * leaderboards, are answered by the database.
+ *
+ * Respects PlayerPreferencesService from RVNKCore (Phase 3 integration) through the
+ * per-player snapshot in {@link NotificationPreferenceCache}.
  */
 public class AchievementManager {
+    private static final String NOTIFICATION_TYPE = "achievement";
 
     private final RVNKLore plugin;
     private final LogManager logger;
-    private AchievementRepository achievementRepository;
 
     // Achievement registry
     private final Map<String, Achievement> achievements = new ConcurrentHashMap<>();
+    private final AchievementRuleIndex rules = new AchievementRuleIndex();
 
-    // Player progress cache (player UUID -> achievement ID -> progress)
+    // Progress of loaded (online) players (player UUID -> achievement ID -> progress)
     private final Map<UUID, Map<String, AchievementProgress>> playerProgress = new ConcurrentHashMap<>();
 
+    // In-flight progress loads, so concurrent callers share one query per player
+    private final Map<UUID, CompletableFuture<Map<String, AchievementProgress>>> loading = new ConcurrentHashMap<>();
+
+    // Progress changed since it was last written, and writes in flight per player;
+    // a reload waits for the player's writes so it never reads stale rows
+    private final AchievementProgressWriter writer = new AchievementProgressWriter(this::saveBatch);
+
+    private ScheduledExecutorService flushExecutor;
+    private AchievementProgressListener progressListener;
+
     // Track unique categories discovered per player (for MULTI_CATEGORY achievements)
     private final Map<UUID, Set<LoreCategory>> playerDiscoveredCategories = new ConcurrentHashMap<>();
 
+    // Unlocks waiting for this tick's notification (player UUID -> achievements)
+    private final Map<UUID, List<Achievement>> pendingUnlocks = new ConcurrentHashMap<>();
+
     // Reward handlers
     private final List<RewardHandler> rewardHandlers = new ArrayList<>();
 
@@ -46,6 +73,8 @@ public class AchievementManager {
     private boolean enableNotifications = true;
     private boolean enableBroadcast = true;
     private boolean enableSounds = true;
+    private long flushIntervalSeconds = 30;
+    private long loginLoadTimeoutMs = 3000;
 
     public AchievementManager(RVNKLore plugin) {
         this.plugin = plugin;
@@ -70,23 +99,20 @@ public class AchievementManager {
         // Create default achievements
         createDefaultAchievements();
 
-        // Load player progress from database
-        try {
-            this.achievementRepository = plugin.getDatabaseManager().getAchievementRepository();
-            if (achievementRepository != null) {
-                Map<UUID, List<AchievementProgress>> allProgress = achievementRepository.loadAllProgress().join();
-                for (Map.Entry<UUID, List<AchievementProgress>> entry : allProgress.entrySet()) {
-                    Map<String, AchievementProgress> progressMap = playerProgress.computeIfAbsent(entry.getKey(), k -> new ConcurrentHashMap<>());
-                    for (AchievementProgress progress : entry.getValue()) {
-                        progressMap.put(progress.getAchievementId(), progress);
-                    }
-                }
-                logger.debug("Loaded achievement progress for " + allProgress.size() + " players from database");
-            }
-        } catch (Exception e) {
-            logger.warning("Failed to load achievement progress from database: " + e.getMessage());
+        // Progress is loaded per player as they log in
+        progressListener = new AchievementProgressListener(this);
+        Bukkit.getPluginManager().registerEvents(progressListener, plugin);
+        for (Player online : Bukkit.getOnlinePlayers()) {
+            loadPlayer(online.getUniqueId());
         }
 
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "RVNKLore-AchievementFlush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushExecutor.scheduleWithFixedDelay(this::flushDirty, flushIntervalSeconds, flushIntervalSeconds, TimeUnit.SECONDS);
+
         logger.debug("AchievementManager initialized with " + achievements.size() + " achievements");
     }
 
@@ -102,6 +128,10 @@ public class AchievementManager {
                     .getBoolean("achievements.broadcast.enabled", true);
                 enableSounds = plugin.getConfigManager().getConfig()
                     .getBoolean("achievements.sounds.enabled", true);
+                flushIntervalSeconds = Math.max(1, plugin.getConfigManager().getConfig()
+                    .getLong("achievements.progress.flushIntervalSeconds", 30));
+                loginLoadTimeoutMs = Math.max(0, plugin.getConfigManager().getConfig()
+                    .getLong("achievements.progress.loginLoadTimeoutMs", 3000));
             }
         } catch (Exception e) {
             logger.debug("Using default achievement settings: " + e.getMessage());
@@ -174,6 +204,7 @@ public class AchievementManager {
     public void registerAchievement(Achievement achievement) {
         if (achievement == null) return;
         achievements.put(achievement.getId(), achievement);
+        rules.register(achievement);
         logger.debug("Registered achievement: " + achievement.getName());
     }
 
@@ -201,16 +232,144 @@ public class AchievementManager {
 
     /**
      * Get a player's progress for an achievement.
+     *
+     * <p>If the player's progress is not loaded yet, a load is started and a blank,
+     * untracked progress record is returned.
      */
     public AchievementProgress getProgress(UUID playerId, String achievementId) {
-        Map<String, AchievementProgress> playerMap = playerProgress.computeIfAbsent(playerId, k -> new ConcurrentHashMap<>());
-        return playerMap.computeIfAbsent(achievementId, k -> {
-            Achievement achievement = achievements.get(achievementId);
-            int target = achievement != null ? achievement.getTargetCount() : 1;
-            return new AchievementProgress(playerId, achievementId, target);
+        Map<String, AchievementProgress> playerMap = playerProgress.get(playerId);
+        if (playerMap == null) {
+            loadPlayer(playerId);
+            return newProgress(playerId, achievementId);
+        }
+        return playerMap.computeIfAbsent(achievementId, k -> newProgress(playerId, achievementId));
+    }
+
+    private AchievementProgress newProgress(UUID playerId, String achievementId) {
+        Achievement achievement = achievements.get(achievementId);
+        int target = achievement != null ? achievement.getTargetCount() : 1;
+        return new AchievementProgress(playerId, achievementId, target);
+    }
+
+    /**
+     * Check whether a player's progress is in memory.
+     */
+    public boolean isLoaded(UUID playerId) {
+        return playerProgress.containsKey(playerId);
+    }
+
+    /**
+     * Load a player's progress if it is not already in memory.
+     *
+     * @return Future completing with the player's progress map once it is loaded
+     */
+    public CompletableFuture<Map<String, AchievementProgress>> loadPlayer(UUID playerId) {
+        Map<String, AchievementProgress> loaded = playerProgress.get(playerId);
+        if (loaded != null) {
+            return CompletableFuture.completedFuture(loaded);
+        }
+        CompletableFuture<Map<String, AchievementProgress>> future = loading.computeIfAbsent(playerId, this::startLoad);
+        future.whenComplete((result, ex) -> loading.remove(playerId, future));
+        return future;
+    }
+
+    private CompletableFuture<Map<String, AchievementProgress>> startLoad(UUID playerId) {
+        AchievementRepository repository = repository();
+        CompletableFuture<Set<LoreCategory>> categories = loadDiscoveredCategories(playerId);
+        return writer.awaitWrites(playerId)
+            .thenCompose(ignored -> repository != null
+                ? repository.loadPlayerProgress(playerId)
+                : CompletableFuture.completedFuture(List.<AchievementProgress>of()))
+            .handle((records, ex) -> {
+                Map<String, AchievementProgress> progressMap = new ConcurrentHashMap<>();
+                if (ex != null) {
+                    logger.warning("Failed to load achievement progress for " + playerId + ": " + ex.getMessage());
+                } else {
+                    for (AchievementProgress progress : records) {
+                        progressMap.put(progress.getAchievementId(), progress);
+                    }
+                }
+                // Records whose write failed after the player quit are newer than their rows
+                for (AchievementProgress progress : writer.pendingFor(playerId)) {
+                    progressMap.put(progress.getAchievementId(), progress);
+                }
+                return progressMap;
+            })
+            .thenCombine(categories, (progressMap, discovered) -> {
+                // Seed the categories before the progress is visible, so discoveries count
+                // the categories found in earlier sessions
+                playerDiscoveredCategories.put(playerId, discovered);
+                Map<String, AchievementProgress> existing = playerProgress.putIfAbsent(playerId, progressMap);
+                return existing != null ? existing : progressMap;
+            });
+    }
+
+    /**
+     * Collect the categories of the entries a player has discovered.
+     *
+     * @return Future completing, never exceptionally, with the categories
+     */
+    private CompletableFuture<Set<LoreCategory>> loadDiscoveredCategories(UUID playerId) {
+        DiscoveryManager discoveryManager = plugin.getDiscoveryManager();
+        LoreManager loreManager = plugin.getLoreManager();
+        if (discoveryManager == null || loreManager == null) {
+            return CompletableFuture.completedFuture(ConcurrentHashMap.newKeySet());
+        }
+        return discoveryManager.getDiscoveredEntryIds(playerId).handle((entryIds, ex) -> {
+            Set<LoreCategory> categories = ConcurrentHashMap.newKeySet();
+            if (ex != null) {
+                logger.warning("Failed to load discovered categories for " + playerId + ": " + ex.getMessage());
+                return categories;
+            }
+            for (String entryId : entryIds) {
+                loreManager.getLoreById(entryId)
+                    .map(LoreEntry::getType)
+                    .ifPresent(type -> categories.add(type.getCategory()));
+            }
+            return categories;
+        });
+    }
+
+    /**
+     * Load a player's progress during login, waiting up to the configured timeout.
+     * Called off the main thread; if the load is slow it finishes in the background.
+     */
+    void preloadPlayer(UUID playerId) {
+        try {
+            loadPlayer(playerId).get(loginLoadTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            logger.debug("Achievement progress for " + playerId + " still loading after login: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write a player's changed progress and drop it from memory.
+     */
+    public void unloadPlayer(UUID playerId) {
+        playerDiscoveredCategories.remove(playerId);
+        Map<String, AchievementProgress> progressMap = playerProgress.remove(playerId);
+        if (progressMap == null) {
+            return;
+        }
+        writer.unload(progressMap.values()).thenAccept(saved -> {
+            if (!saved) {
+                logger.warning("Failed to save achievement progress for " + playerId + "; retrying with the next flush");
+            }
         });
     }
 
+    /**
+     * Run an action on the player's thread once their progress is loaded,
+     * if the player is still online by then.
+     */
+    private void whenLoaded(Player player, Runnable action) {
+        loadPlayer(player.getUniqueId()).thenRun(() -> plugin.getLoreScheduler().runForEntity(player, () -> {
+            if (player.isOnline()) {
+                action.run();
+            }
+        }));
+    }
+
     /**
      * Increment progress for an achievement.
      *
@@ -226,141 +385,182 @@ public class AchievementManager {
      * Increment progress for an achievement by a specific amount.
      */
     public boolean incrementProgress(Player player, String achievementId, int amount) {
-        AchievementProgress progress = getProgress(player.getUniqueId(), achievementId);
-
-        if (progress.isCompleted()) {
-            return false; // Already completed
-        }
-
-        boolean completed = progress.increment(amount);
-
-        if (completed) {
-            handleAchievementUnlock(player, achievementId, progress);
+        Achievement achievement = achievements.get(achievementId);
+        if (achievement == null) {
+            return false;
         }
-
-        // Persist progress to database
-        persistProgress(progress);
-
-        return completed;
+        return applyUpdates(player, List.of(new AchievementRuleIndex.ProgressUpdate(achievement, amount, false)));
     }
 
     /**
      * Set progress for an achievement.
      */
     public boolean setProgress(Player player, String achievementId, int value) {
-        AchievementProgress progress = getProgress(player.getUniqueId(), achievementId);
-
-        if (progress.isCompleted()) {
+        Achievement achievement = achievements.get(achievementId);
+        if (achievement == null) {
             return false;
         }
+        return applyUpdates(player, List.of(new AchievementRuleIndex.ProgressUpdate(achievement, value, true)));
+    }
 
-        boolean completed = progress.setProgress(value);
-
-        if (completed) {
-            handleAchievementUnlock(player, achievementId, progress);
+    /**
+     * Apply all progress changes caused by one event, then persist and announce them together.
+     * If the player's progress is not loaded yet, the updates are applied once it is.
+     *
+     * @return true if any achievement was completed
+     */
+    private boolean applyUpdates(Player player, List<AchievementRuleIndex.ProgressUpdate> updates) {
+        if (updates.isEmpty()) {
+            return false;
+        }
+        UUID playerId = player.getUniqueId();
+        if (!isLoaded(playerId)) {
+            whenLoaded(player, () -> applyUpdates(player, updates));
+            return false;
         }
 
-        // Persist progress to database
-        persistProgress(progress);
+        List<AchievementProgress> changed = new ArrayList<>();
+        List<AchievementProgress> unlocked = new ArrayList<>();
+        for (AchievementRuleIndex.ProgressUpdate update : updates) {
+            AchievementProgress progress = getProgress(playerId, update.achievement().getId());
+            if (progress.isCompleted()) {
+                continue;
+            }
+            int before = progress.getCurrentProgress();
+            boolean completed = update.absolute()
+                ? progress.setProgress(update.value())
+                : progress.increment(update.value());
+            if (completed) {
+                unlocked.add(progress);
+            }
+            if (completed || progress.getCurrentProgress() != before) {
+                changed.add(progress);
+            }
+        }
 
-        return completed;
+        persist(changed, !unlocked.isEmpty());
+        handleAchievementUnlocks(player, unlocked);
+        return !unlocked.isEmpty();
     }
 
     /**
-     * Handle achievement unlock: fire event, notify (with preference checks), grant rewards.
+     * Handle unlocks from one event: fire an event per achievement, grant rewards,
+     * and send a single notification (with preference checks) for all of them.
      */
-    private void handleAchievementUnlock(Player player, String achievementId, AchievementProgress progress) {
-        Achievement achievement = achievements.get(achievementId);
-        if (achievement == null) {
-            logger.warning("Achievement not found for unlock: " + achievementId);
-            return;
-        }
+    private void handleAchievementUnlocks(Player player, List<AchievementProgress> unlocked) {
+        List<Achievement> announce = new ArrayList<>();
+        for (AchievementProgress progress : unlocked) {
+            Achievement achievement = achievements.get(progress.getAchievementId());
+            if (achievement == null) {
+                logger.warning("Achievement not found for unlock: " + progress.getAchievementId());
+                continue;
+            }
 
-        // Fire event
-        AchievementUnlockEvent event = new AchievementUnlockEvent(player, achievement, progress);
-        Bukkit.getPluginManager().callEvent(event);
+            // Fire event
+            AchievementUnlockEvent event = new AchievementUnlockEvent(player, achievement, progress);
+            Bukkit.getPluginManager().callEvent(event);
 
-        if (event.isCancelled()) {
-            return;
-        }
+            if (event.isCancelled()) {
+                continue;
+            }
+
+            if (!event.isSuppressNotification() && enableNotifications) {
+                announce.add(achievement);
+            }
+
+            // Grant rewards
+            if (!event.isSuppressRewards()) {
+                grantRewards(player, achievement);
+            }
 
-        // Send notification with preference checks
-        if (!event.isSuppressNotification() && enableNotifications) {
-            sendUnlockNotification(player, achievement);
+            logger.debug(player.getName() + " unlocked achievement: " + achievement.getName());
         }
 
-        // Grant rewards
-        if (!event.isSuppressRewards()) {
-            grantRewards(player, achievement);
+        if (!announce.isEmpty()) {
+            queueUnlockNotification(player, announce);
         }
+    }
 
-        logger.debug(player.getName() + " unlocked achievement: " + achievement.getName());
+    /**
+     * Queue achievements for the player's next unlock notification. Everything queued in
+     * the same tick is announced together by one task on the player's thread.
+     */
+    private void queueUnlockNotification(Player player, List<Achievement> unlocked) {
+        UUID playerId = player.getUniqueId();
+        boolean[] first = new boolean[1];
+        pendingUnlocks.compute(playerId, (id, queued) -> {
+            if (queued == null) {
+                queued = new ArrayList<>();
+                first[0] = true;
+            }
+            queued.addAll(unlocked);
+            return queued;
+        });
+        if (first[0]) {
+            plugin.getLoreScheduler().runForEntity(player, () -> deliverUnlockNotification(playerId));
+        }
     }
 
     /**
-     * Send unlock notification to player.
-     * Respects PlayerPreferencesService if available, falls back to config-based settings.
+     * Send one unlock notification covering every achievement queued for a player.
+     * Respects the player's cached notification preferences if available, falls back to
+     * config-based settings.
      */
-    private void sendUnlockNotification(Player player, Achievement achievement) {
-        PlayerPreferencesService prefs = RVNKCore.getServiceSafe(PlayerPreferencesService.class);
-        if (prefs != null) {
-            UUID playerId = player.getUniqueId();
+    private void deliverUnlockNotification(UUID playerId) {
+        List<Achievement> unlocked = pendingUnlocks.remove(playerId);
+        Player player = Bukkit.getPlayer(playerId);
+        if (unlocked == null || unlocked.isEmpty() || player == null) {
+            return;
+        }
 
-            // Check if achievement notifications are enabled for this player
-            prefs.isNotificationEnabled(playerId, "rvnklore", "achievement")
-                .thenAccept(enabled -> {
-                    if (!enabled) {
-                        logger.debug("Achievement notification suppressed for " + player.getName() +
-                                " (notifications disabled in preferences)");
-                        return;
-                    }
+        NotificationPreferenceCache cache = plugin.getNotificationPreferences();
+        CompletableFuture<NotificationPreferences> prefs = cache != null
+            ? cache.get(playerId)
+            : CompletableFuture.completedFuture(null);
+        if (prefs.isDone() && !prefs.isCompletedExceptionally()) {
+            // Usual case: the snapshot was loaded on join
+            sendUnlockNotification(player, unlocked, prefs.join());
+            return;
+        }
+        prefs.whenComplete((snapshot, ex) -> {
+            if (ex != null) {
+                logger.debug("Error checking achievement notification preferences: " + ex.getMessage());
+            }
+            plugin.getLoreScheduler().runForEntity(player, () -> {
+                if (player.isOnline()) {
+                    sendUnlockNotification(player, unlocked, ex == null ? snapshot : null);
+                }
+            });
+        });
+    }
 
-                    // Check individual channel preferences
-                    CompletableFuture<Boolean> titleEnabled = prefs.isChannelEnabled(playerId, "rvnklore", "achievement", "TITLE");
-                    CompletableFuture<Boolean> chatEnabled = prefs.isChannelEnabled(playerId, "rvnklore", "achievement", "CHAT");
-                    CompletableFuture<Boolean> soundEnabled = prefs.isChannelEnabled(playerId, "rvnklore", "achievement", "SOUND");
-
-                    CompletableFuture.allOf(titleEnabled, chatEnabled, soundEnabled)
-                        .thenRun(() -> {
-                            try {
-                                if (titleEnabled.join()) {
-                                    player.sendTitle(
-                                        ChatColor.GOLD + "Achievement Unlocked!",
-                                        ChatColor.YELLOW + achievement.getName(),
-                                        10, 40, 10
-                                    );
-                                }
-                                if (chatEnabled.join()) {
-                                    player.sendMessage("");
-                                    player.sendMessage(ChatColor.GOLD + "★ " + ChatColor.BOLD + "Achievement Unlocked!" + ChatColor.GOLD + " ★");
-                                    player.sendMessage(ChatColor.YELLOW + achievement.getName());
-                                    player.sendMessage(ChatColor.GRAY + achievement.getDescription());
-                                    player.sendMessage(ChatColor.DARK_GRAY + "+" + achievement.getPoints() + " achievement points");
-                                    player.sendMessage("");
-                                }
-                                if (soundEnabled.join()) {
-                                    player.playSound(player.getLocation(), Sound.UI_TOAST_CHALLENGE_COMPLETE, 1.0f, 1.0f);
-                                }
-                            } catch (Exception e) {
-                                logger.debug("Error sending achievement notification: " + e.getMessage());
-                            }
-                        })
-                        .exceptionally(ex -> {
-                            logger.debug("Error checking achievement notification preferences: " + ex.getMessage());
-                            // Fallback to config-based settings
-                            sendUnlockNotificationFallback(player, achievement);
-                            return null;
-                        });
-                })
-                .exceptionally(ex -> {
-                    logger.debug("Error checking achievement notification enable status: " + ex.getMessage());
-                    // Fallback to config-based settings
-                    sendUnlockNotificationFallback(player, achievement);
-                    return null;
-                });
-        } else {
-            // No preferences service available - use config flags
-            sendUnlockNotificationFallback(player, achievement);
+    /**
+     * Send an unlock notification on the main thread.
+     *
+     * @param prefs The player's preferences, or null to use config-based settings
+     */
+    private void sendUnlockNotification(Player player, List<Achievement> unlocked, NotificationPreferences prefs) {
+        if (prefs == null) {
+            sendUnlockNotificationFallback(player, unlocked);
+            return;
+        }
+        if (!prefs.isEnabled(NOTIFICATION_TYPE)) {
+            logger.debug("Achievement notification suppressed for " + player.getName() +
+                    " (notifications disabled in preferences)");
+            return;
+        }
+        try {
+            if (prefs.isChannelEnabled(NOTIFICATION_TYPE, "TITLE")) {
+                sendUnlockTitle(player, unlocked);
+            }
+            if (prefs.isChannelEnabled(NOTIFICATION_TYPE, "CHAT")) {
+                sendUnlockChat(player, unlocked);
+            }
+            if (prefs.isChannelEnabled(NOTIFICATION_TYPE, "SOUND")) {
+                player.playSound(player.getLocation(), Sound.UI_TOAST_CHALLENGE_COMPLETE, 1.0f, 1.0f);
+            }
+        } catch (Exception e) {
+            logger.debug("Error sending achievement notification: " + e.getMessage());
         }
     }
 
@@ -368,21 +568,9 @@ public class AchievementManager {
      * Send unlock notification using config-based settings (fallback).
      * Used when PlayerPreferencesService is not available.
      */
-    private void sendUnlockNotificationFallback(Player player, Achievement achievement) {
-        // Title
-        player.sendTitle(
-            ChatColor.GOLD + "Achievement Unlocked!",
-            ChatColor.YELLOW + achievement.getName(),
-            10, 40, 10
-        );
-
-        // Chat message
-        player.sendMessage("");
-        player.sendMessage(ChatColor.GOLD + "★ " + ChatColor.BOLD + "Achievement Unlocked!" + ChatColor.GOLD + " ★");
-        player.sendMessage(ChatColor.YELLOW + achievement.getName());
-        player.sendMessage(ChatColor.GRAY + achievement.getDescription());
-        player.sendMessage(ChatColor.DARK_GRAY + "+" + achievement.getPoints() + " achievement points");
-        player.sendMessage("");
+    private void sendUnlockNotificationFallback(Player player, List<Achievement> unlocked) {
+        sendUnlockTitle(player, unlocked);
+        sendUnlockChat(player, unlocked);
 
         // Sound
         if (enableSounds) {
@@ -390,11 +578,41 @@ public class AchievementManager {
         }
 
         // Broadcast (if enabled and not hidden)
-        if (enableBroadcast && !achievement.isHidden()) {
-            String broadcast = ChatColor.GOLD + player.getName() + ChatColor.YELLOW +
-                " unlocked the achievement " + ChatColor.GOLD + achievement.getName() + ChatColor.YELLOW + "!";
-            Bukkit.broadcastMessage(broadcast);
+        if (enableBroadcast) {
+            for (Achievement achievement : unlocked) {
+                if (achievement.isHidden()) {
+                    continue;
+                }
+                String broadcast = ChatColor.GOLD + player.getName() + ChatColor.YELLOW +
+                    " unlocked the achievement " + ChatColor.GOLD + achievement.getName() + ChatColor.YELLOW + "!";
+                Bukkit.broadcastMessage(broadcast);
+            }
+        }
+    }
+
+    private void sendUnlockTitle(Player player, List<Achievement> unlocked) {
+        String subtitle = unlocked.size() == 1
+            ? unlocked.get(0).getName()
+            : unlocked.size() + " achievements";
+        player.sendTitle(
+            ChatColor.GOLD + "Achievement Unlocked!",
+            ChatColor.YELLOW + subtitle,
+            10, 40, 10
+        );
+    }
+
+    private void sendUnlockChat(Player player, List<Achievement> unlocked) {
+        player.sendMessage("");
+        player.sendMessage(ChatColor.GOLD + "★ " + ChatColor.BOLD +
+            (unlocked.size() == 1 ? "Achievement Unlocked!" : unlocked.size() + " Achievements Unlocked!") + ChatColor.GOLD + " ★");
+        int points = 0;
+        for (Achievement achievement : unlocked) {
+            player.sendMessage(ChatColor.YELLOW + achievement.getName());
+            player.sendMessage(ChatColor.GRAY + achievement.getDescription());
+            points += achievement.getPoints();
         }
+        player.sendMessage(ChatColor.DARK_GRAY + "+" + points + " achievement points");
+        player.sendMessage("");
     }
 
     /**
@@ -470,6 +688,11 @@ public class AchievementManager {
             return false;
         }
 
+        if (!isLoaded(player.getUniqueId())) {
+            whenLoaded(player, () -> grantAchievement(player, achievementId));
+            return true;
+        }
+
         AchievementProgress progress = getProgress(player.getUniqueId(), achievementId);
         if (progress.isCompleted()) {
             return false; // Already has it
@@ -477,96 +700,180 @@ public class AchievementManager {
 
         // Force complete
         progress.setProgress(progress.getTargetProgress());
-        persistProgress(progress);
-        handleAchievementUnlock(player, achievementId, progress);
+        persist(List.of(progress), true);
+        handleAchievementUnlocks(player, List.of(progress));
         return true;
     }
 
     /**
-     * Revoke an achievement from a player (admin command).
+     * Revoke an achievement from a player (admin command). Progress of an offline player
+     * is deleted from the database.
+     *
+     * @return Future completing with whether the player had progress to revoke
      */
-    public boolean revokeAchievement(UUID playerId, String achievementId) {
+    public CompletableFuture<Boolean> revokeAchievement(UUID playerId, String achievementId) {
+        boolean removed = false;
         Map<String, AchievementProgress> progressMap = playerProgress.get(playerId);
         if (progressMap != null) {
-            progressMap.remove(achievementId);
-            return true;
+            removed = progressMap.remove(achievementId) != null;
         }
-        return false;
+        writer.discard(playerId, achievementId);
+        AchievementRepository repository = repository();
+        if (repository == null) {
+            return CompletableFuture.completedFuture(removed);
+        }
+        boolean removedFromMemory = removed;
+        // Run after any write still holding the record, so the write cannot restore it
+        return writer.awaitWrites(playerId)
+            .thenCompose(ignored -> repository.deleteProgress(playerId, achievementId))
+            .thenApply(deleted -> deleted || removedFromMemory);
+    }
+
+    /**
+     * Rank all players by achievement points. Computed by the database, so it covers
+     * offline players; changes from the last flush interval may not be included yet.
+     *
+     * @param limit Maximum number of players to return
+     */
+    public CompletableFuture<List<LeaderboardEntry>> getLeaderboard(int limit) {
+        AchievementRepository repository = repository();
+        if (repository == null) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        Map<String, Integer> points = new HashMap<>();
+        for (Achievement achievement : achievements.values()) {
+            points.put(achievement.getId(), achievement.getPoints());
+        }
+        return repository.getLeaderboard(points, limit);
     }
 
     /**
      * Called when a player discovers a lore entry.
-     * Updates relevant achievement progress.
+     * Updates every achievement the discovery advances in one pass.
      */
     public void onLoreDiscovery(Player player, LoreEntry entry) {
-        // Increment discovery count achievements
-        incrementProgress(player, "first_discovery");
-        incrementProgress(player, "lore_seeker_10");
-        incrementProgress(player, "lore_master_50");
-        incrementProgress(player, "lore_sage_100");
+        if (!isLoaded(player.getUniqueId())) {
+            whenLoaded(player, () -> onLoreDiscovery(player, entry, true));
+            return;
+        }
+        onLoreDiscovery(player, entry, false);
+    }
 
+    /**
+     * @param seededAfter Whether the player's categories were seeded after the discovery,
+     *     so they may already hold its category
+     */
+    private void onLoreDiscovery(Player player, LoreEntry entry, boolean seededAfter) {
         // Track unique categories discovered for MULTI_CATEGORY achievements
         LoreCategory category = entry.getType().getCategory();
         Set<LoreCategory> categories = playerDiscoveredCategories.computeIfAbsent(
             player.getUniqueId(), k -> ConcurrentHashMap.newKeySet()
         );
-        if (categories.add(category)) {
-            // New category discovered — set progress to total unique categories
-            setProgress(player, "explorer_5", categories.size());
+        boolean newCategory = categories.add(category) || seededAfter;
+
+        applyUpdates(player, raiseOnly(player.getUniqueId(),
+            rules.evaluateDiscovery(category, newCategory, categories.size())));
+    }
+
+    /**
+     * Keep absolute updates from lowering progress, in case the seeded categories missed
+     * entries that are no longer loaded.
+     */
+    private List<AchievementRuleIndex.ProgressUpdate> raiseOnly(UUID playerId,
+                                                                List<AchievementRuleIndex.ProgressUpdate> updates) {
+        List<AchievementRuleIndex.ProgressUpdate> raised = new ArrayList<>(updates.size());
+        for (AchievementRuleIndex.ProgressUpdate update : updates) {
+            if (update.absolute()) {
+                int current = getProgress(playerId, update.achievement().getId()).getCurrentProgress();
+                update = new AchievementRuleIndex.ProgressUpdate(update.achievement(),
+                    Math.max(current, update.value()), true);
+            }
+            raised.add(update);
         }
+        return raised;
     }
 
     /**
      * Called when a player completes a collection.
      */
     public void onCollectionComplete(Player player, String collectionId) {
-        incrementProgress(player, "first_collection");
+        applyUpdates(player, rules.evaluateCollectionComplete(collectionId));
+    }
 
-        // Check for specific collection achievements
-        for (Achievement achievement : achievements.values()) {
-            if (achievement.getType() == AchievementType.COLLECTION_COMPLETE) {
-                String targetCollection = achievement.getTargetCollectionId();
-                if (collectionId.equals(targetCollection)) {
-                    incrementProgress(player, achievement.getId());
-                }
-            }
+    /**
+     * Record changed progress. Changes that complete an achievement are written
+     * immediately, in one batch; others are written with the next flush.
+     */
+    private void persist(List<AchievementProgress> changed, boolean writeNow) {
+        if (changed.isEmpty()) {
+            return;
         }
+        if (!writeNow) {
+            writer.markDirty(changed);
+            return;
+        }
+        // Failed records are kept for the next flush
+        writer.save(changed);
     }
 
     /**
-     * Persist a single progress entry to the database.
+     * Write all changed progress in one batch. Failed records are kept for the next flush.
      */
-    private void persistProgress(AchievementProgress progress) {
-        if (achievementRepository != null) {
-            achievementRepository.saveProgress(progress).exceptionally(ex -> {
-                logger.warning("Failed to persist achievement progress: " + ex.getMessage());
-                return false;
-            });
+    private void flushDirty() {
+        try {
+            int flushed = writer.flush().join();
+            if (flushed > 0) {
+                logger.debug("Flushed " + flushed + " achievement progress records");
+            }
+        } catch (Exception e) {
+            logger.warning("Failed to flush achievement progress: " + e.getMessage());
         }
     }
 
+    private CompletableFuture<Boolean> saveBatch(List<AchievementProgress> batch) {
+        AchievementRepository repository = repository();
+        if (repository == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return repository.saveProgressBatch(batch);
+    }
+
+    /**
+     * The repository for the active connection; it changes on fallback and recovery.
+     */
+    private AchievementRepository repository() {
+        return plugin.getDatabaseManager() != null ? plugin.getDatabaseManager().getAchievementRepository() : null;
+    }
+
     /**
      * Shutdown the achievement manager.
      */
     public void shutdown() {
-        // Save all progress to database
-        if (achievementRepository != null) {
-            int saved = 0;
-            for (Map.Entry<UUID, Map<String, AchievementProgress>> playerEntry : playerProgress.entrySet()) {
-                for (AchievementProgress progress : playerEntry.getValue().values()) {
-                    try {
-                        achievementRepository.saveProgress(progress).join();
-                        saved++;
-                    } catch (Exception e) {
-                        logger.warning("Failed to save progress on shutdown: " + e.getMessage());
-                    }
-                }
+        if (progressListener != null) {
+            HandlerList.unregisterAll(progressListener);
+            progressListener = null;
+        }
+        if (flushExecutor != null) {
+            flushExecutor.shutdownNow();
+            flushExecutor = null;
+        }
+
+        // Write everything that changed since the last flush in one batch
+        List<AchievementProgress> batch = writer.drain();
+        if (!batch.isEmpty()) {
+            try {
+                saveBatch(batch).get(10, TimeUnit.SECONDS);
+                logger.debug("Saved " + batch.size() + " achievement progress records to database");
+            } catch (Exception e) {
+                logger.warning("Failed to save progress on shutdown: " + e.getMessage());
             }
-            logger.debug("Saved " + saved + " achievement progress records to database");
         }
 
         achievements.clear();
+        rules.clear();
         playerProgress.clear();
+        loading.clear();
+        writer.clear();
         playerDiscoveredCategories.clear();
         rewardHandlers.clear();
         logger.debug("AchievementManager shutdown complete");
@@ -0,0 +1,49 @@
+package org.fourz.RVNKLore.achievement;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Loads a player's achievement progress while they log in and unloads it when they leave.
+ */
+public class AchievementProgressListener implements Listener {
+
+    private final AchievementManager achievementManager;
+
+    public AchievementProgressListener(AchievementManager achievementManager) {
+        this.achievementManager = achievementManager;
+    }
+
+    /**
+     * Runs off the main thread, so progress can be fetched before the player is in the world.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() == AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            achievementManager.preloadPlayer(event.getUniqueId());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onLogin(PlayerLoginEvent event) {
+        if (event.getResult() != PlayerLoginEvent.Result.ALLOWED) {
+            achievementManager.unloadPlayer(event.getPlayer().getUniqueId());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onJoin(PlayerJoinEvent event) {
+        // No-op when the pre-login fetch already finished
+        achievementManager.loadPlayer(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        achievementManager.unloadPlayer(event.getPlayer().getUniqueId());
+    }
+}
@@ -0,0 +1,180 @@
+package org.fourz.RVNKLore.achievement;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Tracks which achievement progress records still need writing and which writes are in
+ * flight for each player.
+ *
+ * <p>A record leaves the dirty set only while a write holding it is in flight. If the
+ * write fails, the record goes back into the set before the write is reported done, so a
+ * reload that waited for it ({@link #awaitWrites}) finds the record in {@link #pendingFor}
+ * instead of reading the stale row.
+ */
+class AchievementProgressWriter {
+    private final Function<List<AchievementProgress>, CompletableFuture<Boolean>> saver;
+    private final Set<AchievementProgress> dirty = new LinkedHashSet<>();
+    private final Map<UUID, Set<CompletableFuture<Boolean>>> inFlight = new HashMap<>();
+
+    /**
+     * @param saver Writes a batch of records; completes with false if nothing was written
+     */
+    AchievementProgressWriter(Function<List<AchievementProgress>, CompletableFuture<Boolean>> saver) {
+        this.saver = saver;
+    }
+
+    /**
+     * Mark records to be written with the next flush.
+     */
+    synchronized void markDirty(Collection<AchievementProgress> records) {
+        dirty.addAll(records);
+    }
+
+    /**
+     * Stop tracking a record, e.g. after it was revoked.
+     */
+    synchronized void discard(UUID playerId, String achievementId) {
+        dirty.removeIf(progress -> progress.getPlayerId().equals(playerId)
+            && progress.getAchievementId().equals(achievementId));
+    }
+
+    /**
+     * @return Whether the record is waiting for a write
+     */
+    synchronized boolean isDirty(AchievementProgress progress) {
+        return dirty.contains(progress);
+    }
+
+    /**
+     * @return The player's records waiting for a write, including ones whose write failed
+     *     after the player quit
+     */
+    synchronized List<AchievementProgress> pendingFor(UUID playerId) {
+        List<AchievementProgress> pending = new ArrayList<>();
+        for (AchievementProgress progress : dirty) {
+            if (progress.getPlayerId().equals(playerId)) {
+                pending.add(progress);
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * Write records now. Records that fail are kept for the next flush.
+     *
+     * @return Future completing with whether the write succeeded
+     */
+    CompletableFuture<Boolean> save(List<AchievementProgress> records) {
+        if (records.isEmpty()) {
+            return CompletableFuture.completedFuture(true);
+        }
+        CompletableFuture<Boolean> done = new CompletableFuture<>();
+        synchronized (this) {
+            records.forEach(dirty::remove);
+            track(records, done);
+        }
+        return write(records, done);
+    }
+
+    /**
+     * Write every dirty record in one batch.
+     *
+     * @return Future completing with the number of records written
+     */
+    CompletableFuture<Integer> flush() {
+        List<AchievementProgress> batch;
+        CompletableFuture<Boolean> done = new CompletableFuture<>();
+        synchronized (this) {
+            batch = new ArrayList<>(dirty);
+            dirty.clear();
+            track(batch, done);
+        }
+        if (batch.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+        return write(batch, done).thenApply(saved -> saved ? batch.size() : 0);
+    }
+
+    /**
+     * Write a quitting player's dirty records.
+     *
+     * @param records The player's records in memory
+     * @return Future completing with whether the write succeeded (true if nothing was dirty)
+     */
+    CompletableFuture<Boolean> unload(Collection<AchievementProgress> records) {
+        List<AchievementProgress> changed = new ArrayList<>();
+        CompletableFuture<Boolean> done = new CompletableFuture<>();
+        synchronized (this) {
+            for (AchievementProgress progress : records) {
+                if (dirty.remove(progress)) {
+                    changed.add(progress);
+                }
+            }
+            track(changed, done);
+        }
+        if (changed.isEmpty()) {
+            return CompletableFuture.completedFuture(true);
+        }
+        return write(changed, done);
+    }
+
+    /**
+     * @return Future completing, never exceptionally, once every write holding the player's
+     *     records has finished
+     */
+    synchronized CompletableFuture<Void> awaitWrites(UUID playerId) {
+        Set<CompletableFuture<Boolean>> writes = inFlight.get(playerId);
+        if (writes == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.allOf(writes.toArray(new CompletableFuture[0])).handle((ignored, ex) -> null);
+    }
+
+    /**
+     * @return Every dirty record, removed from the set (used on shutdown)
+     */
+    synchronized List<AchievementProgress> drain() {
+        List<AchievementProgress> batch = new ArrayList<>(dirty);
+        dirty.clear();
+        return batch;
+    }
+
+    synchronized void clear() {
+        dirty.clear();
+        inFlight.clear();
+    }
+
+    private void track(Collection<AchievementProgress> records, CompletableFuture<Boolean> done) {
+        for (AchievementProgress progress : records) {
+            inFlight.computeIfAbsent(progress.getPlayerId(), id -> new HashSet<>()).add(done);
+        }
+    }
+
+    private CompletableFuture<Boolean> write(List<AchievementProgress> records, CompletableFuture<Boolean> done) {
+        CompletableFuture<Boolean> write;
+        try {
+            write = saver.apply(records);
+        } catch (RuntimeException e) {
+            write = CompletableFuture.failedFuture(e);
+        }
+        write.whenComplete((saved, ex) -> {
+            boolean ok = ex == null && Boolean.TRUE.equals(saved);
+            synchronized (this) {
+                if (!ok) {
+                    dirty.addAll(records);
+                }
+                for (AchievementProgress progress : records) {
+                    Set<CompletableFuture<Boolean>> writes = inFlight.get(progress.getPlayerId());
+                    if (writes != null && writes.remove(done) && writes.isEmpty()) {
+                        inFlight.remove(progress.getPlayerId());
+                    }
+                }
+            }
+            done.complete(ok);
+        });
+        return done;
+    }
+}
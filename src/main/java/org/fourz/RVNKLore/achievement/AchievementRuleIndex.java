@@ -0,0 +1,177 @@
+package org.fourz.RVNKLore.achievement;
+
+import org.fourz.RVNKLore.lore.LoreCategory;
+
+import java.util.*;
+
+/**
+ * Indexes achievement definitions by the events that can advance them.
+ *
+ * <p>Lookup tables are rebuilt when an achievement is registered or removed, so
+ * evaluating an event only touches the achievements it can affect, however many
+ * achievements exist.
+ */
+public class AchievementRuleIndex {
+
+    /**
+     * A change to apply to one achievement's progress.
+     *
+     * @param achievement The affected achievement
+     * @param value The amount to add, or the absolute progress when {@code absolute}
+     * @param absolute Whether {@code value} replaces the current progress
+     */
+    public record ProgressUpdate(Achievement achievement, int value, boolean absolute) {
+        static ProgressUpdate increment(Achievement achievement) {
+            return new ProgressUpdate(achievement, 1, false);
+        }
+
+        static ProgressUpdate set(Achievement achievement, int value) {
+            return new ProgressUpdate(achievement, value, true);
+        }
+    }
+
+    private final Map<String, Achievement> achievements = new LinkedHashMap<>();
+
+    private Map<AchievementType, List<Achievement>> byType = Map.of();
+    private Map<LoreCategory, List<ProgressUpdate>> discoveryUpdates = Map.of();
+    private List<ProgressUpdate> discoveryCountUpdates = List.of();
+    private List<Achievement> categoryBreadth = List.of();
+    private List<ProgressUpdate> anyCollectionUpdates = List.of();
+    private Map<String, List<ProgressUpdate>> collectionUpdates = Map.of();
+
+    /**
+     * Add or replace an achievement.
+     */
+    public synchronized void register(Achievement achievement) {
+        achievements.put(achievement.getId(), achievement);
+        rebuild();
+    }
+
+    /**
+     * Remove an achievement.
+     */
+    public synchronized void unregister(String achievementId) {
+        if (achievements.remove(achievementId) != null) {
+            rebuild();
+        }
+    }
+
+    public synchronized void clear() {
+        achievements.clear();
+        rebuild();
+    }
+
+    /**
+     * @return The registered achievements of a type
+     */
+    public synchronized List<Achievement> getByType(AchievementType type) {
+        return byType.getOrDefault(type, List.of());
+    }
+
+    /**
+     * Evaluate a lore discovery.
+     *
+     * @param category The discovered entry's category
+     * @param newCategory Whether this is the player's first discovery in the category
+     * @param categoryCount How many categories the player has discovered entries in
+     * @return Updates for every achievement the discovery advances
+     */
+    public synchronized List<ProgressUpdate> evaluateDiscovery(LoreCategory category, boolean newCategory, int categoryCount) {
+        List<ProgressUpdate> perCategory = category != null
+            ? discoveryUpdates.getOrDefault(category, discoveryCountUpdates)
+            : discoveryCountUpdates;
+        if (!newCategory || categoryBreadth.isEmpty()) {
+            return perCategory;
+        }
+        List<ProgressUpdate> updates = new ArrayList<>(perCategory.size() + categoryBreadth.size());
+        updates.addAll(perCategory);
+        for (Achievement achievement : categoryBreadth) {
+            updates.add(ProgressUpdate.set(achievement, categoryCount));
+        }
+        return updates;
+    }
+
+    /**
+     * Evaluate a completed collection.
+     *
+     * @param collectionId The completed collection
+     * @return Updates for every achievement the completion advances
+     */
+    public synchronized List<ProgressUpdate> evaluateCollectionComplete(String collectionId) {
+        List<ProgressUpdate> specific = collectionUpdates.get(collectionId);
+        if (specific == null) {
+            return anyCollectionUpdates;
+        }
+        List<ProgressUpdate> updates = new ArrayList<>(anyCollectionUpdates.size() + specific.size());
+        updates.addAll(anyCollectionUpdates);
+        updates.addAll(specific);
+        return updates;
+    }
+
+    private void rebuild() {
+        Map<AchievementType, List<Achievement>> types = new EnumMap<>(AchievementType.class);
+        List<ProgressUpdate> counts = new ArrayList<>();
+        Map<LoreCategory, List<ProgressUpdate>> perCategory = new EnumMap<>(LoreCategory.class);
+        List<Achievement> breadth = new ArrayList<>();
+        List<ProgressUpdate> anyCollection = new ArrayList<>();
+        Map<String, List<ProgressUpdate>> perCollection = new HashMap<>();
+
+        for (Achievement achievement : achievements.values()) {
+            types.computeIfAbsent(achievement.getType(), k -> new ArrayList<>()).add(achievement);
+            switch (achievement.getType()) {
+                case DISCOVERY_COUNT -> counts.add(ProgressUpdate.increment(achievement));
+                case CATEGORY_COMPLETE -> {
+                    LoreCategory category = parseCategory(achievement.getTargetCategory());
+                    if (category != null) {
+                        perCategory.computeIfAbsent(category, k -> new ArrayList<>())
+                            .add(ProgressUpdate.increment(achievement));
+                    }
+                }
+                case MULTI_CATEGORY -> breadth.add(achievement);
+                case COLLECTION_COMPLETE -> {
+                    String collectionId = achievement.getTargetCollectionId();
+                    if (collectionId == null) {
+                        anyCollection.add(ProgressUpdate.increment(achievement));
+                    } else {
+                        perCollection.computeIfAbsent(collectionId, k -> new ArrayList<>())
+                            .add(ProgressUpdate.increment(achievement));
+                    }
+                }
+                default -> {
+                    // Advanced by explicit calls, not by indexed events
+                }
+            }
+        }
+
+        // Every category list already contains the discovery counters, so a discovery is one lookup
+        Map<LoreCategory, List<ProgressUpdate>> discovery = new EnumMap<>(LoreCategory.class);
+        for (Map.Entry<LoreCategory, List<ProgressUpdate>> entry : perCategory.entrySet()) {
+            List<ProgressUpdate> combined = new ArrayList<>(counts);
+            combined.addAll(entry.getValue());
+            discovery.put(entry.getKey(), List.copyOf(combined));
+        }
+
+        Map<AchievementType, List<Achievement>> frozenTypes = new EnumMap<>(AchievementType.class);
+        types.forEach((type, list) -> frozenTypes.put(type, List.copyOf(list)));
+        Map<String, List<ProgressUpdate>> frozenCollections = new HashMap<>();
+        perCollection.forEach((id, list) -> frozenCollections.put(id, List.copyOf(list)));
+
+        byType = frozenTypes;
+        discoveryCountUpdates = List.copyOf(counts);
+        discoveryUpdates = discovery;
+        categoryBreadth = List.copyOf(breadth);
+        anyCollectionUpdates = List.copyOf(anyCollection);
+        collectionUpdates = frozenCollections;
+    }
+
+    private static LoreCategory parseCategory(String name) {
+        if (name == null) {
+            return null;
+        }
+        try {
+            return LoreCategory.valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -35,9 +35,9 @@ public class CommandRewardHandler implements RewardHandler {
                         .replace("{uuid}", player.getUniqueId().toString())
                         .replace("{world}", player.getWorld().getName());
 
-        // Execute on main thread
+        // Console commands run on the global thread
         final String finalCommand = command;
-        plugin.getServer().getScheduler().runTask(plugin, () -> {
+        plugin.getLoreScheduler().runGlobal(() -> {
             Bukkit.dispatchCommand(Bukkit.getConsoleSender(), finalCommand);
         });
 
@@ -111,7 +111,7 @@ public class PermissionRewardHandler implements RewardHandler {
     private boolean grantViaCommand(Player player, String permission) {
         // Fallback: use console command
         String command = "lp user " + player.getName() + " permission set " + permission + " true";
-        plugin.getServer().getScheduler().runTask(plugin, () -> {
+        plugin.getLoreScheduler().runGlobal(() -> {
             Bukkit.dispatchCommand(Bukkit.getConsoleSender(), command);
         });
         logger.debug("Granted permission via command to " + player.getName() + ": " + permission);
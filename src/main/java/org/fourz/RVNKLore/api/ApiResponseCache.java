@@ -0,0 +1,216 @@
+package org.fourz.RVNKLore.api;
+
+import com.google.gson.Gson;
+import org.fourz.RVNKLore.util.BoundedCache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of built REST responses keyed by endpoint and normalized parameters, each tagged
+ * with the version of the data it was built from.
+ *
+ * <p>A cached response is reused while its data version is unchanged and it is younger
+ * than the maximum age; the age limit covers changes that do not advance a version, such
+ * as fallback mode switching. The body is serialized once when the response is built; the
+ * cache is bounded by the total size of those bodies as well as by their number. Each
+ * response carries a weak ETag derived from its body, so an HTTP layer can answer
+ * {@code If-None-Match} with 304 and serve the JSON body, or its gzip variant, without
+ * serializing again.
+ */
+public class ApiResponseCache {
+    public static final String MAX_ENTRIES_PATH = "api.cache.maxEntries";
+    public static final String MAX_BYTES_PATH = "api.cache.maxBytes";
+    public static final String MAX_AGE_SECONDS_PATH = "api.cache.maxAgeSeconds";
+    public static final String COMPRESS_MIN_BYTES_PATH = "api.cache.compressMinBytes";
+    public static final int DEFAULT_MAX_ENTRIES = 256;
+    public static final long DEFAULT_MAX_BYTES = 8L * 1024 * 1024;
+    public static final int DEFAULT_MAX_AGE_SECONDS = 30;
+    public static final int DEFAULT_COMPRESS_MIN_BYTES = 1024;
+
+    private final BoundedCache<String, CachedResponse> responses;
+    private final Gson gson;
+    private final long maxAgeMillis;
+    private final int compressMinBytes;
+    private final LongSupplier clock;
+
+    /**
+     * @param gson             Serializer for response bodies
+     * @param maxEntries       Most responses kept; 0 disables the cache
+     * @param maxBytes         Most JSON body bytes kept across all responses
+     * @param maxAgeSeconds    Seconds a response is reused while its version is unchanged
+     * @param compressMinBytes Smallest JSON body that also gets a gzip variant
+     */
+    public ApiResponseCache(Gson gson, int maxEntries, long maxBytes, int maxAgeSeconds, int compressMinBytes) {
+        this(gson, maxEntries, maxBytes, maxAgeSeconds, compressMinBytes, System::currentTimeMillis);
+    }
+
+    ApiResponseCache(Gson gson, int maxEntries, long maxBytes, int maxAgeSeconds, int compressMinBytes,
+                     LongSupplier clock) {
+        this.responses = new BoundedCache<>("api-responses", maxEntries, maxBytes, response -> response.json.length);
+        this.gson = gson;
+        this.maxAgeMillis = Math.max(0, maxAgeSeconds) * 1000L;
+        this.compressMinBytes = Math.max(0, compressMinBytes);
+        this.clock = clock;
+    }
+
+    /**
+     * Build a cache key from an endpoint name and its parameters after defaults are applied,
+     * so requests that differ only in omitted or reordered parameters share an entry.
+     */
+    public static String key(String endpoint, Object... params) {
+        StringBuilder key = new StringBuilder(endpoint);
+        for (Object param : params) {
+            key.append('|').append(param);
+        }
+        return key.toString();
+    }
+
+    /**
+     * Get the cached response for a key, or build and cache it.
+     *
+     * @param key     Key from {@link #key}
+     * @param version Version of the data the response is built from
+     * @param builder Builds the response; exceptions propagate and nothing is cached
+     */
+    public CachedResponse get(String key, long version, Supplier<?> builder) {
+        long now = clock.getAsLong();
+        CachedResponse cached = responses.get(key);
+        if (cached != null && cached.version == version && now - cached.createdAt < maxAgeMillis) {
+            return cached;
+        }
+
+        long generation = responses.generation();
+        Object response = builder.get();
+        byte[] json = gson.toJson(response).getBytes(StandardCharsets.UTF_8);
+        CachedResponse built = new CachedResponse(etag(json), version, now, response, json);
+        responses.putIfCurrent(key, built, generation);
+        return built;
+    }
+
+    /**
+     * Drop every cached response, e.g. after a change no version tracks.
+     */
+    public void clear() {
+        responses.clear();
+    }
+
+    public BoundedCache.Stats stats() {
+        return responses.stats();
+    }
+
+    /**
+     * Check an {@code If-None-Match} header value against an ETag using weak comparison.
+     *
+     * @return True if the client's copy is current and a 304 can be sent
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        String opaque = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || stripWeak(tag).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    /**
+     * Weak because the JSON and gzip bodies of one response share the tag. Derived from the
+     * JSON body, so a rebuilt response keeps its tag while its content is unchanged, even
+     * across restarts, and any change to the content changes the tag.
+     */
+    static String etag(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "W/\"" + HexFormat.of().formatHex(digest, 0, 16) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * One built response with its JSON body and ETag. The gzip variant is produced on first
+     * use and then kept.
+     */
+    public class CachedResponse {
+        private final String etag;
+        private final long version;
+        private final long createdAt;
+        private final Object response;
+        private final byte[] json;
+        private volatile byte[] gzip;
+        private volatile boolean gzipDone;
+
+        CachedResponse(String etag, long version, long createdAt, Object response, byte[] json) {
+            this.etag = etag;
+            this.version = version;
+            this.createdAt = createdAt;
+            this.response = response;
+            this.json = json;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public Object getResponse() {
+            return response;
+        }
+
+        /**
+         * @return The response serialized as UTF-8 JSON
+         */
+        public byte[] getJson() {
+            return json;
+        }
+
+        /**
+         * @return The JSON body gzip-compressed, or null if it is too small to be worth it
+         */
+        public byte[] getGzip() {
+            if (!gzipDone) {
+                byte[] body = getJson();
+                gzip = body.length >= compressMinBytes ? compress(body) : null;
+                gzipDone = true;
+            }
+            return gzip;
+        }
+
+        /**
+         * Whether the client's copy, named by its {@code If-None-Match} header, is current.
+         */
+        public boolean isNotModified(String ifNoneMatch) {
+            return matches(ifNoneMatch, etag);
+        }
+    }
+
+    private static byte[] compress(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -8,6 +8,7 @@ import org.fourz.RVNKLore.api.model.response.*;
 import org.fourz.RVNKLore.lore.LoreCategory;
 import org.fourz.RVNKLore.lore.LoreEntry;
 import org.fourz.RVNKLore.lore.LoreManager;
+import org.fourz.RVNKLore.lore.LoreStatistics;
 import org.fourz.RVNKLore.lore.LoreType;
 import org.fourz.RVNKLore.lore.item.collection.CollectionManager;
 import org.fourz.RVNKLore.lore.item.collection.ItemCollection;
@@ -35,40 +36,71 @@ import java.util.stream.Collectors;
 public class LoreApiEndpointImpl implements ILoreApiService {
 
     private static final int ASYNC_TIMEOUT_SECONDS = 15;
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+
+    /** Lore type names of each category; types never change at runtime */
+    private static final Map<LoreCategory, List<String>> TYPES_BY_CATEGORY = new EnumMap<>(LoreCategory.class);
+
+    static {
+        for (LoreCategory category : LoreCategory.values()) {
+            TYPES_BY_CATEGORY.put(category, new ArrayList<>());
+        }
+        for (LoreType type : LoreType.values()) {
+            TYPES_BY_CATEGORY.get(type.getCategory()).add(type.name());
+        }
+        TYPES_BY_CATEGORY.replaceAll((category, types) -> List.copyOf(types));
+    }
 
     private final RVNKLore plugin;
     private final LoreManager loreManager;
+    private final LoreStatistics statistics;
     private final PlayerManager playerManager;
     private final CollectionManager collectionManager;
     private final LoreSearchService searchService;
     private final Gson gson;
+    private final ApiResponseCache responseCache;
     private final LogManager logger;
 
     public LoreApiEndpointImpl(RVNKLore plugin) {
         this.plugin = plugin;
         this.loreManager = plugin.getLoreManager();
+        this.statistics = plugin.getLoreStatistics();
         this.playerManager = plugin.getPlayerManager();
         this.collectionManager = loreManager.getItemManager().getCollectionManager();
         this.searchService = new LoreSearchService(plugin);
         this.gson = new GsonBuilder().create();
+        this.responseCache = new ApiResponseCache(gson,
+            plugin.getConfig().getInt(ApiResponseCache.MAX_ENTRIES_PATH, ApiResponseCache.DEFAULT_MAX_ENTRIES),
+            plugin.getConfig().getLong(ApiResponseCache.MAX_BYTES_PATH, ApiResponseCache.DEFAULT_MAX_BYTES),
+            plugin.getConfig().getInt(ApiResponseCache.MAX_AGE_SECONDS_PATH, ApiResponseCache.DEFAULT_MAX_AGE_SECONDS),
+            plugin.getConfig().getInt(ApiResponseCache.COMPRESS_MIN_BYTES_PATH, ApiResponseCache.DEFAULT_COMPRESS_MIN_BYTES));
         this.logger = LogManager.getInstance(plugin, "LoreApiEndpoint");
     }
 
     @Override
     public CompletableFuture<ApiResponse<?>> getEntries(Map<String, String> params) {
-        int offset = parseIntOrDefault(params.get("offset"), 0);
-        int limit = parseIntOrDefault(params.get("limit"), 50);
+        String since = params.get("since");
+        if (since != null) {
+            return getEntryChanges(since);
+        }
+
+        int offset = pageOffset(params);
+        int limit = pageLimit(params);
         boolean approvedOnly = "true".equalsIgnoreCase(params.get("approved"));
 
-        return CompletableFuture.supplyAsync(() -> {
+        return CompletableFuture.supplyAsync(() ->
+            (ApiResponse<?>) cachedEntries(offset, limit, approvedOnly).getResponse());
+    }
+
+    private ApiResponseCache.CachedResponse cachedEntries(int offset, int limit, boolean approvedOnly) {
+        return responseCache.get(ApiResponseCache.key("entries", offset, limit, approvedOnly), loreVersion(), () -> {
             List<LoreEntry> page;
             int total;
             if (approvedOnly) {
-                // Approved entries require filtering — use full list
-                List<LoreEntry> approved = loreManager.getApprovedLoreEntriesSync();
-                total = approved.size();
-                int end = Math.min(offset + limit, total);
-                page = offset < total ? approved.subList(offset, end) : List.of();
+                // Approved entries are kept sorted by name — copy only the requested page
+                total = statistics.getApprovedCount();
+                page = statistics.getApprovedPage(null, offset, limit);
             } else {
                 // All entries — use paginated access to avoid full list copy
                 total = loreManager.getLoreEntryCount();
@@ -77,7 +109,27 @@ public class LoreApiEndpointImpl implements ILoreApiService {
             List<LoreEntryResponse> data = page.stream()
                 .map(LoreEntryResponse::from)
                 .collect(Collectors.toList());
-            return (ApiResponse<?>) ApiResponse.success(new PagedLoreResponse(data, offset, limit, total));
+            return ApiResponse.success(new PagedLoreResponse(data, offset, limit, total));
+        });
+    }
+
+    /**
+     * Incremental polling: return the lore changes published after the given sequence.
+     */
+    private CompletableFuture<ApiResponse<?>> getEntryChanges(String since) {
+        long sequence;
+        try {
+            sequence = Long.parseLong(since);
+        } catch (NumberFormatException e) {
+            return CompletableFuture.completedFuture(
+                ApiResponse.error("INVALID_REQUEST", "Invalid since sequence: " + since));
+        }
+
+        return CompletableFuture.supplyAsync(() -> {
+            LoreChangesResponse response = LoreChangesResponse.from(
+                loreManager.changesSince(sequence),
+                id -> loreManager.getLoreById(id).orElse(null));
+            return (ApiResponse<?>) ApiResponse.success(response);
         });
     }
 
@@ -119,8 +171,8 @@ public class LoreApiEndpointImpl implements ILoreApiService {
                 ApiResponse.error("INVALID_REQUEST", "Invalid lore type: " + typeStr));
         }
 
-        int offset = parseIntOrDefault(params.get("offset"), 0);
-        int limit = parseIntOrDefault(params.get("limit"), 50);
+        int offset = pageOffset(params);
+        int limit = pageLimit(params);
 
         return loreManager.getLoreEntriesByType(type)
             .<ApiResponse<?>>handle((entries, ex) -> {
@@ -138,8 +190,8 @@ public class LoreApiEndpointImpl implements ILoreApiService {
 
     @Override
     public CompletableFuture<ApiResponse<?>> searchEntries(String query, Map<String, String> params) {
-        int offset = parseIntOrDefault(params.get("offset"), 0);
-        int limit = parseIntOrDefault(params.get("limit"), 50);
+        int offset = pageOffset(params);
+        int limit = pageLimit(params);
 
         return CompletableFuture.supplyAsync(() -> {
             try {
@@ -284,19 +336,7 @@ public class LoreApiEndpointImpl implements ILoreApiService {
     public CompletableFuture<ApiResponse<?>> getCollections() {
         return CompletableFuture.supplyAsync(() -> {
             try {
-                List<CollectionResponse> collections = new ArrayList<>();
-                Map<String, ItemCollection> all = collectionManager.getAllCollectionsSync();
-                for (ItemCollection col : all.values()) {
-                    collections.add(CollectionResponse.builder()
-                        .id(col.getId())
-                        .name(col.getName())
-                        .description(col.getDescription())
-                        .theme(col.getThemeId())
-                        .itemCount(col.getItemCount())
-                        .seasonal(false)
-                        .build());
-                }
-                return (ApiResponse<?>) ApiResponse.success(collections);
+                return (ApiResponse<?>) cachedCollections().getResponse();
             } catch (Exception e) {
                 logger.error("Error retrieving collections", e);
                 return (ApiResponse<?>) ApiResponse.error("INTERNAL_ERROR",
@@ -305,9 +345,34 @@ public class LoreApiEndpointImpl implements ILoreApiService {
         });
     }
 
+    private ApiResponseCache.CachedResponse cachedCollections() {
+        return responseCache.get(ApiResponseCache.key("collections"), collectionManager.getGeneration(), () -> {
+            List<CollectionResponse> collections = new ArrayList<>();
+            Map<String, ItemCollection> all = collectionManager.getAllCollectionsSync();
+            for (ItemCollection col : all.values()) {
+                collections.add(CollectionResponse.builder()
+                    .id(col.getId())
+                    .name(col.getName())
+                    .description(col.getDescription())
+                    .theme(col.getThemeId())
+                    .itemCount(col.getItemCount())
+                    .seasonal(false)
+                    .build());
+            }
+            return ApiResponse.success(collections);
+        });
+    }
+
     @Override
     public CompletableFuture<ApiResponse<?>> getTypes() {
-        return CompletableFuture.supplyAsync(() -> {
+        return CompletableFuture.supplyAsync(() -> (ApiResponse<?>) cachedTypes().getResponse());
+    }
+
+    /**
+     * Lore types never change at runtime, so the response is only rebuilt when it expires.
+     */
+    private ApiResponseCache.CachedResponse cachedTypes() {
+        return responseCache.get(ApiResponseCache.key("types"), 0L, () -> {
             List<Map<String, Object>> types = new ArrayList<>();
             for (LoreType type : LoreType.values()) {
                 Map<String, Object> typeInfo = new HashMap<>();
@@ -315,7 +380,7 @@ public class LoreApiEndpointImpl implements ILoreApiService {
                 typeInfo.put("display_name", formatDisplayName(type.name()));
                 types.add(typeInfo);
             }
-            return (ApiResponse<?>) ApiResponse.success(types);
+            return ApiResponse.success(types);
         });
     }
 
@@ -323,27 +388,7 @@ public class LoreApiEndpointImpl implements ILoreApiService {
     public CompletableFuture<ApiResponse<?>> getStats() {
         return CompletableFuture.supplyAsync(() -> {
             try {
-                int totalEntries = loreManager.getLoreEntryCount();
-                List<LoreEntry> allEntries = loreManager.getAllLoreEntriesSync();
-
-                long approvedCount = allEntries.stream().filter(LoreEntry::isApproved).count();
-
-                Map<String, Object> stats = new HashMap<>();
-                stats.put("total_entries", totalEntries);
-                stats.put("approved_entries", approvedCount);
-                stats.put("pending_entries", totalEntries - approvedCount);
-
-                Map<String, Long> byType = allEntries.stream()
-                    .collect(Collectors.groupingBy(
-                        e -> e.getType() != null ? e.getType().name() : "UNKNOWN",
-                        Collectors.counting()
-                    ));
-                stats.put("entries_by_type", byType);
-
-                stats.put("fallback_mode", loreManager.isInFallbackMode());
-                stats.put("timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-
-                return (ApiResponse<?>) ApiResponse.success(stats);
+                return (ApiResponse<?>) cachedStats().getResponse();
             } catch (Exception e) {
                 logger.error("Error retrieving stats", e);
                 return (ApiResponse<?>) ApiResponse.error("INTERNAL_ERROR",
@@ -352,6 +397,38 @@ public class LoreApiEndpointImpl implements ILoreApiService {
         });
     }
 
+    /**
+     * The fallback flag and timestamp are not versioned; they refresh when the response expires.
+     */
+    private ApiResponseCache.CachedResponse cachedStats() {
+        return responseCache.get(ApiResponseCache.key("stats"), loreVersion(), () -> {
+            LoreStatistics.Snapshot counts = statistics.snapshot();
+
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("total_entries", counts.total());
+            stats.put("approved_entries", counts.approved());
+            stats.put("pending_entries", counts.pending());
+
+            Map<String, Integer> byType = new HashMap<>();
+            counts.byType().forEach((type, count) -> {
+                if (count > 0) {
+                    byType.put(type.name(), count);
+                }
+            });
+            stats.put("entries_by_type", byType);
+
+            Map<String, Integer> byCategory = new HashMap<>();
+            counts.byCategory().forEach((category, count) -> byCategory.put(category.name(), count));
+            stats.put("entries_by_category", byCategory);
+            stats.put("entries_by_world", counts.byWorld());
+
+            stats.put("fallback_mode", loreManager.isInFallbackMode());
+            stats.put("timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+
+            return ApiResponse.success(stats);
+        });
+    }
+
     @Override
     public CompletableFuture<ApiResponse<?>> getHealthStatus() {
         return CompletableFuture.supplyAsync(() -> {
@@ -359,7 +436,11 @@ public class LoreApiEndpointImpl implements ILoreApiService {
             health.put("status", "UP");
             health.put("plugin", "RVNKLore");
             health.put("version", plugin.getDescription().getVersion());
-            health.put("database", plugin.getDatabaseManager().isConnected() ? "CONNECTED" : "DISCONNECTED");
+            // Cached snapshot from DatabaseHealthMonitor - polling this endpoint never touches the pool
+            var dbHealth = plugin.getDatabaseManager().getHealthSnapshot();
+            health.put("database", dbHealth.isConnected() ? "CONNECTED" : "DISCONNECTED");
+            health.put("read_only", dbHealth.isReadOnly());
+            health.put("database_checked_at", dbHealth.getCheckedAt());
             health.put("fallback_mode", loreManager.isInFallbackMode());
             health.put("timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
             return (ApiResponse<?>) ApiResponse.success(health);
@@ -368,32 +449,86 @@ public class LoreApiEndpointImpl implements ILoreApiService {
 
     @Override
     public CompletableFuture<ApiResponse<?>> getCategories() {
-        return CompletableFuture.supplyAsync(() -> {
+        return CompletableFuture.supplyAsync(() -> (ApiResponse<?>) cachedCategories().getResponse());
+    }
+
+    private ApiResponseCache.CachedResponse cachedCategories() {
+        return responseCache.get(ApiResponseCache.key("categories"), loreVersion(), () -> {
             List<Map<String, Object>> categories = new ArrayList<>();
             for (LoreCategory category : LoreCategory.values()) {
                 Map<String, Object> catInfo = new HashMap<>();
                 catInfo.put("name", category.name());
                 catInfo.put("display_name", formatDisplayName(category.name()));
 
-                // List which LoreTypes belong to this category
-                List<String> types = new ArrayList<>();
-                for (LoreType type : LoreType.values()) {
-                    if (type.getCategory() == category) {
-                        types.add(type.name());
-                    }
-                }
+                List<String> types = TYPES_BY_CATEGORY.get(category);
                 catInfo.put("types", types);
                 catInfo.put("type_count", types.size());
+                catInfo.put("entry_count", statistics.getCount(category));
                 categories.add(catInfo);
             }
-            return (ApiResponse<?>) ApiResponse.success(categories);
+            return ApiResponse.success(categories);
         });
     }
 
+    // ========================================================
+    // Conditional GET
+    // ========================================================
+
+    /**
+     * Get a read-only response together with its ETag and serialized bodies, for an HTTP
+     * layer that supports conditional requests. The caller answers 304 when
+     * {@link ApiResponseCache.CachedResponse#isNotModified} accepts the request's
+     * {@code If-None-Match} header, and otherwise sends the gzip body if the client accepts
+     * it and one exists, or the JSON body.
+     *
+     * @param endpoint One of entries, collections, types, categories or stats
+     * @param params   Query parameters; entries reads offset, limit and approved
+     * @return The response, or an empty optional if this request is not cacheable
+     */
+    public CompletableFuture<Optional<ApiResponseCache.CachedResponse>> getCachedResponse(
+            String endpoint, Map<String, String> params) {
+        return CompletableFuture.supplyAsync(() -> switch (endpoint) {
+            case "entries" -> params.containsKey("since") ? Optional.empty() : Optional.of(cachedEntries(
+                pageOffset(params),
+                pageLimit(params),
+                "true".equalsIgnoreCase(params.get("approved"))));
+            case "collections" -> Optional.of(cachedCollections());
+            case "types" -> Optional.of(cachedTypes());
+            case "categories" -> Optional.of(cachedCategories());
+            case "stats" -> Optional.of(cachedStats());
+            default -> Optional.empty();
+        });
+    }
+
+    public ApiResponseCache getResponseCache() {
+        return responseCache;
+    }
+
     // ========================================================
     // Helper Methods
     // ========================================================
 
+    /**
+     * Version of the lore data for cached responses: the last change the statistics have
+     * applied. The feed's own sequence advances before its listeners run, so a response
+     * built under it could miss that change in the statistics.
+     */
+    private long loreVersion() {
+        return statistics.getAppliedSequence();
+    }
+
+    /**
+     * Page size from the {@code limit} parameter, clamped to {@link #MAX_PAGE_SIZE}, so
+     * requests cannot create cached responses of any size under any number of keys.
+     */
+    private int pageLimit(Map<String, String> params) {
+        return Math.max(0, Math.min(MAX_PAGE_SIZE, parseIntOrDefault(params.get("limit"), DEFAULT_PAGE_SIZE)));
+    }
+
+    private int pageOffset(Map<String, String> params) {
+        return Math.max(0, parseIntOrDefault(params.get("offset"), 0));
+    }
+
     private int parseIntOrDefault(String value, int defaultValue) {
         if (value == null) return defaultValue;
         try {
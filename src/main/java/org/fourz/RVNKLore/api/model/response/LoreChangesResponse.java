@@ -0,0 +1,75 @@
+package org.fourz.RVNKLore.api.model.response;
+
+import org.fourz.RVNKLore.lore.LoreChange;
+import org.fourz.RVNKLore.lore.LoreChangeFeed;
+import org.fourz.RVNKLore.lore.LoreEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Incremental response for {@code GET /entries?since=<sequence>} polling.
+ * Clients store {@code latestSequence} and send it back on the next poll;
+ * when {@code resyncRequired} is true they must re-read the full entry list.
+ */
+public class LoreChangesResponse {
+    private List<Change> changes;
+    private long latestSequence;
+    private long epoch;
+    private boolean resyncRequired;
+
+    private LoreChangesResponse() {}
+
+    /**
+     * @param changeSet The change set from the lore change feed
+     * @param lookup Resolves an entry ID to the current cached entry (may return null)
+     */
+    public static LoreChangesResponse from(LoreChangeFeed.ChangeSet changeSet, Function<String, LoreEntry> lookup) {
+        LoreChangesResponse response = new LoreChangesResponse();
+        response.latestSequence = changeSet.getLatestSequence();
+        response.epoch = changeSet.getEpoch();
+        response.resyncRequired = changeSet.isResyncRequired();
+        response.changes = new ArrayList<>(changeSet.getChanges().size());
+        for (LoreChange change : changeSet.getChanges()) {
+            LoreEntry entry = change.getEntryId() != null && change.getType() != LoreChange.Type.REMOVED
+                ? lookup.apply(change.getEntryId())
+                : null;
+            response.changes.add(new Change(change, LoreEntryResponse.from(entry)));
+        }
+        return response;
+    }
+
+    public List<Change> getChanges() { return changes; }
+    public long getLatestSequence() { return latestSequence; }
+    public long getEpoch() { return epoch; }
+    public boolean isResyncRequired() { return resyncRequired; }
+
+    /**
+     * A single change with the entry's current state (null for removals and reloads).
+     */
+    public static class Change {
+        private long sequence;
+        private String type;
+        private String entryId;
+        private String loreType;
+        private long timestamp;
+        private LoreEntryResponse entry;
+
+        Change(LoreChange change, LoreEntryResponse entry) {
+            this.sequence = change.getSequence();
+            this.type = change.getType().name();
+            this.entryId = change.getEntryId();
+            this.loreType = change.getLoreType() != null ? change.getLoreType().name() : null;
+            this.timestamp = change.getTimestamp();
+            this.entry = entry;
+        }
+
+        public long getSequence() { return sequence; }
+        public String getType() { return type; }
+        public String getEntryId() { return entryId; }
+        public String getLoreType() { return loreType; }
+        public long getTimestamp() { return timestamp; }
+        public LoreEntryResponse getEntry() { return entry; }
+    }
+}
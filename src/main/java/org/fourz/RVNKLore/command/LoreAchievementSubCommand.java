@@ -18,6 +18,7 @@ import java.util.*;
  * Usage:
  * - /lore achievement list [page]
  * - /lore achievement progress [player]
+ * - /lore achievement top [count]
  * - /lore achievement grant <player> <achievement_id>
  * - /lore achievement revoke <player> <achievement_id>
  */
@@ -47,6 +48,8 @@ public class LoreAchievementSubCommand implements SubCommand {
                 return handleList(sender, args);
             case "progress":
                 return handleProgress(sender, args);
+            case "top":
+                return handleTop(sender, args);
             case "grant":
                 return handleGrant(sender, args);
             case "revoke":
@@ -155,6 +158,40 @@ public class LoreAchievementSubCommand implements SubCommand {
         return true;
     }
 
+    private boolean handleTop(CommandSender sender, String[] args) {
+        int limit = 10;
+        if (args.length > 1) {
+            try {
+                limit = Math.max(1, Math.min(50, Integer.parseInt(args[1])));
+            } catch (NumberFormatException e) {
+                // Ignore
+            }
+        }
+
+        achievementManager.getLeaderboard(limit).whenComplete((leaderboard, ex) ->
+            plugin.getLoreScheduler().runFor(sender, () -> {
+                if (ex != null) {
+                    sender.sendMessage(ChatColor.RED + "✖ Failed to load the leaderboard. Check the console for details.");
+                    logger.error("Failed to load achievement leaderboard", ex);
+                    return;
+                }
+                sender.sendMessage(ChatColor.GOLD + "===== Achievement Leaderboard =====");
+                if (leaderboard.isEmpty()) {
+                    sender.sendMessage(ChatColor.GRAY + "No achievements completed yet.");
+                    return;
+                }
+                int rank = 1;
+                for (var entry : leaderboard) {
+                    String name = Bukkit.getOfflinePlayer(entry.playerId()).getName();
+                    sender.sendMessage(ChatColor.YELLOW + "#" + rank++ + " " + ChatColor.WHITE +
+                        (name != null ? name : entry.playerId().toString()) +
+                        ChatColor.GRAY + " - " + entry.points() + " pts" +
+                        ChatColor.DARK_GRAY + " (" + entry.completed() + " completed)");
+                }
+            }));
+        return true;
+    }
+
     private boolean handleGrant(CommandSender sender, String[] args) {
         if (!sender.hasPermission("rvnklore.achievement.grant")) {
             sender.sendMessage(ChatColor.RED + "✖ You don't have permission to grant achievements.");
@@ -200,26 +237,47 @@ public class LoreAchievementSubCommand implements SubCommand {
             return true;
         }
 
-        Player target = Bukkit.getPlayer(args[1]);
-        if (target == null) {
+        UUID targetId = resolvePlayerUuid(args[1]);
+        if (targetId == null) {
             sender.sendMessage(ChatColor.RED + "✖ Player not found: " + args[1]);
             return true;
         }
 
         String achievementId = args[2];
-        if (achievementManager.revokeAchievement(target.getUniqueId(), achievementId)) {
-            sender.sendMessage(ChatColor.GREEN + "✓ Revoked achievement '" + achievementId + "' from " + target.getName());
-        } else {
-            sender.sendMessage(ChatColor.YELLOW + "Player doesn't have this achievement.");
-        }
+        String targetName = args[1];
+        achievementManager.revokeAchievement(targetId, achievementId).whenComplete((revoked, ex) ->
+            plugin.getLoreScheduler().runFor(sender, () -> {
+                if (ex != null) {
+                    sender.sendMessage(ChatColor.RED + "✖ Failed to revoke the achievement. Check the console for details.");
+                    logger.error("Failed to revoke achievement " + achievementId + " from " + targetName, ex);
+                } else if (revoked) {
+                    sender.sendMessage(ChatColor.GREEN + "✓ Revoked achievement '" + achievementId + "' from " + targetName);
+                } else {
+                    sender.sendMessage(ChatColor.YELLOW + "Player doesn't have this achievement.");
+                }
+            }));
 
         return true;
     }
 
+    /**
+     * Resolve a player name to a UUID, including players who are offline.
+     */
+    @SuppressWarnings("deprecation")
+    private UUID resolvePlayerUuid(String playerName) {
+        Player onlinePlayer = Bukkit.getPlayer(playerName);
+        if (onlinePlayer != null) {
+            return onlinePlayer.getUniqueId();
+        }
+        org.bukkit.OfflinePlayer offlinePlayer = Bukkit.getOfflinePlayer(playerName);
+        return offlinePlayer.hasPlayedBefore() ? offlinePlayer.getUniqueId() : null;
+    }
+
     private void showUsage(CommandSender sender) {
         sender.sendMessage(ChatColor.GOLD + "===== Achievement Commands =====");
         sender.sendMessage(ChatColor.YELLOW + "/lore achievement list [page]" + ChatColor.GRAY + " - List all achievements");
         sender.sendMessage(ChatColor.YELLOW + "/lore achievement progress [player]" + ChatColor.GRAY + " - View progress");
+        sender.sendMessage(ChatColor.YELLOW + "/lore achievement top [count]" + ChatColor.GRAY + " - Top players by points");
         if (sender.hasPermission("rvnklore.achievement.grant")) {
             sender.sendMessage(ChatColor.YELLOW + "/lore achievement grant <player> <id>" + ChatColor.GRAY + " - Grant achievement");
         }
@@ -234,7 +292,7 @@ public class LoreAchievementSubCommand implements SubCommand {
 
         if (args.length == 1) {
             String partial = args[0].toLowerCase();
-            for (String action : Arrays.asList("list", "progress", "grant", "revoke")) {
+            for (String action : Arrays.asList("list", "progress", "top", "grant", "revoke")) {
                 if (action.startsWith(partial)) {
                     completions.add(action);
                 }
@@ -68,7 +68,7 @@ public class LoreBookGiveSubCommand implements SubCommand {
                 plugin.getLoreManager().getLoreById(loreEntryId).ifPresent(entry -> {
                     var book = bookManager.createLoreBook(entry, rarity);
                     if (book != null) {
-                        plugin.getServer().getScheduler().runTask(plugin, () -> {
+                        plugin.getLoreScheduler().runForEntity(target, () -> {
                             target.getInventory().addItem(book);
                             sender.sendMessage(ChatColor.GREEN + "✓ Gave " + rarity.getColoredName() + ChatColor.GREEN + " lore book to " + target.getName());
                             target.sendMessage(ChatColor.GREEN + "You received a lore book: " + rarity.getColor() + entry.getDisplayName());
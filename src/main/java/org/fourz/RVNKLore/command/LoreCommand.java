@@ -132,7 +132,7 @@ public class LoreCommand implements CommandExecutor, TabCompleter {
                     sender.sendMessage(ChatColor.YELLOW + "/lore book <give|list> ..." +
                         ChatColor.WHITE + " - Create and manage lore books");
                 } else if ("export".equals(entry.getKey())) {
-                    sender.sendMessage(ChatColor.YELLOW + "/lore export [json|yaml] [type]" +
+                    sender.sendMessage(ChatColor.YELLOW + "/lore export [json|ndjson|yaml] [type] [--gzip|--deflate]" +
                         ChatColor.WHITE + " - Export lore entries to file");
                 } else if ("import".equals(entry.getKey())) {
                     sender.sendMessage(ChatColor.YELLOW + "/lore import <file> [--preview]" +
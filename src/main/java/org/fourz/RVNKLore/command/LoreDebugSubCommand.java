@@ -4,11 +4,14 @@ import org.bukkit.ChatColor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.fourz.RVNKLore.RVNKLore;
+import org.fourz.RVNKLore.handler.HandlerTimings;
 import org.fourz.RVNKLore.integration.dynmap.DynmapIntegration;
 import org.fourz.RVNKLore.integration.dynmap.LoreMarkerManager;
 import org.fourz.RVNKLore.lore.LoreEntry;
 import org.fourz.RVNKLore.lore.LoreType;
 import org.fourz.RVNKLore.lore.player.NameChangeRecord;
+import org.fourz.RVNKLore.lore.submission.SubmissionManager;
+import org.fourz.RVNKLore.util.BoundedCache;
 import org.fourz.RVNKLore.util.DiagnosticUtil;
 import org.fourz.rvnkcore.util.log.LogManager;
 
@@ -23,6 +26,7 @@ import java.util.stream.Collectors;
  */
 public class LoreDebugSubCommand implements SubCommand {
     private static final List<String> LOG_LEVELS = Arrays.asList("DEBUG", "INFO", "WARN", "OFF");
+    private static final int HANDLER_TIMINGS_SHOWN = 10;
 
     private final RVNKLore plugin;
     private final DiagnosticUtil diagnosticUtil;
@@ -40,7 +44,9 @@ public class LoreDebugSubCommand implements SubCommand {
             sender.sendMessage(ChatColor.GOLD + "==== Lore Debug Commands ====");
             sender.sendMessage(ChatColor.YELLOW + "/lore debug diagnostics [--verbose]" + ChatColor.WHITE + " - Run system diagnostics");
             sender.sendMessage(ChatColor.YELLOW + "/lore debug check <id>" + ChatColor.WHITE + " - Check a specific lore entry");
-            sender.sendMessage(ChatColor.YELLOW + "/lore debug handlers" + ChatColor.WHITE + " - List all registered handlers");
+            sender.sendMessage(ChatColor.YELLOW + "/lore debug handlers" + ChatColor.WHITE + " - List all registered handlers and their event timings");
+            sender.sendMessage(ChatColor.YELLOW + "/lore debug handlers timing <on|off|reset>" + ChatColor.WHITE + " - Control handler event timing");
+            sender.sendMessage(ChatColor.YELLOW + "/lore debug cache [clear|reset]" + ChatColor.WHITE + " - Show submission cache statistics");
             sender.sendMessage(ChatColor.YELLOW + "/lore debug fix" + ChatColor.WHITE + " - Attempt to fix common issues");
             sender.sendMessage(ChatColor.YELLOW + "/lore debug player <player_name>" + ChatColor.WHITE + " - Show player lore diagnostics");
             sender.sendMessage(ChatColor.YELLOW + "/lore debug seed <action>" + ChatColor.WHITE + " - Seed test data");
@@ -64,8 +70,14 @@ public class LoreDebugSubCommand implements SubCommand {
                 return checkLoreEntry(sender, args[1]);
 
             case "handlers":
+                if (args.length > 1 && args[1].equalsIgnoreCase("timing")) {
+                    return handlerTiming(sender, args);
+                }
                 return listHandlers(sender);
 
+            case "cache":
+                return cacheStats(sender, args);
+
             case "fix":
                 return attemptFixes(sender);
 
@@ -191,6 +203,92 @@ public class LoreDebugSubCommand implements SubCommand {
         }
         sender.sendMessage(ChatColor.GRAY + "  Total registered: " + allRegistered.size() + " handler classes");
 
+        showHandlerTimings(sender);
+        return true;
+    }
+
+    private void showHandlerTimings(CommandSender sender) {
+        HandlerTimings timings = plugin.getHandlerFactory().getTimings();
+        List<HandlerTimings.Snapshot> snapshots = timings.snapshot();
+        if (!timings.isEnabled() && snapshots.isEmpty()) {
+            sender.sendMessage(ChatColor.GRAY + "  Event timing is off. Enable with /lore debug handlers timing on");
+            return;
+        }
+
+        sender.sendMessage(ChatColor.YELLOW + "Handler Event Timings" + ChatColor.GRAY +
+            " (" + (timings.isEnabled() ? "recording" : "paused") + ", by total time):");
+        if (snapshots.isEmpty()) {
+            sender.sendMessage(ChatColor.GRAY + "  No handler events recorded yet");
+            return;
+        }
+        int shown = Math.min(snapshots.size(), HANDLER_TIMINGS_SHOWN);
+        for (int i = 0; i < shown; i++) {
+            sender.sendMessage(ChatColor.WHITE + "  " + HandlerTimings.describe(snapshots.get(i)));
+        }
+        if (snapshots.size() > shown) {
+            sender.sendMessage(ChatColor.GRAY + "  ... and " + (snapshots.size() - shown) + " more");
+        }
+    }
+
+    private boolean handlerTiming(CommandSender sender, String[] args) {
+        HandlerTimings timings = plugin.getHandlerFactory().getTimings();
+        if (args.length < 3) {
+            sender.sendMessage(ChatColor.YELLOW + "Handler event timing: " +
+                (timings.isEnabled() ? ChatColor.GREEN + "ON" : ChatColor.RED + "OFF"));
+            sender.sendMessage(ChatColor.GRAY + "Usage: /lore debug handlers timing <on|off|reset>");
+            return true;
+        }
+
+        switch (args[2].toLowerCase()) {
+            case "on":
+                timings.setEnabled(true);
+                sender.sendMessage(ChatColor.GREEN + "Handler event timing enabled");
+                return true;
+            case "off":
+                timings.setEnabled(false);
+                sender.sendMessage(ChatColor.GREEN + "Handler event timing disabled");
+                return true;
+            case "reset":
+                timings.reset();
+                sender.sendMessage(ChatColor.GREEN + "Handler event timings reset");
+                return true;
+            default:
+                sender.sendMessage(ChatColor.RED + "Usage: /lore debug handlers timing <on|off|reset>");
+                return false;
+        }
+    }
+
+    private boolean cacheStats(CommandSender sender, String[] args) {
+        SubmissionManager submissionManager = plugin.getSubmissionManager();
+        if (submissionManager == null) {
+            sender.sendMessage(ChatColor.RED + "Submission manager is not initialized");
+            return true;
+        }
+
+        if (args.length > 1) {
+            switch (args[1].toLowerCase()) {
+                case "clear":
+                    submissionManager.clearCaches();
+                    sender.sendMessage(ChatColor.GREEN + "Submission caches cleared");
+                    return true;
+                case "reset":
+                    submissionManager.getCache().resetStats();
+                    sender.sendMessage(ChatColor.GREEN + "Submission cache statistics reset");
+                    return true;
+                default:
+                    sender.sendMessage(ChatColor.RED + "Usage: /lore debug cache [clear|reset]");
+                    return false;
+            }
+        }
+
+        sender.sendMessage(ChatColor.YELLOW + "Submission Caches:");
+        for (BoundedCache.Stats stats : submissionManager.getCache().stats()) {
+            sender.sendMessage(ChatColor.GREEN + "  " + stats.name() + ChatColor.WHITE +
+                String.format(": %.1f%% hits (%d/%d), %d/%d entries, %d/%d KB, %d evicted",
+                    stats.hitRate() * 100, stats.hits(), stats.hits() + stats.misses(),
+                    stats.size(), stats.maxEntries(), stats.weight() / 1024, stats.maxWeight() / 1024,
+                    stats.evictions()));
+        }
         return true;
     }
 
@@ -209,7 +307,7 @@ public class LoreDebugSubCommand implements SubCommand {
         // 2. Reload lore entries
         try {
             sender.sendMessage("Reloading lore entries...");
-            plugin.getLoreManager().reloadLore();
+            plugin.getLoreManager().fullReloadLore();
             sender.sendMessage(ChatColor.GREEN + "Lore entries reloaded successfully");
         } catch (Exception e) {
             sender.sendMessage(ChatColor.RED + "Failed to reload lore entries: " + e.getMessage());
@@ -471,7 +569,7 @@ public class LoreDebugSubCommand implements SubCommand {
     @Override
     public List<String> getTabCompletions(CommandSender sender, String[] args) {
         if (args.length == 1) {
-            return Arrays.asList("diagnostics", "check", "handlers", "fix", "player", "seed", "loglevel", "dynmap");
+            return Arrays.asList("diagnostics", "check", "handlers", "cache", "fix", "player", "seed", "loglevel", "dynmap");
         }
 
         if (args.length >= 2 && args[0].equalsIgnoreCase("seed")) {
@@ -486,6 +584,18 @@ public class LoreDebugSubCommand implements SubCommand {
             return Arrays.asList("refresh");
         }
 
+        if (args.length == 2 && args[0].equalsIgnoreCase("cache")) {
+            return Arrays.asList("clear", "reset");
+        }
+
+        if (args.length == 2 && args[0].equalsIgnoreCase("handlers")) {
+            return Arrays.asList("timing");
+        }
+
+        if (args.length == 3 && args[0].equalsIgnoreCase("handlers") && args[1].equalsIgnoreCase("timing")) {
+            return Arrays.asList("on", "off", "reset");
+        }
+
         if (args.length == 2 && args[0].equalsIgnoreCase("loglevel")) {
             return LOG_LEVELS;
         }
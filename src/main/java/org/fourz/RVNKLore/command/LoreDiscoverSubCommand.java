@@ -82,7 +82,7 @@ public class LoreDiscoverSubCommand implements SubCommand {
             DiscoveryTriggerType.COMMAND,
             target.getLocation()
         ).thenAccept(success -> {
-            Bukkit.getScheduler().runTask(plugin, () -> {
+            plugin.getLoreScheduler().runFor(sender, () -> {
                 if (success) {
                     sender.sendMessage(ChatColor.GREEN + "✓ " + target.getName() + " discovered: " + entry.getDisplayName());
                     logger.info("Discovery granted via command: " + entry.getDisplayName() + " -> " + target.getName() + " by " + sender.getName());
@@ -117,7 +117,7 @@ public class LoreDiscoverSubCommand implements SubCommand {
         sender.sendMessage(ChatColor.YELLOW + "⚙ Loading discoveries for " + target.getName() + "...");
 
         discoveryManager.getPlayerStats(target.getUniqueId()).thenAccept(stats -> {
-            Bukkit.getScheduler().runTask(plugin, () -> {
+            plugin.getLoreScheduler().runFor(sender, () -> {
                 sender.sendMessage(ChatColor.GOLD + "===== Discoveries: " + target.getName() + " =====");
                 sender.sendMessage(ChatColor.GRAY + "Discovered: " + ChatColor.WHITE + stats.getDiscovered() + "/" + stats.getTotal()
                     + ChatColor.GRAY + " (" + String.format("%.1f", stats.getCompletionPercentage()) + "%)");
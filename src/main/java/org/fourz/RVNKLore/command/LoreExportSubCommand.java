@@ -3,6 +3,7 @@ package org.fourz.RVNKLore.command;
 import org.bukkit.ChatColor;
 import org.bukkit.command.CommandSender;
 import org.fourz.RVNKLore.RVNKLore;
+import org.fourz.RVNKLore.data.io.Compression;
 import org.fourz.RVNKLore.data.io.LoreExporter;
 import org.fourz.RVNKLore.data.io.LoreExporter.ExportFormat;
 import org.fourz.RVNKLore.lore.LoreType;
@@ -12,16 +13,20 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
  * Enhanced export subcommand supporting multiple formats and filtering.
  * Usage:
- *   /lore export [json|yaml] [type]
+ *   /lore export [json|ndjson|yaml] [type] [--gzip|--deflate]
  *   /lore export json          - Export all entries to JSON
  *   /lore export yaml          - Export all entries to YAML
  *   /lore export json landmark - Export only landmarks to JSON
  *   /lore export yaml city     - Export only cities to YAML
+ *   /lore export --format ndjson --gzip - Export all entries to gzipped NDJSON
+ *
+ * Exports are streamed from the database on a background thread.
  */
 public class LoreExportSubCommand implements SubCommand {
     private final RVNKLore plugin;
@@ -36,70 +41,76 @@ public class LoreExportSubCommand implements SubCommand {
 
     @Override
     public boolean execute(CommandSender sender, String[] args) {
-        // Parse format argument
         ExportFormat format = ExportFormat.JSON; // Default
-        if (args.length > 0) {
-            format = ExportFormat.fromString(args[0]);
-        }
-
-        // Check if type filter is specified
-        if (args.length > 1) {
-            String typeStr = args[1].toUpperCase();
-            try {
-                LoreType type = LoreType.valueOf(typeStr);
-                return exportByType(sender, type, format);
-            } catch (IllegalArgumentException e) {
-                sender.sendMessage(ChatColor.RED + "✖ Invalid lore type: " + args[1]);
-                sender.sendMessage(ChatColor.GRAY + "   Valid types: " + getValidTypes());
-                return false;
+        Compression compression = Compression.NONE;
+        LoreType type = null;
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.equalsIgnoreCase("--format")) {
+                if (i + 1 >= args.length) {
+                    sender.sendMessage(ChatColor.RED + "▶ Usage: /lore export --format <json|ndjson|yaml> [type] [--gzip|--deflate]");
+                    return false;
+                }
+                format = ExportFormat.fromString(args[++i]);
+            } else if (Compression.fromFlag(arg) != null) {
+                compression = Compression.fromFlag(arg);
+            } else if (isFormat(arg)) {
+                format = ExportFormat.fromString(arg);
+            } else {
+                try {
+                    type = LoreType.valueOf(arg.toUpperCase());
+                } catch (IllegalArgumentException e) {
+                    sender.sendMessage(ChatColor.RED + "✖ Invalid lore type: " + arg);
+                    sender.sendMessage(ChatColor.GRAY + "   Valid types: " + getValidTypes());
+                    return false;
+                }
             }
         }
 
-        // Export all entries
-        return exportAll(sender, format);
+        String scope = type != null ? type.name() + " entries" : "all lore entries";
+        sender.sendMessage(ChatColor.YELLOW + "⚙ Exporting " + scope + " to " + format.name()
+            + (compression != Compression.NONE ? " (" + compression.name().toLowerCase() + ")" : "") + "...");
+
+        LoreType exportType = type;
+        ExportFormat exportFormat = format;
+        Compression exportCompression = compression;
+        CompletableFuture.supplyAsync(() -> exportType != null
+                ? exporter.exportByType(exportType, exportFormat, exportCompression)
+                : exporter.exportAll(exportFormat, exportCompression))
+            .whenComplete((exportFile, error) -> plugin.getLoreScheduler().runFor(sender, () ->
+                reportResult(sender, exportFile, error, exportType)));
+        return true;
     }
 
     /**
-     * Export all lore entries.
+     * Report the outcome of a background export to the sender.
      */
-    private boolean exportAll(CommandSender sender, ExportFormat format) {
-        sender.sendMessage(ChatColor.YELLOW + "⚙ Exporting all lore entries to " + format.name() + "...");
-
-        File exportFile = exporter.exportAll(format);
-
-        if (exportFile == null) {
+    private void reportResult(CommandSender sender, File exportFile, Throwable error, LoreType type) {
+        if (error != null || exportFile == null) {
+            if (error != null) {
+                logger.error("Export failed", error);
+            }
             sender.sendMessage(ChatColor.RED + "✖ Export failed. Check console for errors.");
-            return false;
+            return;
         }
 
         sender.sendMessage(ChatColor.GREEN + "✓ Export successful!");
         sender.sendMessage(ChatColor.GRAY + "   File: " + ChatColor.WHITE + exportFile.getName());
         sender.sendMessage(ChatColor.GRAY + "   Location: plugins/RVNKLore/exports/");
-        logger.info("Exported all lore entries to " + exportFile.getName());
-
-        return true;
+        if (type != null) {
+            sender.sendMessage(ChatColor.GRAY + "   Type: " + type.name());
+        }
+        logger.info("Exported " + (type != null ? type.name() : "all lore") + " entries to " + exportFile.getName());
     }
 
-    /**
-     * Export lore entries of a specific type.
-     */
-    private boolean exportByType(CommandSender sender, LoreType type, ExportFormat format) {
-        sender.sendMessage(ChatColor.YELLOW + "⚙ Exporting " + type.name() + " entries to " + format.name() + "...");
-
-        File exportFile = exporter.exportByType(type, format);
-
-        if (exportFile == null) {
-            sender.sendMessage(ChatColor.RED + "✖ Export failed. Check console for errors.");
-            return false;
+    private boolean isFormat(String arg) {
+        for (ExportFormat format : ExportFormat.values()) {
+            if (format.name().equalsIgnoreCase(arg)) {
+                return true;
+            }
         }
-
-        sender.sendMessage(ChatColor.GREEN + "✓ Export successful!");
-        sender.sendMessage(ChatColor.GRAY + "   File: " + ChatColor.WHITE + exportFile.getName());
-        sender.sendMessage(ChatColor.GRAY + "   Location: plugins/RVNKLore/exports/");
-        sender.sendMessage(ChatColor.GRAY + "   Type: " + type.name());
-        logger.info("Exported " + type.name() + " entries to " + exportFile.getName());
-
-        return true;
+        return false;
     }
 
     /**
@@ -113,7 +124,7 @@ public class LoreExportSubCommand implements SubCommand {
 
     @Override
     public String getDescription() {
-        return "Export lore data to JSON or YAML format";
+        return "Export lore data to JSON, NDJSON or YAML format";
     }
 
     @Override
@@ -133,14 +144,27 @@ public class LoreExportSubCommand implements SubCommand {
                     completions.add(format.name().toLowerCase());
                 }
             }
-        } else if (args.length == 2) {
-            // Type completion
-            String partial = args[1].toLowerCase();
+        } else if (args.length > 1) {
+            // Type and option completion
+            String partial = args[args.length - 1].toLowerCase();
+            if (args[args.length - 2].equalsIgnoreCase("--format")) {
+                for (ExportFormat format : ExportFormat.values()) {
+                    if (format.name().toLowerCase().startsWith(partial)) {
+                        completions.add(format.name().toLowerCase());
+                    }
+                }
+                return completions;
+            }
             for (LoreType type : LoreType.values()) {
                 if (type.name().toLowerCase().startsWith(partial)) {
                     completions.add(type.name().toLowerCase());
                 }
             }
+            for (String option : Arrays.asList("--format", "--gzip", "--deflate")) {
+                if (option.startsWith(partial)) {
+                    completions.add(option);
+                }
+            }
         }
 
         return completions;
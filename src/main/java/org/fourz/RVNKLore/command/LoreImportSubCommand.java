@@ -1,8 +1,11 @@
 package org.fourz.RVNKLore.command;
 
+import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
+import org.bukkit.World;
 import org.bukkit.command.CommandSender;
 import org.fourz.RVNKLore.RVNKLore;
+import org.fourz.RVNKLore.data.io.Compression;
 import org.fourz.RVNKLore.data.io.LoreImporter;
 import org.fourz.RVNKLore.data.io.LoreImporter.ImportResult;
 import org.fourz.rvnkcore.util.log.LogManager;
@@ -10,7 +13,10 @@ import org.fourz.rvnkcore.util.log.LogManager;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Import subcommand for loading lore entries from files.
@@ -20,16 +26,20 @@ import java.util.List;
  *   /lore import backup.yaml --preview
  *
  * Features:
- *   - Supports JSON and YAML formats
+ *   - Supports JSON, NDJSON and YAML formats, plain or .gz/.deflate compressed
  *   - Duplicate detection (skips entries with existing IDs)
  *   - Preview mode for validation without importing
  *   - Detailed error reporting
+ *   - Runs in the background with periodic progress messages
  */
 public class LoreImportSubCommand implements SubCommand {
     private final RVNKLore plugin;
     private final LogManager logger;
     private final LoreImporter importer;
 
+    /** Minimum interval between progress messages to the sender */
+    private static final long PROGRESS_INTERVAL_MS = 3000;
+
     public LoreImportSubCommand(RVNKLore plugin) {
         this.plugin = plugin;
         this.logger = LogManager.getInstance(plugin, "LoreImportSubCommand");
@@ -40,7 +50,7 @@ public class LoreImportSubCommand implements SubCommand {
     public boolean execute(CommandSender sender, String[] args) {
         if (args.length == 0) {
             sender.sendMessage(ChatColor.RED + "▶ Usage: /lore import <filename> [--preview]");
-            sender.sendMessage(ChatColor.GRAY + "   Import lore entries from JSON or YAML file");
+            sender.sendMessage(ChatColor.GRAY + "   Import lore entries from JSON, NDJSON or YAML file");
             sender.sendMessage(ChatColor.GRAY + "   Files must be in: plugins/RVNKLore/imports/");
             sender.sendMessage(ChatColor.GRAY + "   Use --preview to validate without importing");
             return false;
@@ -65,8 +75,7 @@ public class LoreImportSubCommand implements SubCommand {
             sender.sendMessage(ChatColor.GRAY + "   Location: plugins/RVNKLore/imports/");
 
             // List available files
-            File[] files = importDir.listFiles((dir, name) ->
-                name.endsWith(".json") || name.endsWith(".yaml") || name.endsWith(".yml"));
+            File[] files = importDir.listFiles((dir, name) -> isImportFile(name));
 
             if (files != null && files.length > 0) {
                 sender.sendMessage(ChatColor.GRAY + "   Available files:");
@@ -85,12 +94,46 @@ public class LoreImportSubCommand implements SubCommand {
             sender.sendMessage(ChatColor.YELLOW + "⚙ Importing from " + filename + "...");
         }
 
-        ImportResult result = importer.importFromFile(importFile, preview);
+        long[] lastProgress = {System.currentTimeMillis()};
+        loadedWorlds().thenApplyAsync(worlds -> importer.importFromFile(importFile, preview, worlds, (processed, imported) -> {
+            long now = System.currentTimeMillis();
+            if (now - lastProgress[0] < PROGRESS_INTERVAL_MS) {
+                return;
+            }
+            lastProgress[0] = now;
+            plugin.getLoreScheduler().runFor(sender, () ->
+                sender.sendMessage(ChatColor.GRAY + "   Processed " + processed + " entries ("
+                    + imported + (preview ? " importable" : " imported") + ")..."));
+        })).whenComplete((result, error) -> plugin.getLoreScheduler().runFor(sender, () -> {
+            if (error != null) {
+                logger.error("Import failed", error);
+                sender.sendMessage(ChatColor.RED + "✖ " + (preview ? "Preview" : "Import") + " failed: " + error.getMessage());
+                return;
+            }
+            displayResults(sender, result, preview);
+        }));
 
-        // Display results
-        displayResults(sender, result, preview);
+        return true;
+    }
 
-        return result.isSuccess() || result.getSuccessful() > 0;
+    /**
+     * Collect the loaded worlds by name on the global thread, where Bukkit may be called,
+     * so the import can resolve locations on its worker threads.
+     */
+    private CompletableFuture<Map<String, World>> loadedWorlds() {
+        CompletableFuture<Map<String, World>> future = new CompletableFuture<>();
+        plugin.getLoreScheduler().runGlobal(() -> {
+            try {
+                Map<String, World> worlds = new HashMap<>();
+                for (World world : Bukkit.getWorlds()) {
+                    worlds.put(world.getName(), world);
+                }
+                future.complete(worlds);
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
     }
 
     /**
@@ -158,6 +201,14 @@ public class LoreImportSubCommand implements SubCommand {
         }
     }
 
+    /**
+     * Check whether a file name has a supported (optionally compressed) import extension.
+     */
+    private boolean isImportFile(String name) {
+        String base = Compression.stripSuffix(name.toLowerCase());
+        return base.endsWith(".json") || base.endsWith(".ndjson") || base.endsWith(".yaml") || base.endsWith(".yml");
+    }
+
     @Override
     public String getDescription() {
         return "Import lore entries from JSON or YAML file";
@@ -176,8 +227,7 @@ public class LoreImportSubCommand implements SubCommand {
             // Complete filenames from imports directory
             File importDir = new File(plugin.getDataFolder(), "imports");
             if (importDir.exists() && importDir.isDirectory()) {
-                File[] files = importDir.listFiles((dir, name) ->
-                    name.endsWith(".json") || name.endsWith(".yaml") || name.endsWith(".yml"));
+                File[] files = importDir.listFiles((dir, name) -> isImportFile(name));
 
                 if (files != null) {
                     String partial = args[0].toLowerCase();
@@ -4,6 +4,7 @@ import org.bukkit.ChatColor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.fourz.RVNKLore.RVNKLore;
+import org.fourz.RVNKLore.notification.NotificationPreferenceCache;
 import org.fourz.rvnkcore.RVNKCore;
 import org.fourz.rvnkcore.api.service.PlayerPreferencesService;
 import org.fourz.rvnkcore.util.log.LogManager;
@@ -114,6 +115,7 @@ public class LorePrefsSubCommand implements SubCommand {
                     return service.setMasterEnabled(playerId, PLUGIN_ID, newEnabled)
                             .thenApply(v -> newEnabled);
                 })
+                .whenComplete((result, ex) -> invalidatePreferences(playerId))
                 .thenAccept(newEnabled -> {
                     String status = newEnabled ? ChatColor.GREEN + "enabled" : ChatColor.RED + "disabled";
                     player.sendMessage(ChatColor.AQUA + "✓ Lore notifications " + status);
@@ -136,6 +138,7 @@ public class LorePrefsSubCommand implements SubCommand {
         String type = args[1].toLowerCase();
         PlayerPreferencesService service = RVNKCore.getServiceSafe(PlayerPreferencesService.class);
         service.setNotificationEnabled(playerId, PLUGIN_ID, type, true)
+                .whenComplete((result, ex) -> invalidatePreferences(playerId))
                 .thenRun(() -> player.sendMessage(ChatColor.AQUA + "✓ Enabled " + type + " notifications"))
                 .exceptionally(ex -> {
                     player.sendMessage(ChatColor.RED + "✖ Error enabling notifications: " + ex.getMessage());
@@ -155,6 +158,7 @@ public class LorePrefsSubCommand implements SubCommand {
         String type = args[1].toLowerCase();
         PlayerPreferencesService service = RVNKCore.getServiceSafe(PlayerPreferencesService.class);
         service.setNotificationEnabled(playerId, PLUGIN_ID, type, false)
+                .whenComplete((result, ex) -> invalidatePreferences(playerId))
                 .thenRun(() -> player.sendMessage(ChatColor.AQUA + "✓ Disabled " + type + " notifications"))
                 .exceptionally(ex -> {
                     player.sendMessage(ChatColor.RED + "✖ Error disabling notifications: " + ex.getMessage());
@@ -174,6 +178,7 @@ public class LorePrefsSubCommand implements SubCommand {
 
         if ("disable".equalsIgnoreCase(args[1])) {
             service.setQuietHours(playerId, PLUGIN_ID, -1, -1)
+                    .whenComplete((result, ex) -> invalidatePreferences(playerId))
                     .thenRun(() -> player.sendMessage(ChatColor.AQUA + "✓ Quiet hours disabled"))
                     .exceptionally(ex -> {
                         player.sendMessage(ChatColor.RED + "✖ Error disabling quiet hours: " + ex.getMessage());
@@ -198,6 +203,7 @@ public class LorePrefsSubCommand implements SubCommand {
             }
 
             service.setQuietHours(playerId, PLUGIN_ID, hour1, hour2)
+                    .whenComplete((result, ex) -> invalidatePreferences(playerId))
                     .thenRun(() -> player.sendMessage(ChatColor.AQUA + "✓ Quiet hours set to " + hour1 + ":00 - " + hour2 + ":00"))
                     .exceptionally(ex -> {
                         player.sendMessage(ChatColor.RED + "✖ Error setting quiet hours: " + ex.getMessage());
@@ -229,6 +235,7 @@ public class LorePrefsSubCommand implements SubCommand {
         boolean enabled = state.equals("on");
         PlayerPreferencesService service = RVNKCore.getServiceSafe(PlayerPreferencesService.class);
         service.setChannelEnabled(playerId, PLUGIN_ID, type, channel, enabled)
+                .whenComplete((result, ex) -> invalidatePreferences(playerId))
                 .thenRun(() -> {
                     String status = enabled ? "enabled" : "disabled";
                     player.sendMessage(ChatColor.AQUA + "✓ Channel " + channel + " " + status + " for " + type);
@@ -241,6 +248,16 @@ public class LorePrefsSubCommand implements SubCommand {
         return true;
     }
 
+    /**
+     * Drop the player's cached preference snapshot so the change applies to the next notification.
+     */
+    private void invalidatePreferences(UUID playerId) {
+        NotificationPreferenceCache cache = plugin.getNotificationPreferences();
+        if (cache != null) {
+            cache.invalidate(playerId);
+        }
+    }
+
     private void showUsage(Player player) {
         player.sendMessage(ChatColor.RED + "✖ Unknown preference action");
         player.sendMessage(ChatColor.YELLOW + "Usage: /lore prefs [toggle|enable|disable|quiet|channel]");
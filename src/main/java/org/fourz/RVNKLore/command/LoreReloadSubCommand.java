@@ -10,7 +10,10 @@ import java.util.List;
 
 /**
  * Subcommand for reloading the plugin
- * Usage: /lore reload
+ * Usage: /lore reload [full]
+ *
+ * <p>By default lore data is reloaded incrementally: only entries changed since the
+ * last sync are read, off the main thread. {@code full} discards and re-reads everything.
  */
 public class LoreReloadSubCommand implements SubCommand {
     private final RVNKLore plugin;
@@ -34,11 +37,24 @@ public class LoreReloadSubCommand implements SubCommand {
 
         // Update log level
         logger.setLogLevel(plugin.getConfigManager().getLogLevel());
+        plugin.getHandlerFactory().applyConfig();
 
         // Reload lore data
-        plugin.getLoreManager().reloadLore();
-        
-        sender.sendMessage(ChatColor.GREEN + "RVNKLore plugin has been reloaded successfully!");
+        if (args.length > 0 && args[0].equalsIgnoreCase("full")) {
+            plugin.getLoreManager().fullReloadLore();
+            sender.sendMessage(ChatColor.GREEN + "RVNKLore plugin has been reloaded successfully!");
+            return true;
+        }
+
+        plugin.getLoreManager().reloadLore().whenComplete((result, error) -> {
+            if (error != null) {
+                sender.sendMessage(ChatColor.RED + "\u2716 Configuration reloaded, but lore data could not be refreshed. Check console for errors.");
+                return;
+            }
+            sender.sendMessage(ChatColor.GREEN + "RVNKLore plugin has been reloaded successfully! " +
+                ChatColor.GRAY + "(" + result.getAdded() + " added, " + result.getUpdated() + " updated, " +
+                result.getRemoved() + " removed)");
+        });
         return true;
     }
 
@@ -54,7 +70,10 @@ public class LoreReloadSubCommand implements SubCommand {
 
     @Override
     public List<String> getTabCompletions(CommandSender sender, String[] args) {
-        // No additional arguments
-        return new ArrayList<>();
+        List<String> completions = new ArrayList<>();
+        if (args.length == 1 && "full".startsWith(args[0].toLowerCase())) {
+            completions.add("full");
+        }
+        return completions;
     }
 }
@@ -127,7 +127,7 @@ public class LoreFactionAddTerritorySubCommand implements SubCommand {
             faction.addMetadata("territory_data", territoryArray.toString());
 
             // Save to database
-            boolean success = plugin.getDatabaseManager().updateLoreEntry(faction);
+            boolean success = plugin.getLoreManager().updateLoreEntrySync(faction);
 
             if (success) {
                 int area = (greater.getBlockX() - lesser.getBlockX()) * (greater.getBlockZ() - lesser.getBlockZ());
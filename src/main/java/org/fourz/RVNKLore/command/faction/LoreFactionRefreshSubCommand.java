@@ -120,7 +120,7 @@ public class LoreFactionRefreshSubCommand implements SubCommand {
             faction.addMetadata("territory_data", updatedTerritories.toString());
 
             // Save to database
-            boolean success = plugin.getDatabaseManager().updateLoreEntry(faction);
+            boolean success = plugin.getLoreManager().updateLoreEntrySync(faction);
 
             if (success) {
                 player.sendMessage(ChatColor.GREEN + "\u2713 Refreshed " + refreshed + " territories" +
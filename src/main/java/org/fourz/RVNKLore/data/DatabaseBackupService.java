@@ -1,128 +1,347 @@
 package org.fourz.RVNKLore.data;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
 import org.fourz.RVNKLore.RVNKLore;
+import org.fourz.RVNKLore.data.backup.BackupResult;
+import org.fourz.RVNKLore.data.backup.TableDumpArchive;
+import org.fourz.RVNKLore.data.io.Compression;
 import org.fourz.RVNKLore.lore.LoreEntry;
 import org.fourz.rvnkcore.util.log.LogManager;
-import org.json.simple.JSONObject;
 
-import java.io.File;
-import java.io.FileWriter;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
-import java.util.ArrayList;
+import java.sql.*;
+import java.text.SimpleDateFormat;
+import java.util.*;
 import java.util.Date;
-import java.util.List;
+import java.util.concurrent.CompletionException;
 
 /**
  * Service for handling database backup and export operations
+ *
+ * <p>SQLite databases are backed up online with {@code VACUUM INTO} (falling back to the
+ * driver's page-wise backup API), which reads a consistent snapshot without blocking
+ * WAL writers. MySQL databases are dumped table by table inside one consistent-snapshot
+ * transaction into a compressed archive (see {@link TableDumpArchive}). Backups are
+ * verified after they are written and old backups beyond the retention count are removed.
  */
 public class DatabaseBackupService {
+    /** Every table the plugin owns, in dump order */
+    private static final List<String> BACKUP_TABLES = List.of(
+        DatabaseConnection.TABLE_LORE_ENTRY,
+        DatabaseConnection.TABLE_LORE_SUBMISSION,
+        DatabaseConnection.TABLE_LORE_ITEM,
+        DatabaseConnection.TABLE_LORE_METADATA,
+        DatabaseConnection.TABLE_LORE_LOCATION,
+        DatabaseConnection.TABLE_COLLECTION,
+        DatabaseConnection.TABLE_COLLECTION_ITEM,
+        DatabaseConnection.TABLE_COLLECTION_REWARD,
+        DatabaseConnection.TABLE_PLAYER_COLLECTION_PROGRESS,
+        DatabaseConnection.TABLE_PLAYER_COLLECTION_ITEMS,
+        DatabaseConnection.TABLE_LORE_DISCOVERY,
+        DatabaseConnection.TABLE_PLAYER_ACHIEVEMENT,
+        DatabaseConnection.TABLE_PLAYER_REWARD_CLAIM);
+    private static final String BACKUP_PREFIX = "lore-backup-";
+
     private final RVNKLore plugin;
     private final LogManager logger;
     private final DatabaseConnection connection;
-    private final String storageType;
+    private final File backupDirectory;
+    private final int retention;
+    private final boolean verify;
+    private final int pageSize;
 
     public DatabaseBackupService(RVNKLore plugin, DatabaseConnection connection) {
         this.plugin = plugin;
         this.connection = connection;
         this.logger = LogManager.getInstance(plugin, "DatabaseBackupService");
-        this.storageType = plugin.getConfigManager().getStorageType();
+        this.backupDirectory = new File(plugin.getDataFolder(), plugin.getConfig().getString("storage.backup.directory", "backups"));
+        this.retention = plugin.getConfig().getInt("storage.backup.retention", 7);
+        this.verify = plugin.getConfig().getBoolean("storage.backup.verify", true);
+        this.pageSize = Math.max(1, plugin.getConfig().getInt("storage.backup.chunkSize", 1000));
     }
-    
+
     /**
      * Execute database backup
-     * 
+     *
      * @param backupPath the path where to store the backup
      * @return true if successful, false otherwise
      */
     public boolean backupDatabase(String backupPath) {
-        logger.debug("Backing up database to: " + backupPath);
-        
-        if (storageType.equalsIgnoreCase("sqlite")) {
-            return backupSQLiteDatabase(backupPath);
-        } else {
-            return backupMySQLDatabase(backupPath);
+        return createBackup(new File(backupPath)).isSuccess();
+    }
+
+    /**
+     * Create a timestamped backup in the backup directory, verify it and apply retention.
+     * Blocks while the backup is written, so call it off the main thread.
+     *
+     * @return The backup result
+     */
+    public BackupResult createBackup() {
+        String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+        BackupResult result = createBackup(new File(backupDirectory, BACKUP_PREFIX + timestamp + "." + getBackupExtension()));
+        if (result.isSuccess()) {
+            pruneBackups();
         }
+        return result;
     }
-    
+
     /**
-     * Backup SQLite database by copying the file
+     * Back up the database to a specific file.
+     *
+     * @param target The backup file (replaced if it exists)
+     * @return The backup result
      */
-    private boolean backupSQLiteDatabase(String backupPath) {
+    public BackupResult createBackup(File target) {
+        logger.debug("Backing up database to: " + target.getPath());
+        long start = System.currentTimeMillis();
+        File parent = target.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        // Written under a temporary name so a failed backup never replaces a good one
+        File partFile = new File(parent, target.getName() + ".part");
+        partFile.delete();
+
         try {
-            String dbPath = plugin.getDataFolder().getAbsolutePath() + "/lore.db";
-            File sourceFile = new File(dbPath);
-            File destFile = new File(backupPath);
-            
-            // Ensure parent directory exists
-            destFile.getParentFile().mkdirs();
-            
-            // Copy the file
-            Files.copy(sourceFile.toPath(), destFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
-            
-            logger.info("SQLite database backup created at: " + backupPath);
-            return true;
+            Map<String, Long> rows = isSQLite() ? backupSQLite(partFile) : backupMySQL(partFile);
+            if (verify) {
+                String problem = verifyFile(partFile);
+                if (problem != null) {
+                    partFile.delete();
+                    logger.error("Backup verification failed: " + problem);
+                    return BackupResult.failure(target, "verification failed: " + problem, System.currentTimeMillis() - start);
+                }
+            }
+            Files.move(partFile.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+            BackupResult result = BackupResult.success(target, rows, verify, System.currentTimeMillis() - start);
+            logger.info("Database backup created: " + result.getSummary());
+            return result;
         } catch (Exception e) {
-            logger.error("Failed to backup SQLite database", e);
+            partFile.delete();
+            logger.error("Failed to back up database", e);
+            return BackupResult.failure(target, e.getMessage(), System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * Check that a backup file can be restored from: SQLite backups must pass
+     * {@code PRAGMA integrity_check} and contain the plugin tables, MySQL archives
+     * must be complete and match their manifest.
+     *
+     * @param backupFile The backup to check
+     * @return true if the backup is intact
+     */
+    public boolean verifyBackup(File backupFile) {
+        String problem = verifyFile(backupFile);
+        if (problem != null) {
+            logger.warning("Backup " + backupFile.getName() + " failed verification: " + problem);
             return false;
         }
+        return true;
     }
-    
+
     /**
-     * Backup MySQL database by exporting data to JSON
+     * Get the backups in the backup directory, newest first.
      */
-    private boolean backupMySQLDatabase(String backupPath) {
+    public List<File> listBackups() {
+        File[] files = backupDirectory.listFiles((dir, name) -> name.startsWith(BACKUP_PREFIX) && !name.endsWith(".part"));
+        if (files == null) {
+            return Collections.emptyList();
+        }
+        List<File> backups = new ArrayList<>(Arrays.asList(files));
+        // Names embed a sortable timestamp
+        backups.sort(Comparator.comparing(File::getName).reversed());
+        return backups;
+    }
+
+    private boolean isSQLite() {
+        return connection instanceof SQLiteConnection;
+    }
+
+    private String getBackupExtension() {
+        return isSQLite() ? "db" : "zip";
+    }
+
+    /**
+     * Online SQLite backup. VACUUM INTO copies a consistent read snapshot into a fresh,
+     * compacted file; drivers bundling SQLite older than 3.27 use the online backup API.
+     */
+    private Map<String, Long> backupSQLite(File target) throws SQLException {
+        try (Connection conn = connection.getConnection()) {
+            try (PreparedStatement stmt = conn.prepareStatement("VACUUM INTO ?")) {
+                stmt.setString(1, target.getAbsolutePath());
+                stmt.execute();
+            } catch (SQLException e) {
+                logger.debug("VACUUM INTO unavailable (" + e.getMessage() + "), using the online backup API");
+                target.delete();
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.executeUpdate("backup to " + target.getAbsolutePath());
+                }
+            }
+        }
+        return countSQLiteRows(target);
+    }
+
+    /**
+     * Consistent logical MySQL dump: one REPEATABLE READ snapshot transaction covers every
+     * table, so the archive reflects a single point in time without locking writers.
+     */
+    private Map<String, Long> backupMySQL(File target) throws SQLException, IOException {
+        try (Connection conn = connection.getConnection()) {
+            int isolation = conn.getTransactionIsolation();
+            conn.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            conn.setAutoCommit(false);
+            try {
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute("START TRANSACTION WITH CONSISTENT SNAPSHOT, READ ONLY");
+                }
+                Map<String, String> metadata = new LinkedHashMap<>();
+                metadata.put("created_at", new Date().toString());
+                metadata.put("plugin_version", plugin.getDescription().getVersion());
+                metadata.put("table_prefix", connection.getTablePrefix());
+                return TableDumpArchive.write(conn, physicalTables(), target, pageSize, metadata);
+            } finally {
+                conn.rollback();
+                conn.setAutoCommit(true);
+                conn.setTransactionIsolation(isolation);
+            }
+        }
+    }
+
+    private String verifyFile(File file) {
+        if (!file.isFile()) {
+            return "file not found";
+        }
+        if (file.getName().endsWith(".zip") || file.getName().endsWith(".zip.part")) {
+            return TableDumpArchive.verify(file, List.of(connection.table(DatabaseConnection.TABLE_LORE_ENTRY)));
+        }
+        try (Connection conn = openSQLiteFile(file);
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA integrity_check")) {
+            String status = rs.next() ? rs.getString(1) : "no result";
+            if (!"ok".equalsIgnoreCase(status)) {
+                return "integrity check: " + status;
+            }
+        } catch (SQLException e) {
+            return "unreadable database: " + e.getMessage();
+        }
         try {
-            // Create JSON backup using the repository
-            LoreEntryRepository repository = new LoreEntryRepository(plugin, connection);
-            List<LoreEntry> allEntries = repository.getAllLoreEntries().join();
-            
-            return exportLoreEntriesToFile(allEntries, backupPath);
-        } catch (Exception e) {
-            logger.error("Failed to backup MySQL database", e);
-            return false;
+            if (!countSQLiteRows(file).containsKey(connection.table(DatabaseConnection.TABLE_LORE_ENTRY))) {
+                return "lore_entry table missing";
+            }
+        } catch (SQLException e) {
+            return "unreadable tables: " + e.getMessage();
         }
+        return null;
+    }
+
+    /**
+     * Count rows of every plugin table present in a SQLite backup file.
+     */
+    private Map<String, Long> countSQLiteRows(File file) throws SQLException {
+        Map<String, Long> rows = new LinkedHashMap<>();
+        try (Connection conn = openSQLiteFile(file);
+             Statement stmt = conn.createStatement()) {
+            for (String table : physicalTables()) {
+                try (ResultSet exists = stmt.executeQuery(
+                        "SELECT 1 FROM sqlite_master WHERE type = 'table' AND name = '" + table.replace("'", "''") + "'")) {
+                    if (!exists.next()) {
+                        continue;
+                    }
+                }
+                try (ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM \"" + table.replace("\"", "\"\"") + "\"")) {
+                    rows.put(table, rs.next() ? rs.getLong(1) : 0L);
+                }
+            }
+        }
+        return rows;
+    }
+
+    private Connection openSQLiteFile(File file) throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("open_mode", "1"); // SQLITE_OPEN_READONLY
+        return DriverManager.getConnection("jdbc:sqlite:" + file.getAbsolutePath(), properties);
     }
-    
+
+    private List<String> physicalTables() {
+        return BACKUP_TABLES.stream().map(connection::table).toList();
+    }
+
+    /**
+     * Delete the oldest backups beyond the configured retention count.
+     */
+    private void pruneBackups() {
+        if (retention <= 0) {
+            return;
+        }
+        List<File> backups = listBackups();
+        for (File old : backups.subList(Math.min(retention, backups.size()), backups.size())) {
+            if (old.delete()) {
+                logger.debug("Removed old backup " + old.getName());
+            } else {
+                logger.warning("Could not remove old backup " + old.getName());
+            }
+        }
+    }
+
     /**
      * Export lore entries to a file
+     *
+     * @param entries The lore entries to export
+     * @param filePath The file to export to ({@code .gz}/{@code .deflate} suffixes are compressed)
+     * @return true if successful, false otherwise
      */
-    @SuppressWarnings("unchecked") // JSONObject from json-simple doesn't support generics
-    private boolean exportLoreEntriesToFile(List<LoreEntry> entries, String filePath) {
-        try {
-            logger.debug("Exporting " + entries.size() + " lore entries to file: " + filePath);
-            
-            File file = new File(filePath);
-            file.getParentFile().mkdirs();
-            
-            List<JSONObject> jsonEntries = new ArrayList<>();
+    public boolean exportLoreEntriesToFile(List<LoreEntry> entries, String filePath) {
+        return writeLoreEntriesFile(new File(filePath), visitor -> {
             for (LoreEntry entry : entries) {
-                jsonEntries.add(entry.toJson());
+                visitor.visit(entry);
             }
-            
-            JSONObject result = new JSONObject();
-            result.put("lore_entries", jsonEntries);
-            result.put("exported_at", new Date().toString());
-            result.put("entry_count", entries.size());
-            
-            Gson gson = new GsonBuilder().setPrettyPrinting().create();
-            String jsonContent = gson.toJson(result);
-            
-            try (FileWriter writer = new FileWriter(file)) {
-                writer.write(jsonContent);
-            }
-            
-            logger.info("Exported " + entries.size() + " lore entries to " + filePath);
+            return entries.size();
+        });
+    }
+
+    /**
+     * Feeds entries to the backup writer.
+     */
+    @FunctionalInterface
+    private interface EntrySource {
+        int feed(ILoreEntryRepository.LoreEntryVisitor visitor) throws Exception;
+    }
+
+    /**
+     * Write the lore_entries backup document one entry at a time.
+     */
+    private boolean writeLoreEntriesFile(File file, EntrySource source) {
+        logger.debug("Exporting lore entries to file: " + file.getPath());
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+
+        Gson gson = new Gson();
+        Compression compression = Compression.fromFilename(file.getName());
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                compression.wrap(new BufferedOutputStream(new FileOutputStream(file))), StandardCharsets.UTF_8))) {
+            JsonWriter json = new JsonWriter(out);
+            json.setIndent("  ");
+            json.beginObject();
+            json.name("exported_at").value(new Date().toString());
+            json.name("lore_entries").beginArray();
+            int count = source.feed(entry -> gson.toJson(entry.toJson(), Map.class, json));
+            json.endArray();
+            json.name("entry_count").value(count);
+            json.endObject();
+
+            logger.info("Exported " + count + " lore entries to " + file.getPath());
             return true;
         } catch (Exception e) {
-            logger.error("Failed to export lore entries to file", e);
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            logger.error("Failed to export lore entries to file", cause);
             return false;
         }
     }
 }
-
-
-
-
@@ -8,6 +8,10 @@ import org.fourz.rvnkcore.util.log.LogManager;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
 
 /**
  * Abstract base class for database connections using HikariCP connection pooling.
@@ -24,6 +28,7 @@ public abstract class DatabaseConnection {
     protected final SQLDialect dialect;
     protected ConnectionProvider rvnkProvider;
     protected String lastConnectionError = null;
+    private volatile Consumer<String> connectivityFailureListener;
     protected String tablePrefix = "";
 
     // Table name constants
@@ -175,16 +180,21 @@ public abstract class DatabaseConnection {
         String createLoreSubmissionEntryIndex =
                 "CREATE INDEX IF NOT EXISTS idx_" + tablePrefix + "lore_submission_entry_id ON " + loreSubmission + "(entry_id)";
 
+        // Moderation queue: pending submissions, oldest first
+        String createLoreSubmissionQueueIndex =
+                "CREATE INDEX IF NOT EXISTS idx_" + tablePrefix + "lore_submission_approval_date ON " + loreSubmission + "(approval_status, submission_date)";
+
         String createLoreItemEntryIndex =
                 "CREATE INDEX IF NOT EXISTS idx_" + tablePrefix + "lore_item_entry_id ON " + loreItem + "(lore_entry_id)";
 
-        try (Connection conn = rvnkProvider.getConnection();
+        try (Connection conn = getConnection();
              Statement stmt = conn.createStatement()) {
             // Create new schema tables
             stmt.execute(createLoreEntryTable);
             stmt.execute(createLoreSubmissionTable);
             stmt.execute(createLoreItemTable);
             stmt.execute(createLoreSubmissionEntryIndex);
+            stmt.execute(createLoreSubmissionQueueIndex);
             stmt.execute(createLoreItemEntryIndex);
 
             stmt.execute(createMetadataTable);
@@ -337,17 +347,100 @@ public abstract class DatabaseConnection {
     private void runMigrations(Statement stmt) {
         addColumnIfMissing(stmt, table(TABLE_COLLECTION_ITEM), "entry_id", "CHAR(36) NULL");
         addColumnIfMissing(stmt, table(TABLE_PLAYER_COLLECTION_ITEMS), "entry_uuid", "CHAR(36) NULL");
+        ensureUniqueFirstDiscovery(stmt);
+        migrateSubmissionVersions(stmt);
+        supersedeStalePending(stmt);
+    }
+
+    /**
+     * Add the per-entry version counter to lore_entry and the encoding columns used for
+     * superseded lore_submission versions (see {@link SubmissionDelta}). Existing rows stay
+     * FULL; the counter is seeded from the highest stored version when it is first added.
+     */
+    private void migrateSubmissionVersions(Statement stmt) {
+        String loreEntry = table(TABLE_LORE_ENTRY);
+        String loreSubmission = table(TABLE_LORE_SUBMISSION);
+        addColumnIfMissing(stmt, loreSubmission, "content_encoding",
+            "VARCHAR(10) NOT NULL DEFAULT '" + SubmissionDelta.FULL + "'");
+        addColumnIfMissing(stmt, loreSubmission, "delta_base_version", "INTEGER NULL");
+        if (addColumnIfMissing(stmt, loreEntry, "content_version", "INTEGER NOT NULL DEFAULT 0")) {
+            try {
+                stmt.executeUpdate("UPDATE " + loreEntry + " SET content_version = (" +
+                    "SELECT COALESCE(MAX(s.content_version), 0) FROM " + loreSubmission + " s " +
+                    "WHERE s.entry_id = " + loreEntry + ".id)");
+            } catch (SQLException e) {
+                logger.warning("Migration warning [content_version seed on " + loreEntry + "]: " + e.getMessage());
+            }
+        }
     }
 
-    private void addColumnIfMissing(Statement stmt, String tableName, String column, String definition) {
+    /**
+     * Close pending submissions left behind by a newer current version of their entry, as
+     * {@link SubmissionVersionStore} now does when it supersedes a version. Matches nothing
+     * once the old rows are closed. The derived table lets MySQL update the table it reads.
+     */
+    private void supersedeStalePending(Statement stmt) {
+        String loreSubmission = table(TABLE_LORE_SUBMISSION);
+        try {
+            int closed = stmt.executeUpdate("UPDATE " + loreSubmission + " SET approval_status = '" +
+                SubmissionVersionStore.SUPERSEDED + "', status = 'ARCHIVED'" +
+                " WHERE approval_status = 'PENDING' AND id IN (SELECT id FROM (" +
+                "SELECT p.id FROM " + loreSubmission + " p JOIN " + loreSubmission + " c" +
+                " ON c.entry_id = p.entry_id AND c.is_current_version = TRUE" +
+                " WHERE p.approval_status = 'PENDING' AND p.content_version < c.content_version" +
+                ") AS stale)");
+            if (closed > 0) {
+                logger.info("Migration: closed " + closed + " pending submission(s) superseded by a newer version");
+            }
+        } catch (SQLException e) {
+            logger.warning("Migration warning [superseded submissions on " + loreSubmission + "]: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Allow at most one first discovery per entry in lore_discovery.
+     *
+     * <p>SQLite uses a partial unique index. MySQL has no partial indexes, so it indexes a
+     * generated column that holds the entry ID only on first-discovery rows (NULLs do not
+     * collide). Duplicate first discoveries recorded before the index existed are demoted,
+     * keeping the earliest row.
+     */
+    private void ensureUniqueFirstDiscovery(Statement stmt) {
+        String loreDiscovery = table(TABLE_LORE_DISCOVERY);
+        String indexName = "idx_" + tablePrefix + "lore_discovery_first_unique";
+        try {
+            stmt.executeUpdate("UPDATE " + loreDiscovery + " SET is_first_discovery = FALSE" +
+                " WHERE is_first_discovery = TRUE AND id NOT IN (SELECT id FROM (" +
+                "SELECT MIN(id) AS id FROM " + loreDiscovery + " WHERE is_first_discovery = TRUE GROUP BY entry_id" +
+                ") AS earliest)");
+
+            if ("MySQL".equals(dialect.getName())) {
+                addColumnIfMissing(stmt, loreDiscovery, "first_entry_id",
+                    "CHAR(36) GENERATED ALWAYS AS (CASE WHEN is_first_discovery THEN entry_id END) STORED");
+                stmt.execute("CREATE UNIQUE INDEX IF NOT EXISTS " + indexName + " ON " + loreDiscovery + "(first_entry_id)");
+            } else {
+                stmt.execute("CREATE UNIQUE INDEX IF NOT EXISTS " + indexName + " ON " + loreDiscovery +
+                    "(entry_id) WHERE is_first_discovery = TRUE");
+            }
+        } catch (SQLException e) {
+            logger.warning("Migration warning [unique first discovery on " + loreDiscovery + "]: " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return Whether the column was added by this call
+     */
+    private boolean addColumnIfMissing(Statement stmt, String tableName, String column, String definition) {
         try {
             stmt.execute("ALTER TABLE " + tableName + " ADD COLUMN " + column + " " + definition);
             logger.debug("Migration: added column " + column + " to " + tableName);
+            return true;
         } catch (SQLException e) {
             String msg = e.getMessage() != null ? e.getMessage().toLowerCase() : "";
             if (!msg.contains("duplicate column") && !msg.contains("already exists")) {
                 logger.warning("Migration warning [" + column + " on " + tableName + "]: " + e.getMessage());
             }
+            return false;
         }
     }
 
@@ -368,6 +461,8 @@ public abstract class DatabaseConnection {
 
     /**
      * Check if the database connection pool is active and valid.
+     * This probes the pool; status paths should use the cached result from
+     * {@link DatabaseHealthMonitor} via DatabaseManager instead.
      * @return true if connected, false otherwise
      */
     public boolean isConnected() {
@@ -426,28 +521,136 @@ public abstract class DatabaseConnection {
      * (preferably via try-with-resources).
      *
      * @return A database connection from the pool
-     * @throws IllegalStateException if the pool is not available
+     * @throws DatabaseUnavailableException if the pool is closed or cannot provide a connection
      */
     public Connection getConnection() {
         if (rvnkProvider == null) {
-            throw new IllegalStateException("Database connection pool is not available");
+            throw new DatabaseUnavailableException("Database connection pool is not available");
         }
 
         try {
-            return rvnkProvider.getConnection();
+            Connection conn = rvnkProvider.getConnection();
+            try {
+                return prepareConnection(conn);
+            } catch (SQLException e) {
+                conn.close();
+                throw e;
+            }
         } catch (SQLException e) {
             lastConnectionError = e.getMessage();
-            throw new IllegalStateException("Failed to get connection from pool: " + e.getMessage(), e);
+            Consumer<String> listener = connectivityFailureListener;
+            if (listener != null) {
+                listener.accept(e.getMessage());
+            }
+            throw new DatabaseUnavailableException("Failed to get connection from pool: " + e.getMessage(), e);
         }
     }
 
     /**
-     * Get information about the connected database
+     * Register a callback run whenever a connection cannot be borrowed from the pool,
+     * e.g. to mark the cached health status unhealthy without waiting for the next probe.
+     */
+    public void setConnectivityFailureListener(Consumer<String> listener) {
+        this.connectivityFailureListener = listener;
+    }
+
+    /**
+     * Hook for applying connection-scoped settings to a connection borrowed from the pool.
+     * Called on every borrow; implementations should only do work the first time they
+     * see a given physical connection.
+     *
+     * @param conn The pooled connection
+     * @return The connection to hand to the caller
+     * @throws SQLException if the connection could not be prepared
+     */
+    protected Connection prepareConnection(Connection conn) throws SQLException {
+        return conn;
+    }
+
+    /**
+     * Run a write operation in its own transaction.
+     *
+     * <p>The operation receives a connection that is already inside a transaction and
+     * must not commit, roll back or change auto-commit itself. Throwing rolls back the
+     * operation's changes and completes the returned future exceptionally.
+     *
+     * <p>The default implementation borrows a pooled connection per operation. SQLite
+     * overrides this to funnel writes through a single writer thread.
+     *
+     * @param operation The write to run
+     * @return Future completed with the operation's result after commit
+     */
+    public <T> CompletableFuture<T> executeWrite(WriteOperation<T> operation) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (Connection conn = getConnection()) {
+                conn.setAutoCommit(false);
+                try {
+                    T result = operation.execute(conn);
+                    conn.commit();
+                    return result;
+                } catch (SQLException | RuntimeException e) {
+                    conn.rollback();
+                    throw e;
+                } finally {
+                    conn.setAutoCommit(true);
+                }
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Run a write operation from a thread that needs its result before continuing.
+     *
+     * @return The operation's result after commit
+     * @throws SQLException The operation's own failure, unwrapped from the future
+     */
+    public <T> T executeWriteSync(WriteOperation<T> operation) throws SQLException {
+        try {
+            return executeWrite(operation).join();
+        } catch (CompletionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Strip the {@link CompletionException} and {@link ExecutionException}
+     * wrappers added by futures, so logs show the failure that actually happened.
+     */
+    public static Throwable unwrap(Throwable e) {
+        Throwable cause = e;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    /**
+     * Functional interface for write operations run by {@link #executeWrite(WriteOperation)}
+     */
+    @FunctionalInterface
+    public interface WriteOperation<T> {
+        T execute(Connection conn) throws SQLException;
+    }
+
+    /**
+     * Get information about the connected database.
+     * Probes the pool; intended for {@link DatabaseHealthMonitor}.
      */
     public abstract String getDatabaseInfo();
 
     /**
-     * Check if the database is in read-only mode
+     * Check if the database is in read-only mode.
+     * Must not write to the database. Probes the pool; intended for {@link DatabaseHealthMonitor}.
      */
     public abstract boolean isReadOnly();
 
@@ -0,0 +1,202 @@
+package org.fourz.RVNKLore.data;
+
+import org.fourz.RVNKLore.RVNKLore;
+import org.fourz.rvnkcore.util.log.LogManager;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Probes database connectivity and writability on a background schedule.
+ *
+ * <p>Status and health paths (diagnostics, REST health, repository guards) call
+ * {@code isConnected()}/{@code isReadOnly()} far more often than the answer changes.
+ * Instead of borrowing a pooled connection on every call, the monitor probes the
+ * active {@link DatabaseConnection} periodically and publishes an immutable
+ * {@link HealthSnapshot} that readers consume without touching the pool.
+ */
+public class DatabaseHealthMonitor {
+    /** Delay before re-probing after an operation reported a connectivity failure */
+    private static final long RECHECK_DELAY_SECONDS = 1;
+
+    private final LogManager logger;
+    private final Supplier<DatabaseConnection> connectionSupplier;
+    private final long intervalSeconds;
+    private final ScheduledExecutorService scheduler;
+    private volatile HealthSnapshot snapshot = HealthSnapshot.unknown();
+    private final AtomicBoolean probeQueued = new AtomicBoolean();
+
+    /**
+     * @param plugin The RVNKLore plugin instance
+     * @param connectionSupplier Supplies the currently active connection (it changes on fallback/reconnect)
+     */
+    public DatabaseHealthMonitor(RVNKLore plugin, Supplier<DatabaseConnection> connectionSupplier) {
+        this.logger = LogManager.getInstance(plugin, "DatabaseHealthMonitor");
+        this.connectionSupplier = connectionSupplier;
+        this.intervalSeconds = Math.max(1, plugin.getConfig().getLong("storage.healthCheck.intervalSeconds", 15));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "RVNKLore-DatabaseHealth");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start periodic probing. The first probe runs on the calling thread so a
+     * snapshot is available as soon as this returns.
+     */
+    public void start() {
+        refresh();
+        scheduler.scheduleWithFixedDelay(this::probeSafely, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        logger.debug("Database health monitor started (interval: " + intervalSeconds + "s)");
+    }
+
+    /**
+     * Probe immediately on the calling thread, e.g. after a reconnect or fallback switch.
+     *
+     * @return The new snapshot
+     */
+    public HealthSnapshot refresh() {
+        probeSafely();
+        return snapshot;
+    }
+
+    /**
+     * Get the most recent health snapshot.
+     */
+    public HealthSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Get the most recent snapshot, queueing a probe on the monitor thread if it is older
+     * than {@code maxAgeMillis}. Used before writes, so a pool that died since the last
+     * scheduled probe is noticed soon without the caller waiting on the pool.
+     *
+     * @return The current snapshot, which may be stale until the queued probe finishes
+     */
+    public HealthSnapshot getSnapshot(long maxAgeMillis) {
+        HealthSnapshot current = snapshot;
+        if (System.currentTimeMillis() - current.getCheckedAt() > maxAgeMillis
+                && probeQueued.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(() -> {
+                    probeQueued.set(false);
+                    probeSafely();
+                });
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+                probeQueued.set(false);
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Publish a disconnected snapshot as soon as an operation fails to reach the database,
+     * and probe again shortly so a brief outage is not reported for a whole interval.
+     *
+     * @param error The failure message
+     */
+    public void markUnhealthy(String error) {
+        HealthSnapshot current = snapshot;
+        snapshot = new HealthSnapshot(false, current.isReadOnly(), current.getDatabaseInfo(), error,
+            System.currentTimeMillis());
+        if (!current.isConnected()) {
+            // Already known to be down; the scheduled probes pick up recovery
+            return;
+        }
+        logger.warning("Database connection failed: " + error);
+        try {
+            scheduler.schedule(this::probeSafely, RECHECK_DELAY_SECONDS, TimeUnit.SECONDS);
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+        }
+    }
+
+    /**
+     * Stop periodic probing.
+     */
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private synchronized void probeSafely() {
+        try {
+            snapshot = probe(connectionSupplier.get());
+        } catch (Exception e) {
+            logger.debug("Database health probe failed: " + e.getMessage());
+            snapshot = new HealthSnapshot(false, true, "No database connection", e.getMessage(), System.currentTimeMillis());
+        }
+    }
+
+    private HealthSnapshot probe(DatabaseConnection connection) {
+        long now = System.currentTimeMillis();
+        if (connection == null) {
+            return new HealthSnapshot(false, true, "No database connection", null, now);
+        }
+
+        boolean connected = connection.isConnected();
+        if (!connected) {
+            return new HealthSnapshot(false, true, snapshot.getDatabaseInfo(), connection.getLastConnectionError(), now);
+        }
+
+        HealthSnapshot previous = snapshot;
+        boolean readOnly = connection.isReadOnly();
+        String info = connection.getDatabaseInfo();
+        if (previous.isConnected() && previous.isReadOnly() != readOnly) {
+            logger.warning("Database is now " + (readOnly ? "READ-ONLY" : "writable"));
+        }
+        return new HealthSnapshot(true, readOnly, info, null, now);
+    }
+
+    /**
+     * Immutable result of a single health probe.
+     */
+    public static final class HealthSnapshot {
+        private final boolean connected;
+        private final boolean readOnly;
+        private final String databaseInfo;
+        private final String lastError;
+        private final long checkedAt;
+
+        public HealthSnapshot(boolean connected, boolean readOnly, String databaseInfo, String lastError, long checkedAt) {
+            this.connected = connected;
+            this.readOnly = readOnly;
+            this.databaseInfo = databaseInfo;
+            this.lastError = lastError;
+            this.checkedAt = checkedAt;
+        }
+
+        static HealthSnapshot unknown() {
+            return new HealthSnapshot(false, true, "Database status not yet checked", null, 0L);
+        }
+
+        public boolean isConnected() {
+            return connected;
+        }
+
+        public boolean isReadOnly() {
+            return readOnly;
+        }
+
+        public String getDatabaseInfo() {
+            return databaseInfo;
+        }
+
+        public String getLastError() {
+            return lastError;
+        }
+
+        /**
+         * @return Epoch millis of the probe, or 0 if no probe has run yet
+         */
+        public long getCheckedAt() {
+            return checkedAt;
+        }
+    }
+}
@@ -143,7 +143,8 @@ public class DatabaseHelper {
 
     /**
      * Execute an update with proper resource management and error handling.
-     * Connection is obtained from pool and properly closed after use.
+     * Runs through {@link DatabaseConnection#executeWrite}, so SQLite updates go
+     * through the single writer.
      *
      * @param sql The SQL update statement
      * @param paramSetter A consumer that sets parameters on the prepared statement
@@ -151,10 +152,8 @@ public class DatabaseHelper {
      * @throws LoreException If the update fails
      */
     public int executeUpdate(String sql, PreparedStatementSetter paramSetter) throws LoreException {
-        return executeWithRetry(() -> {
-            // Get fresh connection from pool - MUST use try-with-resources
-            try (Connection conn = databaseManager.getConnection();
-                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+        return executeWithRetry(() -> databaseManager.getDatabaseConnection().executeWriteSync(conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
                 // Set parameters if provided
                 if (paramSetter != null) {
                     paramSetter.setParameters(stmt);
@@ -163,7 +162,7 @@ public class DatabaseHelper {
                 // Execute update
                 return stmt.executeUpdate();
             }
-        });
+        }));
     }
 
     /**
@@ -172,7 +171,7 @@ public class DatabaseHelper {
      * - SQLite: Uses RETURNING clause with executeQuery()
      * - MySQL: Uses RETURN_GENERATED_KEYS flag with executeUpdate()
      *
-     * Connection is obtained from pool and properly closed after use.
+     * Runs through {@link DatabaseConnection#executeWrite}.
      *
      * @param baseInsertSql The INSERT SQL WITHOUT RETURNING clause
      * @param idColumn The name of the auto-increment column
@@ -182,36 +181,33 @@ public class DatabaseHelper {
      */
     public int executeInsertWithGeneratedKey(String baseInsertSql, String idColumn,
             PreparedStatementSetter paramSetter) throws LoreException {
-        SQLDialect dialect = databaseManager.getDatabaseConnection().getDialect();
-
-        return executeWithRetry(() -> {
-            // Get fresh connection from pool - MUST use try-with-resources
-            try (Connection conn = databaseManager.getConnection()) {
+        DatabaseConnection dbConnection = databaseManager.getDatabaseConnection();
+        SQLDialect dialect = dbConnection.getDialect();
 
-                if (dialect.requiresGeneratedKeysFlag()) {
-                    // MySQL approach: use getGeneratedKeys()
-                    try (PreparedStatement stmt = conn.prepareStatement(baseInsertSql,
-                            Statement.RETURN_GENERATED_KEYS)) {
-                        if (paramSetter != null) {
-                            paramSetter.setParameters(stmt);
-                        }
-                        stmt.executeUpdate();
-                        return dialect.extractGeneratedId(stmt, null, idColumn);
+        return executeWithRetry(() -> dbConnection.executeWriteSync(conn -> {
+            if (dialect.requiresGeneratedKeysFlag()) {
+                // MySQL approach: use getGeneratedKeys()
+                try (PreparedStatement stmt = conn.prepareStatement(baseInsertSql,
+                        Statement.RETURN_GENERATED_KEYS)) {
+                    if (paramSetter != null) {
+                        paramSetter.setParameters(stmt);
                     }
-                } else {
-                    // SQLite approach: use RETURNING clause
-                    String sqlWithReturning = dialect.wrapInsertForGeneratedKey(baseInsertSql, idColumn);
-                    try (PreparedStatement stmt = conn.prepareStatement(sqlWithReturning)) {
-                        if (paramSetter != null) {
-                            paramSetter.setParameters(stmt);
-                        }
-                        try (ResultSet rs = stmt.executeQuery()) {
-                            return dialect.extractGeneratedId(stmt, rs, idColumn);
-                        }
+                    stmt.executeUpdate();
+                    return dialect.extractGeneratedId(stmt, null, idColumn);
+                }
+            } else {
+                // SQLite approach: use RETURNING clause
+                String sqlWithReturning = dialect.wrapInsertForGeneratedKey(baseInsertSql, idColumn);
+                try (PreparedStatement stmt = conn.prepareStatement(sqlWithReturning)) {
+                    if (paramSetter != null) {
+                        paramSetter.setParameters(stmt);
+                    }
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        return dialect.extractGeneratedId(stmt, rs, idColumn);
                     }
                 }
             }
-        });
+        }));
     }
 
     /**
@@ -223,40 +219,38 @@ public class DatabaseHelper {
      * @throws LoreException If the insert fails
      */
     public int executeInsertAndGetKey(String sql, PreparedStatementSetter paramSetter) throws LoreException {
-        return executeWithRetry(() -> {
-            try (Connection conn = databaseManager.getConnection()) {
-                // For SQLite with RETURNING clause
-                if (sql.toUpperCase().contains("RETURNING")) {
-                    try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                        if (paramSetter != null) {
-                            paramSetter.setParameters(stmt);
-                        }
+        return executeWithRetry(() -> databaseManager.getDatabaseConnection().executeWriteSync(conn -> {
+            // For SQLite with RETURNING clause
+            if (sql.toUpperCase().contains("RETURNING")) {
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    if (paramSetter != null) {
+                        paramSetter.setParameters(stmt);
+                    }
 
-                        try (ResultSet rs = stmt.executeQuery()) {
-                            return rs.next() ? rs.getInt(1) : -1;
-                        }
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        return rs.next() ? rs.getInt(1) : -1;
                     }
                 }
-                // For MySQL with auto-increment
-                else {
-                    try (PreparedStatement stmt = conn.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
-                        if (paramSetter != null) {
-                            paramSetter.setParameters(stmt);
-                        }
+            }
+            // For MySQL with auto-increment
+            else {
+                try (PreparedStatement stmt = conn.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
+                    if (paramSetter != null) {
+                        paramSetter.setParameters(stmt);
+                    }
 
-                        int affectedRows = stmt.executeUpdate();
+                    int affectedRows = stmt.executeUpdate();
 
-                        if (affectedRows == 0) {
-                            return -1;
-                        }
+                    if (affectedRows == 0) {
+                        return -1;
+                    }
 
-                        try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
-                            return generatedKeys.next() ? generatedKeys.getInt(1) : -1;
-                        }
+                    try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                        return generatedKeys.next() ? generatedKeys.getInt(1) : -1;
                     }
                 }
             }
-        });
+        }));
     }
     
     /**
@@ -3,6 +3,10 @@ package org.fourz.RVNKLore.data;
 import org.fourz.RVNKLore.RVNKLore;
 import org.fourz.rvnkcore.data.FallbackTracker;
 import org.fourz.rvnkcore.util.log.LogManager;
+import org.fourz.RVNKLore.data.backup.BackupResult;
+import org.fourz.RVNKLore.data.backup.BackupScheduler;
+import org.fourz.RVNKLore.data.journal.OfflineWriteJournal;
+import org.fourz.RVNKLore.data.model.LoreEntryDelta;
 import org.fourz.RVNKLore.data.model.LoreLocation;
 import org.fourz.RVNKLore.data.repository.AchievementRepository;
 import org.fourz.RVNKLore.data.repository.CollectionRewardRepository;
@@ -16,13 +20,13 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import org.json.simple.JSONObject;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.sql.Connection;
+import java.sql.Timestamp;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Manages database connections and operations for the lore system.
@@ -49,11 +53,16 @@ public class DatabaseManager {
     private DiscoveryRepository discoveryRepository;
     private AchievementRepository achievementRepository;
     private CollectionRewardRepository collectionRewardRepository;
-    private DatabaseBackupService backupService;
+    private volatile DatabaseBackupService backupService;
+    private final DatabaseHealthMonitor healthMonitor;
+    private final BackupScheduler backupScheduler;
+    private final OfflineWriteJournal journal;
     private volatile boolean connectionValid = false;
     private volatile boolean inFallbackMode = false;
     private int reconnectAttempts = 0;
     private static final int MAX_RECONNECT_ATTEMPTS = 5;
+    /** Age after which a write queues a fresh health probe */
+    private static final long WRITE_HEALTH_MAX_AGE_MS = 2000;
 
     /**
      * Create a new DatabaseManager instance
@@ -70,7 +79,34 @@ public class DatabaseManager {
                 plugin.getConfig().getInt("database.fallback.maxFailuresBeforeFallback", 3),
                 plugin.getConfig().getInt("database.fallback.recoveryTimeMinutes", 5) * 60 * 1000L,
                 LogManager.getInstance(plugin, "FallbackTracker"));
+        this.healthMonitor = new DatabaseHealthMonitor(plugin, () -> connection);
+        this.journal = createJournal();
         initializeDatabase();
+        healthMonitor.start();
+        this.backupScheduler = plugin.getConfig().getBoolean("storage.backup.enabled", false)
+            ? new BackupScheduler(plugin, () -> backupService)
+            : null;
+        if (backupScheduler != null) {
+            backupScheduler.start();
+        }
+        // Writes journaled before a crash or shutdown are replayed once the primary is available
+        replayJournalIfNeeded();
+    }
+
+    /**
+     * Report pool failures of a connection to the health monitor as they happen.
+     */
+    private DatabaseConnection watch(DatabaseConnection databaseConnection) {
+        databaseConnection.setConnectivityFailureListener(healthMonitor::markUnhealthy);
+        return databaseConnection;
+    }
+
+    private OfflineWriteJournal createJournal() {
+        if (!plugin.getConfig().getBoolean("storage.journal.enabled", true)) {
+            return null;
+        }
+        OfflineWriteJournal writeJournal = new OfflineWriteJournal(plugin);
+        return writeJournal.open() ? writeJournal : null;
     }
 
     /**
@@ -81,15 +117,15 @@ public class DatabaseManager {
         logger.debug("Initializing database...");
         try {
             // Create and initialize the connection
-            connection = connectionFactory.createConnection();
+            connection = watch(connectionFactory.createConnection());
             connection.initialize();
             connection.createTables();
 
             // Initialize repositories and services using the connection
             loreRepository = new LoreEntryRepository(plugin, connection);
             locationRepository = new LocationRepository(plugin, connection);
-            discoveryRepository = new DiscoveryRepository(plugin, connection);
-            achievementRepository = new AchievementRepository(plugin, connection);
+            discoveryRepository = new DiscoveryRepository(plugin, connection, journal);
+            achievementRepository = new AchievementRepository(plugin, connection, journal);
             collectionRewardRepository = new CollectionRewardRepository(plugin, connection);
             backupService = new DatabaseBackupService(plugin, connection);
 
@@ -101,6 +137,7 @@ public class DatabaseManager {
         } catch (Exception e) {
             connectionValid = false;
             fallbackTracker.recordFailure();
+            setJournalCapturing(true);
             logger.error("Failed to initialize database", e);
 
             // Attempt SQLite fallback if enabled
@@ -124,21 +161,22 @@ public class DatabaseManager {
             }
 
             // Create fallback SQLite connection
-            connection = connectionFactory.createFallbackConnection();
+            connection = watch(connectionFactory.createFallbackConnection());
             connection.initialize();
             connection.createTables();
 
             // Initialize repositories with fallback connection
             loreRepository = new LoreEntryRepository(plugin, connection);
             locationRepository = new LocationRepository(plugin, connection);
-            discoveryRepository = new DiscoveryRepository(plugin, connection);
-            achievementRepository = new AchievementRepository(plugin, connection);
+            discoveryRepository = new DiscoveryRepository(plugin, connection, journal);
+            achievementRepository = new AchievementRepository(plugin, connection, journal);
             collectionRewardRepository = new CollectionRewardRepository(plugin, connection);
             backupService = new DatabaseBackupService(plugin, connection);
 
             connectionValid = true;
             inFallbackMode = true;
             reconnectAttempts = 0;
+            setJournalCapturing(true);
 
             logger.warning("=== RUNNING IN FALLBACK MODE ===");
             logger.warning("SQLite fallback connection established successfully");
@@ -193,6 +231,49 @@ public class DatabaseManager {
         return loreRepository.getAllLoreEntries().join();
     }
 
+    /**
+     * Get lore entries changed since a sync watermark (async; used by incremental reload).
+     *
+     * @param watermark Watermark from a previous delta, or null for a full read
+     * @return Future with the delta
+     */
+    public CompletableFuture<LoreEntryDelta> getLoreEntriesChangedSince(Timestamp watermark) {
+        return loreRepository.getLoreEntriesChangedSince(watermark);
+    }
+
+    /**
+     * Stream current lore entries from a database cursor (async; used by exports).
+     *
+     * @param type Only stream entries of this type, or null for all entries
+     * @param visitor Receives each entry on the database thread
+     * @return Future with the number of entries streamed
+     */
+    public CompletableFuture<Integer> streamLoreEntries(LoreType type, ILoreEntryRepository.LoreEntryVisitor visitor) {
+        return loreRepository.streamLoreEntries(type, visitor);
+    }
+
+    /**
+     * Get the ID and name/type key of every stored entry (async; used for bulk duplicate detection).
+     *
+     * @return Future with entry ID mapped to its name key
+     */
+    public CompletableFuture<Map<String, String>> getEntryIdentities() {
+        return loreRepository.getEntryIdentities();
+    }
+
+    /**
+     * Insert many validated lore entries in one transaction (async; used by bulk import).
+     *
+     * @param entries The entries to insert
+     * @return Future with the number inserted, completing exceptionally if the batch was rolled back
+     */
+    public CompletableFuture<Integer> insertLoreEntriesBatch(List<LoreEntry> entries) {
+        if (!validateConnection()) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Database connection invalid"));
+        }
+        return loreRepository.insertLoreEntriesBatch(entries);
+    }
+
     /**
      * Get lore entries by type
      *
@@ -292,37 +373,8 @@ public class DatabaseManager {
      * @param filePath The file to export to
      * @return true if successful, false otherwise
      */
-    @SuppressWarnings("unchecked") // JSONObject from json-simple doesn't support generics
     public boolean exportLoreEntriesToFile(List<LoreEntry> entries, String filePath) {
-        try {
-            logger.debug("Exporting " + entries.size() + " lore entries to file: " + filePath);
-
-            File file = new File(filePath);
-            file.getParentFile().mkdirs();
-
-            List<JSONObject> jsonEntries = new ArrayList<>();
-            for (LoreEntry entry : entries) {
-                jsonEntries.add(entry.toJson());
-            }
-
-            JSONObject result = new JSONObject();
-            result.put("lore_entries", jsonEntries);
-            result.put("exported_at", new Date().toString());
-            result.put("entry_count", entries.size());
-
-            Gson gson = new GsonBuilder().setPrettyPrinting().create();
-            String jsonContent = gson.toJson(result);
-
-            try (FileWriter writer = new FileWriter(file)) {
-                writer.write(jsonContent);
-            }
-
-            logger.info("Exported " + entries.size() + " lore entries to " + filePath);
-            return true;
-        } catch (Exception e) {
-            logger.error("Failed to export lore entries to file", e);
-            return false;
-        }
+        return backupService.exportLoreEntriesToFile(entries, filePath);
     }
 
     /**
@@ -336,12 +388,35 @@ public class DatabaseManager {
     }
 
     /**
-     * Check if the database connection is active and valid
+     * Create a timestamped, verified backup in the configured backup directory (async).
+     *
+     * @return Future with the backup result
+     */
+    public CompletableFuture<BackupResult> createBackup() {
+        DatabaseBackupService service = backupService;
+        if (service == null) {
+            return CompletableFuture.completedFuture(BackupResult.failure(null, "No database connection", 0));
+        }
+        return CompletableFuture.supplyAsync(service::createBackup);
+    }
+
+    /**
+     * Check if the database connection is active and valid.
+     * Reads the cached result of the last background health probe; does not touch the pool.
      *
      * @return True if connected, false otherwise
      */
     public boolean isConnected() {
-        return connection != null && connection.isConnected();
+        return connection != null && healthMonitor.getSnapshot().isConnected();
+    }
+
+    /**
+     * Get the most recent database health snapshot.
+     *
+     * @return The cached health snapshot
+     */
+    public DatabaseHealthMonitor.HealthSnapshot getHealthSnapshot() {
+        return healthMonitor.getSnapshot();
     }
 
     /**
@@ -384,6 +459,8 @@ public class DatabaseManager {
             return attemptPrimaryReconnection();
         }
 
+        // Capture writes made while the pool is being rebuilt
+        setJournalCapturing(true);
         if (connection != null) {
             boolean success = connection.reconnect();
             if (success) {
@@ -393,10 +470,40 @@ public class DatabaseManager {
             } else {
                 fallbackTracker.recordFailure();
             }
+            healthMonitor.refresh();
+            replayJournalIfNeeded();
             return success;
         }
         initializeDatabase();
-        return isConnected();
+        boolean connected = healthMonitor.refresh().isConnected();
+        replayJournalIfNeeded();
+        return connected;
+    }
+
+    /**
+     * Replay journaled offline writes if the primary database is reachable.
+     * Safe to call repeatedly; a replay already in progress is not restarted.
+     */
+    public void replayJournalIfNeeded() {
+        if (journal == null || inFallbackMode || !connectionValid || !isConnected()) {
+            return;
+        }
+        journal.replayAsync(this);
+    }
+
+    /**
+     * Get the offline write journal.
+     *
+     * @return The journal, or null if journaling is disabled or unavailable
+     */
+    public OfflineWriteJournal getWriteJournal() {
+        return journal;
+    }
+
+    private void setJournalCapturing(boolean capturing) {
+        if (journal != null) {
+            journal.setCapturing(capturing);
+        }
     }
 
     /**
@@ -407,7 +514,7 @@ public class DatabaseManager {
     private boolean attemptPrimaryReconnection() {
         try {
             // Create a new primary connection
-            DatabaseConnection primaryConnection = connectionFactory.createConnection();
+            DatabaseConnection primaryConnection = watch(connectionFactory.createConnection());
             primaryConnection.initialize();
             primaryConnection.createTables();
 
@@ -421,8 +528,8 @@ public class DatabaseManager {
             connection = primaryConnection;
             loreRepository = new LoreEntryRepository(plugin, connection);
             locationRepository = new LocationRepository(plugin, connection);
-            discoveryRepository = new DiscoveryRepository(plugin, connection);
-            achievementRepository = new AchievementRepository(plugin, connection);
+            discoveryRepository = new DiscoveryRepository(plugin, connection, journal);
+            achievementRepository = new AchievementRepository(plugin, connection, journal);
             collectionRewardRepository = new CollectionRewardRepository(plugin, connection);
             backupService = new DatabaseBackupService(plugin, connection);
 
@@ -431,9 +538,12 @@ public class DatabaseManager {
             reconnectAttempts = 0;
             fallbackTracker.recordSuccess();
 
+            healthMonitor.refresh();
+
             logger.info("=== PRIMARY DATABASE RESTORED ===");
             logger.info("Successfully reconnected to primary database");
             logger.info("Plugin is now operating in normal mode");
+            replayJournalIfNeeded();
             return true;
         } catch (Exception e) {
             logger.warning("Primary database still unavailable: " + e.getMessage());
@@ -513,9 +623,16 @@ public class DatabaseManager {
      * Close the database connection
      */
     public void close() {
+        healthMonitor.shutdown();
+        if (backupScheduler != null) {
+            backupScheduler.shutdown();
+        }
         if (connection != null) {
             connection.close();
         }
+        if (journal != null) {
+            journal.close();
+        }
     }
 
     /**
@@ -528,21 +645,21 @@ public class DatabaseManager {
     }
 
     /**
-     * Get information about the connected database
+     * Get information about the connected database (cached from the last health probe)
      *
      * @return A string with database metadata information
      */
     public String getDatabaseInfo() {
-        return connection != null ? connection.getDatabaseInfo() : "No database connection";
+        return connection != null ? healthMonitor.getSnapshot().getDatabaseInfo() : "No database connection";
     }
 
     /**
-     * Check if the database is in read-only mode
+     * Check if the database is in read-only mode (cached from the last health probe)
      *
      * @return true if the database is read-only, false otherwise
      */
     public boolean isReadOnly() {
-        return connection == null || connection.isReadOnly();
+        return connection == null || healthMonitor.getSnapshot().isReadOnly();
     }
 
     /**
@@ -573,12 +690,14 @@ public class DatabaseManager {
     }
 
     /**
-     * Get the database connection factory
-     * 
-     * @return The DatabaseConnectionFactory instance
+     * Check the connection before a write, reconnecting if it is down.
+     *
+     * @return true if the write can proceed
      */
     private boolean validateConnection() {
-        if (connectionValid && isConnected()) {
+        // Every caller is about to write: a stale snapshot queues a fresh probe in the background
+        if (connectionValid && connection != null
+                && healthMonitor.getSnapshot(WRITE_HEALTH_MAX_AGE_MS).isConnected()) {
             return true;
         }
 
@@ -0,0 +1,18 @@
+package org.fourz.RVNKLore.data;
+
+/**
+ * Thrown when a write cannot reach the database at all: the connection pool is closed or
+ * cannot hand out a connection, or the SQLite writer has stopped. The offline write
+ * journal treats it as a connectivity failure, unlike other runtime errors, which mean
+ * the write itself is bad.
+ */
+public class DatabaseUnavailableException extends IllegalStateException {
+
+    public DatabaseUnavailableException(String message) {
+        super(message);
+    }
+
+    public DatabaseUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -234,6 +234,14 @@ public interface IItemRepository {
      */
     CompletableFuture<Double> getPlayerCollectionProgress(String playerId, String collectionId);
 
+    /**
+     * Get a player's progress for every collection they have started, in one query.
+     *
+     * @param playerId The player's UUID as string
+     * @return CompletableFuture that completes with collection ID to progress (0.0 to 1.0)
+     */
+    CompletableFuture<Map<String, Double>> getAllPlayerCollectionProgress(String playerId);
+
     /**
      * Update a player's progress for a collection.
      *
@@ -1,8 +1,10 @@
 package org.fourz.RVNKLore.data;
 
+import org.fourz.RVNKLore.data.model.LoreEntryDelta;
 import org.fourz.RVNKLore.lore.LoreEntry;
 import org.fourz.RVNKLore.lore.LoreType;
 
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -56,6 +58,46 @@ public interface ILoreEntryRepository {
      */
     CompletableFuture<List<LoreEntry>> getAllLoreEntries();
 
+    /**
+     * Get entries changed at or after a sync watermark, plus the IDs of all live entries.
+     *
+     * @param watermark Watermark returned by a previous delta, or null for a full read
+     * @return CompletableFuture that completes with the delta (exceptionally on database errors)
+     */
+    CompletableFuture<LoreEntryDelta> getLoreEntriesChangedSince(Timestamp watermark);
+
+    /**
+     * Receives entries from {@link #streamLoreEntries(LoreType, LoreEntryVisitor)}.
+     */
+    @FunctionalInterface
+    interface LoreEntryVisitor {
+        void visit(LoreEntry entry) throws Exception;
+    }
+
+    /**
+     * Stream current lore entries through a visitor without loading them all into memory.
+     *
+     * @param type Only stream entries of this type, or null for all entries
+     * @param visitor Receives each entry
+     * @return CompletableFuture that completes with the number of entries streamed
+     */
+    CompletableFuture<Integer> streamLoreEntries(LoreType type, LoreEntryVisitor visitor);
+
+    /**
+     * Get every stored entry ID with its name/type key, for bulk duplicate detection.
+     *
+     * @return CompletableFuture that completes with entry ID to name key
+     */
+    CompletableFuture<Map<String, String>> getEntryIdentities();
+
+    /**
+     * Insert many pre-validated entries in a single transaction.
+     *
+     * @param entries The entries to insert
+     * @return CompletableFuture that completes with the number inserted
+     */
+    CompletableFuture<Integer> insertLoreEntriesBatch(List<LoreEntry> entries);
+
     /**
      * Get lore entries by type.
      *
@@ -83,7 +125,8 @@ public interface ILoreEntryRepository {
      * Get all submissions for a lore entry.
      *
      * @param entryId The ID of the lore entry
-     * @return CompletableFuture that completes with a list of submission metadata
+     * @return CompletableFuture that completes with a list of submission metadata, including
+     *         the full content of every version under "content"
      */
     CompletableFuture<List<Map<String, Object>>> getLoreSubmissions(String entryId);
 
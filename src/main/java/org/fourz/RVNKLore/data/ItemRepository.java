@@ -805,44 +805,30 @@ public class ItemRepository implements IItemRepository {
      */
     @Override
     public CompletableFuture<Boolean> addItemsToCollection(int collectionId, List<Integer> itemIds, Integer startingSequence) {
-        return CompletableFuture.supplyAsync(() -> {
-            if (itemIds == null || itemIds.isEmpty()) {
-                return true;
-            }
-
-            try (Connection conn = dbConnection.getConnection()) {
-                conn.setAutoCommit(false);
-
-                try {
-                    // Get current max sequence if not provided
-                    int nextSequence = startingSequence != null ? startingSequence :
-                        getCurrentMaxSequence(collectionId, conn) + 1;
-
-                    // Add all items
-                    String sql = "INSERT INTO " + t("collection_item") + " (collection_id, item_id, sequence_number) VALUES (?, ?, ?)";
-                    try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                        for (Integer itemId : itemIds) {
-                            stmt.setInt(1, collectionId);
-                            stmt.setInt(2, itemId);
-                            stmt.setInt(3, nextSequence++);
-                            stmt.addBatch();
-                        }
-                        stmt.executeBatch();
-                    }
+        if (itemIds == null || itemIds.isEmpty()) {
+            return CompletableFuture.completedFuture(true);
+        }
 
-                    conn.commit();
-                    return true;
-                } catch (SQLException e) {
-                    conn.rollback();
-                    logger.error("Failed to add items to collection", e);
-                    return false;
-                } finally {
-                    conn.setAutoCommit(true);
+        return dbConnection.executeWrite(conn -> {
+            // Get current max sequence if not provided
+            int nextSequence = startingSequence != null ? startingSequence :
+                getCurrentMaxSequence(collectionId, conn) + 1;
+
+            // Add all items
+            String sql = "INSERT INTO " + t("collection_item") + " (collection_id, item_id, sequence_number) VALUES (?, ?, ?)";
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                for (Integer itemId : itemIds) {
+                    stmt.setInt(1, collectionId);
+                    stmt.setInt(2, itemId);
+                    stmt.setInt(3, nextSequence++);
+                    stmt.addBatch();
                 }
-            } catch (SQLException e) {
-                logger.error("Database connection error when adding items to collection", e);
-                return false;
+                stmt.executeBatch();
             }
+            return true;
+        }).exceptionally(e -> {
+            logger.error("Failed to add items to collection", DatabaseConnection.unwrap(e));
+            return false;
         });
     }
 
@@ -855,34 +841,22 @@ public class ItemRepository implements IItemRepository {
      */
     @Override
     public CompletableFuture<Boolean> updateCollectionSequences(int collectionId, Map<Integer, Integer> itemSequences) {
-        return CompletableFuture.supplyAsync(() -> {
-            String sql = "UPDATE " + t("collection_item") + " SET sequence_number = ? WHERE collection_id = ? AND item_id = ?";
-
-            try (Connection conn = dbConnection.getConnection()) {
-                conn.setAutoCommit(false);
-
-                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    for (Map.Entry<Integer, Integer> entry : itemSequences.entrySet()) {
-                        stmt.setInt(1, entry.getValue());
-                        stmt.setInt(2, collectionId);
-                        stmt.setInt(3, entry.getKey());
-                        stmt.addBatch();
-                    }
+        String sql = "UPDATE " + t("collection_item") + " SET sequence_number = ? WHERE collection_id = ? AND item_id = ?";
 
-                    stmt.executeBatch();
-                    conn.commit();
-                    return true;
-                } catch (SQLException e) {
-                    conn.rollback();
-                    logger.error("Failed to update collection sequences", e);
-                    return false;
-                } finally {
-                    conn.setAutoCommit(true);
+        return dbConnection.executeWrite(conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                for (Map.Entry<Integer, Integer> entry : itemSequences.entrySet()) {
+                    stmt.setInt(1, entry.getValue());
+                    stmt.setInt(2, collectionId);
+                    stmt.setInt(3, entry.getKey());
+                    stmt.addBatch();
                 }
-            } catch (SQLException e) {
-                logger.error("Database connection error when updating collection sequences", e);
-                return false;
+                stmt.executeBatch();
             }
+            return true;
+        }).exceptionally(e -> {
+            logger.error("Failed to update collection sequences", DatabaseConnection.unwrap(e));
+            return false;
         });
     }
 
@@ -987,6 +961,30 @@ public class ItemRepository implements IItemRepository {
         });
     }
 
+    @Override
+    public CompletableFuture<Map<String, Double>> getAllPlayerCollectionProgress(String playerId) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (playerId == null) {
+                return Map.of();
+            }
+
+            String sql = "SELECT collection_id, progress FROM " + t("player_collection_progress") + " WHERE player_id = ?";
+
+            try {
+                return dbHelper.executeQuery(sql, stmt -> stmt.setString(1, playerId), rs -> {
+                    Map<String, Double> progress = new HashMap<>();
+                    while (rs.next()) {
+                        progress.put(rs.getString("collection_id"), rs.getDouble("progress"));
+                    }
+                    return progress;
+                });
+            } catch (LoreException e) {
+                logger.error("Failed to get collection progress for player " + playerId, e);
+                return Map.of();
+            }
+        });
+    }
+
     /**
      * Update a player's progress for a collection.
      * Uses dialect-aware upsert for MySQL/SQLite compatibility.
@@ -4,6 +4,7 @@ import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.fourz.RVNKLore.RVNKLore;
+import org.fourz.RVNKLore.data.model.LoreEntryDelta;
 import org.fourz.rvnkcore.data.FallbackTracker;
 import org.fourz.rvnkcore.util.log.LogManager;
 import org.fourz.RVNKLore.lore.LoreEntry;
@@ -15,6 +16,7 @@ import org.json.simple.parser.ParseException;
 import java.sql.*;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Repository for Lore Entry database operations
@@ -31,6 +33,10 @@ public class LoreEntryRepository implements ILoreEntryRepository {
     private final DatabaseConnection dbConnection;
     private final JSONParser jsonParser;
     private final FallbackTracker fallbackTracker;
+    private final SubmissionVersionStore versionStore;
+
+    /** Rows per multi-row INSERT; 100 x 7 parameters stays under SQLite's 999-variable limit */
+    private static final int ROWS_PER_STATEMENT = 100;
 
     public LoreEntryRepository(RVNKLore plugin, DatabaseConnection dbConnection) {
         this.plugin = plugin;
@@ -41,6 +47,8 @@ public class LoreEntryRepository implements ILoreEntryRepository {
                 plugin.getConfig().getInt("database.fallback.maxFailuresBeforeFallback", 3),
                 plugin.getConfig().getInt("database.fallback.recoveryTimeMinutes", 5) * 60 * 1000L,
                 LogManager.getInstance(plugin, "FallbackTracker"));
+        this.versionStore = new SubmissionVersionStore(dbConnection, plugin.getConfig().getInt(
+                SubmissionVersionStore.SNAPSHOT_INTERVAL_PATH, SubmissionVersionStore.DEFAULT_SNAPSHOT_INTERVAL));
     }
 
     /** Helper to get prefixed table name */
@@ -61,49 +69,35 @@ public class LoreEntryRepository implements ILoreEntryRepository {
      */
     @Override
     public CompletableFuture<Boolean> addLoreEntry(LoreEntry entry) {
-        return CompletableFuture.supplyAsync(() -> {
-            try (Connection conn = dbConnection.getConnection()) {
-                conn.setAutoCommit(false);
-
-                try {
-                    // Step 1: Insert base lore_entry record
-                    String entryId = insertLoreEntry(entry, conn);
-                    if (entryId == null) {
-                        throw new SQLException("Failed to insert base lore entry record");
-                    }
-
-                    // Step 2: Insert specialized type-specific record if applicable
-                    if (entry.getType() == LoreType.ITEM) {
-                        boolean itemInserted = insertLoreItem(entryId, entry, conn);
-                        if (!itemInserted) {
-                            throw new SQLException("Failed to insert lore item record");
-                        }
-                    }
-
-                    // Step 3: Create initial submission version
-                    boolean submissionCreated = insertLoreSubmission(entryId, entry, conn, 1);
-                    if (!submissionCreated) {
-                        throw new SQLException("Failed to create initial submission record");
-                    }
+        return dbConnection.executeWrite(conn -> {
+            // Step 1: Insert base lore_entry record
+            String entryId = insertLoreEntry(entry, conn);
+            if (entryId == null) {
+                throw new SQLException("Failed to insert base lore entry record");
+            }
 
-                    // All operations succeeded, commit transaction
-                    conn.commit();
-                    return true;
-                } catch (SQLException e) {
-                    conn.rollback();
-                    if (e instanceof java.sql.SQLIntegrityConstraintViolationException) {
-                        logger.debug("Duplicate entry rejected: " + entry.getName() + " (" + entry.getType() + ")");
-                    } else {
-                        logger.error("Failed to add lore entry to database", e);
-                    }
-                    return false;
-                } finally {
-                    conn.setAutoCommit(true);
+            // Step 2: Insert specialized type-specific record if applicable
+            if (entry.getType() == LoreType.ITEM) {
+                boolean itemInserted = insertLoreItem(entryId, entry, conn);
+                if (!itemInserted) {
+                    throw new SQLException("Failed to insert lore item record");
                 }
-            } catch (SQLException e) {
-                logger.error("Transaction error when adding lore entry", e);
-                return false;
             }
+
+            // Step 3: Create initial submission version
+            boolean submissionCreated = insertLoreSubmission(entryId, entry, buildSubmissionContent(entry), conn, 1);
+            if (!submissionCreated) {
+                throw new SQLException("Failed to create initial submission record");
+            }
+            return true;
+        }).exceptionally(e -> {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof java.sql.SQLIntegrityConstraintViolationException) {
+                logger.debug("Duplicate entry rejected: " + entry.getName() + " (" + entry.getType() + ")");
+            } else {
+                logger.error("Failed to add lore entry to database", cause);
+            }
+            return false;
         });
     }
 
@@ -115,65 +109,46 @@ public class LoreEntryRepository implements ILoreEntryRepository {
      */
     @Override
     public CompletableFuture<Boolean> updateLoreEntry(LoreEntry entry) {
-        return CompletableFuture.supplyAsync(() -> {
-            try (Connection conn = dbConnection.getConnection()) {
-                conn.setAutoCommit(false);
-
-                try {
-                    // Step 1: Update base lore_entry record
-                    String updateEntrySql = "UPDATE " + t("lore_entry") + " SET name = ? WHERE id = ?";
-                    try (PreparedStatement stmt = conn.prepareStatement(updateEntrySql)) {
-                        stmt.setString(1, entry.getName());
-                        stmt.setString(2, entry.getId());
-                        int rowsAffected = stmt.executeUpdate();
-
-                        if (rowsAffected == 0) {
-                            throw new SQLException("Failed to update lore entry record");
-                        }
-                    }
-
-                    // Step 2: Update specialized record if applicable
-                    if (entry.getType() == LoreType.ITEM) {
-                        String updateItemSql = "UPDATE " + t("lore_item") + " SET name = ?, nbt_data = ? WHERE lore_entry_id = ?";
-                        try (PreparedStatement stmt = conn.prepareStatement(updateItemSql)) {
-                            stmt.setString(1, entry.getName());
-                            stmt.setString(2, entry.getNbtData());
-                            stmt.setString(3, entry.getId());
-                            stmt.executeUpdate();
-                        }
-                    }
+        return dbConnection.executeWrite(conn -> {
+            // Step 1: Update base lore_entry record
+            String updateEntrySql = "UPDATE " + t("lore_entry") + " SET name = ? WHERE id = ?";
+            try (PreparedStatement stmt = conn.prepareStatement(updateEntrySql)) {
+                stmt.setString(1, entry.getName());
+                stmt.setString(2, entry.getId());
+                int rowsAffected = stmt.executeUpdate();
+
+                if (rowsAffected == 0) {
+                    throw new SQLException("Failed to update lore entry record");
+                }
+            }
 
-                    // Step 3: Get next version number
-                    int nextVersion = getNextVersionNumber(entry.getId(), conn);
+            // Step 2: Update specialized record if applicable
+            if (entry.getType() == LoreType.ITEM) {
+                String updateItemSql = "UPDATE " + t("lore_item") + " SET name = ?, nbt_data = ? WHERE lore_entry_id = ?";
+                try (PreparedStatement stmt = conn.prepareStatement(updateItemSql)) {
+                    stmt.setString(1, entry.getName());
+                    stmt.setString(2, entry.getNbtData());
+                    stmt.setString(3, entry.getId());
+                    stmt.executeUpdate();
+                }
+            }
 
-                    // Step 4: Mark existing current version as not current
-                    String updateCurrentSql = "UPDATE " + t("lore_submission") + " SET is_current_version = FALSE " +
-                                              "WHERE entry_id = ? AND is_current_version = TRUE";
-                    try (PreparedStatement stmt = conn.prepareStatement(updateCurrentSql)) {
-                        stmt.setString(1, entry.getId());
-                        stmt.executeUpdate();
-                    }
+            // Step 3: Claim the next version number from the entry's counter
+            int nextVersion = versionStore.claimNextVersion(conn, entry.getId());
 
-                    // Step 5: Create new submission version with incremented version number
-                    boolean submissionCreated = insertLoreSubmission(entry.getId(), entry, conn, nextVersion);
-                    if (!submissionCreated) {
-                        throw new SQLException("Failed to create new submission version");
-                    }
+            // Step 4: Supersede the current version, storing it as a delta against the new one
+            String content = buildSubmissionContent(entry);
+            versionStore.supersedeCurrent(conn, entry.getId(), 0, content, nextVersion);
 
-                    // All operations succeeded, commit transaction
-                    conn.commit();
-                    return true;
-                } catch (SQLException e) {
-                    conn.rollback();
-                    logger.error("Failed to update lore entry in database", e);
-                    return false;
-                } finally {
-                    conn.setAutoCommit(true);
-                }
-            } catch (SQLException e) {
-                logger.error("Transaction error when updating lore entry", e);
-                return false;
+            // Step 5: Create new submission version with incremented version number
+            boolean submissionCreated = insertLoreSubmission(entry.getId(), entry, content, conn, nextVersion);
+            if (!submissionCreated) {
+                throw new SQLException("Failed to create new submission version");
             }
+            return true;
+        }).exceptionally(e -> {
+            logger.error("Failed to update lore entry in database", DatabaseConnection.unwrap(e));
+            return false;
         });
     }
 
@@ -185,39 +160,24 @@ public class LoreEntryRepository implements ILoreEntryRepository {
      */
     @Override
     public CompletableFuture<Boolean> deleteLoreEntry(UUID id) {
-        return CompletableFuture.supplyAsync(() -> {
-            try (Connection conn = dbConnection.getConnection()) {
-                conn.setAutoCommit(false);
+        // Delete from lore_entry will cascade to lore_submission and lore_item
+        // due to foreign key constraints with ON DELETE CASCADE
+        String sql = "DELETE FROM " + t("lore_entry") + " WHERE id = ?";
 
-                try {
-                    // Delete from lore_entry will cascade to lore_submission and lore_item
-                    // due to foreign key constraints with ON DELETE CASCADE
-                    String sql = "DELETE FROM " + t("lore_entry") + " WHERE id = ?";
-
-                    try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                        stmt.setString(1, id.toString());
-                        int rowsAffected = stmt.executeUpdate();
-
-                        if (rowsAffected == 0) {
-                            logger.warning("No lore entry found with ID: " + id);
-                            conn.rollback();
-                            return false;
-                        }
+        return dbConnection.executeWrite(conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, id.toString());
+                int rowsAffected = stmt.executeUpdate();
 
-                        conn.commit();
-                        return true;
-                    }
-                } catch (SQLException e) {
-                    conn.rollback();
-                    logger.error("Failed to delete lore entry: " + id, e);
+                if (rowsAffected == 0) {
+                    logger.warning("No lore entry found with ID: " + id);
                     return false;
-                } finally {
-                    conn.setAutoCommit(true);
                 }
-            } catch (SQLException e) {
-                logger.error("Transaction error when deleting lore entry: " + id, e);
-                return false;
+                return true;
             }
+        }).exceptionally(e -> {
+            logger.error("Failed to delete lore entry: " + id, DatabaseConnection.unwrap(e));
+            return false;
         });
     }
 
@@ -286,6 +246,214 @@ public class LoreEntryRepository implements ILoreEntryRepository {
         });
     }
 
+    /**
+     * Stream current lore entries to a visitor straight from the result set cursor.
+     *
+     * <p>Rows are mapped and handed over one at a time with the dialect's streaming fetch
+     * size, so memory use stays flat however many entries exist. The visitor runs on the
+     * calling pool thread while the cursor is open and must not issue its own queries.
+     *
+     * @param type Only stream entries of this type, or null for all entries
+     * @param visitor Receives each entry in ID order
+     * @return CompletableFuture with the number of entries streamed (exceptionally on failure)
+     */
+    @Override
+    public CompletableFuture<Integer> streamLoreEntries(LoreType type, LoreEntryVisitor visitor) {
+        return CompletableFuture.supplyAsync(() -> {
+            String sql = "SELECT e.id, e.entry_type, e.name, s.content, s.submitter_uuid, " +
+                         "s.approval_status, s.created_at " +
+                         "FROM " + t("lore_entry") + " e " +
+                         "JOIN " + t("lore_submission") + " s ON e.id = s.entry_id " +
+                         "WHERE s.is_current_version = TRUE" +
+                         (type != null ? " AND e.entry_type = ?" : "") +
+                         " ORDER BY e.id";
+
+            int count = 0;
+            try (Connection conn = dbConnection.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                stmt.setFetchSize(dbConnection.getDialect().getStreamingFetchSize());
+                if (type != null) {
+                    stmt.setString(1, type.name());
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        visitor.visit(resultSetToLoreEntry(rs, conn));
+                        count++;
+                    }
+                }
+            } catch (Exception e) {
+                logger.error("Error streaming lore entries after " + count + " rows", e);
+                throw new CompletionException(e);
+            }
+            return count;
+        });
+    }
+
+    /**
+     * Get entries whose current submission changed at or after a sync watermark, along with
+     * the IDs of all live entries so callers can detect deletions.
+     *
+     * <p>The watermark is {@code COALESCE(updated_at, created_at)} compared as a timestamp,
+     * inclusively, so rows written in the same second as the previous read are fetched again
+     * rather than missed. An entry's newest primary {@code lore_location} row, when it has
+     * one, overrides the location in its content; location writes stamp the current
+     * submission so they advance the watermark too.
+     *
+     * @param watermark The watermark from a previous delta, or null for a full read
+     * @return CompletableFuture that completes with the delta
+     */
+    @Override
+    public CompletableFuture<LoreEntryDelta> getLoreEntriesChangedSince(Timestamp watermark) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<LoreEntry> changed = new ArrayList<>();
+            Set<String> liveIds = new HashSet<>();
+            Timestamp newest = watermark;
+
+            String syncTs = dbConnection.getDialect().getComparableTimestamp("COALESCE(s.updated_at, s.created_at)");
+            String sql = "SELECT DISTINCT e.id, e.entry_type, e.name, s.content, s.submitter_uuid, " +
+                         "s.approval_status, s.created_at, " + syncTs + " AS sync_ts, " +
+                         "l.world AS loc_world, l.x AS loc_x, l.y AS loc_y, l.z AS loc_z " +
+                         "FROM " + t("lore_entry") + " e " +
+                         "JOIN " + t("lore_submission") + " s ON e.id = s.entry_id " +
+                         "LEFT JOIN " + t("lore_location") + " l ON l.id = (SELECT MAX(id) FROM " + t("lore_location") +
+                         " WHERE entry_id = e.id AND location_type = 'PRIMARY') " +
+                         "WHERE s.is_current_version = TRUE" +
+                         (watermark != null ? " AND " + syncTs + " >= ?" : "");
+
+            try (Connection conn = dbConnection.getConnection()) {
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    if (watermark != null) {
+                        stmt.setTimestamp(1, watermark);
+                    }
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            LoreEntry entry = resultSetToLoreEntry(rs, conn);
+                            applyStoredLocation(entry, rs);
+                            changed.add(entry);
+                            Timestamp changedAt = rs.getTimestamp("sync_ts");
+                            if (changedAt != null && (newest == null || changedAt.after(newest))) {
+                                newest = changedAt;
+                            }
+                        }
+                    }
+                }
+
+                try (PreparedStatement stmt = conn.prepareStatement("SELECT id FROM " + t("lore_entry"));
+                     ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        liveIds.add(rs.getString(1));
+                    }
+                }
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+
+            return new LoreEntryDelta(changed, liveIds, newest);
+        });
+    }
+
+    /**
+     * Use the primary location joined as {@code loc_*} columns, if the entry has one and
+     * its world is loaded.
+     */
+    private void applyStoredLocation(LoreEntry entry, ResultSet rs) throws SQLException {
+        String worldName = rs.getString("loc_world");
+        if (worldName == null) {
+            return;
+        }
+        World world = Bukkit.getWorld(worldName);
+        if (world != null) {
+            entry.setLocation(new Location(world, rs.getDouble("loc_x"), rs.getDouble("loc_y"), rs.getDouble("loc_z")));
+        }
+    }
+
+    /**
+     * Get the identity of every stored entry for bulk duplicate detection.
+     *
+     * @return CompletableFuture with entry ID mapped to its {@code TYPE:lowercase name} key
+     *         (the lore_entry (name, entry_type) unique constraint)
+     */
+    @Override
+    public CompletableFuture<Map<String, String>> getEntryIdentities() {
+        return CompletableFuture.supplyAsync(() -> {
+            Map<String, String> identities = new HashMap<>();
+            String sql = "SELECT id, entry_type, name FROM " + t("lore_entry");
+
+            try (Connection conn = dbConnection.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(sql);
+                 ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    identities.put(rs.getString("id"), nameKey(rs.getString("entry_type"), rs.getString("name")));
+                }
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+            return identities;
+        });
+    }
+
+    /**
+     * Build the key used to detect (name, entry_type) collisions before insert.
+     */
+    public static String nameKey(String entryType, String name) {
+        return entryType + ":" + (name != null ? name.toLowerCase(Locale.ROOT) : "");
+    }
+
+    /**
+     * Insert many new entries in one transaction using multi-row INSERT statements.
+     * Each entry gets its lore_entry row, a version 1 submission and, for ITEM entries,
+     * a lore_item row. Callers are expected to have filtered duplicates; any constraint
+     * violation rolls back the whole batch.
+     *
+     * @param entries Validated entries with unique IDs and names
+     * @return CompletableFuture with the number of entries inserted (exceptionally on failure)
+     */
+    @Override
+    public CompletableFuture<Integer> insertLoreEntriesBatch(List<LoreEntry> entries) {
+        if (entries.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+        return dbConnection.executeWrite(conn -> {
+            for (int from = 0; from < entries.size(); from += ROWS_PER_STATEMENT) {
+                List<LoreEntry> rows = entries.subList(from, Math.min(entries.size(), from + ROWS_PER_STATEMENT));
+
+                executeMultiRowInsert(conn, "INSERT INTO " + t("lore_entry") + " (id, entry_type, name, content_version) VALUES ",
+                    "(?, ?, ?, 1)", rows, (stmt, index, entry) -> {
+                        stmt.setString(index, entry.getId());
+                        stmt.setString(index + 1, entry.getType().name());
+                        stmt.setString(index + 2, entry.getName());
+                        return 3;
+                    });
+
+                executeMultiRowInsert(conn, "INSERT INTO " + t("lore_submission") +
+                        " (entry_id, submitter_uuid, content, slug, content_version, is_current_version, approval_status, updated_at) VALUES ",
+                    "(?, ?, ?, ?, 1, TRUE, ?, CURRENT_TIMESTAMP)", rows, (stmt, index, entry) -> {
+                        stmt.setString(index, entry.getId());
+                        stmt.setString(index + 1, resolveSubmitter(entry));
+                        stmt.setString(index + 2, buildSubmissionContent(entry));
+                        stmt.setString(index + 3, buildSubmissionSlug(entry.getName(), entry.getId(), 1));
+                        stmt.setString(index + 4, approvalStatus(entry));
+                        return 5;
+                    });
+
+                List<LoreEntry> items = rows.stream().filter(e -> e.getType() == LoreType.ITEM).toList();
+                executeMultiRowInsert(conn, "INSERT INTO " + t("lore_item") +
+                        " (lore_entry_id, name, material, item_type, rarity, is_obtainable, nbt_data) VALUES ",
+                    "(?, ?, ?, ?, ?, ?, ?)", items, (stmt, index, entry) -> {
+                        stmt.setString(index, entry.getId());
+                        stmt.setString(index + 1, entry.getName());
+                        stmt.setString(index + 2, entry.getMetadata("material"));
+                        stmt.setString(index + 3, entry.getMetadata("item_type") != null ? entry.getMetadata("item_type") : "STANDARD");
+                        stmt.setString(index + 4, entry.getMetadata("rarity") != null ? entry.getMetadata("rarity") : "COMMON");
+                        stmt.setBoolean(index + 5, entry.getMetadata("is_obtainable") == null || Boolean.parseBoolean(entry.getMetadata("is_obtainable")));
+                        stmt.setString(index + 6, entry.getNbtData());
+                        return 7;
+                    });
+            }
+            return entries.size();
+        });
+    }
+
     /**
      * Get lore entries by type
      *
@@ -393,10 +561,11 @@ public class LoreEntryRepository implements ILoreEntryRepository {
     }
 
     /**
-     * Get all submissions for a lore entry
+     * Get all submissions for a lore entry, with the content of superseded versions rebuilt
+     * from their stored deltas
      *
      * @param entryId The ID of the lore entry
-     * @return CompletableFuture that completes with a list of submission metadata
+     * @return CompletableFuture that completes with a list of submission metadata and content
      */
     @Override
     public CompletableFuture<List<Map<String, Object>>> getLoreSubmissions(String entryId) {
@@ -404,7 +573,7 @@ public class LoreEntryRepository implements ILoreEntryRepository {
             List<Map<String, Object>> submissions = new ArrayList<>();
 
             String sql = "SELECT id, content_version, submitter_uuid, created_at, " +
-                         "approval_status, is_current_version " +
+                         "approval_status, is_current_version, content_encoding, delta_base_version, content " +
                          "FROM " + t("lore_submission") + " " +
                          "WHERE entry_id = ? " +
                          "ORDER BY content_version DESC";
@@ -414,8 +583,10 @@ public class LoreEntryRepository implements ILoreEntryRepository {
 
                 stmt.setString(1, entryId);
 
+                List<SubmissionDelta.StoredVersion> stored = new ArrayList<>();
                 try (ResultSet rs = stmt.executeQuery()) {
                     while (rs.next()) {
+                        stored.add(SubmissionVersionStore.readVersion(rs));
                         Map<String, Object> submission = new HashMap<>();
                         submission.put("id", rs.getInt("id"));
                         submission.put("version", rs.getInt("content_version"));
@@ -427,6 +598,11 @@ public class LoreEntryRepository implements ILoreEntryRepository {
                         submissions.add(submission);
                     }
                 }
+
+                Map<Integer, String> contents = SubmissionDelta.reconstruct(stored);
+                for (Map<String, Object> submission : submissions) {
+                    submission.put("content", contents.get((Integer) submission.get("version")));
+                }
             } catch (SQLException e) {
                 logger.error("Error retrieving lore submissions for entry: " + entryId, e);
             }
@@ -444,69 +620,44 @@ public class LoreEntryRepository implements ILoreEntryRepository {
      */
     @Override
     public CompletableFuture<Boolean> rejectLoreEntry(String entryId) {
-        return CompletableFuture.supplyAsync(() -> {
-            try (Connection conn = dbConnection.getConnection()) {
-                conn.setAutoCommit(false);
-                try {
-                    String sql = "UPDATE " + t("lore_submission") + " " +
-                                 "SET approval_status = 'REJECTED', approved_at = CURRENT_TIMESTAMP " +
-                                 "WHERE entry_id = ? AND is_current_version = TRUE";
-                    try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                        stmt.setString(1, entryId);
-                        int rowsAffected = stmt.executeUpdate();
-                        if (rowsAffected == 0) {
-                            throw new java.sql.SQLException("No current submission found for entry: " + entryId);
-                        }
-                        conn.commit();
-                        return true;
-                    }
-                } catch (java.sql.SQLException e) {
-                    conn.rollback();
-                    logger.error("Failed to reject lore entry: " + entryId, e);
-                    return false;
-                } finally {
-                    conn.setAutoCommit(true);
+        String sql = "UPDATE " + t("lore_submission") + " " +
+                     "SET approval_status = 'REJECTED', approved_at = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP " +
+                     "WHERE entry_id = ? AND is_current_version = TRUE";
+
+        return dbConnection.executeWrite(conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, entryId);
+                int rowsAffected = stmt.executeUpdate();
+                if (rowsAffected == 0) {
+                    throw new SQLException("No current submission found for entry: " + entryId);
                 }
-            } catch (java.sql.SQLException e) {
-                logger.error("Database connection error rejecting lore entry: " + entryId, e);
-                return false;
+                return true;
             }
+        }).exceptionally(e -> {
+            logger.error("Failed to reject lore entry: " + entryId, DatabaseConnection.unwrap(e));
+            return false;
         });
     }
 
     public CompletableFuture<Boolean> approveLoreEntry(String entryId, String approvedBy) {
-        return CompletableFuture.supplyAsync(() -> {
-            try (Connection conn = dbConnection.getConnection()) {
-                conn.setAutoCommit(false);
-
-                try {
-                    String sql = "UPDATE " + t("lore_submission") + " " +
-                                 "SET approval_status = 'APPROVED', approved_by = ?, approved_at = CURRENT_TIMESTAMP " +
-                                 "WHERE entry_id = ? AND is_current_version = TRUE";
-
-                    try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                        stmt.setString(1, approvedBy);
-                        stmt.setString(2, entryId);
-
-                        int rowsAffected = stmt.executeUpdate();
-                        if (rowsAffected == 0) {
-                            throw new SQLException("No current submission found for entry: " + entryId);
-                        }
-
-                        conn.commit();
-                        return true;
-                    }
-                } catch (SQLException e) {
-                    conn.rollback();
-                    logger.error("Failed to approve lore entry: " + entryId, e);
-                    return false;
-                } finally {
-                    conn.setAutoCommit(true);
+        String sql = "UPDATE " + t("lore_submission") + " " +
+                     "SET approval_status = 'APPROVED', approved_by = ?, approved_at = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP " +
+                     "WHERE entry_id = ? AND is_current_version = TRUE";
+
+        return dbConnection.executeWrite(conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, approvedBy);
+                stmt.setString(2, entryId);
+
+                int rowsAffected = stmt.executeUpdate();
+                if (rowsAffected == 0) {
+                    throw new SQLException("No current submission found for entry: " + entryId);
                 }
-            } catch (SQLException e) {
-                logger.error("Transaction error when approving lore entry: " + entryId, e);
-                return false;
+                return true;
             }
+        }).exceptionally(e -> {
+            logger.error("Failed to approve lore entry: " + entryId, DatabaseConnection.unwrap(e));
+            return false;
         });
     }
 
@@ -523,6 +674,44 @@ public class LoreEntryRepository implements ILoreEntryRepository {
 
     // ==================== Private Helper Methods ====================
 
+    /**
+     * Binds one row of a multi-row INSERT.
+     */
+    @FunctionalInterface
+    private interface RowBinder {
+        /**
+         * @param index First parameter index for this row
+         * @return Number of parameters bound
+         */
+        int bind(PreparedStatement stmt, int index, LoreEntry entry) throws SQLException;
+    }
+
+    /**
+     * Execute {@code INSERT ... VALUES (row), (row), ...} for all rows in a single statement.
+     */
+    private void executeMultiRowInsert(Connection conn, String insertPrefix, String rowPlaceholder,
+                                       List<LoreEntry> rows, RowBinder binder) throws SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        StringBuilder sql = new StringBuilder(insertPrefix.length() + rows.size() * (rowPlaceholder.length() + 2));
+        sql.append(insertPrefix);
+        for (int i = 0; i < rows.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(rowPlaceholder);
+        }
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+            int index = 1;
+            for (LoreEntry entry : rows) {
+                index += binder.bind(stmt, index, entry);
+            }
+            stmt.executeUpdate();
+        }
+    }
+
     /**
      * Insert a base lore entry record
      *
@@ -533,7 +722,7 @@ public class LoreEntryRepository implements ILoreEntryRepository {
      */
     private String insertLoreEntry(LoreEntry entry, Connection conn) throws SQLException {
         // Use provided UUID string as primary key
-        String sql = "INSERT INTO " + t("lore_entry") + " (id, entry_type, name) VALUES (?, ?, ?)";
+        String sql = "INSERT INTO " + t("lore_entry") + " (id, entry_type, name, content_version) VALUES (?, ?, ?, 1)";
         try (PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, entry.getId());
             stmt.setString(2, entry.getType().name());
@@ -576,27 +765,6 @@ public class LoreEntryRepository implements ILoreEntryRepository {
         }
     }
 
-    /**
-     * Get the next version number for a lore entry
-     *
-     * @param entryId The entry ID
-     * @param conn The database connection
-     * @return The next version number
-     * @throws SQLException If a database error occurs
-     */
-    private int getNextVersionNumber(String entryId, Connection conn) throws SQLException {
-        String sql = "SELECT MAX(content_version) FROM " + t("lore_submission") + " WHERE entry_id = ?";
-        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, entryId);
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getInt(1) + 1;
-                }
-            }
-        }
-        return 1; // Default to version 1 if no existing versions
-    }
-
     /**
      * Insert the initial submission record for a lore entry
      *
@@ -604,54 +772,78 @@ public class LoreEntryRepository implements ILoreEntryRepository {
      *
      * @param entryId The parent lore entry ID
      * @param entry The lore entry
+     * @param content The submission content built from the entry
      * @param conn The database connection
      * @param version The content version number
      * @return true if successful, false otherwise
      * @throws SQLException If a database error occurs
      */
-    @SuppressWarnings("unchecked")
-    private boolean insertLoreSubmission(String entryId, LoreEntry entry, Connection conn, int version) throws SQLException {
-        String sql = "INSERT INTO " + t("lore_submission") + " (entry_id, submitter_uuid, content, slug, content_version, is_current_version) VALUES (?, ?, ?, ?, ?, TRUE)";
+    private boolean insertLoreSubmission(String entryId, LoreEntry entry, String content, Connection conn, int version) throws SQLException {
+        String sql = "INSERT INTO " + t("lore_submission") + " (entry_id, submitter_uuid, content, slug, content_version, is_current_version, approval_status, updated_at) VALUES (?, ?, ?, ?, ?, TRUE, ?, CURRENT_TIMESTAMP)";
         try (PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, entryId);
-            // Defensive: use "Server" if submittedBy is null or empty
-            String submitter = entry.getSubmittedBy();
-            if (submitter == null || submitter.trim().isEmpty()) {
-                submitter = "Server";
-            }
-            stmt.setString(2, submitter);
-            // Build content JSON manually
-            JSONObject content = new JSONObject();
-            content.put("description", entry.getDescription());
-            content.put("nbt_data", entry.getNbtData());
-            // Include location if available
-            Location loc = entry.getLocation();
-            if (loc != null && loc.getWorld() != null) {
-                JSONObject locJson = new JSONObject();
-                locJson.put("world", loc.getWorld().getName());
-                locJson.put("x", loc.getX());
-                locJson.put("y", loc.getY());
-                locJson.put("z", loc.getZ());
-                content.put("location", locJson);
-            }
-            // Include metadata
-            Map<String, String> metadata = entry.getAllMetadata();
-            if (metadata != null) {
-                for (Map.Entry<String, String> meta : metadata.entrySet()) {
-                    content.put(meta.getKey(), meta.getValue());
-                }
-            }
-            stmt.setString(3, content.toJSONString());
-            // Generate and set versioned slug to avoid UNIQUE constraint violations.
-            // Append entry ID prefix to ensure uniqueness across entries with the same name
-            // (e.g. multiple death entries for the same player — bug-LO-01).
-            String slug = generateVersionedSlug(entry.getName(), version) + "-" + entryId.substring(0, Math.min(8, entryId.length()));
-            stmt.setString(4, slug);
+            stmt.setString(2, resolveSubmitter(entry));
+            stmt.setString(3, content);
+            stmt.setString(4, buildSubmissionSlug(entry.getName(), entryId, version));
             stmt.setInt(5, version);
+            stmt.setString(6, approvalStatus(entry));
             return stmt.executeUpdate() > 0;
         }
     }
 
+    /**
+     * Approval status written with a new submission version: entries approved on creation
+     * (or already approved when edited) must not re-enter the moderation queue.
+     */
+    private String approvalStatus(LoreEntry entry) {
+        return entry.isApproved() ? "APPROVED" : "PENDING";
+    }
+
+    /**
+     * Defensive: use "Server" if submittedBy is null or empty
+     */
+    private String resolveSubmitter(LoreEntry entry) {
+        String submitter = entry.getSubmittedBy();
+        return submitter == null || submitter.trim().isEmpty() ? "Server" : submitter;
+    }
+
+    /**
+     * Build the submission content JSON for an entry
+     */
+    @SuppressWarnings("unchecked")
+    private String buildSubmissionContent(LoreEntry entry) {
+        JSONObject content = new JSONObject();
+        content.put("description", entry.getDescription());
+        content.put("nbt_data", entry.getNbtData());
+        // Include location if available
+        Location loc = entry.getLocation();
+        if (loc != null && loc.getWorld() != null) {
+            JSONObject locJson = new JSONObject();
+            locJson.put("world", loc.getWorld().getName());
+            locJson.put("x", loc.getX());
+            locJson.put("y", loc.getY());
+            locJson.put("z", loc.getZ());
+            content.put("location", locJson);
+        }
+        // Include metadata
+        Map<String, String> metadata = entry.getAllMetadata();
+        if (metadata != null) {
+            for (Map.Entry<String, String> meta : metadata.entrySet()) {
+                content.put(meta.getKey(), meta.getValue());
+            }
+        }
+        return content.toJSONString();
+    }
+
+    /**
+     * Generate the versioned slug for a submission row.
+     * Appends the entry ID prefix to ensure uniqueness across entries with the same name
+     * (e.g. multiple death entries for the same player — bug-LO-01).
+     */
+    private String buildSubmissionSlug(String name, String entryId, int version) {
+        return generateVersionedSlug(name, version) + "-" + entryId.substring(0, Math.min(8, entryId.length()));
+    }
+
     /**
      * Generate a versioned URL-friendly slug from a name
      * FIXED bug-01: Slugs are now versioned to avoid UNIQUE constraint violations
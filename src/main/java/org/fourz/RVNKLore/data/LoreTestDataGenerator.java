@@ -115,55 +115,46 @@ public class LoreTestDataGenerator extends TestDataGenerator {
     public CompletableFuture<Integer> seed(DataCategory category) {
         return CompletableFuture.supplyAsync(() -> {
             logInfo("Seeding " + category.name() + " data...");
-            int totalRecords = 0;
+            int totalRecords;
 
             try {
-                Connection conn = getConnection();
-                conn.setAutoCommit(false);
-
-                try {
+                // One write on the writer: the seed commits or rolls back as a whole
+                totalRecords = dbConnection.executeWriteSync(conn -> {
+                    int records = 0;
                     // 1. Seed lore_entry (base entries)
                     int entryCount = seedLoreEntries(conn, category.getBaseCount());
-                    totalRecords += entryCount;
+                    records += entryCount;
 
                     // 2. Seed lore_submission (content for entries)
-                    totalRecords += seedLoreSubmissions(conn, entryCount);
+                    records += seedLoreSubmissions(conn, entryCount);
 
                     // 3. Seed lore_item (items linked to entries)
-                    totalRecords += seedLoreItems(conn, entryCount);
+                    records += seedLoreItems(conn, entryCount);
 
                     // 4. Seed collections
-                    totalRecords += seedCollections(conn);
+                    records += seedCollections(conn);
 
                     // 5. Seed collection_item (M2M) - use actual auto-increment IDs
                     int[] collectionIds = getGeneratedIds(conn, table("collection"),
                         "id", "collection_id LIKE 'test_collection_%'");
                     int[] itemIds = getGeneratedIds(conn, table("lore_item"),
                         "id", "name LIKE 'Test Item%'");
-                    totalRecords += seedCollectionItems(conn, collectionIds, itemIds);
+                    records += seedCollectionItems(conn, collectionIds, itemIds);
 
                     // 6. Seed player_collection_progress
-                    totalRecords += seedPlayerCollectionProgress(conn, category.getBaseCount());
+                    records += seedPlayerCollectionProgress(conn, category.getBaseCount());
 
                     // 7. Seed collection_reward
-                    totalRecords += seedCollectionRewards(conn);
+                    records += seedCollectionRewards(conn);
 
                     // 8. Seed lore_metadata (references lore_entry UUIDs)
-                    totalRecords += seedLoreMetadata(conn, category.getBaseCount());
-
-                    conn.commit();
-                    logInfo("Seed complete: " + totalRecords + " total records");
-
-                } catch (SQLException e) {
-                    conn.rollback();
-                    logSevere("Seed failed, rolling back: " + e.getMessage());
-                    throw e;
-                } finally {
-                    conn.setAutoCommit(true);
-                }
+                    records += seedLoreMetadata(conn, category.getBaseCount());
 
-            } catch (SQLException e) {
-                logSevere("Failed to seed data: " + e.getMessage());
+                    logInfo("Seed complete: " + records + " total records");
+                    return records;
+                });
+            } catch (SQLException | RuntimeException e) {
+                logSevere("Seed failed, rolled back: " + e.getMessage());
                 return 0;
             }
 
@@ -175,11 +166,11 @@ public class LoreTestDataGenerator extends TestDataGenerator {
         String sql;
         if (isMySQL()) {
             sql = "INSERT INTO " + table("lore_entry") +
-                " (id, entry_type, name) VALUES (?, ?, ?) " +
+                " (id, entry_type, name, content_version) VALUES (?, ?, ?, 1) " +
                 "ON DUPLICATE KEY UPDATE entry_type = VALUES(entry_type)";
         } else {
             sql = "INSERT OR REPLACE INTO " + table("lore_entry") +
-                " (id, entry_type, name) VALUES (?, ?, ?)";
+                " (id, entry_type, name, content_version) VALUES (?, ?, ?, 1)";
         }
 
         int inserted = 0;
@@ -543,10 +534,7 @@ public class LoreTestDataGenerator extends TestDataGenerator {
             logInfo("Cleaning up all test data...");
 
             try {
-                Connection conn = getConnection();
-                conn.setAutoCommit(false);
-
-                try {
+                dbConnection.executeWriteSync(conn -> {
                     // Disable FK checks for cleanup
                     try (PreparedStatement stmt = conn.prepareStatement(disableForeignKeyChecks())) {
                         stmt.execute();
@@ -582,20 +570,12 @@ public class LoreTestDataGenerator extends TestDataGenerator {
                         stmt.execute();
                     }
 
-                    conn.commit();
-                    logInfo("Cleanup complete");
-                    return true;
-
-                } catch (SQLException e) {
-                    conn.rollback();
-                    logSevere("Cleanup failed: " + e.getMessage());
-                    return false;
-                } finally {
-                    conn.setAutoCommit(true);
-                }
-
-            } catch (SQLException e) {
-                logSevere("Failed to cleanup: " + e.getMessage());
+                    return null;
+                });
+                logInfo("Cleanup complete");
+                return true;
+            } catch (SQLException | RuntimeException e) {
+                logSevere("Cleanup failed: " + e.getMessage());
                 return false;
             }
         }, executor);
@@ -605,19 +585,17 @@ public class LoreTestDataGenerator extends TestDataGenerator {
     public CompletableFuture<Integer> cleanupByPlayer(UUID playerUuid) {
         return CompletableFuture.supplyAsync(() -> {
             logInfo("Cleaning up data for player: " + playerUuid);
-            int totalDeleted = 0;
+            int totalDeleted;
 
             try {
-                Connection conn = getConnection();
-                conn.setAutoCommit(false);
-
-                try {
+                totalDeleted = dbConnection.executeWriteSync(conn -> {
+                    int deleted = 0;
                     // Delete player collection progress
                     String progressSql = "DELETE FROM " + table("player_collection_progress") +
                         " WHERE player_id = ?";
                     try (PreparedStatement stmt = conn.prepareStatement(progressSql)) {
                         stmt.setString(1, playerUuid.toString());
-                        totalDeleted += stmt.executeUpdate();
+                        deleted += stmt.executeUpdate();
                     }
 
                     // Delete submissions by this player
@@ -625,7 +603,7 @@ public class LoreTestDataGenerator extends TestDataGenerator {
                         " WHERE submitter_uuid = ?";
                     try (PreparedStatement stmt = conn.prepareStatement(submissionSql)) {
                         stmt.setString(1, playerUuid.toString());
-                        totalDeleted += stmt.executeUpdate();
+                        deleted += stmt.executeUpdate();
                     }
 
                     // Delete lore_entry records by this player (via submission)
@@ -634,22 +612,14 @@ public class LoreTestDataGenerator extends TestDataGenerator {
                         " WHERE submitter_uuid = ?)";
                     try (PreparedStatement stmt = conn.prepareStatement(entrySql)) {
                         stmt.setString(1, playerUuid.toString());
-                        totalDeleted += stmt.executeUpdate();
+                        deleted += stmt.executeUpdate();
                     }
 
-                    conn.commit();
-                    logInfo("Player cleanup complete: " + totalDeleted + " records");
-
-                } catch (SQLException e) {
-                    conn.rollback();
-                    logSevere("Player cleanup failed: " + e.getMessage());
-                    return 0;
-                } finally {
-                    conn.setAutoCommit(true);
-                }
-
-            } catch (SQLException e) {
-                logSevere("Failed to cleanup player data: " + e.getMessage());
+                    return deleted;
+                });
+                logInfo("Player cleanup complete: " + totalDeleted + " records");
+            } catch (SQLException | RuntimeException e) {
+                logSevere("Player cleanup failed: " + e.getMessage());
                 return 0;
             }
 
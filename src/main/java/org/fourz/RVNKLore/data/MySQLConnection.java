@@ -86,6 +86,10 @@ public class MySQLConnection extends DatabaseConnection {
         }
     }
 
+    /**
+     * Check writability via the server's {@code read_only} flag, falling back to
+     * the JDBC connection flag if the variable cannot be read.
+     */
     @Override
     public boolean isReadOnly() {
         if (rvnkProvider == null || !rvnkProvider.isValid()) {
@@ -93,6 +97,14 @@ public class MySQLConnection extends DatabaseConnection {
         }
 
         try (Connection conn = rvnkProvider.getConnection()) {
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT @@global.read_only")) {
+                if (rs.next() && rs.getInt(1) != 0) {
+                    return true;
+                }
+            } catch (SQLException e) {
+                logger.debug("Could not read @@global.read_only: " + e.getMessage());
+            }
             return conn.isReadOnly();
         } catch (SQLException e) {
             logger.error("Error checking if database is read-only", e);
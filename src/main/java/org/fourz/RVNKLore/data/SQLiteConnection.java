@@ -8,19 +8,53 @@ import org.fourz.RVNKLore.data.dialect.SQLDialect;
 
 import java.io.File;
 import java.sql.*;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * SQLite implementation of database connection using RVNKCore's ConnectionProvider.
  *
  * <p>Uses the SQLiteDialect for database-specific SQL generation.
  * RVNKCore manages connection pooling and lifecycle.
+ *
+ * <p>Connection-scoped PRAGMAs (foreign keys, synchronous, cache and mmap sizes,
+ * temp store, busy timeout) are applied to every pooled connection the first time
+ * it is borrowed. When {@code storage.sqlite.optimizations.singleWriter} is enabled,
+ * writes submitted through {@link #executeWrite} are serialized through a
+ * {@link SQLiteWriteQueue} while reads stay concurrent.
  */
 public class SQLiteConnection extends DatabaseConnection {
     private final SQLiteSettingsDTO settings;
+    private final boolean useWAL;
+    private final boolean normalSync;
+    private final int cacheSizeKb;
+    private final long mmapSizeMb;
+    private final boolean tempStoreMemory;
+    private final int busyTimeoutMs;
+    private final boolean singleWriter;
+    private final int writerBatchSize;
+    private final long writerBatchWindowMs;
+    // Physical connections that already have the connection-scoped PRAGMAs applied
+    private final Set<Connection> preparedConnections =
+        Collections.newSetFromMap(Collections.synchronizedMap(new WeakHashMap<>()));
+    private SQLiteWriteQueue writeQueue;
 
     public SQLiteConnection(RVNKLore plugin, SQLDialect dialect, SQLiteSettingsDTO settings) {
         super(plugin, dialect);
         this.settings = settings;
+
+        String prefix = "storage.sqlite.optimizations.";
+        this.useWAL = plugin.getConfig().getBoolean(prefix + "useWAL", true);
+        this.normalSync = plugin.getConfig().getBoolean(prefix + "normalSync", true);
+        this.cacheSizeKb = plugin.getConfig().getInt(prefix + "cacheSizeKb", 16384);
+        this.mmapSizeMb = plugin.getConfig().getLong(prefix + "mmapSizeMb", 64);
+        this.tempStoreMemory = plugin.getConfig().getBoolean(prefix + "tempStoreMemory", true);
+        this.busyTimeoutMs = plugin.getConfig().getInt(prefix + "busyTimeoutMs", 5000);
+        this.singleWriter = plugin.getConfig().getBoolean(prefix + "singleWriter", true);
+        this.writerBatchSize = plugin.getConfig().getInt(prefix + "writerBatchSize", 64);
+        this.writerBatchWindowMs = plugin.getConfig().getLong(prefix + "writerBatchWindowMs", 5);
     }
 
     @Override
@@ -34,27 +68,90 @@ public class SQLiteConnection extends DatabaseConnection {
         }
 
         // DatabaseConfig.sqlite() resolves the filename relative to plugin.getDataFolder()
-        String filename = new File(settings.getFilePath()).getName();
+        String filename = getDatabaseFile().getName();
         DatabaseConfig config = DatabaseConfig.sqlite(filename);
 
         rvnkProvider = new ConnectionProviderFactory(plugin).createConnectionProvider(config);
+        preparedConnections.clear();
 
-        // Apply SQLite PRAGMAs after pool is established
-        boolean useWAL = plugin.getConfig().getBoolean("storage.sqlite.optimizations.useWAL", true);
-        boolean normalSync = plugin.getConfig().getBoolean("storage.sqlite.optimizations.normalSync", true);
-
-        try (Connection conn = rvnkProvider.getConnection();
+        // journal_mode is persistent in the database file, so one connection is enough;
+        // the connection-scoped PRAGMAs are applied by prepareConnection() on every borrow
+        try (Connection conn = getConnection();
              Statement stmt = conn.createStatement()) {
-            stmt.execute("PRAGMA foreign_keys = ON");
             if (useWAL) {
                 stmt.execute("PRAGMA journal_mode = WAL");
             }
+        }
+
+        stopWriteQueue();
+        if (singleWriter) {
+            writeQueue = new SQLiteWriteQueue(plugin, this, writerBatchSize, writerBatchWindowMs);
+            writeQueue.start();
+        }
+
+        logger.debug("Connected to SQLite database via RVNKCore (" + filename + ")");
+    }
+
+    @Override
+    protected Connection prepareConnection(Connection conn) throws SQLException {
+        Connection physical = conn.isWrapperFor(Connection.class) ? conn.unwrap(Connection.class) : conn;
+        if (preparedConnections.contains(physical)) {
+            return conn;
+        }
+
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("PRAGMA foreign_keys = ON");
+            stmt.execute("PRAGMA busy_timeout = " + busyTimeoutMs);
             if (normalSync) {
                 stmt.execute("PRAGMA synchronous = NORMAL");
             }
+            // Negative cache_size is interpreted by SQLite as KiB rather than pages
+            stmt.execute("PRAGMA cache_size = " + (-Math.abs(cacheSizeKb)));
+            stmt.execute("PRAGMA mmap_size = " + (mmapSizeMb * 1024L * 1024L));
+            if (tempStoreMemory) {
+                stmt.execute("PRAGMA temp_store = MEMORY");
+            }
         }
+        preparedConnections.add(physical);
+        return conn;
+    }
 
-        logger.debug("Connected to SQLite database via RVNKCore (" + filename + ")");
+    @Override
+    public <T> CompletableFuture<T> executeWrite(WriteOperation<T> operation) {
+        SQLiteWriteQueue queue = writeQueue;
+        if (queue == null) {
+            return super.executeWrite(operation);
+        }
+        return queue.submit(operation);
+    }
+
+    @Override
+    public void close() {
+        stopWriteQueue();
+        super.close();
+    }
+
+    @Override
+    public boolean reconnect() {
+        stopWriteQueue();
+        return super.reconnect();
+    }
+
+    /**
+     * Get the number of writes queued for the single writer thread.
+     *
+     * @return Pending write count, or 0 if single-writer mode is disabled
+     */
+    public int getPendingWriteCount() {
+        SQLiteWriteQueue queue = writeQueue;
+        return queue != null ? queue.getPendingCount() : 0;
+    }
+
+    private void stopWriteQueue() {
+        if (writeQueue != null) {
+            writeQueue.shutdown(5000);
+            writeQueue = null;
+        }
     }
 
     @Override
@@ -89,25 +186,43 @@ public class SQLiteConnection extends DatabaseConnection {
         }
     }
 
+    /**
+     * Check writability without writing: the database file and its directory must be
+     * writable (WAL needs to create the -wal/-shm files), and neither the connection
+     * nor {@code PRAGMA query_only} may be read-only.
+     */
     @Override
     public boolean isReadOnly() {
         if (rvnkProvider == null || !rvnkProvider.isValid()) {
             return true;
         }
 
-        try (Connection conn = rvnkProvider.getConnection();
-             Statement stmt = conn.createStatement()) {
-            // Check if we can write to the database
-            stmt.execute("CREATE TABLE IF NOT EXISTS rw_test (id INTEGER)");
-            stmt.execute("INSERT INTO rw_test VALUES (1)");
-            stmt.execute("DELETE FROM rw_test WHERE id = 1");
-            return false;
-        } catch (SQLException e) {
+        File dbFile = getDatabaseFile();
+        File dbDir = dbFile.getAbsoluteFile().getParentFile();
+        if ((dbFile.exists() && !dbFile.canWrite()) || (dbDir != null && !dbDir.canWrite())) {
+            logger.debug("SQLite database file is not writable: " + dbFile.getAbsolutePath());
+            return true;
+        }
+
+        try (Connection conn = getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("PRAGMA query_only")) {
+            boolean queryOnly = rs.next() && rs.getInt(1) != 0;
+            return queryOnly || conn.isReadOnly();
+        } catch (SQLException | IllegalStateException e) {
             logger.debug("Database appears to be read-only: " + e.getMessage());
             return true;
         }
     }
 
+    /**
+     * Resolve the database file the same way DatabaseConfig.sqlite() does
+     * (relative to the plugin data folder).
+     */
+    private File getDatabaseFile() {
+        return new File(plugin.getDataFolder(), new File(settings.getFilePath()).getName());
+    }
+
     @Override
     public String getDatabaseType() {
         return "sqlite";
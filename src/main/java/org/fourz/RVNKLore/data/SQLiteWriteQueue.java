@@ -0,0 +1,213 @@
+package org.fourz.RVNKLore.data;
+
+import org.fourz.RVNKLore.RVNKLore;
+import org.fourz.rvnkcore.util.log.LogManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-writer queue for SQLite.
+ *
+ * <p>SQLite allows only one writer at a time, so concurrent async writers end up
+ * racing for the database lock and failing with {@code SQLITE_BUSY}. This queue
+ * funnels every write through one dedicated thread. Operations that arrive within
+ * a short window are grouped into a single transaction, each isolated by its own
+ * savepoint so that one failing operation does not roll back its neighbours.
+ *
+ * <p>Reads are unaffected and continue to use pooled connections concurrently.
+ *
+ * <p>An operation that submits another write and waits for it would wait on its own
+ * thread forever, so writes submitted from the writer thread run immediately inside
+ * the current batch's transaction instead of being queued.
+ */
+public class SQLiteWriteQueue {
+    private final DatabaseConnection dbConnection;
+    private final LogManager logger;
+    private final BlockingQueue<PendingWrite<?>> queue = new LinkedBlockingQueue<>();
+    private final int maxBatchSize;
+    private final long batchWindowNanos;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+    /** Connection of the batch being written; only touched by the writer thread */
+    private Connection batchConnection;
+
+    public SQLiteWriteQueue(RVNKLore plugin, DatabaseConnection dbConnection, int maxBatchSize, long batchWindowMs) {
+        this.dbConnection = dbConnection;
+        this.logger = LogManager.getInstance(plugin, "SQLiteWriteQueue");
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.batchWindowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, batchWindowMs));
+        this.writerThread = new Thread(this::runWriter, "RVNKLore-SQLiteWriter");
+        this.writerThread.setDaemon(true);
+    }
+
+    /**
+     * Start the writer thread.
+     */
+    public void start() {
+        writerThread.start();
+        logger.debug("SQLite writer started (batch size: " + maxBatchSize + ")");
+    }
+
+    /**
+     * Queue a write operation for the writer thread.
+     *
+     * @param operation The operation to run inside the writer's transaction
+     * @return Future completed after the containing transaction commits
+     */
+    public <T> CompletableFuture<T> submit(DatabaseConnection.WriteOperation<T> operation) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        if (Thread.currentThread() == writerThread && batchConnection != null) {
+            // Nested write: completes before the batch commits, and rolls back with it
+            try {
+                new PendingWrite<>(operation, future).executeIn(batchConnection).run();
+            } catch (SQLException e) {
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+        if (!running) {
+            future.completeExceptionally(new DatabaseUnavailableException("SQLite writer is shut down"));
+            return future;
+        }
+        queue.add(new PendingWrite<>(operation, future));
+        return future;
+    }
+
+    /**
+     * Get the number of writes waiting for the writer thread.
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * Stop accepting writes, drain what is already queued and stop the writer thread.
+     *
+     * @param timeoutMs Maximum time to wait for the queue to drain
+     */
+    public void shutdown(long timeoutMs) {
+        running = false;
+        try {
+            writerThread.join(timeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        PendingWrite<?> leftover;
+        int dropped = 0;
+        while ((leftover = queue.poll()) != null) {
+            leftover.future.completeExceptionally(new DatabaseUnavailableException("SQLite writer shut down before write ran"));
+            dropped++;
+        }
+        if (dropped > 0) {
+            logger.warning("SQLite writer shut down with " + dropped + " pending writes");
+        }
+    }
+
+    private void runWriter() {
+        List<PendingWrite<?>> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite<?> first = queue.poll(250, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // Group whatever arrives within the batch window into the same transaction
+                long deadline = System.nanoTime() + batchWindowNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingWrite<?> next = remaining > 0
+                        ? queue.poll(remaining, TimeUnit.NANOSECONDS)
+                        : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                executeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                logger.error("Unexpected error in SQLite writer", e);
+                for (PendingWrite<?> pending : batch) {
+                    pending.future.completeExceptionally(e);
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+        logger.debug("SQLite writer stopped");
+    }
+
+    private void executeBatch(List<PendingWrite<?>> batch) {
+        List<Runnable> completions = new ArrayList<>(batch.size());
+
+        try (Connection conn = dbConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            batchConnection = conn;
+            try {
+                for (PendingWrite<?> pending : batch) {
+                    completions.add(pending.executeIn(conn));
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                batchConnection = null;
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException | RuntimeException e) {
+            logger.warning("SQLite write batch of " + batch.size() + " failed: " + e.getMessage());
+            for (PendingWrite<?> pending : batch) {
+                pending.future.completeExceptionally(e);
+            }
+            return;
+        }
+
+        // Complete off the writer thread so dependent callbacks never stall (or re-enter) the writer
+        CompletableFuture.runAsync(() -> completions.forEach(Runnable::run));
+    }
+
+    /**
+     * A queued write and the future its caller is waiting on.
+     */
+    private static final class PendingWrite<T> {
+        private final DatabaseConnection.WriteOperation<T> operation;
+        private final CompletableFuture<T> future;
+
+        private PendingWrite(DatabaseConnection.WriteOperation<T> operation, CompletableFuture<T> future) {
+            this.operation = operation;
+            this.future = future;
+        }
+
+        /**
+         * Run the operation inside its own savepoint.
+         *
+         * @return Completion action to run once the surrounding transaction has committed
+         */
+        private Runnable executeIn(Connection conn) throws SQLException {
+            Savepoint savepoint = conn.setSavepoint();
+            try {
+                T result = operation.execute(conn);
+                conn.releaseSavepoint(savepoint);
+                return () -> future.complete(result);
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback(savepoint);
+                return () -> future.completeExceptionally(e);
+            }
+        }
+    }
+}
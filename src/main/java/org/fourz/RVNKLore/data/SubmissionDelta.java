@@ -0,0 +1,204 @@
+package org.fourz.RVNKLore.data;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Encodes the content of superseded lore_submission versions.
+ *
+ * <p>The current version of an entry is always stored in full, so reads that join on
+ * {@code is_current_version} never decode anything. When a version is superseded it is
+ * rewritten either as a reverse delta against the version that replaced it, or as a
+ * compressed snapshot every {@code snapshotInterval} versions so that rebuilding an old
+ * version never walks more than one interval of deltas.
+ *
+ * <p>A delta keeps the common prefix and suffix of the two texts and stores only the
+ * changed region between them, which covers the usual edit of a description or metadata
+ * value. Deltas and snapshots are deflated and Base64 encoded to fit the TEXT column.
+ */
+public final class SubmissionDelta {
+    /** Plain content, as written for the current version */
+    public static final String FULL = "FULL";
+    /** Compressed full content */
+    public static final String SNAPSHOT = "SNAPSHOT";
+    /** Compressed delta against the version named by delta_base_version */
+    public static final String DELTA = "DELTA";
+
+    /**
+     * A stored submission version as read from lore_submission.
+     *
+     * @param baseVersion Version the delta applies to, or null unless encoding is DELTA
+     */
+    public record StoredVersion(int version, String encoding, Integer baseVersion, String content) {
+    }
+
+    /**
+     * A superseded version ready to be written back.
+     */
+    public record Encoded(String encoding, Integer baseVersion, String content) {
+    }
+
+    private SubmissionDelta() {
+    }
+
+    /**
+     * Encode a version that is being superseded.
+     *
+     * @param content      The superseded version's full content
+     * @param version      The superseded version number
+     * @param newer        Full content of the version replacing it
+     * @param newerVersion The replacing version number
+     * @param snapshotInterval Versions between snapshots (1 or less stores every version as a snapshot)
+     */
+    public static Encoded encode(String content, int version, String newer, int newerVersion, int snapshotInterval) {
+        String snapshot = compress(content);
+        if (snapshotInterval <= 1 || version % snapshotInterval == 0 || newer == null) {
+            return new Encoded(SNAPSHOT, null, snapshot);
+        }
+        String delta = compress(diff(newer, content));
+        if (delta.length() >= snapshot.length()) {
+            return new Encoded(SNAPSHOT, null, snapshot);
+        }
+        return new Encoded(DELTA, newerVersion, delta);
+    }
+
+    /**
+     * Rebuild the full content of every version of one entry.
+     *
+     * @return Content by version; versions that are corrupt or whose delta chain is broken
+     *         map to null
+     */
+    public static Map<Integer, String> reconstruct(List<StoredVersion> versions) {
+        Map<Integer, StoredVersion> byVersion = new HashMap<>();
+        for (StoredVersion stored : versions) {
+            byVersion.put(stored.version(), stored);
+        }
+        Map<Integer, String> resolved = new HashMap<>();
+        for (StoredVersion stored : versions) {
+            resolve(stored, byVersion, resolved, 0);
+        }
+        return resolved;
+    }
+
+    /**
+     * Decode a version that does not depend on any other version.
+     *
+     * @return The content, or null if the version is a delta
+     */
+    public static String decodeStandalone(String encoding, String content) {
+        if (encoding == null || FULL.equals(encoding)) {
+            return content;
+        }
+        return SNAPSHOT.equals(encoding) ? decompress(content) : null;
+    }
+
+    private static String resolve(StoredVersion stored, Map<Integer, StoredVersion> byVersion,
+                                  Map<Integer, String> resolved, int depth) {
+        if (resolved.containsKey(stored.version())) {
+            return resolved.get(stored.version());
+        }
+        String content;
+        try {
+            if (!DELTA.equals(stored.encoding())) {
+                content = decodeStandalone(stored.encoding(), stored.content());
+            } else {
+                StoredVersion base = stored.baseVersion() != null ? byVersion.get(stored.baseVersion()) : null;
+                String baseContent = base != null && depth < byVersion.size()
+                    ? resolve(base, byVersion, resolved, depth + 1)
+                    : null;
+                content = baseContent != null ? patch(baseContent, decompress(stored.content())) : null;
+            }
+        } catch (IllegalArgumentException e) {
+            content = null;
+        }
+        resolved.put(stored.version(), content);
+        return content;
+    }
+
+    /**
+     * Describe {@code target} as an edit of {@code base}: the length of the shared prefix, the
+     * length of the shared suffix and the text between them.
+     */
+    static String diff(String base, String target) {
+        int max = Math.min(base.length(), target.length());
+        int prefix = 0;
+        while (prefix < max && base.charAt(prefix) == target.charAt(prefix)) {
+            prefix++;
+        }
+        if (prefix > 0 && Character.isHighSurrogate(target.charAt(prefix - 1))) {
+            prefix--;
+        }
+        int suffix = 0;
+        while (suffix < max - prefix
+                && base.charAt(base.length() - 1 - suffix) == target.charAt(target.length() - 1 - suffix)) {
+            suffix++;
+        }
+        if (suffix > 0 && Character.isLowSurrogate(target.charAt(target.length() - suffix))) {
+            suffix--;
+        }
+        return prefix + ":" + suffix + ":" + target.substring(prefix, target.length() - suffix);
+    }
+
+    /**
+     * Apply a delta produced by {@link #diff} to its base.
+     *
+     * @throws IllegalArgumentException If the delta is malformed or does not fit the base
+     */
+    static String patch(String base, String delta) {
+        int first = delta.indexOf(':');
+        int second = first < 0 ? -1 : delta.indexOf(':', first + 1);
+        if (second < 0) {
+            throw new IllegalArgumentException("Malformed submission delta");
+        }
+        int prefix = Integer.parseInt(delta.substring(0, first));
+        int suffix = Integer.parseInt(delta.substring(first + 1, second));
+        if (prefix + suffix > base.length()) {
+            throw new IllegalArgumentException("Submission delta does not match its base version");
+        }
+        return base.substring(0, prefix) + delta.substring(second + 1) + base.substring(base.length() - suffix);
+    }
+
+    static String compress(String text) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(text.getBytes(StandardCharsets.UTF_8));
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return Base64.getEncoder().encodeToString(out.toByteArray());
+        } finally {
+            deflater.end();
+        }
+    }
+
+    static String decompress(String encoded) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(Base64.getDecoder().decode(encoded));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(buffer);
+                if (read == 0 && !inflater.finished() && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("Truncated submission content");
+                }
+                out.write(buffer, 0, read);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupt submission content", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
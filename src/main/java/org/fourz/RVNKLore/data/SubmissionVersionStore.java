@@ -0,0 +1,237 @@
+package org.fourz.RVNKLore.data;
+
+import org.fourz.RVNKLore.data.SubmissionDelta.Encoded;
+import org.fourz.RVNKLore.data.SubmissionDelta.StoredVersion;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Version bookkeeping for lore_submission rows, shared by every writer of submission versions.
+ *
+ * <p>Version numbers come from a counter on lore_entry that is incremented in the writer's
+ * transaction, so concurrent writers for the same entry are serialized on the entry row
+ * instead of racing on {@code MAX(content_version)}. Superseded versions are re-encoded with
+ * {@link SubmissionDelta}. Pending submissions of older versions are closed as
+ * {@link #SUPERSEDED} when a newer version becomes current, so they leave the moderation
+ * queue. Every method runs on the caller's connection and transaction.
+ */
+public class SubmissionVersionStore {
+    /** Config path of the number of versions between full snapshots */
+    public static final String SNAPSHOT_INTERVAL_PATH = "storage.submissions.snapshotInterval";
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 10;
+    /** Approval status of a pending submission overtaken by a newer current version */
+    public static final String SUPERSEDED = "SUPERSEDED";
+
+    private final DatabaseConnection db;
+    private final int snapshotInterval;
+
+    public SubmissionVersionStore(DatabaseConnection db, int snapshotInterval) {
+        this.db = db;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * Claim the next version number of an entry.
+     *
+     * @throws SQLException If the entry does not exist
+     */
+    public int claimNextVersion(Connection conn, String entryId) throws SQLException {
+        String update = "UPDATE " + db.table("lore_entry") + " SET content_version = content_version + 1 WHERE id = ?";
+        try (PreparedStatement stmt = conn.prepareStatement(update)) {
+            stmt.setString(1, entryId);
+            if (stmt.executeUpdate() == 0) {
+                throw new SQLException("Lore entry not found: " + entryId);
+            }
+        }
+        String select = "SELECT content_version FROM " + db.table("lore_entry") + " WHERE id = ?";
+        try (PreparedStatement stmt = conn.prepareStatement(select)) {
+            stmt.setString(1, entryId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getInt(1);
+                }
+            }
+        }
+        throw new SQLException("Lore entry not found: " + entryId);
+    }
+
+    /**
+     * Unmark the entry's current version and re-encode it against the version replacing it.
+     * The successor must already be stored in full (or be about to be inserted in full).
+     * Pending submissions older than the successor are closed as {@link #SUPERSEDED}.
+     *
+     * @param successorId       Row ID of the replacing version, or 0 if it is not inserted yet
+     * @param successorContent  Full content of the replacing version
+     * @param successorVersion  Version number of the replacing version
+     * @return Row IDs of the pending submissions that were superseded
+     */
+    public List<Integer> supersedeCurrent(Connection conn, String entryId, int successorId,
+                                          String successorContent, int successorVersion) throws SQLException {
+        String select = "SELECT id, content_version, content_encoding, delta_base_version, content FROM " +
+                        db.table("lore_submission") +
+                        " WHERE entry_id = ? AND is_current_version = TRUE AND id <> ?";
+        List<CurrentRow> current = new ArrayList<>();
+        try (PreparedStatement stmt = conn.prepareStatement(select)) {
+            stmt.setString(1, entryId);
+            stmt.setInt(2, successorId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    current.add(new CurrentRow(rs.getInt("id"), readVersion(rs)));
+                }
+            }
+        }
+
+        String update = "UPDATE " + db.table("lore_submission") + " SET is_current_version = FALSE, " +
+                        "content = ?, content_encoding = ?, delta_base_version = ? WHERE id = ?";
+        String unmark = "UPDATE " + db.table("lore_submission") + " SET is_current_version = FALSE WHERE id = ?";
+        for (CurrentRow row : current) {
+            StoredVersion stored = row.stored();
+            String content = stored.encoding() == null || SubmissionDelta.FULL.equals(stored.encoding())
+                ? stored.content()
+                : null;
+            if (content == null) {
+                // Nothing to encode: the row is empty or already encoded
+                try (PreparedStatement stmt = conn.prepareStatement(unmark)) {
+                    stmt.setInt(1, row.id());
+                    stmt.executeUpdate();
+                }
+                continue;
+            }
+            Encoded encoded = SubmissionDelta.encode(content, stored.version(), successorContent,
+                successorVersion, snapshotInterval);
+            try (PreparedStatement stmt = conn.prepareStatement(update)) {
+                stmt.setString(1, encoded.content());
+                stmt.setString(2, encoded.encoding());
+                if (encoded.baseVersion() != null) {
+                    stmt.setInt(3, encoded.baseVersion());
+                } else {
+                    stmt.setNull(3, Types.INTEGER);
+                }
+                stmt.setInt(4, row.id());
+                stmt.executeUpdate();
+            }
+        }
+        return supersedePending(conn, entryId, successorId, successorVersion);
+    }
+
+    private List<Integer> supersedePending(Connection conn, String entryId, int successorId,
+                                           int successorVersion) throws SQLException {
+        String select = "SELECT id FROM " + db.table("lore_submission") +
+                        " WHERE entry_id = ? AND approval_status = 'PENDING' AND content_version < ? AND id <> ?";
+        List<Integer> stale = new ArrayList<>();
+        try (PreparedStatement stmt = conn.prepareStatement(select)) {
+            stmt.setString(1, entryId);
+            stmt.setInt(2, successorVersion);
+            stmt.setInt(3, successorId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    stale.add(rs.getInt(1));
+                }
+            }
+        }
+
+        String update = "UPDATE " + db.table("lore_submission") + " SET approval_status = '" + SUPERSEDED +
+                        "', status = 'ARCHIVED', updated_at = CURRENT_TIMESTAMP WHERE id = ?";
+        try (PreparedStatement stmt = conn.prepareStatement(update)) {
+            for (int id : stale) {
+                stmt.setInt(1, id);
+                stmt.addBatch();
+            }
+            if (!stale.isEmpty()) {
+                stmt.executeBatch();
+            }
+        }
+        return stale;
+    }
+
+    private record CurrentRow(int id, StoredVersion stored) {
+    }
+
+    /**
+     * Make sure a submission row holds its full content, decoding it if it was superseded
+     * earlier. Used before a superseded version becomes current again.
+     *
+     * @return The full content, or null if the row does not exist
+     * @throws SQLException If the stored versions cannot rebuild the row's content
+     */
+    public String materialize(Connection conn, int submissionId) throws SQLException {
+        String entryId = null;
+        int version = 0;
+        String encoding = null;
+        String content = null;
+        String select = "SELECT entry_id, content_version, content_encoding, content FROM " +
+                        db.table("lore_submission") + " WHERE id = ?";
+        try (PreparedStatement stmt = conn.prepareStatement(select)) {
+            stmt.setInt(1, submissionId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    entryId = rs.getString("entry_id");
+                    version = rs.getInt("content_version");
+                    encoding = rs.getString("content_encoding");
+                    content = rs.getString("content");
+                }
+            }
+        }
+        if (entryId == null || encoding == null || SubmissionDelta.FULL.equals(encoding)) {
+            return content;
+        }
+
+        String full = SubmissionDelta.reconstruct(loadVersions(conn, entryId)).get(version);
+        if (full == null) {
+            throw new SQLException("Cannot rebuild content of submission " + submissionId);
+        }
+        String update = "UPDATE " + db.table("lore_submission") + " SET content = ?, content_encoding = '" +
+                        SubmissionDelta.FULL + "', delta_base_version = NULL WHERE id = ?";
+        try (PreparedStatement stmt = conn.prepareStatement(update)) {
+            stmt.setString(1, full);
+            stmt.setInt(2, submissionId);
+            stmt.executeUpdate();
+        }
+        return full;
+    }
+
+    /**
+     * Rebuild the full content of every version of an entry.
+     *
+     * @return Content by version number (null for versions that cannot be decoded)
+     */
+    public Map<Integer, String> loadHistory(Connection conn, String entryId) throws SQLException {
+        return SubmissionDelta.reconstruct(loadVersions(conn, entryId));
+    }
+
+    private List<StoredVersion> loadVersions(Connection conn, String entryId) throws SQLException {
+        List<StoredVersion> versions = new ArrayList<>();
+        String sql = "SELECT content_version, content_encoding, delta_base_version, content FROM " +
+                     db.table("lore_submission") + " WHERE entry_id = ?";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, entryId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    versions.add(readVersion(rs));
+                }
+            }
+        }
+        return versions;
+    }
+
+    /**
+     * Read the stored form of a version from a row that selected content_version,
+     * content_encoding, delta_base_version and content.
+     */
+    public static StoredVersion readVersion(ResultSet rs) throws SQLException {
+        int base = rs.getInt("delta_base_version");
+        Integer baseVersion = rs.wasNull() ? null : base;
+        return new StoredVersion(
+            rs.getInt("content_version"),
+            rs.getString("content_encoding"),
+            baseVersion,
+            rs.getString("content"));
+    }
+}
@@ -0,0 +1,82 @@
+package org.fourz.RVNKLore.data.backup;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Outcome of a single database backup run.
+ */
+public final class BackupResult {
+    private final boolean success;
+    private final File file;
+    private final Map<String, Long> tableRows;
+    private final boolean verified;
+    private final long durationMs;
+    private final String error;
+
+    private BackupResult(boolean success, File file, Map<String, Long> tableRows,
+                         boolean verified, long durationMs, String error) {
+        this.success = success;
+        this.file = file;
+        this.tableRows = Collections.unmodifiableMap(new LinkedHashMap<>(tableRows));
+        this.verified = verified;
+        this.durationMs = durationMs;
+        this.error = error;
+    }
+
+    public static BackupResult success(File file, Map<String, Long> tableRows, boolean verified, long durationMs) {
+        return new BackupResult(true, file, tableRows, verified, durationMs, null);
+    }
+
+    public static BackupResult failure(File file, String error, long durationMs) {
+        return new BackupResult(false, file, Collections.emptyMap(), false, durationMs, error);
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    /**
+     * @return The backup file (may not exist when the backup failed)
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * @return Rows written per table, in backup order
+     */
+    public Map<String, Long> getTableRows() {
+        return tableRows;
+    }
+
+    public long getTotalRows() {
+        return tableRows.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * @return True if the backup was re-read and checked after it was written
+     */
+    public boolean isVerified() {
+        return verified;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public String getSummary() {
+        if (!success) {
+            return "Backup failed: " + error;
+        }
+        return String.format("%s (%d tables, %d rows, %d KiB, %d ms%s)",
+            file.getName(), tableRows.size(), getTotalRows(), file.length() / 1024, durationMs,
+            verified ? ", verified" : "");
+    }
+}
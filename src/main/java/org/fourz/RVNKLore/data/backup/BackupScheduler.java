@@ -0,0 +1,72 @@
+package org.fourz.RVNKLore.data.backup;
+
+import org.fourz.RVNKLore.RVNKLore;
+import org.fourz.RVNKLore.data.DatabaseBackupService;
+import org.fourz.rvnkcore.util.log.LogManager;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs scheduled backups on a background thread.
+ *
+ * <p>The backup service is looked up on every run because DatabaseManager replaces it
+ * when the connection falls back or reconnects.
+ */
+public class BackupScheduler {
+    private final LogManager logger;
+    private final Supplier<DatabaseBackupService> serviceSupplier;
+    private final long intervalMinutes;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * @param plugin The RVNKLore plugin instance
+     * @param serviceSupplier Supplies the backup service for the active connection
+     */
+    public BackupScheduler(RVNKLore plugin, Supplier<DatabaseBackupService> serviceSupplier) {
+        this.logger = LogManager.getInstance(plugin, "BackupScheduler");
+        this.serviceSupplier = serviceSupplier;
+        this.intervalMinutes = Math.max(1, Math.round(plugin.getConfig().getDouble("storage.backup.intervalHours", 24) * 60));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "RVNKLore-Backup");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    /**
+     * Start scheduled backups. The first backup runs one interval after startup.
+     */
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::runSafely, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+        logger.info("Scheduled database backups every " + intervalMinutes + " minutes");
+    }
+
+    /**
+     * Stop scheduled backups. A backup already in progress is interrupted.
+     */
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void runSafely() {
+        try {
+            DatabaseBackupService service = serviceSupplier.get();
+            if (service == null) {
+                logger.warning("Skipping scheduled backup: no database connection");
+                return;
+            }
+            BackupResult result = service.createBackup();
+            if (result.isSuccess()) {
+                logger.info("Scheduled backup complete: " + result.getSummary());
+            } else {
+                logger.warning("Scheduled backup failed: " + result.getError());
+            }
+        } catch (Exception e) {
+            logger.error("Scheduled backup failed", e);
+        }
+    }
+}
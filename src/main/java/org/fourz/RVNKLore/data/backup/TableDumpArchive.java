@@ -0,0 +1,278 @@
+package org.fourz.RVNKLore.data.backup;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.util.*;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Logical table dump stored as a zip archive.
+ *
+ * <p>Each table becomes {@code tables/<name>.ndjson} with one JSON object per row,
+ * and {@code manifest.json} records the row count of every table. Rows are read
+ * in primary-key order one page at a time (keyset pagination: each page starts
+ * after the last key of the previous one), so neither the dump nor the server
+ * ever holds a whole table in memory. Tables without a primary key are streamed
+ * in a single query instead.
+ *
+ * <p>The SQL is written for MySQL (backtick quoting, row-constructor key comparison
+ * and Connector/J row streaming).
+ */
+public final class TableDumpArchive {
+    static final String MANIFEST = "manifest.json";
+    static final String TABLE_DIR = "tables/";
+    static final int FORMAT_VERSION = 1;
+
+    private TableDumpArchive() {
+    }
+
+    /**
+     * Dump tables to a zip archive.
+     *
+     * <p>The caller decides the transaction: for a consistent multi-table dump, open
+     * a snapshot transaction on {@code conn} first.
+     *
+     * @param conn The connection to read from
+     * @param tables Physical table names to dump (missing tables are skipped)
+     * @param target The archive file to write
+     * @param pageSize Rows per keyset page
+     * @param metadata Extra manifest properties (e.g. plugin version)
+     * @return Rows written per dumped table
+     */
+    public static Map<String, Long> write(Connection conn, List<String> tables, File target, int pageSize,
+                                          Map<String, String> metadata) throws SQLException, IOException {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        try (ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(target), 64 * 1024))) {
+            zip.setLevel(6);
+            for (String table : tables) {
+                if (!tableExists(conn, table)) {
+                    continue;
+                }
+                zip.putNextEntry(new ZipEntry(TABLE_DIR + table + ".ndjson"));
+                Writer out = new BufferedWriter(new OutputStreamWriter(new NonClosingOutputStream(zip), StandardCharsets.UTF_8));
+                long rows = dumpTable(conn, table, primaryKey(conn, table), pageSize, out);
+                out.flush();
+                zip.closeEntry();
+                counts.put(table, rows);
+            }
+
+            zip.putNextEntry(new ZipEntry(MANIFEST));
+            Writer out = new BufferedWriter(new OutputStreamWriter(new NonClosingOutputStream(zip), StandardCharsets.UTF_8));
+            JsonWriter json = new JsonWriter(out);
+            json.setIndent("  ");
+            json.beginObject();
+            json.name("format_version").value(FORMAT_VERSION);
+            for (Map.Entry<String, String> property : metadata.entrySet()) {
+                json.name(property.getKey()).value(property.getValue());
+            }
+            json.name("tables").beginObject();
+            for (Map.Entry<String, Long> count : counts.entrySet()) {
+                json.name(count.getKey()).value(count.getValue());
+            }
+            json.endObject();
+            json.endObject();
+            json.flush();
+            zip.closeEntry();
+        }
+        return counts;
+    }
+
+    /**
+     * Re-read an archive and check that every table listed in the manifest is present,
+     * every row parses, and the row counts match.
+     *
+     * @param archive The archive to check
+     * @param expectedTables Tables that must be present in the manifest
+     * @return Null if the archive is intact, otherwise a description of the first problem
+     */
+    public static String verify(File archive, Collection<String> expectedTables) {
+        try (ZipFile zip = new ZipFile(archive)) {
+            ZipEntry manifestEntry = zip.getEntry(MANIFEST);
+            if (manifestEntry == null) {
+                return "Missing " + MANIFEST;
+            }
+
+            JsonObject manifest;
+            try (Reader reader = new InputStreamReader(zip.getInputStream(manifestEntry), StandardCharsets.UTF_8)) {
+                manifest = JsonParser.parseReader(reader).getAsJsonObject();
+            }
+            JsonObject tables = manifest.getAsJsonObject("tables");
+            if (tables == null) {
+                return "Manifest has no table list";
+            }
+            for (String expected : expectedTables) {
+                if (!tables.has(expected)) {
+                    return "Table missing from backup: " + expected;
+                }
+            }
+
+            for (Map.Entry<String, JsonElement> table : tables.entrySet()) {
+                ZipEntry entry = zip.getEntry(TABLE_DIR + table.getKey() + ".ndjson");
+                if (entry == null) {
+                    return "Missing data for table " + table.getKey();
+                }
+                long expectedRows = table.getValue().getAsLong();
+                long rows = 0;
+                // Reading each entry to the end also checks its CRC. Rows are one per line,
+                // and an empty table is an empty entry
+                try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(zip.getInputStream(entry), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (line.isBlank()) {
+                            continue;
+                        }
+                        if (!isJsonObject(line)) {
+                            return "Malformed row in " + table.getKey() + " at row " + (rows + 1);
+                        }
+                        rows++;
+                    }
+                }
+                if (rows != expectedRows) {
+                    return "Row count mismatch for " + table.getKey() + ": manifest " + expectedRows + ", archive " + rows;
+                }
+            }
+            return null;
+        } catch (IOException | RuntimeException e) {
+            return "Unreadable archive: " + e.getMessage();
+        }
+    }
+
+    private static boolean isJsonObject(String line) {
+        try {
+            return JsonParser.parseString(line).isJsonObject();
+        } catch (JsonParseException e) {
+            return false;
+        }
+    }
+
+    private static long dumpTable(Connection conn, String table, List<String> keyColumns, int pageSize,
+                                  Writer out) throws SQLException, IOException {
+        JsonWriter json = new JsonWriter(out);
+        json.setLenient(true);
+
+        if (keyColumns.isEmpty()) {
+            try (Statement stmt = conn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                stmt.setFetchSize(Integer.MIN_VALUE);
+                try (ResultSet rs = stmt.executeQuery("SELECT * FROM " + quote(table))) {
+                    long rows = 0;
+                    while (rs.next()) {
+                        writeRow(json, out, rs);
+                        rows++;
+                    }
+                    return rows;
+                }
+            }
+        }
+
+        String keyList = String.join(", ", keyColumns.stream().map(TableDumpArchive::quote).toList());
+        String orderBy = " ORDER BY " + keyList + " LIMIT " + pageSize;
+        String firstPage = "SELECT * FROM " + quote(table) + orderBy;
+        String nextPage = "SELECT * FROM " + quote(table) + " WHERE (" + keyList + ") > ("
+            + String.join(", ", Collections.nCopies(keyColumns.size(), "?")) + ")" + orderBy;
+
+        long rows = 0;
+        Object[] lastKey = null;
+        try (PreparedStatement first = conn.prepareStatement(firstPage);
+             PreparedStatement next = conn.prepareStatement(nextPage)) {
+            while (true) {
+                PreparedStatement stmt = lastKey == null ? first : next;
+                if (lastKey != null) {
+                    for (int i = 0; i < lastKey.length; i++) {
+                        stmt.setObject(i + 1, lastKey[i]);
+                    }
+                }
+                int pageRows = 0;
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        writeRow(json, out, rs);
+                        if (lastKey == null) {
+                            lastKey = new Object[keyColumns.size()];
+                        }
+                        for (int i = 0; i < lastKey.length; i++) {
+                            lastKey[i] = rs.getObject(keyColumns.get(i));
+                        }
+                        pageRows++;
+                    }
+                }
+                rows += pageRows;
+                if (pageRows < pageSize) {
+                    return rows;
+                }
+            }
+        }
+    }
+
+    private static void writeRow(JsonWriter json, Writer out, ResultSet rs) throws SQLException, IOException {
+        ResultSetMetaData meta = rs.getMetaData();
+        json.beginObject();
+        for (int i = 1; i <= meta.getColumnCount(); i++) {
+            json.name(meta.getColumnLabel(i));
+            Object value = rs.getObject(i);
+            if (value == null) {
+                json.nullValue();
+            } else if (value instanceof Boolean bool) {
+                json.value(bool);
+            } else if (value instanceof Number number) {
+                json.value(number);
+            } else if (value instanceof byte[] bytes) {
+                json.value(Base64.getEncoder().encodeToString(bytes));
+            } else {
+                json.value(value.toString());
+            }
+        }
+        json.endObject();
+        out.write('\n');
+    }
+
+    private static boolean tableExists(Connection conn, String table) throws SQLException {
+        try (ResultSet rs = conn.getMetaData().getTables(conn.getCatalog(), null, table, new String[]{"TABLE"})) {
+            return rs.next();
+        }
+    }
+
+    /**
+     * Primary key columns in key order.
+     */
+    private static List<String> primaryKey(Connection conn, String table) throws SQLException {
+        SortedMap<Short, String> columns = new TreeMap<>();
+        try (ResultSet rs = conn.getMetaData().getPrimaryKeys(conn.getCatalog(), null, table)) {
+            while (rs.next()) {
+                columns.put(rs.getShort("KEY_SEQ"), rs.getString("COLUMN_NAME"));
+            }
+        }
+        return new ArrayList<>(columns.values());
+    }
+
+    private static String quote(String identifier) {
+        return "`" + identifier.replace("`", "``") + "`";
+    }
+
+    /**
+     * Lets per-entry writers be flushed without closing the zip stream underneath.
+     */
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+        private NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
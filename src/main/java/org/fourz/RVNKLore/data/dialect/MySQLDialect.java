@@ -58,6 +58,12 @@ public class MySQLDialect implements SQLDialect {
         return "TIMESTAMP NULL";
     }
 
+    @Override
+    public String getComparableTimestamp(String expression) {
+        // TIMESTAMP columns compare natively with a bound Timestamp
+        return expression;
+    }
+
     // ============== Query Generation ==============
 
     @Override
@@ -134,6 +140,12 @@ public class MySQLDialect implements SQLDialect {
         return false;
     }
 
+    @Override
+    public int getStreamingFetchSize() {
+        // Connector/J streams rows one at a time only for forward-only, read-only statements with MIN_VALUE
+        return Integer.MIN_VALUE;
+    }
+
     // ============== Helper Methods ==============
 
     /**
@@ -54,6 +54,15 @@ public interface SQLDialect {
      */
     String getTimestampType(boolean withDefault);
 
+    /**
+     * Wrap a timestamp expression so it compares with, and reads back as, a bound
+     * {@link java.sql.Timestamp} rather than as text.
+     * @param expression Column or expression holding a timestamp
+     * @return The expression unchanged for MySQL; for SQLite, converted to epoch
+     *         milliseconds, which is how the driver binds and reads timestamps
+     */
+    String getComparableTimestamp(String expression);
+
     // ============== Query Generation ==============
 
     /**
@@ -124,4 +133,12 @@ public interface SQLDialect {
      * @return true for SQLite (needs duplicate binding), false for MySQL
      */
     boolean upsertNeedsDuplicateBinding();
+
+    /**
+     * Get the fetch size that makes the driver stream a large result set
+     * instead of buffering every row in memory.
+     * @return Integer.MIN_VALUE for MySQL (Connector/J row streaming),
+     *         a positive page size for SQLite (which already steps lazily)
+     */
+    int getStreamingFetchSize();
 }
@@ -52,6 +52,13 @@ public class SQLiteDialect implements SQLDialect {
         return "TIMESTAMP";
     }
 
+    @Override
+    public String getComparableTimestamp(String expression) {
+        // CURRENT_TIMESTAMP stores UTC text; values bound with setTimestamp are already epoch millis
+        return "(CASE WHEN typeof(" + expression + ") = 'integer' THEN " + expression +
+            " ELSE CAST(strftime('%s', " + expression + ") AS INTEGER) * 1000 END)";
+    }
+
     // ============== Query Generation ==============
 
     @Override
@@ -125,6 +132,12 @@ public class SQLiteDialect implements SQLDialect {
         return true;
     }
 
+    @Override
+    public int getStreamingFetchSize() {
+        // sqlite-jdbc steps the statement lazily; the fetch size only sizes its row buffer
+        return 500;
+    }
+
     // ============== Helper Methods ==============
 
     /**
@@ -0,0 +1,25 @@
+package org.fourz.RVNKLore.data.dto;
+
+import java.sql.Timestamp;
+import java.util.Objects;
+
+/**
+ * Lightweight projection of a lore submission for list views such as the moderation queue.
+ * Carries no content; fetch the full {@link LoreSubmissionDTO} by ID when it is opened.
+ */
+public record SubmissionSummaryDTO(
+    int id,
+    String entryId,
+    String entryName,
+    String entryType,
+    String submitterUuid,
+    Timestamp submissionDate,
+    int contentVersion
+) {
+    /**
+     * Compact constructor with validation.
+     */
+    public SubmissionSummaryDTO {
+        Objects.requireNonNull(entryId, "entryId cannot be null");
+    }
+}
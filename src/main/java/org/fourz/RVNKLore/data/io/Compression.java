@@ -0,0 +1,91 @@
+package org.fourz.RVNKLore.data.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Optional compression applied to export and import files, chosen by file suffix.
+ * Both codecs ship with the JDK, so no extra dependency is needed.
+ */
+public enum Compression {
+    NONE(""),
+    GZIP(".gz"),
+    DEFLATE(".deflate");
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String suffix;
+
+    Compression(String suffix) {
+        this.suffix = suffix;
+    }
+
+    /**
+     * @return The suffix appended after the format extension (empty for NONE)
+     */
+    public String getSuffix() {
+        return suffix;
+    }
+
+    /**
+     * Wrap a raw file stream for writing.
+     */
+    public OutputStream wrap(OutputStream out) throws IOException {
+        return switch (this) {
+            case NONE -> out;
+            case GZIP -> new GZIPOutputStream(out, BUFFER_SIZE);
+            case DEFLATE -> new DeflaterOutputStream(out);
+        };
+    }
+
+    /**
+     * Wrap a raw file stream for reading.
+     */
+    public InputStream wrap(InputStream in) throws IOException {
+        return switch (this) {
+            case NONE -> in;
+            case GZIP -> new GZIPInputStream(in, BUFFER_SIZE);
+            case DEFLATE -> new InflaterInputStream(in);
+        };
+    }
+
+    /**
+     * Detect compression from a file name.
+     */
+    public static Compression fromFilename(String filename) {
+        String lower = filename.toLowerCase();
+        for (Compression compression : values()) {
+            if (compression != NONE && lower.endsWith(compression.suffix)) {
+                return compression;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Strip the compression suffix from a file name, leaving the format extension.
+     */
+    public static String stripSuffix(String filename) {
+        Compression compression = fromFilename(filename);
+        return filename.substring(0, filename.length() - compression.suffix.length());
+    }
+
+    /**
+     * Parse a command-line flag such as {@code --gzip} or {@code --deflate}.
+     *
+     * @return The matching compression, or null if the flag is not a compression flag
+     */
+    public static Compression fromFlag(String flag) {
+        for (Compression compression : values()) {
+            if (compression != NONE && flag.equalsIgnoreCase("--" + compression.name())) {
+                return compression;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,67 @@
+package org.fourz.RVNKLore.data.io;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams raw entries out of an import file one at a time, so that only the
+ * current chunk is held in memory.
+ *
+ * @param <T> The format's raw entry representation
+ */
+abstract class EntryReader<T> implements Closeable {
+
+    /**
+     * Open the file and position the reader at the first entry.
+     *
+     * @return An error message if the file has no entries list, otherwise null
+     * @throws IOException If the file cannot be read
+     */
+    abstract String open() throws IOException;
+
+    /**
+     * Read the next raw entry.
+     *
+     * @return The entry, or null once the entries list is exhausted
+     * @throws IOException If the file cannot be read
+     */
+    abstract T next() throws IOException;
+
+    /**
+     * Read up to {@code size} entries.
+     *
+     * @return The entries read; empty once the entries list is exhausted
+     * @throws IOException If the file cannot be read
+     */
+    List<T> readChunk(int size) throws IOException {
+        List<T> chunk = new ArrayList<>(size);
+        T entry;
+        while (chunk.size() < size && (entry = next()) != null) {
+            chunk.add(entry);
+        }
+        return chunk;
+    }
+
+    /**
+     * Open a UTF-8 reader over the file, decompressing it if its name carries a
+     * compression suffix.
+     */
+    static BufferedReader openReader(File file) throws IOException {
+        Compression compression = Compression.fromFilename(file.getName());
+        BufferedInputStream raw = new BufferedInputStream(new FileInputStream(file));
+        try {
+            return new BufferedReader(new InputStreamReader(compression.wrap(raw), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            raw.close();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.fourz.RVNKLore.data.io;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Streams the elements of the top-level {@code "entries"} array of a JSON export,
+ * parsing one element tree at a time. In delimited mode (NDJSON) every top-level
+ * value in the file is an entry.
+ */
+class JsonEntryReader extends EntryReader<JsonElement> {
+    private final File file;
+    private final boolean delimited;
+    private JsonReader reader;
+    private boolean inEntries;
+
+    /**
+     * @param file The file to read
+     * @param delimited True for newline-delimited JSON (one entry object per line)
+     */
+    JsonEntryReader(File file, boolean delimited) {
+        this.file = file;
+        this.delimited = delimited;
+    }
+
+    @Override
+    String open() throws IOException {
+        reader = new JsonReader(openReader(file));
+        if (delimited) {
+            // Lenient mode accepts multiple top-level values
+            reader.setLenient(true);
+            inEntries = true;
+            return null;
+        }
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            return "Invalid JSON format: expected an object with an 'entries' array";
+        }
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals("entries") && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+                inEntries = true;
+                return null;
+            }
+            reader.skipValue();
+        }
+        return "Invalid JSON format: missing 'entries' array";
+    }
+
+    @Override
+    JsonElement next() throws IOException {
+        if (!inEntries || (delimited ? reader.peek() == JsonToken.END_DOCUMENT : !reader.hasNext())) {
+            inEntries = false;
+            return null;
+        }
+        return JsonParser.parseReader(reader);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (reader != null) {
+            reader.close();
+        }
+    }
+}
@@ -1,9 +1,6 @@
 package org.fourz.RVNKLore.data.io;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 import org.fourz.RVNKLore.RVNKLore;
 import org.fourz.RVNKLore.lore.LoreEntry;
 import org.fourz.RVNKLore.lore.LoreType;
@@ -11,20 +8,26 @@ import org.fourz.rvnkcore.util.log.LogManager;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.Yaml;
 
-import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.CompletionException;
 
 /**
- * Handles exporting lore entries to various formats (JSON, YAML).
+ * Handles exporting lore entries to various formats (JSON, NDJSON, YAML).
  * Supports full database exports, filtered exports by type, and single entry exports.
+ *
+ * <p>Entries are streamed from a database cursor into a buffered (optionally gzip or
+ * deflate compressed) writer, so exports run in constant memory.
  */
 public class LoreExporter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private final RVNKLore plugin;
     private final LogManager logger;
-    private final Gson gson;
     private final Yaml yaml;
 
     /**
@@ -32,6 +35,7 @@ public class LoreExporter {
      */
     public enum ExportFormat {
         JSON("json"),
+        NDJSON("ndjson"),
         YAML("yaml");
 
         private final String extension;
@@ -58,12 +62,6 @@ public class LoreExporter {
         this.plugin = plugin;
         this.logger = LogManager.getInstance(plugin, "LoreExporter");
 
-        // Initialize Gson with pretty printing
-        this.gson = new GsonBuilder()
-            .setPrettyPrinting()
-            .disableHtmlEscaping()
-            .create();
-
         // Initialize YAML with pretty printing
         DumperOptions options = new DumperOptions();
         options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
@@ -74,33 +72,53 @@ public class LoreExporter {
     /**
      * Export all lore entries to the specified format.
      *
-     * @param format The export format (JSON or YAML)
+     * @param format The export format (JSON, NDJSON or YAML)
      * @return The file that was created, or null if export failed
      */
     public File exportAll(ExportFormat format) {
-        List<LoreEntry> entries = plugin.getLoreManager().getAllLoreEntriesSync();
-        String filename = generateFilename("all", format);
-        return exportEntries(entries, filename, format);
+        return exportAll(format, Compression.NONE);
+    }
+
+    /**
+     * Export all lore entries, streamed from the database.
+     *
+     * @param format The export format
+     * @param compression Compression applied to the output file
+     * @return The file that was created, or null if export failed
+     */
+    public File exportAll(ExportFormat format, Compression compression) {
+        return exportFromDatabase(null, generateFilename("all", format, compression), format, compression);
     }
 
     /**
      * Export lore entries of a specific type.
      *
      * @param type The lore type to export
-     * @param format The export format (JSON or YAML)
+     * @param format The export format (JSON, NDJSON or YAML)
      * @return The file that was created, or null if export failed
      */
     public File exportByType(LoreType type, ExportFormat format) {
-        List<LoreEntry> entries = plugin.getLoreManager().getLoreEntriesByTypeSync(type);
-        String filename = generateFilename(type.name().toLowerCase(), format);
-        return exportEntries(entries, filename, format);
+        return exportByType(type, format, Compression.NONE);
+    }
+
+    /**
+     * Export lore entries of a specific type, streamed from the database.
+     *
+     * @param type The lore type to export
+     * @param format The export format
+     * @param compression Compression applied to the output file
+     * @return The file that was created, or null if export failed
+     */
+    public File exportByType(LoreType type, ExportFormat format, Compression compression) {
+        String filename = generateFilename(type.name().toLowerCase(), format, compression);
+        return exportFromDatabase(type, filename, format, compression);
     }
 
     /**
      * Export a single lore entry by ID.
      *
      * @param entryId The ID of the entry to export
-     * @param format The export format (JSON or YAML)
+     * @param format The export format (JSON, NDJSON or YAML)
      * @return The file that was created, or null if export failed
      */
     public File exportById(String entryId, ExportFormat format) {
@@ -110,158 +128,231 @@ public class LoreExporter {
             return null;
         }
 
-        String filename = generateFilename(sanitizeForFilename(entry.get().getName()), format);
-        return exportEntries(Collections.singletonList(entry.get()), filename, format);
+        String filename = generateFilename(sanitizeForFilename(entry.get().getName()), format, Compression.NONE);
+        return exportEntries(filename, format, Compression.NONE, writer -> {
+            writer.write(entry.get());
+            return 1;
+        });
+    }
+
+    /**
+     * Stream entries from a database cursor straight into the export file.
+     * Blocks until the export is written, so call it off the main thread.
+     */
+    private File exportFromDatabase(LoreType type, String filename, ExportFormat format, Compression compression) {
+        return exportEntries(filename, format, compression,
+            writer -> plugin.getDatabaseManager().streamLoreEntries(type, writer::write).join());
     }
 
     /**
-     * Export a list of lore entries to a file.
+     * Write entries to an export file. The file is written under a temporary name and
+     * only moved into place once complete, so a failed export never leaves a truncated file.
      *
-     * @param entries The entries to export
      * @param filename The filename to use
      * @param format The export format
-     * @return The file that was created, or null if export failed
+     * @param compression Compression applied to the output file
+     * @param source Feeds entries to the writer and returns how many it wrote
+     * @return The file that was created, or null if export failed or there was nothing to export
      */
-    private File exportEntries(List<LoreEntry> entries, String filename, ExportFormat format) {
-        if (entries == null || entries.isEmpty()) {
-            logger.warning("No entries to export");
-            return null;
-        }
-
+    private File exportEntries(String filename, ExportFormat format, Compression compression, EntrySource source) {
         File exportDir = new File(plugin.getDataFolder(), "exports");
         if (!exportDir.exists()) {
             exportDir.mkdirs();
         }
 
         File exportFile = new File(exportDir, filename);
+        File partFile = new File(exportDir, filename + ".part");
+
+        int count;
+        try (EntryWriter writer = new EntryWriter(partFile, format, compression)) {
+            count = source.writeTo(writer);
+            writer.finish(count);
+        } catch (IOException | RuntimeException e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            logger.error("Failed to export entries to " + filename, cause);
+            partFile.delete();
+            return null;
+        }
 
-        try {
-            String content;
-            switch (format) {
-                case JSON:
-                    content = exportToJson(entries);
-                    break;
-                case YAML:
-                    content = exportToYaml(entries);
-                    break;
-                default:
-                    logger.error("Unsupported export format: " + format);
-                    return null;
-            }
-
-            try (FileWriter writer = new FileWriter(exportFile)) {
-                writer.write(content);
-            }
-
-            logger.info("Exported " + entries.size() + " entries to " + exportFile.getAbsolutePath());
-            return exportFile;
+        if (count == 0) {
+            logger.warning("No entries to export");
+            partFile.delete();
+            return null;
+        }
 
+        try {
+            Files.move(partFile.toPath(), exportFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
         } catch (IOException e) {
-            logger.error("Failed to export entries to " + filename, e);
+            logger.error("Failed to finalize export file " + filename, e);
+            partFile.delete();
             return null;
         }
+
+        logger.info("Exported " + count + " entries to " + exportFile.getAbsolutePath());
+        return exportFile;
     }
 
     /**
-     * Convert lore entries to JSON format.
-     *
-     * @param entries The entries to convert
-     * @return JSON string representation
+     * Supplies entries to an {@link EntryWriter}.
      */
-    private String exportToJson(List<LoreEntry> entries) {
-        JsonObject root = new JsonObject();
-        root.addProperty("exported_at", new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss").format(new Date()));
-        root.addProperty("plugin_version", plugin.getDescription().getVersion());
-        root.addProperty("entry_count", entries.size());
-
-        JsonArray entriesArray = new JsonArray();
-        for (LoreEntry entry : entries) {
-            JsonObject entryJson = new JsonObject();
-            entryJson.addProperty("id", entry.getId());
-            entryJson.addProperty("name", entry.getName());
-            entryJson.addProperty("description", entry.getDescription());
-            entryJson.addProperty("type", entry.getType().name());
-
-            if (entry.getNbtData() != null && !entry.getNbtData().isEmpty()) {
-                entryJson.addProperty("nbt_data", entry.getNbtData());
+    @FunctionalInterface
+    private interface EntrySource {
+        int writeTo(EntryWriter writer) throws IOException;
+    }
+
+    /**
+     * Writes one entry at a time to a (possibly compressed) file, so memory use does not
+     * grow with the number of entries. JSON keeps the existing document layout with the
+     * entry count written after the entries array; NDJSON writes one entry object per line.
+     */
+    private final class EntryWriter implements Closeable {
+        private final ExportFormat format;
+        private final Writer out;
+        private final JsonWriter json;
+
+        private EntryWriter(File file, ExportFormat format, Compression compression) throws IOException {
+            this.format = format;
+            OutputStream raw = new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE);
+            try {
+                this.out = new BufferedWriter(new OutputStreamWriter(compression.wrap(raw), StandardCharsets.UTF_8), BUFFER_SIZE);
+            } catch (IOException e) {
+                raw.close();
+                throw e;
+            }
+
+            if (format == ExportFormat.YAML) {
+                this.json = null;
+                out.write(yaml.dump(exportHeader()));
+                out.write("entries:\n");
+                return;
             }
 
-            if (entry.getLocation() != null) {
-                JsonObject locationJson = new JsonObject();
-                locationJson.addProperty("world", entry.getLocation().getWorld().getName());
-                locationJson.addProperty("x", entry.getLocation().getX());
-                locationJson.addProperty("y", entry.getLocation().getY());
-                locationJson.addProperty("z", entry.getLocation().getZ());
-                entryJson.add("location", locationJson);
+            this.json = new JsonWriter(out);
+            json.setSerializeNulls(false);
+            if (format == ExportFormat.NDJSON) {
+                // Lenient mode allows one top-level value per line
+                json.setLenient(true);
+            } else {
+                json.setIndent("  ");
+                json.beginObject();
+                for (Map.Entry<String, Object> header : exportHeader().entrySet()) {
+                    json.name(header.getKey()).value(String.valueOf(header.getValue()));
+                }
+                json.name("entries").beginArray();
             }
+        }
 
-            entryJson.addProperty("submitted_by", entry.getSubmittedBy());
-            entryJson.addProperty("approved", entry.isApproved());
-            entryJson.addProperty("created_at", entry.getCreatedAt().toString());
+        private void write(LoreEntry entry) throws IOException {
+            switch (format) {
+                case JSON -> writeJsonEntry(json, entry);
+                case NDJSON -> {
+                    writeJsonEntry(json, entry);
+                    out.write('\n');
+                }
+                case YAML -> out.write(yaml.dump(Collections.singletonList(toYamlMap(entry))));
+            }
+        }
 
-            // Include metadata if present
-            if (entry.hasMetadata()) {
-                JsonObject metadataJson = new JsonObject();
-                for (Map.Entry<String, String> meta : entry.getAllMetadata().entrySet()) {
-                    metadataJson.addProperty(meta.getKey(), meta.getValue());
+        private void finish(int count) throws IOException {
+            switch (format) {
+                case JSON -> {
+                    json.endArray();
+                    json.name("entry_count").value(count);
+                    json.endObject();
+                    out.write('\n');
                 }
-                entryJson.add("metadata", metadataJson);
+                case YAML -> out.write(yaml.dump(Collections.singletonMap("entry_count", count)));
+                case NDJSON -> { }
             }
+        }
 
-            entriesArray.add(entryJson);
+        @Override
+        public void close() throws IOException {
+            out.close();
         }
+    }
 
-        root.add("entries", entriesArray);
-        return gson.toJson(root);
+    private Map<String, Object> exportHeader() {
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("exported_at", new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss").format(new Date()));
+        header.put("plugin_version", plugin.getDescription().getVersion());
+        return header;
     }
 
     /**
-     * Convert lore entries to YAML format.
-     *
-     * @param entries The entries to convert
-     * @return YAML string representation
+     * Write one lore entry as a JSON object.
      */
-    private String exportToYaml(List<LoreEntry> entries) {
-        Map<String, Object> root = new LinkedHashMap<>();
-        root.put("exported_at", new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss").format(new Date()));
-        root.put("plugin_version", plugin.getDescription().getVersion());
-        root.put("entry_count", entries.size());
-
-        List<Map<String, Object>> entriesList = new ArrayList<>();
-        for (LoreEntry entry : entries) {
-            Map<String, Object> entryMap = new LinkedHashMap<>();
-            entryMap.put("id", entry.getId());
-            entryMap.put("name", entry.getName());
-            entryMap.put("description", entry.getDescription());
-            entryMap.put("type", entry.getType().name());
-
-            if (entry.getNbtData() != null && !entry.getNbtData().isEmpty()) {
-                entryMap.put("nbt_data", entry.getNbtData());
-            }
+    private void writeJsonEntry(JsonWriter json, LoreEntry entry) throws IOException {
+        json.beginObject();
+        json.name("id").value(entry.getId());
+        json.name("name").value(entry.getName());
+        json.name("description").value(entry.getDescription());
+        json.name("type").value(entry.getType().name());
+
+        if (entry.getNbtData() != null && !entry.getNbtData().isEmpty()) {
+            json.name("nbt_data").value(entry.getNbtData());
+        }
 
-            if (entry.getLocation() != null) {
-                Map<String, Object> locationMap = new LinkedHashMap<>();
-                locationMap.put("world", entry.getLocation().getWorld().getName());
-                locationMap.put("x", entry.getLocation().getX());
-                locationMap.put("y", entry.getLocation().getY());
-                locationMap.put("z", entry.getLocation().getZ());
-                entryMap.put("location", locationMap);
-            }
+        if (entry.getLocation() != null && entry.getLocation().getWorld() != null) {
+            json.name("location").beginObject();
+            json.name("world").value(entry.getLocation().getWorld().getName());
+            json.name("x").value(entry.getLocation().getX());
+            json.name("y").value(entry.getLocation().getY());
+            json.name("z").value(entry.getLocation().getZ());
+            json.endObject();
+        }
 
-            entryMap.put("submitted_by", entry.getSubmittedBy());
-            entryMap.put("approved", entry.isApproved());
-            entryMap.put("created_at", entry.getCreatedAt().toString());
+        json.name("submitted_by").value(entry.getSubmittedBy());
+        json.name("approved").value(entry.isApproved());
+        if (entry.getCreatedAt() != null) {
+            json.name("created_at").value(entry.getCreatedAt().toString());
+        }
 
-            // Include metadata if present
-            if (entry.hasMetadata()) {
-                entryMap.put("metadata", new LinkedHashMap<>(entry.getAllMetadata()));
+        // Include metadata if present
+        if (entry.hasMetadata()) {
+            json.name("metadata").beginObject();
+            for (Map.Entry<String, String> meta : entry.getAllMetadata().entrySet()) {
+                json.name(meta.getKey()).value(meta.getValue());
             }
+            json.endObject();
+        }
+        json.endObject();
+    }
+
+    /**
+     * Convert one lore entry to the map dumped as a YAML list item.
+     */
+    private Map<String, Object> toYamlMap(LoreEntry entry) {
+        Map<String, Object> entryMap = new LinkedHashMap<>();
+        entryMap.put("id", entry.getId());
+        entryMap.put("name", entry.getName());
+        entryMap.put("description", entry.getDescription());
+        entryMap.put("type", entry.getType().name());
+
+        if (entry.getNbtData() != null && !entry.getNbtData().isEmpty()) {
+            entryMap.put("nbt_data", entry.getNbtData());
+        }
 
-            entriesList.add(entryMap);
+        if (entry.getLocation() != null && entry.getLocation().getWorld() != null) {
+            Map<String, Object> locationMap = new LinkedHashMap<>();
+            locationMap.put("world", entry.getLocation().getWorld().getName());
+            locationMap.put("x", entry.getLocation().getX());
+            locationMap.put("y", entry.getLocation().getY());
+            locationMap.put("z", entry.getLocation().getZ());
+            entryMap.put("location", locationMap);
         }
 
-        root.put("entries", entriesList);
-        return yaml.dump(root);
+        entryMap.put("submitted_by", entry.getSubmittedBy());
+        entryMap.put("approved", entry.isApproved());
+        if (entry.getCreatedAt() != null) {
+            entryMap.put("created_at", entry.getCreatedAt().toString());
+        }
+
+        // Include metadata if present
+        if (entry.hasMetadata()) {
+            entryMap.put("metadata", new LinkedHashMap<>(entry.getAllMetadata()));
+        }
+        return entryMap;
     }
 
     /**
@@ -269,14 +360,16 @@ public class LoreExporter {
      *
      * @param identifier The identifier for this export (e.g., "all", type name, entry name)
      * @param format The export format
+     * @param compression The output compression
      * @return A filename with timestamp
      */
-    private String generateFilename(String identifier, ExportFormat format) {
+    private String generateFilename(String identifier, ExportFormat format, Compression compression) {
         SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss");
-        return String.format("lore_export_%s_%s.%s",
+        return String.format("lore_export_%s_%s.%s%s",
             identifier,
             sdf.format(new Date()),
-            format.getExtension()
+            format.getExtension(),
+            compression.getSuffix()
         );
     }
 
@@ -1,30 +1,33 @@
 package org.fourz.RVNKLore.data.io;
 
 import com.google.gson.*;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.fourz.RVNKLore.RVNKLore;
+import org.fourz.RVNKLore.data.LoreEntryRepository;
+import org.fourz.RVNKLore.handler.LoreHandler;
 import org.fourz.RVNKLore.lore.LoreEntry;
 import org.fourz.RVNKLore.lore.LoreType;
 import org.fourz.rvnkcore.util.log.LogManager;
-import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
 
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
 import java.sql.Timestamp;
 import java.util.*;
+import java.util.concurrent.CompletionException;
 
 /**
- * Handles importing lore entries from various formats (JSON, YAML).
+ * Handles importing lore entries from various formats (JSON, NDJSON, YAML), optionally compressed.
  * Supports validation, duplicate detection, and preview mode.
+ *
+ * <p>Files are streamed in chunks and inserted with multi-row batches, so large
+ * world archives import without holding the whole file or one transaction per entry.
  */
 public class LoreImporter {
     private final RVNKLore plugin;
     private final LogManager logger;
-    private final Gson gson;
-    private final Yaml yaml;
+    private final int batchSize;
 
     /**
      * Import result summary
@@ -64,11 +67,51 @@ public class LoreImporter {
         }
     }
 
+    /**
+     * Outcome of parsing and validating one raw entry on a worker thread.
+     */
+    private static final class ParsedEntry {
+        private final LoreEntry entry;
+        private final List<String> warnings;
+        private final String error;
+
+        private ParsedEntry(LoreEntry entry, List<String> warnings, String error) {
+            this.entry = entry;
+            this.warnings = warnings;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Turns one raw entry read from the file into a LoreEntry.
+     */
+    @FunctionalInterface
+    private interface EntryParser<T> {
+        /**
+         * Parse one raw entry on a worker thread, without calling into Bukkit.
+         *
+         * @param worlds Worlds loaded when the import started, by name
+         * @return The entry, or null if it could not be parsed
+         */
+        LoreEntry parse(T raw, Map<String, World> worlds, List<String> warnings);
+    }
+
+    /**
+     * Receives progress after each chunk of entries has been processed.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * @param processed Entries read from the file so far
+         * @param imported Entries imported (or, in preview mode, importable) so far
+         */
+        void onProgress(int processed, int imported);
+    }
+
     public LoreImporter(RVNKLore plugin) {
         this.plugin = plugin;
         this.logger = LogManager.getInstance(plugin, "LoreImporter");
-        this.gson = new Gson();
-        this.yaml = new Yaml();
+        this.batchSize = Math.max(1, plugin.getConfig().getInt("storage.import.batchSize", 500));
     }
 
     /**
@@ -76,204 +119,260 @@ public class LoreImporter {
      *
      * @param file The file to import from
      * @param preview If true, only validates without importing
+     * @param worlds Loaded worlds by name, collected on the main thread
      * @return Import result summary
      */
-    public ImportResult importFromFile(File file, boolean preview) {
+    public ImportResult importFromFile(File file, boolean preview, Map<String, World> worlds) {
+        return importFromFile(file, preview, worlds, null);
+    }
+
+    /**
+     * Import lore entries from a file, reporting progress after every chunk.
+     *
+     * <p>The file is streamed rather than loaded whole: entries are read in chunks of
+     * {@code storage.import.batchSize}, each chunk is parsed and validated in parallel,
+     * checked against one pre-fetched set of stored IDs/names, and inserted in a
+     * single transaction. Blocks on database I/O, so call it off the main thread.
+     *
+     * @param file The file to import from
+     * @param preview If true, only validates without importing
+     * @param worlds Loaded worlds by name, collected on the main thread
+     * @param listener Optional progress listener (called on the importing thread)
+     * @return Import result summary
+     */
+    public ImportResult importFromFile(File file, boolean preview, Map<String, World> worlds,
+                                       ProgressListener listener) {
         if (!file.exists()) {
             return new ImportResult(0, 0, 0, 0,
                 Collections.singletonList("File not found: " + file.getName()),
                 Collections.emptyList());
         }
 
-        String filename = file.getName().toLowerCase();
+        String filename = Compression.stripSuffix(file.getName().toLowerCase());
         if (filename.endsWith(".json")) {
-            return importFromJson(file, preview);
+            return importEntries(file, preview, worlds, listener, new JsonEntryReader(file, false), this::parseJsonElement);
+        } else if (filename.endsWith(".ndjson")) {
+            return importEntries(file, preview, worlds, listener, new JsonEntryReader(file, true), this::parseJsonElement);
         } else if (filename.endsWith(".yaml") || filename.endsWith(".yml")) {
-            return importFromYaml(file, preview);
+            return importEntries(file, preview, worlds, listener, new YamlEntryReader(file), this::parseYamlObject);
         } else {
             return new ImportResult(0, 0, 0, 0,
-                Collections.singletonList("Unsupported file format. Use .json or .yaml"),
+                Collections.singletonList("Unsupported file format. Use .json, .ndjson or .yaml (optionally .gz/.deflate)"),
                 Collections.emptyList());
         }
     }
 
     /**
-     * Import from JSON file.
-     *
-     * @param file The JSON file
-     * @param preview Preview mode flag
-     * @return Import result
+     * Stream entries from a reader and import them chunk by chunk.
      */
-    private ImportResult importFromJson(File file, boolean preview) {
+    private <T> ImportResult importEntries(File file, boolean preview, Map<String, World> worlds,
+                                           ProgressListener listener, EntryReader<T> reader, EntryParser<T> parser) {
         List<String> errors = new ArrayList<>();
         List<String> warnings = new ArrayList<>();
+        int total = 0;
         int successful = 0;
         int skipped = 0;
         int failed = 0;
+        List<LoreEntry> imported = new ArrayList<>();
 
-        try (FileReader reader = new FileReader(file)) {
-            JsonObject root = JsonParser.parseReader(reader).getAsJsonObject();
-
-            if (!root.has("entries")) {
-                errors.add("Invalid JSON format: missing 'entries' array");
+        try (reader) {
+            String formatError = reader.open();
+            if (formatError != null) {
+                errors.add(formatError);
                 return new ImportResult(0, 0, 0, 0, errors, warnings);
             }
 
-            JsonArray entries = root.getAsJsonArray("entries");
-            int total = entries.size();
+            // One identity snapshot replaces a per-entry duplicate lookup
+            Map<String, String> identities = plugin.getDatabaseManager().getEntryIdentities().join();
+            Set<String> knownIds = new HashSet<>(identities.keySet());
+            Set<String> knownNames = new HashSet<>(identities.values());
 
-            logger.info((preview ? "Previewing" : "Importing") + " " + total + " entries from " + file.getName());
+            logger.info((preview ? "Previewing" : "Importing") + " entries from " + file.getName()
+                + " (batch size " + batchSize + ", " + knownIds.size() + " existing)");
 
-            for (JsonElement element : entries) {
-                JsonObject entryJson = element.getAsJsonObject();
+            List<T> chunk;
+            while (!(chunk = reader.readChunk(batchSize)).isEmpty()) {
+                total += chunk.size();
 
-                try {
-                    LoreEntry entry = parseJsonEntry(entryJson, warnings);
+                // Parsing and validation are independent per entry; order is preserved for reporting
+                List<ParsedEntry> parsed = chunk.parallelStream()
+                    .map(raw -> parseAndValidate(raw, parser, worlds))
+                    .toList();
 
-                    if (entry == null) {
+                List<LoreEntry> accepted = new ArrayList<>(parsed.size());
+                for (ParsedEntry result : parsed) {
+                    warnings.addAll(result.warnings);
+                    if (result.error != null) {
                         failed++;
-                        errors.add("Failed to parse entry: invalid data");
+                        errors.add(result.error);
                         continue;
                     }
 
-                    // Validate entry
-                    if (!validateEntry(entry, warnings)) {
-                        failed++;
-                        errors.add("Invalid entry: " + entry.getName());
+                    LoreEntry entry = result.entry;
+                    if (!knownIds.add(entry.getId())) {
+                        skipped++;
+                        warnings.add("Skipped duplicate entry ID: " + entry.getId());
                         continue;
                     }
-
-                    // Check for duplicates
-                    if (plugin.getLoreManager().getLoreEntryByIdSync(entry.getId()).isPresent()) {
+                    if (!knownNames.add(LoreEntryRepository.nameKey(entry.getType().name(), entry.getName()))) {
                         skipped++;
-                        warnings.add("Skipped duplicate entry ID: " + entry.getId());
+                        warnings.add("Skipped duplicate " + entry.getType() + " entry name: " + entry.getName());
                         continue;
                     }
+                    accepted.add(entry);
+                }
 
-                    // Import if not in preview mode
-                    if (!preview) {
-                        if (plugin.getLoreManager().addLoreEntrySync(entry)) {
-                            successful++;
-                        } else {
-                            failed++;
-                            errors.add("Failed to import: " + entry.getName());
-                        }
-                    } else {
-                        successful++;
-                    }
+                if (preview) {
+                    successful += accepted.size();
+                } else {
+                    List<LoreEntry> inserted = insertChunk(accepted, errors);
+                    successful += inserted.size();
+                    failed += accepted.size() - inserted.size();
+                    imported.addAll(inserted);
+                }
 
-                } catch (Exception e) {
-                    failed++;
-                    errors.add("Error processing entry: " + e.getMessage());
-                    logger.error("Error parsing entry", e);
+                if (listener != null) {
+                    listener.onProgress(total, successful);
                 }
             }
-
-            return new ImportResult(total, successful, skipped, failed, errors, warnings);
-
         } catch (IOException e) {
             logger.error("Failed to read import file", e);
             errors.add("Failed to read file: " + e.getMessage());
-            return new ImportResult(0, 0, 0, 0, errors, warnings);
-        } catch (JsonParseException e) {
-            logger.error("Failed to parse JSON", e);
-            errors.add("Invalid JSON format: " + e.getMessage());
-            return new ImportResult(0, 0, 0, 0, errors, warnings);
+            return new ImportResult(total, successful, skipped, failed, errors, warnings);
+        } catch (JsonParseException | YAMLException e) {
+            logger.error("Failed to parse import file", e);
+            errors.add("Invalid file format: " + e.getMessage());
+            return new ImportResult(total, successful, skipped, failed, errors, warnings);
+        } catch (CompletionException e) {
+            logger.error("Failed to read existing lore entries", e.getCause());
+            errors.add("Failed to read existing lore entries: " + e.getCause().getMessage());
+            return new ImportResult(total, successful, skipped, failed, errors, warnings);
+        } finally {
+            if (!imported.isEmpty()) {
+                publishImported(imported);
+            }
         }
+
+        logger.info((preview ? "Previewed " : "Imported ") + successful + " of " + total + " entries from " + file.getName());
+        return new ImportResult(total, successful, skipped, failed, errors, warnings);
     }
 
     /**
-     * Import from YAML file.
-     *
-     * @param file The YAML file
-     * @param preview Preview mode flag
-     * @return Import result
+     * Parse and validate one raw entry. Runs on a worker thread, so all diagnostics
+     * are collected into the result rather than shared lists.
      */
-    @SuppressWarnings("unchecked")
-    private ImportResult importFromYaml(File file, boolean preview) {
-        List<String> errors = new ArrayList<>();
+    private <T> ParsedEntry parseAndValidate(T raw, EntryParser<T> parser, Map<String, World> worlds) {
         List<String> warnings = new ArrayList<>();
-        int successful = 0;
-        int skipped = 0;
-        int failed = 0;
-
-        try (FileReader reader = new FileReader(file)) {
-            Map<String, Object> root = yaml.load(reader);
-
-            if (root == null || !root.containsKey("entries")) {
-                errors.add("Invalid YAML format: missing 'entries' list");
-                return new ImportResult(0, 0, 0, 0, errors, warnings);
+        try {
+            LoreEntry entry = parser.parse(raw, worlds, warnings);
+            if (entry == null) {
+                return new ParsedEntry(null, warnings, "Failed to parse entry: invalid data");
             }
+            if (!validateEntry(entry, warnings)) {
+                return new ParsedEntry(null, warnings, "Invalid entry: " + entry.getName());
+            }
+            return new ParsedEntry(entry, warnings, null);
+        } catch (Exception e) {
+            logger.error("Error parsing entry", e);
+            return new ParsedEntry(null, warnings, "Error processing entry: " + e.getMessage());
+        }
+    }
 
-            List<Map<String, Object>> entries = (List<Map<String, Object>>) root.get("entries");
-            int total = entries.size();
-
-            logger.info((preview ? "Previewing" : "Importing") + " " + total + " entries from " + file.getName());
-
-            for (Map<String, Object> entryMap : entries) {
-                try {
-                    LoreEntry entry = parseYamlEntry(entryMap, warnings);
+    /**
+     * Insert a chunk in one transaction. If the batch is rolled back, retry entry by
+     * entry so a single bad row does not fail the whole chunk.
+     *
+     * @return The entries that were inserted
+     */
+    private List<LoreEntry> insertChunk(List<LoreEntry> entries, List<String> errors) {
+        if (entries.isEmpty()) {
+            return entries;
+        }
+        try {
+            plugin.getDatabaseManager().insertLoreEntriesBatch(entries).join();
+            return entries;
+        } catch (CompletionException e) {
+            logger.warning("Batch insert of " + entries.size() + " entries failed, retrying individually: "
+                + e.getCause().getMessage());
+        }
 
-                    if (entry == null) {
-                        failed++;
-                        errors.add("Failed to parse entry: invalid data");
-                        continue;
-                    }
+        List<LoreEntry> inserted = new ArrayList<>(entries.size());
+        for (LoreEntry entry : entries) {
+            try {
+                plugin.getDatabaseManager().insertLoreEntriesBatch(List.of(entry)).join();
+                inserted.add(entry);
+            } catch (CompletionException e) {
+                errors.add("Failed to import: " + entry.getName() + " (" + e.getCause().getMessage() + ")");
+            }
+        }
+        return inserted;
+    }
 
-                    // Validate entry
-                    if (!validateEntry(entry, warnings)) {
-                        failed++;
-                        errors.add("Invalid entry: " + entry.getName());
-                        continue;
-                    }
+    /**
+     * Bring the in-memory caches, item cache and map markers up to date with the
+     * imported entries. The incremental reload publishes ADDED changes and completes
+     * on the main thread, where the markers are created.
+     */
+    private void publishImported(List<LoreEntry> imported) {
+        Set<String> importedIds = new HashSet<>(imported.size() * 2);
+        boolean hasItems = false;
+        for (LoreEntry entry : imported) {
+            importedIds.add(entry.getId());
+            hasItems |= entry.getType() == LoreType.ITEM;
+        }
 
-                    // Check for duplicates
-                    if (plugin.getLoreManager().getLoreEntryByIdSync(entry.getId()).isPresent()) {
-                        skipped++;
-                        warnings.add("Skipped duplicate entry ID: " + entry.getId());
-                        continue;
-                    }
+        if (hasItems && plugin.getLoreManager().getItemManager() != null) {
+            plugin.getLoreManager().getItemManager().refreshCache();
+        }
 
-                    // Import if not in preview mode
-                    if (!preview) {
-                        if (plugin.getLoreManager().addLoreEntrySync(entry)) {
-                            successful++;
-                        } else {
-                            failed++;
-                            errors.add("Failed to import: " + entry.getName());
-                        }
-                    } else {
-                        successful++;
+        plugin.getLoreManager().reloadLore().thenAccept(reload -> {
+            if (!plugin.isDynmapAvailable()) {
+                return;
+            }
+            for (LoreEntry entry : plugin.getLoreManager().getAllLoreEntriesSync()) {
+                if (importedIds.contains(entry.getId())) {
+                    try {
+                        plugin.getDynmapIntegration().getMarkerManager().createOrUpdateMarker(entry);
+                    } catch (Exception e) {
+                        logger.debug("Failed to create Dynmap marker: " + e.getMessage());
                     }
-
-                } catch (Exception e) {
-                    failed++;
-                    errors.add("Error processing entry: " + e.getMessage());
-                    logger.error("Error parsing entry", e);
                 }
             }
+        });
+    }
 
-            return new ImportResult(total, successful, skipped, failed, errors, warnings);
+    /**
+     * Parse one element of the JSON entries array.
+     */
+    private LoreEntry parseJsonElement(JsonElement element, Map<String, World> worlds, List<String> warnings) {
+        if (!element.isJsonObject()) {
+            warnings.add("Entry is not a JSON object");
+            return null;
+        }
+        return parseJsonEntry(element.getAsJsonObject(), worlds, warnings);
+    }
 
-        } catch (IOException e) {
-            logger.error("Failed to read import file", e);
-            errors.add("Failed to read file: " + e.getMessage());
-            return new ImportResult(0, 0, 0, 0, errors, warnings);
-        } catch (Exception e) {
-            logger.error("Failed to parse YAML", e);
-            errors.add("Invalid YAML format: " + e.getMessage());
-            return new ImportResult(0, 0, 0, 0, errors, warnings);
+    /**
+     * Parse one item of the YAML entries list.
+     */
+    @SuppressWarnings("unchecked")
+    private LoreEntry parseYamlObject(Object item, Map<String, World> worlds, List<String> warnings) {
+        if (!(item instanceof Map)) {
+            warnings.add("Entry is not a YAML mapping");
+            return null;
         }
+        return parseYamlEntry((Map<String, Object>) item, worlds, warnings);
     }
 
     /**
      * Parse a LoreEntry from JSON.
      *
      * @param json The JSON object
+     * @param worlds Loaded worlds by name
      * @param warnings List to add warnings to
      * @return Parsed LoreEntry or null if invalid
      */
-    private LoreEntry parseJsonEntry(JsonObject json, List<String> warnings) {
+    private LoreEntry parseJsonEntry(JsonObject json, Map<String, World> worlds, List<String> warnings) {
         try {
             String id = getJsonString(json, "id");
             String name = getJsonString(json, "name");
@@ -301,7 +400,7 @@ public class LoreImporter {
             }
 
             if (json.has("location")) {
-                Location location = parseJsonLocation(json.getAsJsonObject("location"), warnings);
+                Location location = parseJsonLocation(json.getAsJsonObject("location"), worlds, warnings);
                 if (location != null) {
                     entry.setLocation(location);
                 }
@@ -343,16 +442,17 @@ public class LoreImporter {
      * Parse a LoreEntry from YAML map.
      *
      * @param map The YAML map
+     * @param worlds Loaded worlds by name
      * @param warnings List to add warnings to
      * @return Parsed LoreEntry or null if invalid
      */
     @SuppressWarnings("unchecked")
-    private LoreEntry parseYamlEntry(Map<String, Object> map, List<String> warnings) {
+    private LoreEntry parseYamlEntry(Map<String, Object> map, Map<String, World> worlds, List<String> warnings) {
         try {
-            String id = (String) map.get("id");
-            String name = (String) map.get("name");
-            String description = (String) map.get("description");
-            String typeStr = (String) map.get("type");
+            String id = getYamlString(map, "id");
+            String name = getYamlString(map, "name");
+            String description = getYamlString(map, "description");
+            String typeStr = getYamlString(map, "type");
 
             if (id == null || name == null || description == null || typeStr == null) {
                 warnings.add("Entry missing required fields (id, name, description, or type)");
@@ -371,27 +471,27 @@ public class LoreImporter {
 
             // Optional fields
             if (map.containsKey("nbt_data")) {
-                entry.setNbtData((String) map.get("nbt_data"));
+                entry.setNbtData(getYamlString(map, "nbt_data"));
             }
 
             if (map.containsKey("location")) {
-                Location location = parseYamlLocation((Map<String, Object>) map.get("location"), warnings);
+                Location location = parseYamlLocation((Map<String, Object>) map.get("location"), worlds, warnings);
                 if (location != null) {
                     entry.setLocation(location);
                 }
             }
 
             if (map.containsKey("submitted_by")) {
-                entry.setSubmittedBy((String) map.get("submitted_by"));
+                entry.setSubmittedBy(getYamlString(map, "submitted_by"));
             }
 
             if (map.containsKey("approved")) {
-                entry.setApproved((Boolean) map.get("approved"));
+                entry.setApproved(Boolean.parseBoolean(getYamlString(map, "approved")));
             }
 
             if (map.containsKey("created_at")) {
                 try {
-                    entry.setCreatedAt(Timestamp.valueOf((String) map.get("created_at")));
+                    entry.setCreatedAt(Timestamp.valueOf(getYamlString(map, "created_at")));
                 } catch (Exception e) {
                     warnings.add("Invalid timestamp format, using current time");
                 }
@@ -399,9 +499,9 @@ public class LoreImporter {
 
             // Parse metadata
             if (map.containsKey("metadata") && map.get("metadata") instanceof Map) {
-                Map<String, String> metadata = (Map<String, String>) map.get("metadata");
-                for (Map.Entry<String, String> metaEntry : metadata.entrySet()) {
-                    entry.addMetadata(metaEntry.getKey(), metaEntry.getValue());
+                Map<String, Object> metadata = (Map<String, Object>) map.get("metadata");
+                for (Map.Entry<String, Object> metaEntry : metadata.entrySet()) {
+                    entry.addMetadata(metaEntry.getKey(), String.valueOf(metaEntry.getValue()));
                 }
             }
 
@@ -416,14 +516,14 @@ public class LoreImporter {
     /**
      * Parse location from JSON.
      */
-    private Location parseJsonLocation(JsonObject json, List<String> warnings) {
+    private Location parseJsonLocation(JsonObject json, Map<String, World> worlds, List<String> warnings) {
         try {
             String worldName = json.get("world").getAsString();
             double x = json.get("x").getAsDouble();
             double y = json.get("y").getAsDouble();
             double z = json.get("z").getAsDouble();
 
-            World world = Bukkit.getWorld(worldName);
+            World world = worlds.get(worldName);
             if (world == null) {
                 warnings.add("World not found: " + worldName + ", location skipped");
                 return null;
@@ -440,14 +540,14 @@ public class LoreImporter {
      * Parse location from YAML map.
      */
     @SuppressWarnings("unchecked")
-    private Location parseYamlLocation(Map<String, Object> map, List<String> warnings) {
+    private Location parseYamlLocation(Map<String, Object> map, Map<String, World> worlds, List<String> warnings) {
         try {
-            String worldName = (String) map.get("world");
+            String worldName = getYamlString(map, "world");
             double x = ((Number) map.get("x")).doubleValue();
             double y = ((Number) map.get("y")).doubleValue();
             double z = ((Number) map.get("z")).doubleValue();
 
-            World world = Bukkit.getWorld(worldName);
+            World world = worlds.get(worldName);
             if (world == null) {
                 warnings.add("World not found: " + worldName + ", location skipped");
                 return null;
@@ -483,12 +583,26 @@ public class LoreImporter {
             return false;
         }
 
+        if (entry.getType() == LoreType.ITEM) {
+            String material = entry.getMetadata("material");
+            if (material == null || material.trim().isEmpty()) {
+                warnings.add("Item entry has no material: " + entry.getName());
+                return false;
+            }
+        }
+
         // Type-specific validation
         if (!entry.isValid()) {
             warnings.add("Entry validation failed: " + entry.getName());
             return false;
         }
 
+        LoreHandler handler = plugin.getHandlerFactory().getHandler(entry.getType());
+        if (handler == null || !handler.validateEntry(entry)) {
+            warnings.add("Handler validation failed for " + entry.getType() + " entry: " + entry.getName());
+            return false;
+        }
+
         return true;
     }
 
@@ -501,4 +615,12 @@ public class LoreImporter {
         }
         return json.get(key).getAsString();
     }
+
+    /**
+     * Get a scalar from a YAML map as a string, handling nulls and non-string scalars.
+     */
+    private String getYamlString(Map<String, Object> map, String key) {
+        Object value = map.get(key);
+        return value != null ? String.valueOf(value) : null;
+    }
 }
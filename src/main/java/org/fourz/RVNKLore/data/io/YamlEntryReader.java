@@ -0,0 +1,157 @@
+package org.fourz.RVNKLore.data.io;
+
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.*;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Streams the items of the top-level {@code entries} list of a YAML export using
+ * parser events, building plain maps/lists/scalars for one item at a time.
+ *
+ * <p>Plain scalars are resolved to Boolean, Long, Double or null the same way
+ * {@code Yaml.load} would; quoted scalars stay strings. Anchors and aliases are
+ * not supported in import files.
+ */
+class YamlEntryReader extends EntryReader<Object> {
+    private final File file;
+    private final Resolver resolver = new Resolver();
+    private BufferedReader input;
+    private Iterator<Event> events;
+    private boolean inEntries;
+
+    YamlEntryReader(File file) {
+        this.file = file;
+    }
+
+    @Override
+    String open() throws IOException {
+        input = openReader(file);
+        events = new Yaml().parse(input).iterator();
+
+        Event event = nextEvent();
+        while (event instanceof StreamStartEvent || event instanceof DocumentStartEvent) {
+            event = nextEvent();
+        }
+        if (!(event instanceof MappingStartEvent)) {
+            return "Invalid YAML format: missing 'entries' list";
+        }
+
+        while (!((event = nextEvent()) instanceof MappingEndEvent)) {
+            boolean entriesKey = event instanceof ScalarEvent scalar && scalar.getValue().equals("entries");
+            Event value = nextEvent();
+            if (entriesKey && value instanceof SequenceStartEvent) {
+                inEntries = true;
+                return null;
+            }
+            skip(value);
+        }
+        return "Invalid YAML format: missing 'entries' list";
+    }
+
+    @Override
+    Object next() throws IOException {
+        if (!inEntries) {
+            return null;
+        }
+        Event event = nextEvent();
+        if (event instanceof SequenceEndEvent) {
+            inEntries = false;
+            return null;
+        }
+        return build(event);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (input != null) {
+            input.close();
+        }
+    }
+
+    private Event nextEvent() {
+        if (!events.hasNext()) {
+            throw new YAMLException("Unexpected end of YAML document");
+        }
+        return events.next();
+    }
+
+    /**
+     * Build the value that starts with {@code event}.
+     */
+    private Object build(Event event) {
+        if (event instanceof ScalarEvent scalar) {
+            return resolve(scalar);
+        }
+        if (event instanceof MappingStartEvent) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            Event key;
+            while (!((key = nextEvent()) instanceof MappingEndEvent)) {
+                map.put(String.valueOf(build(key)), build(nextEvent()));
+            }
+            return map;
+        }
+        if (event instanceof SequenceStartEvent) {
+            List<Object> list = new ArrayList<>();
+            Event item;
+            while (!((item = nextEvent()) instanceof SequenceEndEvent)) {
+                list.add(build(item));
+            }
+            return list;
+        }
+        throw new YAMLException("Unsupported YAML construct in import file: " + event.getEventId());
+    }
+
+    /**
+     * Skip the value that starts with {@code event}, including any nested content.
+     */
+    private void skip(Event event) {
+        int depth = event instanceof MappingStartEvent || event instanceof SequenceStartEvent ? 1 : 0;
+        while (depth > 0) {
+            Event next = nextEvent();
+            if (next instanceof MappingStartEvent || next instanceof SequenceStartEvent) {
+                depth++;
+            } else if (next instanceof MappingEndEvent || next instanceof SequenceEndEvent) {
+                depth--;
+            }
+        }
+    }
+
+    private Object resolve(ScalarEvent scalar) {
+        String value = scalar.getValue();
+        if (!scalar.getImplicit().canOmitTagInPlainScalar()) {
+            return value;
+        }
+        Tag tag = resolver.resolve(NodeId.scalar, value, true);
+        try {
+            if (Tag.NULL.equals(tag)) {
+                return null;
+            }
+            if (Tag.BOOL.equals(tag)) {
+                String lower = value.toLowerCase(Locale.ROOT);
+                return lower.equals("true") || lower.equals("yes") || lower.equals("on") || lower.equals("y");
+            }
+            if (Tag.INT.equals(tag)) {
+                return Long.parseLong(value.replace("_", ""));
+            }
+            if (Tag.FLOAT.equals(tag)) {
+                return Double.parseDouble(value.replace("_", ""));
+            }
+        } catch (NumberFormatException e) {
+            // Hex, octal or sexagesimal forms: keep the literal text
+        }
+        return value;
+    }
+}
@@ -0,0 +1,112 @@
+package org.fourz.RVNKLore.data.journal;
+
+import org.fourz.RVNKLore.achievement.AchievementProgress;
+import org.fourz.RVNKLore.data.DatabaseManager;
+import org.fourz.RVNKLore.data.repository.AchievementRepository;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * Journaled {@code player_achievement} upsert. The record carries the full progress
+ * state, but replay merges it into the stored row rather than overwriting it: writes that
+ * succeeded after this one was journaled hold newer progress, and a stale snapshot must
+ * not roll them back. Replaying more than once converges on the same row.
+ */
+public class AchievementProgressJournalRecord extends JournalRecord {
+    private final AchievementProgress progress;
+
+    public AchievementProgressJournalRecord(AchievementProgress progress) {
+        // Snapshot: the live object keeps mutating after the write is journaled
+        this.progress = new AchievementProgress(
+            progress.getPlayerId(),
+            progress.getAchievementId(),
+            progress.getCurrentProgress(),
+            progress.getTargetProgress(),
+            progress.isCompleted(),
+            progress.isRewardsClaimed(),
+            progress.getStartedAt(),
+            progress.getCompletedAt()
+        );
+    }
+
+    @Override
+    public JournalRecordType getType() {
+        return JournalRecordType.ACHIEVEMENT_PROGRESS;
+    }
+
+    @Override
+    void writePayload(DataOutputStream out) throws IOException {
+        UUID playerId = progress.getPlayerId();
+        out.writeLong(playerId.getMostSignificantBits());
+        out.writeLong(playerId.getLeastSignificantBits());
+        out.writeUTF(progress.getAchievementId());
+        out.writeInt(progress.getCurrentProgress());
+        out.writeInt(progress.getTargetProgress());
+        out.writeBoolean(progress.isCompleted());
+        out.writeBoolean(progress.isRewardsClaimed());
+        out.writeLong(progress.getStartedAt());
+        out.writeLong(progress.getCompletedAt());
+    }
+
+    static AchievementProgressJournalRecord read(DataInputStream in) throws IOException {
+        return new AchievementProgressJournalRecord(new AchievementProgress(
+            new UUID(in.readLong(), in.readLong()),
+            in.readUTF(),
+            in.readInt(),
+            in.readInt(),
+            in.readBoolean(),
+            in.readBoolean(),
+            in.readLong(),
+            in.readLong()
+        ));
+    }
+
+    @Override
+    public void apply(Connection conn, DatabaseManager databaseManager) throws SQLException {
+        AchievementRepository repository = databaseManager.getAchievementRepository();
+        AchievementProgress stored = repository.findProgress(conn, progress.getPlayerId(), progress.getAchievementId());
+        repository.upsertProgress(conn, merge(stored, progress));
+    }
+
+    /**
+     * Merge journaled progress into the stored row. Progress only moves forward, and
+     * completion and claimed rewards are kept once set, so the result is never behind
+     * either side. The stored target wins because it reflects the current definition.
+     *
+     * @param stored    The row as it is now, or null if there is none
+     * @param journaled The state captured when the write was journaled
+     */
+    static AchievementProgress merge(AchievementProgress stored, AchievementProgress journaled) {
+        if (stored == null) {
+            return journaled;
+        }
+        boolean completed = stored.isCompleted() || journaled.isCompleted();
+        long completedAt = stored.isCompleted() ? stored.getCompletedAt() : journaled.getCompletedAt();
+        return new AchievementProgress(
+            stored.getPlayerId(),
+            stored.getAchievementId(),
+            Math.max(stored.getCurrentProgress(), journaled.getCurrentProgress()),
+            stored.getTargetProgress(),
+            completed,
+            stored.isRewardsClaimed() || journaled.isRewardsClaimed(),
+            stored.getStartedAt(),
+            completed ? completedAt : 0L
+        );
+    }
+
+    public AchievementProgress getProgress() {
+        return progress;
+    }
+
+    @Override
+    public String toString() {
+        return "AchievementProgress{player=" + progress.getPlayerId() +
+            ", achievement=" + progress.getAchievementId() +
+            ", progress=" + progress.getCurrentProgress() + "/" + progress.getTargetProgress() + "}";
+    }
+}
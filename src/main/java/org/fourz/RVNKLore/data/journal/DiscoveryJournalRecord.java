@@ -0,0 +1,87 @@
+package org.fourz.RVNKLore.data.journal;
+
+import org.fourz.RVNKLore.data.DatabaseManager;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * Journaled {@code lore_discovery} insert. Replay skips discoveries that already exist.
+ */
+public class DiscoveryJournalRecord extends JournalRecord {
+    private final UUID playerUuid;
+    private final String entryId;
+    private final String triggerType;
+    private final String world;
+    private final Double x;
+    private final Double y;
+    private final Double z;
+    private final boolean firstDiscovery;
+
+    public DiscoveryJournalRecord(UUID playerUuid, String entryId, String triggerType, String world,
+                                  Double x, Double y, Double z, boolean firstDiscovery) {
+        this.playerUuid = playerUuid;
+        this.entryId = entryId;
+        this.triggerType = triggerType;
+        this.world = world;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.firstDiscovery = firstDiscovery;
+    }
+
+    @Override
+    public JournalRecordType getType() {
+        return JournalRecordType.DISCOVERY;
+    }
+
+    @Override
+    void writePayload(DataOutputStream out) throws IOException {
+        out.writeLong(playerUuid.getMostSignificantBits());
+        out.writeLong(playerUuid.getLeastSignificantBits());
+        out.writeUTF(entryId);
+        writeNullableString(out, triggerType);
+        writeNullableString(out, world);
+        out.writeBoolean(x != null);
+        if (x != null) {
+            out.writeDouble(x);
+            out.writeDouble(y);
+            out.writeDouble(z);
+        }
+        out.writeBoolean(firstDiscovery);
+    }
+
+    static DiscoveryJournalRecord read(DataInputStream in) throws IOException {
+        UUID playerUuid = new UUID(in.readLong(), in.readLong());
+        String entryId = in.readUTF();
+        String triggerType = readNullableString(in);
+        String world = readNullableString(in);
+        Double x = null, y = null, z = null;
+        if (in.readBoolean()) {
+            x = in.readDouble();
+            y = in.readDouble();
+            z = in.readDouble();
+        }
+        boolean firstDiscovery = in.readBoolean();
+        return new DiscoveryJournalRecord(playerUuid, entryId, triggerType, world, x, y, z, firstDiscovery);
+    }
+
+    @Override
+    public void apply(Connection conn, DatabaseManager databaseManager) throws SQLException {
+        databaseManager.getDiscoveryRepository()
+            .insertDiscovery(conn, playerUuid, entryId, triggerType, world, x, y, z, firstDiscovery);
+    }
+
+    public UUID getPlayerUuid() { return playerUuid; }
+    public String getEntryId() { return entryId; }
+    public boolean isFirstDiscovery() { return firstDiscovery; }
+
+    @Override
+    public String toString() {
+        return "Discovery{player=" + playerUuid + ", entry=" + entryId + ", trigger=" + triggerType + "}";
+    }
+}
@@ -0,0 +1,291 @@
+package org.fourz.RVNKLore.data.journal;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * On-disk format of the offline write journal.
+ *
+ * <p>The log starts with a fixed header followed by length-prefixed frames:
+ * <pre>
+ *   int payloadLength | long sequence | byte type | payload | int crc32(sequence, type, payload)
+ * </pre>
+ * A separate checkpoint file stores the highest sequence that has been replayed.
+ * A frame that is cut short or fails its checksum marks the end of the usable
+ * log (a torn write from a crash) and is truncated away on open.
+ */
+class JournalFile implements AutoCloseable {
+    static final int MAGIC = 0x524A524E; // "RJRN"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 8;
+    static final int MAX_PAYLOAD = 1 << 20;
+    private static final int FRAME_OVERHEAD = 4 + 8 + 1 + 4;
+
+    private final Path logPath;
+    private final Path checkpointPath;
+    private final boolean fsync;
+    private FileChannel channel;
+    private long lastSequence;
+    private long checkpoint;
+    private long truncatedBytes;
+
+    JournalFile(Path directory, boolean fsync) {
+        this.logPath = directory.resolve("pending-writes.log");
+        this.checkpointPath = directory.resolve("pending-writes.checkpoint");
+        this.fsync = fsync;
+    }
+
+    /**
+     * Open (or create) the journal, validate existing frames and truncate a torn tail.
+     */
+    synchronized void open() throws IOException {
+        Files.createDirectories(logPath.getParent());
+        channel = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        checkpoint = readCheckpoint();
+
+        if (channel.size() < HEADER_SIZE) {
+            writeHeader();
+        } else {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            channel.read(header, 0);
+            header.flip();
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("Unrecognized journal file: " + logPath);
+            }
+        }
+
+        ScanResult scan = scan(HEADER_SIZE, Integer.MAX_VALUE, false);
+        truncatedBytes = channel.size() - scan.nextOffset;
+        if (truncatedBytes > 0) {
+            channel.truncate(scan.nextOffset);
+            channel.force(true);
+        }
+        lastSequence = Math.max(checkpoint, scan.lastSequence);
+        channel.position(channel.size());
+    }
+
+    /**
+     * Append a record and assign it the next sequence number.
+     *
+     * @return The assigned sequence
+     */
+    synchronized long append(JournalRecord record) throws IOException {
+        ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(payloadBytes)) {
+            record.writePayload(out);
+        }
+        byte[] payload = payloadBytes.toByteArray();
+        if (payload.length > MAX_PAYLOAD) {
+            throw new IOException("Journal record too large: " + payload.length + " bytes");
+        }
+
+        long sequence = lastSequence + 1;
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_OVERHEAD + payload.length);
+        frame.putInt(payload.length);
+        frame.putLong(sequence);
+        frame.put(record.getType().getCode());
+        frame.put(payload);
+        frame.putInt(checksum(sequence, record.getType().getCode(), payload));
+        frame.flip();
+
+        long start = channel.size();
+        try {
+            while (frame.hasRemaining()) {
+                channel.write(frame, start + frame.position());
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            // Drop the partial frame so the next append does not land behind garbage
+            channel.truncate(start);
+            throw e;
+        }
+        lastSequence = sequence;
+        return sequence;
+    }
+
+    /**
+     * Read up to {@code limit} valid frames starting at a byte offset.
+     *
+     * @param offset Byte offset of the first frame ({@link #HEADER_SIZE} for the start of the log)
+     * @param limit Maximum number of entries to return
+     */
+    synchronized ScanResult read(long offset, int limit) throws IOException {
+        return scan(offset, limit, true);
+    }
+
+    /**
+     * Record that every sequence up to and including {@code sequence} has been replayed.
+     */
+    synchronized void writeCheckpoint(long sequence) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(12);
+        buffer.putLong(sequence);
+        buffer.putInt(checksum(sequence, (byte) 0, new byte[0]));
+        Path temp = checkpointPath.resolveSibling(checkpointPath.getFileName() + ".tmp");
+        Files.write(temp, buffer.array());
+        Files.move(temp, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        checkpoint = sequence;
+    }
+
+    /**
+     * Truncate the log if every appended record has been replayed.
+     *
+     * @return true if the log was emptied
+     */
+    synchronized boolean compactIfDrained() throws IOException {
+        if (checkpoint < lastSequence) {
+            return false;
+        }
+        channel.truncate(HEADER_SIZE);
+        channel.force(true);
+        return true;
+    }
+
+    synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
+    synchronized long getCheckpoint() {
+        return checkpoint;
+    }
+
+    synchronized long getPendingCount() {
+        return lastSequence - checkpoint;
+    }
+
+    /**
+     * @return Bytes discarded from a torn tail when the journal was opened
+     */
+    long getTruncatedBytes() {
+        return truncatedBytes;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void writeHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+        header.flip();
+        channel.truncate(0);
+        channel.write(header, 0);
+        channel.force(true);
+    }
+
+    private long readCheckpoint() throws IOException {
+        if (!Files.exists(checkpointPath)) {
+            return 0L;
+        }
+        byte[] bytes = Files.readAllBytes(checkpointPath);
+        if (bytes.length != 12) {
+            return 0L;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long sequence = buffer.getLong();
+        // A corrupt checkpoint only costs a re-replay, which is idempotent
+        return buffer.getInt() == checksum(sequence, (byte) 0, new byte[0]) ? sequence : 0L;
+    }
+
+    private ScanResult scan(long offset, int limit, boolean decode) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        long position = offset;
+        long lastSeq = 0L;
+        long end = channel.size();
+
+        DataInputStream in = new DataInputStream(new BufferedInputStream(
+            Channels.newInputStream(channel.position(offset)), 64 * 1024));
+        while (entries.size() < limit && position + FRAME_OVERHEAD <= end) {
+            try {
+                int length = in.readInt();
+                if (length < 0 || length > MAX_PAYLOAD || position + FRAME_OVERHEAD + length > end) {
+                    break;
+                }
+                long sequence = in.readLong();
+                byte typeCode = in.readByte();
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+                int crc = in.readInt();
+                if (crc != checksum(sequence, typeCode, payload)) {
+                    break;
+                }
+                JournalRecordType type = JournalRecordType.fromCode(typeCode);
+                if (type == null) {
+                    throw new IOException("Unknown journal record type " + typeCode + " at offset " + position);
+                }
+
+                position += FRAME_OVERHEAD + length;
+                lastSeq = sequence;
+                if (decode) {
+                    JournalRecord record = JournalRecord.readPayload(type,
+                        new DataInputStream(new ByteArrayInputStream(payload)));
+                    entries.add(new Entry(sequence, record));
+                }
+            } catch (EOFException e) {
+                break;
+            }
+        }
+        // Appends always write at an explicit offset, so moving the shared position is harmless
+        channel.position(channel.size());
+        return new ScanResult(entries, position, lastSeq);
+    }
+
+    private static int checksum(long sequence, byte type, byte[] payload) {
+        CRC32 crc = new CRC32();
+        ByteBuffer header = ByteBuffer.allocate(9);
+        header.putLong(sequence);
+        header.put(type);
+        crc.update(header.array());
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * A decoded journal frame.
+     */
+    static final class Entry {
+        final long sequence;
+        final JournalRecord record;
+
+        Entry(long sequence, JournalRecord record) {
+            this.sequence = sequence;
+            this.record = record;
+        }
+    }
+
+    /**
+     * Frames read by a scan and where the next scan should resume.
+     */
+    static final class ScanResult {
+        final List<Entry> entries;
+        final long nextOffset;
+        final long lastSequence;
+
+        ScanResult(List<Entry> entries, long nextOffset, long lastSequence) {
+            this.entries = entries;
+            this.nextOffset = nextOffset;
+            this.lastSequence = lastSequence;
+        }
+    }
+}
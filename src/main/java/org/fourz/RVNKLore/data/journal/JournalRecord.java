@@ -0,0 +1,62 @@
+package org.fourz.RVNKLore.data.journal;
+
+import org.fourz.RVNKLore.data.DatabaseManager;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * A single write captured by the {@link OfflineWriteJournal}.
+ *
+ * <p>Records must be idempotent: replay is at-least-once, so a batch that was
+ * committed just before a crash (but not yet checkpointed) is applied again on
+ * the next replay.
+ */
+public abstract class JournalRecord {
+
+    /**
+     * @return The persisted record type
+     */
+    public abstract JournalRecordType getType();
+
+    /**
+     * Serialize the record body (everything except the type and framing).
+     */
+    abstract void writePayload(DataOutputStream out) throws IOException;
+
+    /**
+     * Re-apply the write against the current primary database.
+     *
+     * @param conn Connection inside the replay transaction; implementations must not commit
+     * @param databaseManager Source of the current repositories (their dialect matches the connection)
+     */
+    public abstract void apply(Connection conn, DatabaseManager databaseManager) throws SQLException;
+
+    /**
+     * Read a record body written by {@link #writePayload(DataOutputStream)}.
+     *
+     * @param type The record type read from the frame header
+     * @param in Stream positioned at the start of the payload
+     * @return The decoded record
+     */
+    static JournalRecord readPayload(JournalRecordType type, DataInputStream in) throws IOException {
+        return switch (type) {
+            case DISCOVERY -> DiscoveryJournalRecord.read(in);
+            case ACHIEVEMENT_PROGRESS -> AchievementProgressJournalRecord.read(in);
+        };
+    }
+
+    static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
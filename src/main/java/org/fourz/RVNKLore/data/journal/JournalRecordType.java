@@ -0,0 +1,35 @@
+package org.fourz.RVNKLore.data.journal;
+
+/**
+ * Kinds of writes the offline journal can capture.
+ * The code is persisted in the journal file, so existing values must never be renumbered.
+ */
+public enum JournalRecordType {
+    DISCOVERY((byte) 1),
+    ACHIEVEMENT_PROGRESS((byte) 2);
+
+    private final byte code;
+
+    JournalRecordType(byte code) {
+        this.code = code;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    /**
+     * Resolve a persisted type code.
+     *
+     * @param code The code read from the journal
+     * @return The matching type, or null if unknown
+     */
+    public static JournalRecordType fromCode(byte code) {
+        for (JournalRecordType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,312 @@
+package org.fourz.RVNKLore.data.journal;
+
+import org.fourz.RVNKLore.RVNKLore;
+import org.fourz.RVNKLore.data.DatabaseConnection;
+import org.fourz.RVNKLore.data.DatabaseManager;
+import org.fourz.RVNKLore.data.DatabaseUnavailableException;
+import org.fourz.rvnkcore.util.log.LogManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Savepoint;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Append-only local journal for player progress writes made while the primary
+ * database is unavailable.
+ *
+ * <p>While the {@link DatabaseManager} is in fallback mode or reconnecting, the
+ * journal is <em>capturing</em>: discovery and achievement writes are appended to
+ * a checksummed log under {@code plugins/RVNKLore/journal/} in addition to being
+ * attempted against the active connection. Writes that fail because the database
+ * is unreachable are journaled as well. Once the primary connection is back,
+ * {@link #replayAsync(DatabaseManager)} re-applies the records in order, one
+ * transaction per batch, checkpointing after every committed batch.
+ *
+ * <p>Replay is at-least-once, so every record type is idempotent.
+ */
+public class OfflineWriteJournal {
+    private final LogManager logger;
+    private final JournalFile file;
+    private final int batchSize;
+    private final AtomicBoolean replaying = new AtomicBoolean(false);
+    private volatile boolean capturing = false;
+    private volatile boolean open = false;
+
+    public OfflineWriteJournal(RVNKLore plugin) {
+        this.logger = LogManager.getInstance(plugin, "OfflineWriteJournal");
+        this.batchSize = Math.max(1, plugin.getConfig().getInt("storage.journal.batchSize", 100));
+        this.file = new JournalFile(
+            new File(plugin.getDataFolder(), "journal").toPath(),
+            plugin.getConfig().getBoolean("storage.journal.fsync", false));
+    }
+
+    /**
+     * Open the journal file, recovering from a torn tail if the server crashed mid-write.
+     *
+     * @return true if the journal is usable
+     */
+    public boolean open() {
+        try {
+            file.open();
+            open = true;
+            if (file.getTruncatedBytes() > 0) {
+                logger.warning("Discarded " + file.getTruncatedBytes() + " bytes of incomplete journal data");
+            }
+            if (hasPending()) {
+                logger.info("Write journal has " + getPendingCount() + " records awaiting replay");
+            }
+            return true;
+        } catch (IOException e) {
+            logger.error("Failed to open write journal - offline writes will not be captured", e);
+            return false;
+        }
+    }
+
+    /**
+     * Start or stop capturing every write. Stopping does not discard pending records.
+     */
+    public void setCapturing(boolean capturing) {
+        if (this.capturing != capturing) {
+            logger.debug("Write journal capture " + (capturing ? "enabled" : "disabled"));
+        }
+        this.capturing = capturing;
+    }
+
+    public boolean isCapturing() {
+        return capturing;
+    }
+
+    public boolean hasPending() {
+        return open && file.getPendingCount() > 0;
+    }
+
+    public long getPendingCount() {
+        return open ? file.getPendingCount() : 0L;
+    }
+
+    public boolean isReplaying() {
+        return replaying.get();
+    }
+
+    /**
+     * Append a record to the journal.
+     *
+     * @return true if the record is durable in the journal
+     */
+    public boolean append(JournalRecord record) {
+        if (!open) {
+            return false;
+        }
+        try {
+            file.append(record);
+            return true;
+        } catch (IOException e) {
+            logger.error("Failed to journal write: " + record, e);
+            return false;
+        }
+    }
+
+    /**
+     * Run a repository write with journal protection.
+     *
+     * <p>While capturing, the record is journaled before the write is attempted. Otherwise
+     * it is journaled only if the write fails because the database is unreachable. Either
+     * way a journaled write is reported as successful to the caller.
+     *
+     * @param record The journal form of the write
+     * @param write Performs the write against the active connection
+     * @return Future completing with the write result, or exceptionally if it was not journaled
+     */
+    public CompletableFuture<Boolean> guard(JournalRecord record, Supplier<CompletableFuture<Boolean>> write) {
+        return guardAll(List.of(record), write);
+    }
+
+    /**
+     * Run a repository write covering several records with journal protection.
+     * Behaves like {@link #guard} with every record journaled or none.
+     *
+     * @param records The journal form of each row the write covers
+     * @param write Performs the write against the active connection
+     * @return Future completing with the write result, or exceptionally if it was not journaled
+     */
+    public CompletableFuture<Boolean> guardAll(List<? extends JournalRecord> records,
+                                               Supplier<CompletableFuture<Boolean>> write) {
+        boolean journaled = capturing && appendAll(records);
+
+        CompletableFuture<Boolean> attempt;
+        try {
+            attempt = write.get();
+        } catch (RuntimeException e) {
+            attempt = CompletableFuture.failedFuture(e);
+        }
+
+        return attempt.handle((result, error) -> {
+            if (error == null) {
+                return journaled || Boolean.TRUE.equals(result);
+            }
+            if (journaled) {
+                return true;
+            }
+            if (isConnectivityFailure(error) && appendAll(records)) {
+                logger.warning("Database unavailable - journaled " + records.size() + " write(s) for replay: " + records.get(0)
+                    + (records.size() > 1 ? " ..." : ""));
+                return true;
+            }
+            throw error instanceof CompletionException ce ? ce : new CompletionException(error);
+        });
+    }
+
+    private boolean appendAll(List<? extends JournalRecord> records) {
+        for (JournalRecord record : records) {
+            if (!append(record)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replay pending records against the manager's current connection.
+     * Only one replay runs at a time; concurrent calls return immediately.
+     *
+     * @param databaseManager Provides the (primary) connection and repositories
+     * @return Future with the number of records applied
+     */
+    public CompletableFuture<Integer> replayAsync(DatabaseManager databaseManager) {
+        if (!hasPending()) {
+            if (!databaseManager.isInFallbackMode()) {
+                setCapturing(false);
+            }
+            return CompletableFuture.completedFuture(0);
+        }
+        if (!replaying.compareAndSet(false, true)) {
+            return CompletableFuture.completedFuture(0);
+        }
+
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return replay(databaseManager);
+            } finally {
+                replaying.set(false);
+            }
+        });
+    }
+
+    /**
+     * Close the journal file. Pending records stay on disk for the next start.
+     */
+    public void close() {
+        open = false;
+        try {
+            file.close();
+        } catch (IOException e) {
+            logger.warning("Failed to close write journal: " + e.getMessage());
+        }
+    }
+
+    private int replay(DatabaseManager databaseManager) {
+        long pending = file.getPendingCount();
+        logger.info("Replaying " + pending + " journaled writes");
+
+        int applied = 0;
+        int skipped = 0;
+        long offset = JournalFile.HEADER_SIZE;
+        try {
+            while (true) {
+                if (databaseManager.isInFallbackMode()) {
+                    logger.warning("Journal replay paused - database is in fallback mode");
+                    return applied;
+                }
+
+                JournalFile.ScanResult scan = file.read(offset, batchSize);
+                if (scan.entries.isEmpty()) {
+                    break;
+                }
+                offset = scan.nextOffset;
+
+                long checkpoint = file.getCheckpoint();
+                List<JournalFile.Entry> batch = scan.entries.stream()
+                    .filter(entry -> entry.sequence > checkpoint)
+                    .toList();
+                if (batch.isEmpty()) {
+                    continue;
+                }
+
+                DatabaseConnection connection = databaseManager.getDatabaseConnection();
+                if (connection == null) {
+                    logger.warning("Journal replay paused - no database connection");
+                    return applied;
+                }
+
+                int[] failed = new int[1];
+                connection.executeWrite(conn -> {
+                    for (JournalFile.Entry entry : batch) {
+                        Savepoint savepoint = conn.setSavepoint();
+                        try {
+                            entry.record.apply(conn, databaseManager);
+                            conn.releaseSavepoint(savepoint);
+                        } catch (SQLException | RuntimeException e) {
+                            if (isConnectivityFailure(e)) {
+                                throw e;
+                            }
+                            // Data-level failure (e.g. the lore entry no longer exists): never retry it
+                            conn.rollback(savepoint);
+                            failed[0]++;
+                            logger.warning("Skipping journaled write #" + entry.sequence + " (" + entry.record + "): " + e.getMessage());
+                        }
+                    }
+                    return null;
+                }).join();
+
+                file.writeCheckpoint(batch.get(batch.size() - 1).sequence);
+                applied += batch.size() - failed[0];
+                skipped += failed[0];
+            }
+
+            if (file.compactIfDrained() && !databaseManager.isInFallbackMode()) {
+                setCapturing(false);
+            }
+            logger.info("Journal replay complete: " + applied + " applied" + (skipped > 0 ? ", " + skipped + " skipped" : ""));
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            logger.warning("Journal replay interrupted after " + applied + " records: " + cause.getMessage());
+        } catch (IOException e) {
+            logger.error("Journal replay failed after " + applied + " records", e);
+        }
+        return applied;
+    }
+
+    /**
+     * Decide whether a failure means the database was unreachable (worth journaling and
+     * retrying) rather than the write itself being invalid.
+     */
+    public static boolean isConnectivityFailure(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof SQLTransientConnectionException
+                    || t instanceof SQLNonTransientConnectionException
+                    || t instanceof SQLRecoverableException) {
+                return true;
+            }
+            if (t instanceof SQLException sql && sql.getSQLState() != null && sql.getSQLState().startsWith("08")) {
+                return true;
+            }
+            // Closed or exhausted pools and a stopped SQLite writer
+            if (t instanceof DatabaseUnavailableException) {
+                return true;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,45 @@
+package org.fourz.RVNKLore.data.model;
+
+import org.fourz.RVNKLore.lore.LoreEntry;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Result of an incremental lore entry read: entries whose current submission changed
+ * at or after a sync watermark, plus the IDs of every entry that still exists so
+ * deletions can be detected without reloading content.
+ */
+public class LoreEntryDelta {
+    private final List<LoreEntry> changedEntries;
+    private final Set<String> liveEntryIds;
+    private final Timestamp watermark;
+
+    public LoreEntryDelta(List<LoreEntry> changedEntries, Set<String> liveEntryIds, Timestamp watermark) {
+        this.changedEntries = changedEntries;
+        this.liveEntryIds = liveEntryIds;
+        this.watermark = watermark;
+    }
+
+    /**
+     * @return Entries changed at or after the requested watermark (all entries for a full read)
+     */
+    public List<LoreEntry> getChangedEntries() {
+        return changedEntries;
+    }
+
+    /**
+     * @return IDs of all entries currently in the database
+     */
+    public Set<String> getLiveEntryIds() {
+        return liveEntryIds;
+    }
+
+    /**
+     * @return The newest change timestamp seen, or the requested watermark if nothing changed
+     */
+    public Timestamp getWatermark() {
+        return watermark;
+    }
+}
@@ -3,11 +3,15 @@ package org.fourz.RVNKLore.data.repository;
 import org.fourz.RVNKLore.RVNKLore;
 import org.fourz.RVNKLore.achievement.AchievementProgress;
 import org.fourz.RVNKLore.data.DatabaseConnection;
+import org.fourz.RVNKLore.data.journal.AchievementProgressJournalRecord;
+import org.fourz.RVNKLore.data.journal.OfflineWriteJournal;
 import org.fourz.rvnkcore.util.log.LogManager;
 
 import java.sql.*;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 /**
  * Repository implementation for player achievement progress.
@@ -17,10 +21,19 @@ public class AchievementRepository implements IAchievementRepository {
     private final RVNKLore plugin;
     private final LogManager logger;
     private final DatabaseConnection dbConnection;
+    private final OfflineWriteJournal journal;
 
     public AchievementRepository(RVNKLore plugin, DatabaseConnection dbConnection) {
+        this(plugin, dbConnection, null);
+    }
+
+    /**
+     * @param journal Offline write journal protecting progress writes, or null to disable
+     */
+    public AchievementRepository(RVNKLore plugin, DatabaseConnection dbConnection, OfflineWriteJournal journal) {
         this.plugin = plugin;
         this.dbConnection = dbConnection;
+        this.journal = journal;
         this.logger = LogManager.getInstance(plugin, "AchievementRepository");
     }
 
@@ -30,38 +43,102 @@ public class AchievementRepository implements IAchievementRepository {
 
     @Override
     public CompletableFuture<Boolean> saveProgress(AchievementProgress progress) {
-        return CompletableFuture.supplyAsync(() -> {
-            // Upsert: insert or update on conflict
-            String sql;
-            if ("SQLite".equals(dbConnection.getDialect().getName())) {
-                sql = "INSERT OR REPLACE INTO " + t("player_achievement") +
-                    " (player_uuid, achievement_id, current_progress, target_progress, completed, rewards_claimed, started_at, completed_at)" +
-                    " VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
-            } else {
-                sql = "INSERT INTO " + t("player_achievement") +
-                    " (player_uuid, achievement_id, current_progress, target_progress, completed, rewards_claimed, started_at, completed_at)" +
-                    " VALUES (?, ?, ?, ?, ?, ?, ?, ?)" +
-                    " ON DUPLICATE KEY UPDATE current_progress = VALUES(current_progress)," +
-                    " target_progress = VALUES(target_progress), completed = VALUES(completed)," +
-                    " rewards_claimed = VALUES(rewards_claimed), completed_at = VALUES(completed_at)";
+        Supplier<CompletableFuture<Boolean>> write = () -> dbConnection.executeWrite(conn -> upsertProgress(conn, progress));
+
+        CompletableFuture<Boolean> result = journal != null
+            ? journal.guard(new AchievementProgressJournalRecord(progress), write)
+            : write.get();
+        return result.exceptionally(e -> {
+            logger.error("Failed to save achievement progress: " + progress, DatabaseConnection.unwrap(e));
+            return false;
+        });
+    }
+
+    /**
+     * Upsert a progress row on an existing connection. Used by {@link #saveProgress}
+     * and by journal replay, after merging with {@link #findProgress}.
+     *
+     * @param conn Connection inside the caller's transaction
+     * @return true if a row was written
+     */
+    public boolean upsertProgress(Connection conn, AchievementProgress progress) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(upsertSql())) {
+            bindProgress(stmt, progress);
+            return stmt.executeUpdate() > 0;
+        }
+    }
+
+    /**
+     * Read one progress row on an existing connection, locking it until the caller's
+     * transaction ends where the dialect supports it. Used by journal replay to merge
+     * with whatever was written after the journaled state.
+     *
+     * @return The stored progress, or null if there is no row
+     */
+    public AchievementProgress findProgress(Connection conn, UUID playerId, String achievementId) throws SQLException {
+        String sql = "SELECT * FROM " + t("player_achievement") + " WHERE player_uuid = ? AND achievement_id = ?";
+        if (!"SQLite".equals(dbConnection.getDialect().getName())) {
+            // SQLite writes are already serialized by the single writer
+            sql += " FOR UPDATE";
+        }
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, playerId.toString());
+            stmt.setString(2, achievementId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? mapRow(rs) : null;
             }
+        }
+    }
 
-            try (Connection conn = dbConnection.getConnection();
-                 PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setString(1, progress.getPlayerId().toString());
-                stmt.setString(2, progress.getAchievementId());
-                stmt.setInt(3, progress.getCurrentProgress());
-                stmt.setInt(4, progress.getTargetProgress());
-                stmt.setBoolean(5, progress.isCompleted());
-                stmt.setBoolean(6, progress.isRewardsClaimed());
-                stmt.setLong(7, progress.getStartedAt());
-                stmt.setLong(8, progress.getCompletedAt());
-                return stmt.executeUpdate() > 0;
-            } catch (SQLException e) {
-                logger.error("Failed to save achievement progress: " + progress, e);
-                return false;
+    @Override
+    public CompletableFuture<Boolean> saveProgressBatch(List<AchievementProgress> batch) {
+        if (batch.isEmpty()) {
+            return CompletableFuture.completedFuture(true);
+        }
+        Supplier<CompletableFuture<Boolean>> write = () -> dbConnection.executeWrite(conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(upsertSql())) {
+                for (AchievementProgress progress : batch) {
+                    bindProgress(stmt, progress);
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+                return true;
             }
         });
+
+        CompletableFuture<Boolean> result = journal != null
+            ? journal.guardAll(batch.stream().map(AchievementProgressJournalRecord::new).toList(), write)
+            : write.get();
+        return result.exceptionally(e -> {
+            logger.error("Failed to save " + batch.size() + " achievement progress records", DatabaseConnection.unwrap(e));
+            return false;
+        });
+    }
+
+    private String upsertSql() {
+        // Upsert: insert or update on conflict
+        if ("SQLite".equals(dbConnection.getDialect().getName())) {
+            return "INSERT OR REPLACE INTO " + t("player_achievement") +
+                " (player_uuid, achievement_id, current_progress, target_progress, completed, rewards_claimed, started_at, completed_at)" +
+                " VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        }
+        return "INSERT INTO " + t("player_achievement") +
+            " (player_uuid, achievement_id, current_progress, target_progress, completed, rewards_claimed, started_at, completed_at)" +
+            " VALUES (?, ?, ?, ?, ?, ?, ?, ?)" +
+            " ON DUPLICATE KEY UPDATE current_progress = VALUES(current_progress)," +
+            " target_progress = VALUES(target_progress), completed = VALUES(completed)," +
+            " rewards_claimed = VALUES(rewards_claimed), completed_at = VALUES(completed_at)";
+    }
+
+    private void bindProgress(PreparedStatement stmt, AchievementProgress progress) throws SQLException {
+        stmt.setString(1, progress.getPlayerId().toString());
+        stmt.setString(2, progress.getAchievementId());
+        stmt.setInt(3, progress.getCurrentProgress());
+        stmt.setInt(4, progress.getTargetProgress());
+        stmt.setBoolean(5, progress.isCompleted());
+        stmt.setBoolean(6, progress.isRewardsClaimed());
+        stmt.setLong(7, progress.getStartedAt());
+        stmt.setLong(8, progress.getCompletedAt());
     }
 
     @Override
@@ -108,36 +185,81 @@ public class AchievementRepository implements IAchievementRepository {
     }
 
     @Override
-    public CompletableFuture<Boolean> deleteProgress(UUID playerId, String achievementId) {
+    public CompletableFuture<List<LeaderboardEntry>> getLeaderboard(Map<String, Integer> pointsByAchievement, int limit) {
         return CompletableFuture.supplyAsync(() -> {
-            String sql = "DELETE FROM " + t("player_achievement") +
-                    " WHERE player_uuid = ? AND achievement_id = ?";
+            // Points live in the achievement definitions, so map them in the query itself
+            StringBuilder points = new StringBuilder();
+            if (pointsByAchievement.isEmpty()) {
+                points.append("0");
+            } else {
+                points.append("CASE achievement_id");
+                for (int i = 0; i < pointsByAchievement.size(); i++) {
+                    points.append(" WHEN ? THEN ?");
+                }
+                points.append(" ELSE 0 END");
+            }
+            String sql = "SELECT player_uuid, SUM(" + points + ") AS points, COUNT(*) AS completed_count" +
+                " FROM " + t("player_achievement") +
+                " WHERE completed = ?" +
+                " GROUP BY player_uuid" +
+                " ORDER BY points DESC, completed_count DESC" +
+                " LIMIT ?";
 
+            List<LeaderboardEntry> leaderboard = new ArrayList<>();
             try (Connection conn = dbConnection.getConnection();
                  PreparedStatement stmt = conn.prepareStatement(sql)) {
+                int index = 1;
+                for (Map.Entry<String, Integer> entry : pointsByAchievement.entrySet()) {
+                    stmt.setString(index++, entry.getKey());
+                    stmt.setInt(index++, entry.getValue());
+                }
+                stmt.setBoolean(index++, true);
+                stmt.setInt(index, limit);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        leaderboard.add(new LeaderboardEntry(
+                            UUID.fromString(rs.getString("player_uuid")),
+                            rs.getInt("points"),
+                            rs.getInt("completed_count")));
+                    }
+                }
+            } catch (SQLException e) {
+                logger.error("Failed to load achievement leaderboard", e);
+                throw new CompletionException(e);
+            }
+            return leaderboard;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deleteProgress(UUID playerId, String achievementId) {
+        String sql = "DELETE FROM " + t("player_achievement") +
+                " WHERE player_uuid = ? AND achievement_id = ?";
+
+        return dbConnection.executeWrite(conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
                 stmt.setString(1, playerId.toString());
                 stmt.setString(2, achievementId);
                 return stmt.executeUpdate() > 0;
-            } catch (SQLException e) {
-                logger.error("Failed to delete achievement progress", e);
-                return false;
             }
+        }).exceptionally(e -> {
+            logger.error("Failed to delete achievement progress", DatabaseConnection.unwrap(e));
+            return false;
         });
     }
 
     @Override
     public CompletableFuture<Boolean> deleteAllProgress(UUID playerId) {
-        return CompletableFuture.supplyAsync(() -> {
-            String sql = "DELETE FROM " + t("player_achievement") + " WHERE player_uuid = ?";
+        String sql = "DELETE FROM " + t("player_achievement") + " WHERE player_uuid = ?";
 
-            try (Connection conn = dbConnection.getConnection();
-                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+        return dbConnection.executeWrite(conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
                 stmt.setString(1, playerId.toString());
                 return stmt.executeUpdate() > 0;
-            } catch (SQLException e) {
-                logger.error("Failed to delete all progress for: " + playerId, e);
-                return false;
             }
+        }).exceptionally(e -> {
+            logger.error("Failed to delete all progress for: " + playerId, DatabaseConnection.unwrap(e));
+            return false;
         });
     }
 
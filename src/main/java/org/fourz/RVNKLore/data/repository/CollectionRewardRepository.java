@@ -53,12 +53,11 @@ public class CollectionRewardRepository implements ICollectionRewardRepository {
 
     @Override
     public CompletableFuture<Boolean> addReward(CollectionReward reward) {
-        return CompletableFuture.supplyAsync(() -> {
-            String sql = "INSERT INTO " + t("collection_reward") +
-                    " (collection_id, reward_type, reward_data, is_claimed) VALUES (?, ?, ?, 0)";
+        String sql = "INSERT INTO " + t("collection_reward") +
+                " (collection_id, reward_type, reward_data, is_claimed) VALUES (?, ?, ?, 0)";
 
-            try (Connection conn = dbConnection.getConnection();
-                 PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+        return dbConnection.executeWrite(conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
                 stmt.setString(1, reward.getCollectionId());
                 stmt.setString(2, reward.getRewardType().name());
                 stmt.setString(3, reward.getRewardData());
@@ -71,61 +70,58 @@ public class CollectionRewardRepository implements ICollectionRewardRepository {
                     }
                 }
                 return rows > 0;
-            } catch (SQLException e) {
-                logger.error("Failed to add reward: " + reward, e);
-                return false;
             }
+        }).exceptionally(e -> {
+            logger.error("Failed to add reward: " + reward, DatabaseConnection.unwrap(e));
+            return false;
         });
     }
 
     @Override
     public CompletableFuture<Boolean> removeReward(int rewardId) {
-        return CompletableFuture.supplyAsync(() -> {
-            String sql = "DELETE FROM " + t("collection_reward") + " WHERE id = ?";
+        String sql = "DELETE FROM " + t("collection_reward") + " WHERE id = ?";
 
-            try (Connection conn = dbConnection.getConnection();
-                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+        return dbConnection.executeWrite(conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
                 stmt.setInt(1, rewardId);
                 return stmt.executeUpdate() > 0;
-            } catch (SQLException e) {
-                logger.error("Failed to remove reward: " + rewardId, e);
-                return false;
             }
+        }).exceptionally(e -> {
+            logger.error("Failed to remove reward: " + rewardId, DatabaseConnection.unwrap(e));
+            return false;
         });
     }
 
     @Override
     public CompletableFuture<Boolean> claimReward(int rewardId, UUID playerId) {
-        return CompletableFuture.supplyAsync(() -> {
-            // Check if already claimed
-            String checkSql = "SELECT 1 FROM " + t("player_reward_claim") +
-                    " WHERE reward_id = ? AND player_uuid = ?";
-            String insertSql = "INSERT INTO " + t("player_reward_claim") +
-                    " (reward_id, player_uuid, claimed_at) VALUES (?, ?, ?)";
-
-            try (Connection conn = dbConnection.getConnection()) {
-                // Check for existing claim
-                try (PreparedStatement check = conn.prepareStatement(checkSql)) {
-                    check.setInt(1, rewardId);
-                    check.setString(2, playerId.toString());
-                    try (ResultSet rs = check.executeQuery()) {
-                        if (rs.next()) {
-                            return false; // Already claimed
-                        }
+        String checkSql = "SELECT 1 FROM " + t("player_reward_claim") +
+                " WHERE reward_id = ? AND player_uuid = ?";
+        String insertSql = "INSERT INTO " + t("player_reward_claim") +
+                " (reward_id, player_uuid, claimed_at) VALUES (?, ?, ?)";
+
+        // Check and insert in one write so a double click cannot claim twice
+        return dbConnection.executeWrite(conn -> {
+            // Check for existing claim
+            try (PreparedStatement check = conn.prepareStatement(checkSql)) {
+                check.setInt(1, rewardId);
+                check.setString(2, playerId.toString());
+                try (ResultSet rs = check.executeQuery()) {
+                    if (rs.next()) {
+                        return false; // Already claimed
                     }
                 }
+            }
 
-                // Insert claim
-                try (PreparedStatement insert = conn.prepareStatement(insertSql)) {
-                    insert.setInt(1, rewardId);
-                    insert.setString(2, playerId.toString());
-                    insert.setLong(3, System.currentTimeMillis());
-                    return insert.executeUpdate() > 0;
-                }
-            } catch (SQLException e) {
-                logger.error("Failed to claim reward " + rewardId + " for player " + playerId, e);
-                return false;
+            // Insert claim
+            try (PreparedStatement insert = conn.prepareStatement(insertSql)) {
+                insert.setInt(1, rewardId);
+                insert.setString(2, playerId.toString());
+                insert.setLong(3, System.currentTimeMillis());
+                return insert.executeUpdate() > 0;
             }
+        }).exceptionally(e -> {
+            logger.error("Failed to claim reward " + rewardId + " for player " + playerId, DatabaseConnection.unwrap(e));
+            return false;
         });
     }
 
@@ -2,25 +2,41 @@ package org.fourz.RVNKLore.data.repository;
 
 import org.fourz.RVNKLore.RVNKLore;
 import org.fourz.RVNKLore.data.DatabaseConnection;
+import org.fourz.RVNKLore.data.journal.DiscoveryJournalRecord;
+import org.fourz.RVNKLore.data.journal.OfflineWriteJournal;
 import org.fourz.rvnkcore.util.log.LogManager;
 
 import java.sql.*;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 /**
  * Repository implementation for lore_discovery enriched discovery data.
  * Uses HikariCP connection pool with async CompletableFuture pattern.
  */
 public class DiscoveryRepository implements IDiscoveryRepository {
+    /** IN-list size for bulk lookups, and rows per multi-row insert (8 parameters each). */
+    private static final int BULK_QUERY_SIZE = 500;
+    private static final int BULK_INSERT_ROWS = 100;
+
     @SuppressWarnings("unused")
     private final RVNKLore plugin;
     private final LogManager logger;
     private final DatabaseConnection dbConnection;
+    private final OfflineWriteJournal journal;
 
     public DiscoveryRepository(RVNKLore plugin, DatabaseConnection dbConnection) {
+        this(plugin, dbConnection, null);
+    }
+
+    /**
+     * @param journal Offline write journal protecting discovery writes, or null to disable
+     */
+    public DiscoveryRepository(RVNKLore plugin, DatabaseConnection dbConnection, OfflineWriteJournal journal) {
         this.plugin = plugin;
         this.dbConnection = dbConnection;
+        this.journal = journal;
         this.logger = LogManager.getInstance(plugin, "DiscoveryRepository");
     }
 
@@ -33,49 +49,202 @@ public class DiscoveryRepository implements IDiscoveryRepository {
                                                        String triggerType, String world,
                                                        Double x, Double y, Double z,
                                                        boolean isFirstDiscovery) {
-        return CompletableFuture.supplyAsync(() -> {
-            // Check for duplicate first
-            String checkSql = "SELECT COUNT(*) FROM " + t("lore_discovery") +
-                    " WHERE player_uuid = ? AND entry_id = ?";
+        // Routed through executeWrite so SQLite discovery storms share one writer
+        Supplier<CompletableFuture<Boolean>> write = () -> dbConnection.executeWrite(conn ->
+                insertDiscovery(conn, playerUuid, entryId, triggerType, world, x, y, z, isFirstDiscovery));
+
+        CompletableFuture<Boolean> result = journal != null
+                ? journal.guard(new DiscoveryJournalRecord(playerUuid, entryId, triggerType, world, x, y, z, isFirstDiscovery), write)
+                : write.get();
+        return result.exceptionally(e -> {
+            logger.error("Failed to record discovery: player=" + playerUuid + ", entry=" + entryId, DatabaseConnection.unwrap(e));
+            return false;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> recordDiscoveries(UUID playerUuid, Collection<String> entryIds,
+                                                        String triggerType, String world,
+                                                        Double x, Double y, Double z,
+                                                        Set<String> firstEntryIds) {
+        if (entryIds.isEmpty()) {
+            return CompletableFuture.completedFuture(true);
+        }
+        List<String> ids = List.copyOf(new LinkedHashSet<>(entryIds));
+        Supplier<CompletableFuture<Boolean>> write = () -> dbConnection.executeWrite(conn ->
+                insertDiscoveries(conn, playerUuid, ids, triggerType, world, x, y, z, firstEntryIds));
+
+        CompletableFuture<Boolean> result = journal != null
+                ? journal.guardAll(ids.stream()
+                    .map(id -> new DiscoveryJournalRecord(playerUuid, id, triggerType, world, x, y, z, firstEntryIds.contains(id)))
+                    .toList(), write)
+                : write.get();
+        return result.exceptionally(e -> {
+            logger.error("Failed to record " + ids.size() + " discoveries for player " + playerUuid, DatabaseConnection.unwrap(e));
+            return false;
+        });
+    }
+
+    /**
+     * Insert several discoveries on one connection: one query finds the entries the player
+     * already has, one finds first discoveries already stored, then the remaining rows are
+     * written with multi-row inserts. A chunk rejected by a unique index (a first discovery
+     * won concurrently elsewhere) is retried row by row through {@link #insertDiscovery}.
+     */
+    private boolean insertDiscoveries(Connection conn, UUID playerUuid, List<String> entryIds,
+                                      String triggerType, String world,
+                                      Double x, Double y, Double z,
+                                      Set<String> firstEntryIds) throws SQLException {
+        Set<String> existing = new HashSet<>();
+        Set<String> storedFirsts = new HashSet<>();
+        for (int start = 0; start < entryIds.size(); start += BULK_QUERY_SIZE) {
+            List<String> chunk = entryIds.subList(start, Math.min(entryIds.size(), start + BULK_QUERY_SIZE));
+            String in = String.join(", ", Collections.nCopies(chunk.size(), "?"));
 
-            try (Connection conn = dbConnection.getConnection()) {
-                try (PreparedStatement checkStmt = conn.prepareStatement(checkSql)) {
-                    checkStmt.setString(1, playerUuid.toString());
-                    checkStmt.setString(2, entryId);
-                    try (ResultSet rs = checkStmt.executeQuery()) {
-                        if (rs.next() && rs.getInt(1) > 0) {
-                            return true; // Already recorded
+            try (PreparedStatement stmt = conn.prepareStatement("SELECT entry_id FROM " + t("lore_discovery") +
+                    " WHERE player_uuid = ? AND entry_id IN (" + in + ")")) {
+                stmt.setString(1, playerUuid.toString());
+                for (int i = 0; i < chunk.size(); i++) {
+                    stmt.setString(i + 2, chunk.get(i));
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        existing.add(rs.getString(1));
+                    }
+                }
+            }
+            if (!Collections.disjoint(chunk, firstEntryIds)) {
+                try (PreparedStatement stmt = conn.prepareStatement("SELECT entry_id FROM " + t("lore_discovery") +
+                        " WHERE is_first_discovery = TRUE AND entry_id IN (" + in + ")")) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        stmt.setString(i + 1, chunk.get(i));
+                    }
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            storedFirsts.add(rs.getString(1));
                         }
                     }
                 }
+            }
+        }
 
-                String insertSql = "INSERT INTO " + t("lore_discovery") +
-                        " (player_uuid, entry_id, trigger_type, world, x, y, z, is_first_discovery)" +
-                        " VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
-
-                try (PreparedStatement stmt = conn.prepareStatement(insertSql)) {
-                    stmt.setString(1, playerUuid.toString());
-                    stmt.setString(2, entryId);
-                    stmt.setString(3, triggerType);
-                    stmt.setString(4, world);
+        List<String> pending = entryIds.stream().filter(id -> !existing.contains(id)).toList();
+        for (int start = 0; start < pending.size(); start += BULK_INSERT_ROWS) {
+            List<String> chunk = pending.subList(start, Math.min(pending.size(), start + BULK_INSERT_ROWS));
+            String sql = "INSERT INTO " + t("lore_discovery") +
+                    " (player_uuid, entry_id, trigger_type, world, x, y, z, is_first_discovery) VALUES " +
+                    String.join(", ", Collections.nCopies(chunk.size(), "(?, ?, ?, ?, ?, ?, ?, ?)"));
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                int index = 1;
+                for (String entryId : chunk) {
+                    stmt.setString(index++, playerUuid.toString());
+                    stmt.setString(index++, entryId);
+                    stmt.setString(index++, triggerType);
+                    stmt.setString(index++, world);
                     if (x != null) {
-                        stmt.setDouble(5, x);
-                        stmt.setDouble(6, y);
-                        stmt.setDouble(7, z);
+                        stmt.setDouble(index++, x);
+                        stmt.setDouble(index++, y);
+                        stmt.setDouble(index++, z);
                     } else {
-                        stmt.setNull(5, Types.DOUBLE);
-                        stmt.setNull(6, Types.DOUBLE);
-                        stmt.setNull(7, Types.DOUBLE);
+                        stmt.setNull(index++, Types.DOUBLE);
+                        stmt.setNull(index++, Types.DOUBLE);
+                        stmt.setNull(index++, Types.DOUBLE);
                     }
-                    stmt.setBoolean(8, isFirstDiscovery);
-
-                    return stmt.executeUpdate() > 0;
+                    stmt.setBoolean(index++, firstEntryIds.contains(entryId) && !storedFirsts.contains(entryId));
                 }
+                stmt.executeUpdate();
             } catch (SQLException e) {
-                logger.error("Failed to record discovery: player=" + playerUuid + ", entry=" + entryId, e);
-                return false;
+                logger.debug("Bulk discovery insert rejected, retrying " + chunk.size() + " rows individually: " + e.getMessage());
+                for (String entryId : chunk) {
+                    insertDiscovery(conn, playerUuid, entryId, triggerType, world, x, y, z,
+                            firstEntryIds.contains(entryId));
+                }
             }
-        });
+        }
+        return true;
+    }
+
+    /**
+     * Insert a discovery on an existing connection, skipping it if the player already
+     * has a discovery row for the entry. Used by {@link #recordDiscovery} and by journal replay.
+     *
+     * <p>Only one row per entry may be marked as the first discovery (enforced by a unique
+     * index). If another player's first discovery is already stored, the row is inserted
+     * as an ordinary discovery instead.
+     *
+     * @param conn Connection inside the caller's transaction
+     * @return true if the discovery exists after the call
+     */
+    public boolean insertDiscovery(Connection conn, UUID playerUuid, String entryId,
+                                   String triggerType, String world,
+                                   Double x, Double y, Double z,
+                                   boolean isFirstDiscovery) throws SQLException {
+        // Check for duplicate first
+        String checkSql = "SELECT COUNT(*) FROM " + t("lore_discovery") +
+                " WHERE player_uuid = ? AND entry_id = ?";
+
+        try (PreparedStatement checkStmt = conn.prepareStatement(checkSql)) {
+            checkStmt.setString(1, playerUuid.toString());
+            checkStmt.setString(2, entryId);
+            try (ResultSet rs = checkStmt.executeQuery()) {
+                if (rs.next() && rs.getInt(1) > 0) {
+                    return true; // Already recorded
+                }
+            }
+        }
+
+        if (isFirstDiscovery && hasFirstDiscovery(conn, entryId)) {
+            isFirstDiscovery = false;
+        }
+        try {
+            return insertRow(conn, playerUuid, entryId, triggerType, world, x, y, z, isFirstDiscovery);
+        } catch (SQLException e) {
+            // Lost a concurrent first discovery (e.g. from another server) to the unique index
+            if (!isFirstDiscovery || !hasFirstDiscovery(conn, entryId)) {
+                throw e;
+            }
+            logger.debug("First discovery of " + entryId + " already stored, recording as a normal discovery");
+            return insertRow(conn, playerUuid, entryId, triggerType, world, x, y, z, false);
+        }
+    }
+
+    private boolean hasFirstDiscovery(Connection conn, String entryId) throws SQLException {
+        String sql = "SELECT 1 FROM " + t("lore_discovery") +
+                " WHERE entry_id = ? AND is_first_discovery = TRUE LIMIT 1";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, entryId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    private boolean insertRow(Connection conn, UUID playerUuid, String entryId,
+                              String triggerType, String world,
+                              Double x, Double y, Double z,
+                              boolean isFirstDiscovery) throws SQLException {
+        String insertSql = "INSERT INTO " + t("lore_discovery") +
+                " (player_uuid, entry_id, trigger_type, world, x, y, z, is_first_discovery)" +
+                " VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+        try (PreparedStatement stmt = conn.prepareStatement(insertSql)) {
+            stmt.setString(1, playerUuid.toString());
+            stmt.setString(2, entryId);
+            stmt.setString(3, triggerType);
+            stmt.setString(4, world);
+            if (x != null) {
+                stmt.setDouble(5, x);
+                stmt.setDouble(6, y);
+                stmt.setDouble(7, z);
+            } else {
+                stmt.setNull(5, Types.DOUBLE);
+                stmt.setNull(6, Types.DOUBLE);
+                stmt.setNull(7, Types.DOUBLE);
+            }
+            stmt.setBoolean(8, isFirstDiscovery);
+
+            return stmt.executeUpdate() > 0;
+        }
     }
 
     @Override
@@ -14,11 +14,35 @@ public interface IAchievementRepository {
 
     CompletableFuture<Boolean> saveProgress(AchievementProgress progress);
 
+    /**
+     * Save several progress records in one transaction.
+     */
+    CompletableFuture<Boolean> saveProgressBatch(List<AchievementProgress> batch);
+
     CompletableFuture<List<AchievementProgress>> loadPlayerProgress(UUID playerId);
 
+    /**
+     * Load every player's progress. Holds the whole table in memory; prefer
+     * {@link #loadPlayerProgress} and {@link #getLeaderboard}.
+     */
     CompletableFuture<Map<UUID, List<AchievementProgress>>> loadAllProgress();
 
+    /**
+     * Rank players by achievement points, computed in the database.
+     *
+     * @param pointsByAchievement Points awarded per completed achievement ID
+     * @param limit Maximum number of players to return
+     * @return Players ordered by points, then completed count
+     */
+    CompletableFuture<List<LeaderboardEntry>> getLeaderboard(Map<String, Integer> pointsByAchievement, int limit);
+
     CompletableFuture<Boolean> deleteProgress(UUID playerId, String achievementId);
 
     CompletableFuture<Boolean> deleteAllProgress(UUID playerId);
+
+    /**
+     * One row of an achievement leaderboard.
+     */
+    record LeaderboardEntry(UUID playerId, int points, int completed) {
+    }
 }
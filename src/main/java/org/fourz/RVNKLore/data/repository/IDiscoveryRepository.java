@@ -1,7 +1,9 @@
 package org.fourz.RVNKLore.data.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -20,6 +22,17 @@ public interface IDiscoveryRepository {
                                                 Double x, Double y, Double z,
                                                 boolean isFirstDiscovery);
 
+    /**
+     * Record several discoveries by one player with multi-row inserts.
+     * Entries the player has already discovered are skipped.
+     *
+     * @param firstEntryIds The entries claimed as first discoveries
+     */
+    CompletableFuture<Boolean> recordDiscoveries(UUID playerUuid, Collection<String> entryIds,
+                                                 String triggerType, String world,
+                                                 Double x, Double y, Double z,
+                                                 Set<String> firstEntryIds);
+
     /**
      * Check if a player has discovered an entry.
      */
@@ -33,13 +33,11 @@ public class LocationRepository implements ILocationRepository {
 
     @Override
     public CompletableFuture<LoreLocation> save(LoreLocation location) {
-        return CompletableFuture.supplyAsync(() -> {
-            String sql = "INSERT INTO " + t("lore_location") +
-                    " (entry_id, world, x, y, z, location_type, label) VALUES (?, ?, ?, ?, ?, ?, ?)";
-
-            try (Connection conn = dbConnection.getConnection();
-                 PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+        String sql = "INSERT INTO " + t("lore_location") +
+                " (entry_id, world, x, y, z, location_type, label) VALUES (?, ?, ?, ?, ?, ?, ?)";
 
+        return dbConnection.executeWrite(conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
                 stmt.setString(1, location.getEntryId());
                 stmt.setString(2, location.getWorld());
                 stmt.setDouble(3, location.getX());
@@ -55,16 +53,34 @@ public class LocationRepository implements ILocationRepository {
                             location.setId(keys.getInt(1));
                         }
                     }
+                    touchEntry(conn, location.getEntryId());
                     location.setCreatedAt(Instant.now());
                     return location;
                 }
-            } catch (SQLException e) {
-                logger.error("Failed to save lore location for entry: " + location.getEntryId(), e);
             }
+            return (LoreLocation) null;
+        }).exceptionally(e -> {
+            logger.error("Failed to save lore location for entry: " + location.getEntryId(), DatabaseConnection.unwrap(e));
             return null;
         });
     }
 
+    /**
+     * Stamp the entry's current submission so incremental lore reload, which watches
+     * submission timestamps, picks up the location change.
+     */
+    private void touchEntry(Connection conn, String entryId) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(touchSql("?"))) {
+            stmt.setString(1, entryId);
+            stmt.executeUpdate();
+        }
+    }
+
+    private String touchSql(String entryIdExpression) {
+        return "UPDATE " + t("lore_submission") + " SET updated_at = CURRENT_TIMESTAMP" +
+            " WHERE is_current_version = TRUE AND entry_id = " + entryIdExpression;
+    }
+
     @Override
     public CompletableFuture<List<LoreLocation>> findByEntryId(String entryId) {
         return CompletableFuture.supplyAsync(() -> {
@@ -148,35 +164,38 @@ public class LocationRepository implements ILocationRepository {
 
     @Override
     public CompletableFuture<Boolean> deleteByEntryId(String entryId) {
-        return CompletableFuture.supplyAsync(() -> {
-            String sql = "DELETE FROM " + t("lore_location") + " WHERE entry_id = ?";
-
-            try (Connection conn = dbConnection.getConnection();
-                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+        String sql = "DELETE FROM " + t("lore_location") + " WHERE entry_id = ?";
 
+        return dbConnection.executeWrite(conn -> {
+            touchEntry(conn, entryId);
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
                 stmt.setString(1, entryId);
                 return stmt.executeUpdate() > 0;
-            } catch (SQLException e) {
-                logger.error("Failed to delete locations for entry: " + entryId, e);
-                return false;
             }
+        }).exceptionally(e -> {
+            logger.error("Failed to delete locations for entry: " + entryId, DatabaseConnection.unwrap(e));
+            return false;
         });
     }
 
     @Override
     public CompletableFuture<Boolean> deleteById(int locationId) {
-        return CompletableFuture.supplyAsync(() -> {
-            String sql = "DELETE FROM " + t("lore_location") + " WHERE id = ?";
-
-            try (Connection conn = dbConnection.getConnection();
-                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+        String sql = "DELETE FROM " + t("lore_location") + " WHERE id = ?";
 
+        return dbConnection.executeWrite(conn -> {
+            // Stamp the owning entry before its row is gone
+            try (PreparedStatement stmt = conn.prepareStatement(touchSql(
+                    "(SELECT entry_id FROM " + t("lore_location") + " WHERE id = ?)"))) {
+                stmt.setInt(1, locationId);
+                stmt.executeUpdate();
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
                 stmt.setInt(1, locationId);
                 return stmt.executeUpdate() > 0;
-            } catch (SQLException e) {
-                logger.error("Failed to delete location: " + locationId, e);
-                return false;
             }
+        }).exceptionally(e -> {
+            logger.error("Failed to delete location: " + locationId, DatabaseConnection.unwrap(e));
+            return false;
         });
     }
 
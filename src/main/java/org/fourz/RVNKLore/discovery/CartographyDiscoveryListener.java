@@ -17,6 +17,7 @@ import org.fourz.RVNKLore.lore.LoreManager;
 import org.fourz.RVNKLore.lore.LoreType;
 import org.fourz.rvnkcore.util.log.LogManager;
 
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
@@ -82,17 +83,20 @@ public class CartographyDiscoveryListener implements Listener {
             + worldName + " " + centerX + "," + centerZ + " scale=" + scale + " radius=" + radius);
 
         // Run async to avoid blocking the inventory click
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
-            discoverLoreInMapArea(player, worldName, centerX, centerZ, radius);
+        Location playerLocation = player.getLocation();
+        plugin.getLoreScheduler().runAsync(() -> {
+            discoverLoreInMapArea(player, playerLocation, worldName, centerX, centerZ, radius);
         });
     }
 
     /**
-     * Discovers all location-based lore entries within the map's coverage area.
+     * Discovers all location-based lore entries within the map's coverage area
+     * as one bulk discovery.
      */
-    private void discoverLoreInMapArea(Player player, String worldName, int centerX, int centerZ, int radius) {
+    private void discoverLoreInMapArea(Player player, Location playerLocation, String worldName,
+                                       int centerX, int centerZ, int radius) {
         List<LoreEntry> entries = loreManager.getAllLoreEntriesSync();
-        int discovered = 0;
+        List<LoreEntry> inArea = new ArrayList<>();
 
         for (LoreEntry entry : entries) {
             if (!entry.isApproved()) continue;
@@ -107,17 +111,20 @@ public class CartographyDiscoveryListener implements Listener {
             double dz = Math.abs(loc.getZ() - centerZ);
 
             if (dx <= radius && dz <= radius) {
-                discoveryManager.triggerDiscovery(
-                    player, entry,
-                    DiscoveryTriggerType.CARTOGRAPHY,
-                    player.getLocation()
-                );
-                discovered++;
+                inArea.add(entry);
             }
         }
 
-        if (discovered > 0) {
-            logger.debug("Cartography discovery: " + discovered + " entries found in map area for " + player.getName());
+        if (inArea.isEmpty()) {
+            return;
         }
+
+        discoveryManager.triggerDiscoveries(player, inArea, DiscoveryTriggerType.CARTOGRAPHY, playerLocation)
+            .thenAccept(discovered -> {
+                if (discovered > 0) {
+                    logger.debug("Cartography discovery: " + discovered + " of " + inArea.size()
+                        + " entries in map area discovered by " + player.getName());
+                }
+            });
     }
 }
@@ -1,5 +1,6 @@
 package org.fourz.RVNKLore.discovery;
 
+import org.bukkit.ChatColor;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
@@ -19,6 +20,7 @@ import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.generator.structure.GeneratedStructure;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
@@ -27,6 +29,7 @@ import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 import org.fourz.RVNKLore.RVNKLore;
 import org.fourz.RVNKLore.achievement.AchievementManager;
+import org.fourz.RVNKLore.lore.LoreChange;
 import org.fourz.RVNKLore.lore.LoreEntry;
 import org.fourz.RVNKLore.lore.LoreManager;
 import org.fourz.RVNKLore.lore.LoreType;
@@ -42,10 +45,16 @@ import java.util.concurrent.ConcurrentHashMap;
  * <ul>
  *   <li>Sign interaction - Reading lore signs</li>
  *   <li>Block break - Discovering ancient artifacts</li>
- *   <li>Mob death - Rare lore drops from named mobs</li>
+ *   <li>Mob death - Rare lore drops from named mobs and bosses</li>
  *   <li>Chest open - Finding lore items in containers</li>
  *   <li>Location proximity - Entering specific coordinates</li>
+ *   <li>Item use - Lore items, or any item of a tagged material</li>
+ *   <li>Biome and structure entry</li>
+ *   <li>First join - Starter entries</li>
  * </ul>
+ *
+ * <p>Trigger metadata is looked up in the {@link DiscoveryTriggerRegistry} rather than
+ * by scanning entries.
  */
 public class DiscoveryListener implements Listener {
 
@@ -57,21 +66,32 @@ public class DiscoveryListener implements Listener {
     // PersistentDataContainer key for lore entry ID (matches LoreBookManager)
     private final NamespacedKey loreEntryIdKey;
 
+    // Entries by discovery trigger (quest, first join, mob, boss, item, biome, structure)
+    private final DiscoveryTriggerRegistry triggers;
+
     // Location-based discovery tracking (to prevent spam)
     private final Map<UUID, Set<String>> recentLocationDiscoveries = new ConcurrentHashMap<>();
 
+    // Biome and structures each player was last in, so region triggers fire on entry only
+    private final Map<UUID, String> currentBiomes = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<String>> currentStructures = new ConcurrentHashMap<>();
+
     // Cache of locations with lore entries
     private final Map<String, LoreEntry> locationLoreCache = new ConcurrentHashMap<>();
+    // Reverse index so a single changed entry can be re-keyed without a rebuild
+    private final Map<String, String> locationKeyByEntryId = new ConcurrentHashMap<>();
 
     public DiscoveryListener(RVNKLore plugin, DiscoveryManager discoveryManager) {
         this.plugin = plugin;
         this.discoveryManager = discoveryManager;
         this.loreManager = plugin.getLoreManager();
+        this.triggers = discoveryManager.getTriggerRegistry();
         this.logger = LogManager.getInstance(plugin, "DiscoveryListener");
         this.loreEntryIdKey = new NamespacedKey(plugin, "lore_entry_id");
 
-        // Build location cache
+        // Build location cache, then keep it current from the lore change feed
         buildLocationCache();
+        loreManager.getChangeFeed().addListener(this::onLoreChange);
     }
 
     /**
@@ -79,18 +99,50 @@ public class DiscoveryListener implements Listener {
      */
     private void buildLocationCache() {
         locationLoreCache.clear();
+        locationKeyByEntryId.clear();
 
         List<LoreEntry> entries = loreManager.getAllLoreEntriesSync();
         for (LoreEntry entry : entries) {
-            if (entry.getLocation() != null) {
-                String locationKey = getLocationKey(entry.getLocation());
-                locationLoreCache.put(locationKey, entry);
-            }
+            indexLocation(entry);
         }
 
         logger.debug("Built location cache with " + locationLoreCache.size() + " entries");
     }
 
+    /**
+     * Apply a single lore change to the location cache.
+     */
+    private void onLoreChange(LoreChange change) {
+        switch (change.getType()) {
+            case RELOADED -> buildLocationCache();
+            case REMOVED -> unindexLocation(change.getEntryId());
+            default -> {
+                unindexLocation(change.getEntryId());
+                loreManager.getLoreById(change.getEntryId()).ifPresent(this::indexLocation);
+            }
+        }
+    }
+
+    private void indexLocation(LoreEntry entry) {
+        if (entry.getLocation() == null || entry.getLocation().getWorld() == null) {
+            return;
+        }
+        String locationKey = getLocationKey(entry.getLocation());
+        locationLoreCache.put(locationKey, entry);
+        locationKeyByEntryId.put(entry.getId(), locationKey);
+    }
+
+    private void unindexLocation(String entryId) {
+        if (entryId == null) {
+            return;
+        }
+        String locationKey = locationKeyByEntryId.remove(entryId);
+        if (locationKey != null) {
+            locationLoreCache.computeIfPresent(locationKey,
+                (key, cached) -> entryId.equals(cached.getId()) ? null : cached);
+        }
+    }
+
     /**
      * Handles sign interaction for lore discovery.
      * Signs can contain lore entry references.
@@ -156,7 +208,7 @@ public class DiscoveryListener implements Listener {
     }
 
     /**
-     * Handles mob death for rare lore drops from named entities.
+     * Handles mob death for rare lore drops from named entities and boss kills.
      */
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onEntityDeath(EntityDeathEvent event) {
@@ -165,27 +217,27 @@ public class DiscoveryListener implements Listener {
 
         if (killer == null) return;
 
-        // Check for named mob with potential lore drop
-        if (entity.getCustomName() == null) return;
-
-        String mobName = entity.getCustomName();
+        long worldTime = entity.getWorld().getTime();
+        List<LoreEntry> entries = new ArrayList<>(triggers.find(
+            DiscoveryTriggerRegistry.Kind.BOSS, entity.getType().name(), worldTime));
 
-        // Search for a lore entry matching this mob
-        loreManager.findLoreEntries(mobName).thenAccept(entries -> {
-            for (LoreEntry entry : entries) {
-                // Check for mob-related lore (could be GENERIC type with mob metadata)
-                if (entry.getName().equalsIgnoreCase(mobName) ||
-                    (entry.getType() == LoreType.EVENT && entry.getName().contains(mobName))) {
-
-                    discoveryManager.triggerDiscovery(
-                        killer, entry,
-                        DiscoveryTriggerType.MOB_KILL,
-                        entity.getLocation()
-                    );
-                    break;
+        // Named mobs match "mob:<name>" triggers and entries named after them
+        if (entity.getCustomName() != null) {
+            String mobName = ChatColor.stripColor(entity.getCustomName());
+            for (LoreEntry entry : triggers.findMob(mobName, worldTime)) {
+                if (!entries.contains(entry)) {
+                    entries.add(entry);
                 }
             }
-        });
+        }
+
+        for (LoreEntry entry : entries) {
+            discoveryManager.triggerDiscovery(
+                killer, entry,
+                DiscoveryTriggerType.MOB_KILL,
+                entity.getLocation()
+            );
+        }
     }
 
     /**
@@ -255,6 +307,8 @@ public class DiscoveryListener implements Listener {
         Player player = event.getPlayer();
         UUID playerUuid = player.getUniqueId();
 
+        checkRegionTriggers(player, to);
+
         // Check for nearby lore entries
         for (Map.Entry<String, LoreEntry> mapEntry : locationLoreCache.entrySet()) {
             LoreEntry entry = mapEntry.getValue();
@@ -285,12 +339,50 @@ public class DiscoveryListener implements Listener {
             );
 
             // Schedule removal from recent list after cooldown
-            plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+            plugin.getLoreScheduler().runGlobalLater(() -> {
                 recentLocations.remove(locationKey);
             }, 20 * 60 * 5); // 5 minute cooldown
         }
     }
 
+    /**
+     * Discovers entries tagged "biome:<biome>" or "structure:<structure>" when the player
+     * enters one. Does nothing unless some entry declares such a trigger.
+     */
+    private void checkRegionTriggers(Player player, Location to) {
+        UUID playerUuid = player.getUniqueId();
+        long worldTime = to.getWorld().getTime();
+        List<LoreEntry> entered = new ArrayList<>();
+
+        if (triggers.hasTriggers(DiscoveryTriggerRegistry.Kind.BIOME)) {
+            String biome = to.getBlock().getBiome().getKey().toString();
+            if (!biome.equals(currentBiomes.put(playerUuid, biome))) {
+                entered.addAll(triggers.find(DiscoveryTriggerRegistry.Kind.BIOME, biome, worldTime));
+            }
+        }
+
+        if (triggers.hasTriggers(DiscoveryTriggerRegistry.Kind.STRUCTURE)) {
+            Set<String> inside = new HashSet<>();
+            for (GeneratedStructure structure : to.getWorld().getStructures(to.getBlockX() >> 4, to.getBlockZ() >> 4)) {
+                String key = structure.getStructure().getKey().toString();
+                if (triggers.contains(DiscoveryTriggerRegistry.Kind.STRUCTURE, key)
+                        && structure.getBoundingBox().contains(to.toVector())) {
+                    inside.add(key);
+                }
+            }
+            Set<String> previous = currentStructures.put(playerUuid, inside);
+            for (String key : inside) {
+                if (previous == null || !previous.contains(key)) {
+                    entered.addAll(triggers.find(DiscoveryTriggerRegistry.Kind.STRUCTURE, key, worldTime));
+                }
+            }
+        }
+
+        for (LoreEntry entry : entered) {
+            discoveryManager.triggerDiscovery(player, entry, DiscoveryTriggerType.REGION_ENTER, to);
+        }
+    }
+
     /**
      * Handles item use (right-click) for lore discovery.
      * Checks held items for lore entry references via PersistentDataContainer
@@ -310,6 +402,15 @@ public class DiscoveryListener implements Listener {
         Player player = event.getPlayer();
         ItemStack item = player.getInventory().getItemInMainHand();
         if (item == null || item.getType() == Material.AIR) return;
+
+        // Entries tagged "item:<material>" are discovered by using any item of that material
+        if (triggers.hasTriggers(DiscoveryTriggerRegistry.Kind.ITEM)) {
+            for (LoreEntry entry : triggers.find(DiscoveryTriggerRegistry.Kind.ITEM,
+                    item.getType().name(), player.getWorld().getTime())) {
+                discoveryManager.triggerDiscovery(player, entry, DiscoveryTriggerType.ITEM_USE, player.getLocation());
+            }
+        }
+
         if (!item.hasItemMeta()) return;
 
         ItemMeta meta = item.getItemMeta();
@@ -360,19 +461,12 @@ public class DiscoveryListener implements Listener {
     public void onPlayerFirstJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
         if (player.hasPlayedBefore()) return;
+        Location joinLocation = player.getLocation();
 
         // Delay so the player loads in and gets oriented (5 seconds = 100 ticks)
-        plugin.getServer().getScheduler().runTaskLaterAsynchronously(plugin, () -> {
-            List<LoreEntry> allEntries = loreManager.getAllLoreEntriesSync();
-
-            List<LoreEntry> starterEntries = new ArrayList<>();
-            for (LoreEntry entry : allEntries) {
-                if (!entry.isApproved()) continue;
-                String trigger = entry.getMetadata("discovery_trigger");
-                if ("FIRST_JOIN".equalsIgnoreCase(trigger)) {
-                    starterEntries.add(entry);
-                }
-            }
+        plugin.getLoreScheduler().runForEntityLater(player, () -> {
+            List<LoreEntry> starterEntries = triggers.find(
+                DiscoveryTriggerRegistry.Kind.FIRST_JOIN, null, player.getWorld().getTime());
 
             if (starterEntries.isEmpty()) {
                 logger.debug("No FIRST_JOIN starter lore entries configured");
@@ -381,13 +475,8 @@ public class DiscoveryListener implements Listener {
 
             logger.debug("Granting " + starterEntries.size() + " starter discoveries to " + player.getName());
 
-            for (LoreEntry entry : starterEntries) {
-                discoveryManager.triggerDiscovery(
-                    player, entry,
-                    DiscoveryTriggerType.FIRST_JOIN,
-                    player.getLocation()
-                );
-            }
+            // One bulk discovery: a single event, batched writes and one summary notification
+            discoveryManager.triggerDiscoveries(player, starterEntries, DiscoveryTriggerType.FIRST_JOIN, joinLocation);
         }, 100L);
     }
 
@@ -405,6 +494,20 @@ public class DiscoveryListener implements Listener {
         }
     }
 
+    /**
+     * Bridges bulk discoveries to the achievement system, one entry at a time.
+     * Every entry in a bulk discovery is new to the player.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onLoreBulkDiscovery(LoreBulkDiscoveryEvent event) {
+        AchievementManager achievementManager = plugin.getAchievementManager();
+        if (achievementManager != null) {
+            for (LoreEntry entry : event.getLoreEntries()) {
+                achievementManager.onLoreDiscovery(event.getPlayer(), entry);
+            }
+        }
+    }
+
     /**
      * Cleans up player tracking data on quit to prevent memory leaks.
      */
@@ -485,5 +588,7 @@ public class DiscoveryListener implements Listener {
      */
     public void clearPlayerData(UUID playerUuid) {
         recentLocationDiscoveries.remove(playerUuid);
+        currentBiomes.remove(playerUuid);
+        currentStructures.remove(playerUuid);
     }
 }
@@ -5,15 +5,19 @@ import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.fourz.RVNKLore.RVNKLore;
 import org.fourz.RVNKLore.data.repository.DiscoveryRepository;
+import org.fourz.RVNKLore.lore.LoreChange;
 import org.fourz.RVNKLore.lore.LoreEntry;
 import org.fourz.RVNKLore.lore.LoreManager;
 import org.fourz.RVNKLore.lore.player.PlayerManager;
+import org.fourz.RVNKLore.lore.player.PlayerSession;
+import org.fourz.RVNKLore.lore.player.PlayerSessionManager;
 import org.fourz.rvnkcore.util.log.LogManager;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * Core manager for the lore discovery system.
@@ -39,8 +43,13 @@ public class DiscoveryManager {
     private final DiscoveryNotificationManager notificationManager;
     private final DiscoveryRepository discoveryRepository;
 
-    // Cache for first-time discoveries (entry ID -> first discoverer UUID)
-    private final Map<String, UUID> firstDiscoverers = new ConcurrentHashMap<>();
+    // First discoverer of each entry, loaded in the background at startup
+    private final FirstDiscovererRegistry firstDiscoverers = new FirstDiscovererRegistry();
+    private CompletableFuture<Void> firstDiscoverersLoad;
+
+    // Entries by discovery trigger, kept current from the lore change feed
+    private final DiscoveryTriggerRegistry triggerRegistry = new DiscoveryTriggerRegistry();
+    private final Consumer<LoreChange> triggerIndexer = this::onLoreChange;
 
     // Discovery cooldowns to prevent spam (player UUID -> entry ID -> timestamp)
     private final Map<UUID, Map<String, Long>> discoveryCooldowns = new ConcurrentHashMap<>();
@@ -72,9 +81,14 @@ public class DiscoveryManager {
 
         logger.debug("Initializing DiscoveryManager...");
 
-        // Load first discoverers from database if available
+        // Load first discoverers from database if startup has not already started it
         loadFirstDiscoverers();
 
+        // Index discovery triggers before any listener looks them up
+        triggerRegistry.rebuild(loreManager.getAllLoreEntriesSync());
+        loreManager.getChangeFeed().addListener(triggerIndexer);
+        logger.debug("Indexed discovery triggers for " + triggerRegistry.size() + " entries");
+
         // Register event listener
         DiscoveryListener listener = new DiscoveryListener(plugin, this);
         Bukkit.getPluginManager().registerEvents(listener, plugin);
@@ -99,20 +113,43 @@ public class DiscoveryManager {
     }
 
     /**
-     * Loads first discoverers from the database.
+     * Apply a single lore change to the trigger index.
+     */
+    private void onLoreChange(LoreChange change) {
+        switch (change.getType()) {
+            case RELOADED -> triggerRegistry.rebuild(loreManager.getAllLoreEntriesSync());
+            case REMOVED -> triggerRegistry.remove(change.getEntryId());
+            default -> loreManager.getLoreById(change.getEntryId()).ifPresentOrElse(
+                triggerRegistry::update, () -> triggerRegistry.remove(change.getEntryId()));
+        }
+    }
+
+    /**
+     * Starts loading first discoverers from the database without waiting for them.
+     * Discoveries triggered before the load finishes wait for it.
+     *
+     * @return Future completing when the load has finished (successfully or not)
      */
-    private void loadFirstDiscoverers() {
+    public synchronized CompletableFuture<Void> loadFirstDiscoverers() {
+        if (firstDiscoverersLoad != null) {
+            return firstDiscoverersLoad;
+        }
         if (discoveryRepository == null) {
             logger.warning("DiscoveryRepository not available, first discoverers will be tracked from this session only");
-            return;
-        }
-        try {
-            Map<String, UUID> loaded = discoveryRepository.loadAllFirstDiscoverers().join();
-            firstDiscoverers.putAll(loaded);
-            logger.debug("Loaded " + loaded.size() + " first discoverers from database");
-        } catch (Exception e) {
-            logger.warning("Failed to load first discoverers: " + e.getMessage());
+            firstDiscoverersLoad = CompletableFuture.completedFuture(null);
+            return firstDiscoverersLoad;
         }
+        firstDiscoverersLoad = discoveryRepository.loadAllFirstDiscoverers()
+            .thenAccept(loaded -> {
+                // Stored discoverers win over anything claimed in memory
+                loaded.forEach(firstDiscoverers::set);
+                logger.debug("Loaded " + loaded.size() + " first discoverers from database");
+            })
+            .exceptionally(ex -> {
+                logger.warning("Failed to load first discoverers: " + ex.getMessage());
+                return null;
+            });
+        return firstDiscoverersLoad;
     }
 
     /**
@@ -141,22 +178,26 @@ public class DiscoveryManager {
         }
 
         // Check if player has already discovered this entry
-        return hasPlayerDiscoveredAsync(playerUuid, entryId).thenCompose(alreadyDiscovered -> {
+        return loadFirstDiscoverers().thenCompose(loaded -> hasPlayerDiscoveredAsync(playerUuid, entryId)).thenCompose(alreadyDiscovered -> {
             boolean isFirstForPlayer = !alreadyDiscovered;
-            boolean isFirstDiscovery = !firstDiscoverers.containsKey(entryId);
+            // Claimed atomically, so of two players discovering at once only one is first
+            boolean isFirstDiscovery = isFirstForPlayer && firstDiscoverers.claim(entryId, playerUuid);
 
             // Create and fire the event
             LoreDiscoveryEvent event = new LoreDiscoveryEvent(
                 player, entry, triggerType, location, isFirstDiscovery, isFirstForPlayer
             );
 
-            // Fire event on main thread
-            return runOnMainThread(() -> {
+            // Fire event on the player's thread
+            return plugin.getLoreScheduler().supplyForEntity(player, () -> {
                 Bukkit.getPluginManager().callEvent(event);
                 return event;
             }).thenCompose(evt -> {
                 if (evt.isCancelled()) {
                     logger.debug("Discovery cancelled for " + player.getName() + " - " + entry.getName());
+                    if (isFirstDiscovery) {
+                        firstDiscoverers.release(entryId, playerUuid);
+                    }
                     return CompletableFuture.completedFuture(false);
                 }
 
@@ -165,14 +206,19 @@ public class DiscoveryManager {
                     if (recorded) {
                         // Set cooldown
                         setCooldown(playerUuid, entryId);
+                        if (plugin.getPlayerSessions() != null) {
+                            plugin.getPlayerSessions().markDiscovered(playerUuid, entryId);
+                        }
 
-                        // Send notification (on main thread)
-                        Bukkit.getScheduler().runTask(plugin, () -> {
+                        // Send notification on the player's thread
+                        plugin.getLoreScheduler().runForEntity(player, () -> {
                             notificationManager.sendDiscoveryNotification(evt);
                         });
 
                         logger.debug("Player " + player.getName() + " discovered: " + entry.getName() +
                             (isFirstDiscovery ? " (FIRST DISCOVERY)" : ""));
+                    } else if (isFirstDiscovery) {
+                        firstDiscoverers.release(entryId, playerUuid);
                     }
                     return recorded;
                 });
@@ -183,6 +229,125 @@ public class DiscoveryManager {
         });
     }
 
+    /**
+     * Triggers discoveries of several lore entries for a player at once.
+     *
+     * <p>Unlike calling {@link #triggerDiscovery} per entry, this looks up the player's
+     * discoveries once, fires a single {@link LoreBulkDiscoveryEvent}, writes the rows with
+     * multi-row inserts and sends one summary notification. Entries the player has already
+     * discovered or that are on cooldown are skipped.
+     *
+     * @param player The player discovering the lore
+     * @param entries The lore entries being discovered
+     * @param triggerType The type of trigger
+     * @param location The location where discovery occurred (can be null)
+     * @return CompletableFuture resolving to the number of discoveries recorded
+     */
+    public CompletableFuture<Integer> triggerDiscoveries(Player player, Collection<LoreEntry> entries,
+                                                         DiscoveryTriggerType triggerType,
+                                                         Location location) {
+        if (player == null || entries == null || entries.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+
+        UUID playerUuid = player.getUniqueId();
+        Map<String, LoreEntry> candidates = new LinkedHashMap<>();
+        for (LoreEntry entry : entries) {
+            if (entry != null && !isOnCooldown(playerUuid, entry.getId())) {
+                candidates.putIfAbsent(entry.getId(), entry);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+
+        // One lookup of everything the player has discovered instead of one query per entry
+        return loadFirstDiscoverers().thenCompose(loaded -> getDiscoveredEntryIds(playerUuid)).thenCompose(discovered -> {
+            Set<String> known = new HashSet<>(discovered);
+            List<LoreEntry> fresh = new ArrayList<>();
+            Set<String> firsts = new HashSet<>();
+            for (LoreEntry entry : candidates.values()) {
+                if (known.contains(entry.getId())) {
+                    continue;
+                }
+                fresh.add(entry);
+                if (firstDiscoverers.claim(entry.getId(), playerUuid)) {
+                    firsts.add(entry.getId());
+                }
+            }
+            if (fresh.isEmpty()) {
+                return CompletableFuture.completedFuture(0);
+            }
+
+            LoreBulkDiscoveryEvent event = new LoreBulkDiscoveryEvent(player, fresh, firsts, triggerType, location);
+            return plugin.getLoreScheduler().supplyForEntity(player, () -> {
+                Bukkit.getPluginManager().callEvent(event);
+                return event;
+            }).thenCompose(evt -> {
+                if (evt.isCancelled()) {
+                    logger.debug("Bulk discovery of " + fresh.size() + " entries cancelled for " + player.getName());
+                    firsts.forEach(entryId -> firstDiscoverers.release(entryId, playerUuid));
+                    return CompletableFuture.completedFuture(0);
+                }
+
+                return recordDiscoveries(playerUuid, fresh, firsts, triggerType, location).thenApply(recorded -> {
+                    if (!recorded) {
+                        firsts.forEach(entryId -> firstDiscoverers.release(entryId, playerUuid));
+                        return 0;
+                    }
+                    for (LoreEntry entry : fresh) {
+                        setCooldown(playerUuid, entry.getId());
+                        if (plugin.getPlayerSessions() != null) {
+                            plugin.getPlayerSessions().markDiscovered(playerUuid, entry.getId());
+                        }
+                    }
+
+                    plugin.getLoreScheduler().runForEntity(player, () -> notificationManager.sendBulkDiscoveryNotification(evt));
+
+                    logger.debug("Player " + player.getName() + " discovered " + fresh.size() + " entries"
+                        + (firsts.isEmpty() ? "" : " (" + firsts.size() + " FIRST DISCOVERIES)"));
+                    return fresh.size();
+                });
+            });
+        }).exceptionally(ex -> {
+            logger.error("Error triggering bulk discovery for " + player.getName(), ex);
+            return 0;
+        });
+    }
+
+    /**
+     * Records several discoveries with multi-row inserts into both discovery tables.
+     */
+    private CompletableFuture<Boolean> recordDiscoveries(UUID playerUuid, List<LoreEntry> entries,
+                                                         Set<String> firstEntryIds,
+                                                         DiscoveryTriggerType triggerType,
+                                                         Location location) {
+        List<String> entryIds = entries.stream().map(LoreEntry::getId).toList();
+        CompletableFuture<Boolean> legacyRecord = trackWrite(playerManager.recordLoreDiscoveries(playerUuid, entryIds));
+
+        if (discoveryRepository != null) {
+            String world = location != null && location.getWorld() != null ? location.getWorld().getName() : null;
+            Double x = location != null ? location.getX() : null;
+            Double y = location != null ? location.getY() : null;
+            Double z = location != null ? location.getZ() : null;
+
+            trackWrite(discoveryRepository.recordDiscoveries(playerUuid, entryIds,
+                    triggerType != null ? triggerType.name() : "UNKNOWN",
+                    world, x, y, z, firstEntryIds)
+                .exceptionally(ex -> {
+                    logger.warning("Failed to persist enriched discoveries: " + ex.getMessage());
+                    return false;
+                }))
+                .thenAccept(stored -> {
+                    if (stored) {
+                        firstEntryIds.forEach(entryId -> confirmFirstDiscoverer(entryId, playerUuid));
+                    }
+                });
+        }
+
+        return legacyRecord;
+    }
+
     /**
      * Records a discovery in the player's collection and the enriched lore_discovery table.
      */
@@ -190,11 +355,6 @@ public class DiscoveryManager {
                                                         boolean isFirstDiscovery,
                                                         DiscoveryTriggerType triggerType,
                                                         Location location) {
-        // Track first discoverer in cache
-        if (isFirstDiscovery) {
-            firstDiscoverers.put(entryId, playerUuid);
-        }
-
         // Record in PlayerManager (legacy player_discoveries table)
         CompletableFuture<Boolean> legacyRecord = trackWrite(playerManager.recordLoreDiscovery(playerUuid, entryId));
 
@@ -205,22 +365,47 @@ public class DiscoveryManager {
             Double y = location != null ? location.getY() : null;
             Double z = location != null ? location.getZ() : null;
 
-            trackWrite(discoveryRepository.recordDiscovery(playerUuid, entryId,
+            CompletableFuture<Boolean> enriched = trackWrite(discoveryRepository.recordDiscovery(playerUuid, entryId,
                     triggerType != null ? triggerType.name() : "UNKNOWN",
                     world, x, y, z, isFirstDiscovery)
                 .exceptionally(ex -> {
                     logger.warning("Failed to persist enriched discovery: " + ex.getMessage());
                     return false;
                 }));
+            if (isFirstDiscovery) {
+                enriched.thenAccept(stored -> {
+                    if (stored) {
+                        confirmFirstDiscoverer(entryId, playerUuid);
+                    }
+                });
+            }
         }
 
         return legacyRecord;
     }
 
+    /**
+     * Check a first-discovery claim against the database, whose unique index on first
+     * discoveries lets only one row per entry be marked first. Another server sharing the
+     * database may have won; if so, the in-memory record is corrected.
+     */
+    private void confirmFirstDiscoverer(String entryId, UUID playerUuid) {
+        discoveryRepository.getFirstDiscoverer(entryId).thenAccept(stored -> {
+            if (stored != null && !stored.equals(playerUuid)) {
+                firstDiscoverers.set(entryId, stored);
+                logger.debug("First discovery of " + entryId + " already belonged to " + stored);
+            }
+        });
+    }
+
     /**
      * Checks if a player has already discovered an entry.
      */
     public CompletableFuture<Boolean> hasPlayerDiscoveredAsync(UUID playerUuid, String entryId) {
+        PlayerSession session = playerSession(playerUuid);
+        if (session != null && session.isDiscoveriesLoaded()) {
+            return CompletableFuture.completedFuture(session.hasDiscovered(entryId));
+        }
         if (discoveryRepository != null) {
             return discoveryRepository.hasDiscovered(playerUuid, entryId);
         }
@@ -243,6 +428,14 @@ public class DiscoveryManager {
         }
     }
 
+    /**
+     * @return The player's loaded session, or null if there is none
+     */
+    private PlayerSession playerSession(UUID playerUuid) {
+        PlayerSessionManager sessions = plugin.getPlayerSessions();
+        return sessions != null ? sessions.getSession(playerUuid) : null;
+    }
+
     /**
      * Gets the first discoverer of an entry.
      */
@@ -251,16 +444,25 @@ public class DiscoveryManager {
     }
 
     /**
-     * Gets all entries discovered by a player.
+     * Gets the IDs of all entries discovered by a player in a single query.
+     * Prefer this over per-entry {@link #hasPlayerDiscovered} checks when many entries are involved.
      */
-    public CompletableFuture<List<LoreEntry>> getPlayerDiscoveries(UUID playerUuid) {
-        CompletableFuture<List<String>> idsFuture;
+    public CompletableFuture<List<String>> getDiscoveredEntryIds(UUID playerUuid) {
+        PlayerSession session = playerSession(playerUuid);
+        if (session != null && session.isDiscoveriesLoaded()) {
+            return CompletableFuture.completedFuture(new ArrayList<>(session.getDiscoveredEntryIds()));
+        }
         if (discoveryRepository != null) {
-            idsFuture = discoveryRepository.getDiscoveredEntryIds(playerUuid);
-        } else {
-            idsFuture = playerManager.getPlayerLoreEntryIds(playerUuid);
+            return discoveryRepository.getDiscoveredEntryIds(playerUuid);
         }
-        return idsFuture.thenApply(ids -> {
+        return playerManager.getPlayerLoreEntryIds(playerUuid);
+    }
+
+    /**
+     * Gets all entries discovered by a player.
+     */
+    public CompletableFuture<List<LoreEntry>> getPlayerDiscoveries(UUID playerUuid) {
+        return getDiscoveredEntryIds(playerUuid).thenApply(ids -> {
             List<LoreEntry> entries = new ArrayList<>();
             for (String id : ids) {
                 loreManager.getLoreById(id).ifPresent(entries::add);
@@ -341,35 +543,12 @@ public class DiscoveryManager {
         discoveryCooldowns.remove(playerUuid);
     }
 
-    // Utility method to run code on main thread
-
-    private <T> CompletableFuture<T> runOnMainThread(java.util.function.Supplier<T> supplier) {
-        CompletableFuture<T> future = new CompletableFuture<>();
-
-        if (Bukkit.isPrimaryThread()) {
-            try {
-                future.complete(supplier.get());
-            } catch (Exception e) {
-                future.completeExceptionally(e);
-            }
-        } else {
-            Bukkit.getScheduler().runTask(plugin, () -> {
-                try {
-                    future.complete(supplier.get());
-                } catch (Exception e) {
-                    future.completeExceptionally(e);
-                }
-            });
-        }
-
-        return future;
-    }
-
     /**
      * Shuts down the discovery manager.
      */
     public void shutdown() {
         awaitPendingWrites();
+        loreManager.getChangeFeed().removeListener(triggerIndexer);
         discoveryCooldowns.clear();
         initialized = false;
         logger.debug("DiscoveryManager shut down");
@@ -379,6 +558,13 @@ public class DiscoveryManager {
         return initialized;
     }
 
+    /**
+     * Gets the index of entries by discovery trigger.
+     */
+    public DiscoveryTriggerRegistry getTriggerRegistry() {
+        return triggerRegistry;
+    }
+
     public DiscoveryNotificationManager getNotificationManager() {
         return notificationManager;
     }
@@ -8,20 +8,25 @@ import org.bukkit.entity.Player;
 import org.fourz.RVNKLore.RVNKLore;
 import org.fourz.RVNKLore.lore.LoreEntry;
 import org.fourz.RVNKLore.lore.LoreType;
-import org.fourz.rvnkcore.RVNKCore;
+import org.fourz.RVNKLore.notification.NotificationPreferenceCache;
+import org.fourz.RVNKLore.notification.NotificationPreferences;
 import org.fourz.rvnkcore.util.log.LogManager;
-import org.fourz.rvnkcore.api.service.PlayerPreferencesService;
 
-import java.util.UUID;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * Manages player notifications for lore discoveries.
  * Supports chat messages, titles, action bar, and sound effects.
  *
- * Respects PlayerPreferencesService from RVNKCore (Phase 3 integration).
+ * Respects PlayerPreferencesService from RVNKCore (Phase 3 integration) through the
+ * per-player snapshot in {@link NotificationPreferenceCache}.
  */
 public class DiscoveryNotificationManager {
+    private static final String NOTIFICATION_TYPE = "discovery";
+    /** Entries listed by name in a bulk discovery chat summary. */
+    private static final int BULK_CHAT_LIMIT = 5;
 
     private final RVNKLore plugin;
     private final LogManager logger;
@@ -76,61 +81,109 @@ public class DiscoveryNotificationManager {
             return;
         }
 
-        // Check player preferences if available
-        PlayerPreferencesService prefs = RVNKCore.getServiceSafe(PlayerPreferencesService.class);
-        if (prefs != null) {
-            UUID playerId = player.getUniqueId();
-
-            // Check if discovery notifications are enabled for this player
-            prefs.isNotificationEnabled(playerId, "rvnklore", "discovery")
-                .thenAccept(enabled -> {
-                    if (!enabled) {
-                        logger.debug("Discovery notification suppressed for " + player.getName() +
-                                " (notifications disabled in preferences)");
-                        return;
-                    }
-
-                    // Check individual channel preferences
-                    CompletableFuture<Boolean> titleEnabled = prefs.isChannelEnabled(playerId, "rvnklore", "discovery", "TITLE");
-                    CompletableFuture<Boolean> actionBarEnabled = prefs.isChannelEnabled(playerId, "rvnklore", "discovery", "ACTION_BAR");
-                    CompletableFuture<Boolean> chatEnabled = prefs.isChannelEnabled(playerId, "rvnklore", "discovery", "CHAT");
-                    CompletableFuture<Boolean> soundEnabled = prefs.isChannelEnabled(playerId, "rvnklore", "discovery", "SOUND");
-
-                    CompletableFuture.allOf(titleEnabled, actionBarEnabled, chatEnabled, soundEnabled)
-                        .thenRun(() -> {
-                            try {
-                                if (titleEnabled.join()) {
-                                    sendTitleNotification(player, entry, event.isFirstDiscovery());
-                                }
-                                if (actionBarEnabled.join()) {
-                                    sendActionBarNotification(player, entry);
-                                }
-                                if (chatEnabled.join()) {
-                                    sendChatNotification(player, entry, event.isFirstDiscovery(), event.isFirstForPlayer());
-                                }
-                                if (soundEnabled.join()) {
-                                    playDiscoverySound(player, entry, event.isFirstDiscovery());
-                                }
-                            } catch (Exception e) {
-                                logger.debug("Error sending discovery notifications: " + e.getMessage());
-                            }
-                        })
-                        .exceptionally(ex -> {
-                            logger.debug("Error checking discovery notification preferences: " + ex.getMessage());
-                            // Fallback to config-based settings
-                            sendDiscoveryNotificationFallback(player, entry, event);
-                            return null;
-                        });
-                })
-                .exceptionally(ex -> {
-                    logger.debug("Error checking discovery notification enable status: " + ex.getMessage());
-                    // Fallback to config-based settings
-                    sendDiscoveryNotificationFallback(player, entry, event);
-                    return null;
-                });
-        } else {
+        withPreferences(player, prefs -> sendDiscoveryNotification(player, entry, event, prefs));
+    }
+
+    /**
+     * Sends one summary notification for a bulk discovery instead of one per entry.
+     *
+     * @param event The bulk discovery event
+     */
+    public void sendBulkDiscoveryNotification(LoreBulkDiscoveryEvent event) {
+        if (event.isSuppressNotification() || event.getLoreEntries().isEmpty()) {
+            return;
+        }
+
+        Player player = event.getPlayer();
+        if (event.getCustomMessage() != null) {
+            player.sendMessage(event.getCustomMessage());
+            return;
+        }
+
+        withPreferences(player, prefs -> {
+            if (prefs != null && !prefs.isEnabled(NOTIFICATION_TYPE)) {
+                return;
+            }
+            try {
+                if (prefs != null ? prefs.isChannelEnabled(NOTIFICATION_TYPE, "TITLE") : enableTitles) {
+                    sendBulkTitleNotification(player, event);
+                }
+                if (prefs != null ? prefs.isChannelEnabled(NOTIFICATION_TYPE, "ACTION_BAR") : enableActionBar) {
+                    String message = ChatColor.GRAY + "Discovered " + ChatColor.AQUA + event.getLoreEntries().size()
+                        + ChatColor.GRAY + " lore entries";
+                    player.spigot().sendMessage(ChatMessageType.ACTION_BAR, new TextComponent(message));
+                }
+                if (prefs != null ? prefs.isChannelEnabled(NOTIFICATION_TYPE, "CHAT") : enableChatMessage) {
+                    sendBulkChatNotification(player, event);
+                }
+                if (prefs != null ? prefs.isChannelEnabled(NOTIFICATION_TYPE, "SOUND") : enableSounds) {
+                    boolean anyFirst = !event.getFirstDiscoveryIds().isEmpty();
+                    playDiscoverySound(player, event.getLoreEntries().get(0), anyFirst);
+                }
+            } catch (Exception e) {
+                logger.debug("Error sending bulk discovery notifications: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Runs a notification with the player's preferences (cached per player, loaded on
+     * join): immediately when they are cached, otherwise on the main thread once loaded.
+     * The action receives null when preferences are unavailable and config flags apply.
+     */
+    private void withPreferences(Player player, Consumer<NotificationPreferences> action) {
+        NotificationPreferenceCache cache = plugin.getNotificationPreferences();
+        CompletableFuture<NotificationPreferences> prefs = cache != null
+            ? cache.get(player.getUniqueId())
+            : CompletableFuture.completedFuture(null);
+        if (prefs.isDone() && !prefs.isCompletedExceptionally()) {
+            action.accept(prefs.join());
+            return;
+        }
+        prefs.whenComplete((snapshot, ex) -> {
+            if (ex != null) {
+                logger.debug("Error checking discovery notification preferences: " + ex.getMessage());
+            }
+            plugin.getLoreScheduler().runForEntity(player, () -> {
+                if (player.isOnline()) {
+                    action.accept(ex == null ? snapshot : null);
+                }
+            });
+        });
+    }
+
+    /**
+     * Sends discovery notification on the main thread.
+     *
+     * @param prefs The player's preferences, or null to use config flags
+     */
+    private void sendDiscoveryNotification(Player player, LoreEntry entry, LoreDiscoveryEvent event,
+                                           NotificationPreferences prefs) {
+        if (prefs == null) {
             // No preferences service available - use config flags
             sendDiscoveryNotificationFallback(player, entry, event);
+            return;
+        }
+        if (!prefs.isEnabled(NOTIFICATION_TYPE)) {
+            logger.debug("Discovery notification suppressed for " + player.getName() +
+                    " (notifications disabled in preferences)");
+            return;
+        }
+        try {
+            if (prefs.isChannelEnabled(NOTIFICATION_TYPE, "TITLE")) {
+                sendTitleNotification(player, entry, event.isFirstDiscovery());
+            }
+            if (prefs.isChannelEnabled(NOTIFICATION_TYPE, "ACTION_BAR")) {
+                sendActionBarNotification(player, entry);
+            }
+            if (prefs.isChannelEnabled(NOTIFICATION_TYPE, "CHAT")) {
+                sendChatNotification(player, entry, event.isFirstDiscovery(), event.isFirstForPlayer());
+            }
+            if (prefs.isChannelEnabled(NOTIFICATION_TYPE, "SOUND")) {
+                playDiscoverySound(player, entry, event.isFirstDiscovery());
+            }
+        } catch (Exception e) {
+            logger.debug("Error sending discovery notifications: " + e.getMessage());
         }
     }
 
@@ -216,6 +269,47 @@ public class DiscoveryNotificationManager {
         player.sendMessage("");
     }
 
+    /**
+     * Sends a title summarizing a bulk discovery.
+     */
+    private void sendBulkTitleNotification(Player player, LoreBulkDiscoveryEvent event) {
+        int count = event.getLoreEntries().size();
+        int firsts = event.getFirstDiscoveryIds().size();
+        String title = firsts > 0
+            ? ChatColor.GOLD + "✦ FIRST DISCOVERY! ✦"
+            : ChatColor.AQUA + "Lore Discovered";
+        String subtitle = ChatColor.WHITE.toString() + count + (count == 1 ? " new entry" : " new entries")
+            + (firsts > 0 ? ChatColor.YELLOW + " (" + firsts + " first)" : "");
+
+        player.sendTitle(title, subtitle, 10, 30, 10);
+    }
+
+    /**
+     * Sends a chat summary of a bulk discovery, listing the first few entries.
+     */
+    private void sendBulkChatNotification(Player player, LoreBulkDiscoveryEvent event) {
+        List<LoreEntry> entries = event.getLoreEntries();
+        player.sendMessage("");
+        player.sendMessage(ChatColor.AQUA + "━━━ " + ChatColor.WHITE + "Lore Discovered (" + entries.size() + ")"
+            + ChatColor.AQUA + " ━━━");
+
+        int shown = Math.min(entries.size(), BULK_CHAT_LIMIT);
+        for (int i = 0; i < shown; i++) {
+            LoreEntry entry = entries.get(i);
+            String marker = event.isFirstDiscovery(entry) ? ChatColor.GOLD + "★ " : ChatColor.GRAY + "- ";
+            player.sendMessage(marker + getTypeColor(entry.getType()) + "[" + formatTypeName(entry.getType()) + "] "
+                + ChatColor.WHITE + entry.getName());
+        }
+        if (entries.size() > shown) {
+            player.sendMessage(ChatColor.GRAY + "...and " + (entries.size() - shown) + " more");
+        }
+        if (!event.getFirstDiscoveryIds().isEmpty()) {
+            player.sendMessage(ChatColor.YELLOW + "★ You are the first to discover "
+                + (event.getFirstDiscoveryIds().size() == 1 ? "this lore!" : "these entries!"));
+        }
+        player.sendMessage("");
+    }
+
     /**
      * Plays a discovery sound effect.
      */
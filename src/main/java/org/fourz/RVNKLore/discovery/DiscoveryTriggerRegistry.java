@@ -0,0 +1,295 @@
+package org.fourz.RVNKLore.discovery;
+
+import org.fourz.RVNKLore.lore.LoreEntry;
+import org.fourz.RVNKLore.lore.LoreType;
+
+import java.util.*;
+
+/**
+ * Indexes approved lore entries by the game events that discover them.
+ *
+ * <p>Each entry's {@code discovery_trigger} metadata is parsed once into typed trigger
+ * keys, so a listener resolves its candidates with one hash lookup instead of scanning
+ * every entry. The metadata holds one or more triggers separated by commas:
+ * <ul>
+ *   <li>{@code FIRST_JOIN} - granted on a player's first join</li>
+ *   <li>{@code quest:<id>} - completing an RVNKQuests quest</li>
+ *   <li>{@code mob:<name>} - killing a mob with this custom name</li>
+ *   <li>{@code boss:<entity type>} - killing an entity of this type, e.g. {@code boss:WITHER}</li>
+ *   <li>{@code item:<material>} - using an item of this material</li>
+ *   <li>{@code biome:<biome>} / {@code structure:<structure>} - entering a biome or structure</li>
+ *   <li>{@code time:<from>-<to>} - only while the world time (in ticks) is in this window;
+ *       applies to the entry's other triggers</li>
+ * </ul>
+ * Every approved entry is also found by a kill of a mob named exactly like the entry.
+ * New trigger kinds need a {@link Kind} and a listener that looks them up.
+ */
+public class DiscoveryTriggerRegistry {
+    public static final String METADATA_KEY = "discovery_trigger";
+
+    /**
+     * The kinds of event an entry can be discovered by.
+     */
+    public enum Kind {
+        FIRST_JOIN(null),
+        QUEST("quest"),
+        MOB("mob"),
+        BOSS("boss"),
+        ITEM("item"),
+        BIOME("biome"),
+        STRUCTURE("structure");
+
+        private final String prefix;
+
+        Kind(String prefix) {
+            this.prefix = prefix;
+        }
+
+        static Kind fromPrefix(String prefix) {
+            for (Kind kind : values()) {
+                if (prefix.equals(kind.prefix)) {
+                    return kind;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A normalized trigger, e.g. (QUEST, "dragon_slayer").
+     */
+    public record TriggerKey(Kind kind, String value) {
+        public static TriggerKey of(Kind kind, String value) {
+            return new TriggerKey(kind, normalize(value));
+        }
+    }
+
+    /**
+     * A window of world time in ticks (0-23999). Wraps past midnight when {@code from > to}.
+     */
+    public record TimeWindow(long from, long to) {
+        public boolean contains(long worldTime) {
+            long time = Math.floorMod(worldTime, 24000L);
+            return from <= to ? time >= from && time <= to : time >= from || time <= to;
+        }
+    }
+
+    /**
+     * The triggers parsed from one entry's metadata.
+     *
+     * @param keys The trigger keys
+     * @param window The time window, or null if the entry can be discovered at any time
+     */
+    public record Triggers(List<TriggerKey> keys, TimeWindow window) {
+        static final Triggers NONE = new Triggers(List.of(), null);
+    }
+
+    private record Indexed(LoreEntry entry, Triggers triggers, List<TriggerKey> keys) {
+    }
+
+    private final Map<TriggerKey, Map<String, LoreEntry>> byKey = new HashMap<>();
+    private final Map<String, Indexed> byEntry = new HashMap<>();
+    private final Map<String, LoreEntry> eventEntries = new LinkedHashMap<>();
+    private final EnumMap<Kind, Integer> explicitCounts = new EnumMap<>(Kind.class);
+
+    /**
+     * Replace the index with the given entries.
+     */
+    public synchronized void rebuild(Collection<LoreEntry> entries) {
+        byKey.clear();
+        byEntry.clear();
+        eventEntries.clear();
+        explicitCounts.clear();
+        for (LoreEntry entry : entries) {
+            add(entry);
+        }
+    }
+
+    /**
+     * Index a new or changed entry, replacing its previous triggers.
+     */
+    public synchronized void update(LoreEntry entry) {
+        removeEntry(entry.getId());
+        add(entry);
+    }
+
+    /**
+     * Remove an entry from the index.
+     */
+    public synchronized void remove(String entryId) {
+        removeEntry(entryId);
+    }
+
+    /**
+     * Find the entries discovered by an event.
+     *
+     * @param kind The kind of event
+     * @param value The event's value, e.g. a quest ID (ignored for {@link Kind#FIRST_JOIN})
+     * @param worldTime The world time in ticks, checked against entries' time windows
+     * @return The matching entries, possibly empty
+     */
+    public synchronized List<LoreEntry> find(Kind kind, String value, long worldTime) {
+        Map<String, LoreEntry> matches = byKey.get(TriggerKey.of(kind, kind == Kind.FIRST_JOIN ? "" : value));
+        if (matches == null) {
+            return List.of();
+        }
+        List<LoreEntry> result = new ArrayList<>(matches.size());
+        for (LoreEntry entry : matches.values()) {
+            TimeWindow window = byEntry.get(entry.getId()).triggers().window();
+            if (window == null || window.contains(worldTime)) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Find the entries discovered by killing a named mob: {@code mob:} triggers and
+     * entries named like the mob, or failing those, event entries whose name contains it.
+     */
+    public synchronized List<LoreEntry> findMob(String mobName, long worldTime) {
+        List<LoreEntry> matches = find(Kind.MOB, mobName, worldTime);
+        if (!matches.isEmpty() || mobName == null || mobName.isEmpty()) {
+            return matches;
+        }
+        List<LoreEntry> events = new ArrayList<>();
+        for (LoreEntry entry : eventEntries.values()) {
+            if (entry.getName().contains(mobName)) {
+                events.add(entry);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * @return Whether any entry declares a trigger of this kind, so listeners can skip work
+     */
+    public synchronized boolean hasTriggers(Kind kind) {
+        return explicitCounts.getOrDefault(kind, 0) > 0;
+    }
+
+    /**
+     * @return Whether any entry is discovered by this trigger
+     */
+    public synchronized boolean contains(Kind kind, String value) {
+        return byKey.containsKey(TriggerKey.of(kind, value));
+    }
+
+    /**
+     * @return The parsed triggers of an indexed entry, or null if it is not indexed
+     */
+    public synchronized Triggers getTriggers(String entryId) {
+        Indexed indexed = byEntry.get(entryId);
+        return indexed != null ? indexed.triggers() : null;
+    }
+
+    /**
+     * @return The number of indexed entries
+     */
+    public synchronized int size() {
+        return byEntry.size();
+    }
+
+    private void add(LoreEntry entry) {
+        if (entry == null || entry.getId() == null || !entry.isApproved()) {
+            return;
+        }
+        Triggers triggers = parse(entry.getMetadata(METADATA_KEY));
+        List<TriggerKey> keys = new ArrayList<>(triggers.keys());
+        for (TriggerKey key : triggers.keys()) {
+            explicitCounts.merge(key.kind(), 1, Integer::sum);
+        }
+        if (entry.getName() != null && !entry.getName().isEmpty()) {
+            keys.add(TriggerKey.of(Kind.MOB, entry.getName()));
+        }
+        for (TriggerKey key : keys) {
+            byKey.computeIfAbsent(key, k -> new LinkedHashMap<>()).put(entry.getId(), entry);
+        }
+        if (entry.getType() == LoreType.EVENT && entry.getName() != null) {
+            eventEntries.put(entry.getId(), entry);
+        }
+        byEntry.put(entry.getId(), new Indexed(entry, triggers, keys));
+    }
+
+    private void removeEntry(String entryId) {
+        Indexed indexed = byEntry.remove(entryId);
+        if (indexed == null) {
+            return;
+        }
+        for (TriggerKey key : indexed.triggers().keys()) {
+            explicitCounts.computeIfPresent(key.kind(), (kind, count) -> count > 1 ? count - 1 : null);
+        }
+        for (TriggerKey key : indexed.keys()) {
+            Map<String, LoreEntry> entries = byKey.get(key);
+            if (entries != null) {
+                entries.remove(entryId);
+                if (entries.isEmpty()) {
+                    byKey.remove(key);
+                }
+            }
+        }
+        eventEntries.remove(entryId);
+    }
+
+    /**
+     * Parse {@code discovery_trigger} metadata. Unknown or malformed triggers are ignored.
+     */
+    public static Triggers parse(String metadata) {
+        if (metadata == null || metadata.isBlank()) {
+            return Triggers.NONE;
+        }
+        List<TriggerKey> keys = new ArrayList<>();
+        TimeWindow window = null;
+        for (String part : metadata.split(",")) {
+            String trigger = part.trim();
+            if (trigger.equalsIgnoreCase("FIRST_JOIN")) {
+                keys.add(TriggerKey.of(Kind.FIRST_JOIN, ""));
+                continue;
+            }
+            int colon = trigger.indexOf(':');
+            if (colon <= 0 || colon == trigger.length() - 1) {
+                continue;
+            }
+            String prefix = trigger.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+            String value = trigger.substring(colon + 1).trim();
+            if (prefix.equals("time")) {
+                window = parseWindow(value);
+                continue;
+            }
+            Kind kind = Kind.fromPrefix(prefix);
+            if (kind != null && !value.isEmpty()) {
+                keys.add(TriggerKey.of(kind, value));
+            }
+        }
+        return keys.isEmpty() && window == null ? Triggers.NONE : new Triggers(List.copyOf(keys), window);
+    }
+
+    private static TimeWindow parseWindow(String value) {
+        int dash = value.indexOf('-');
+        if (dash <= 0) {
+            return null;
+        }
+        try {
+            long from = Long.parseLong(value.substring(0, dash).trim());
+            long to = Long.parseLong(value.substring(dash + 1).trim());
+            if (from < 0 || to < 0 || from >= 24000 || to >= 24000) {
+                return null;
+            }
+            return new TimeWindow(from, to);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Lower-case a trigger value and drop the default {@code minecraft:} namespace, so
+     * {@code WITHER}, {@code wither} and {@code minecraft:wither} are the same key.
+     */
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        return normalized.startsWith("minecraft:") ? normalized.substring("minecraft:".length()) : normalized;
+    }
+}
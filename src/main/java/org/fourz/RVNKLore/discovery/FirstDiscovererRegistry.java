@@ -0,0 +1,198 @@
+package org.fourz.RVNKLore.discovery;
+
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * In-memory record of who discovered each lore entry first.
+ *
+ * <p>Entry IDs are interned to dense int ordinals, and each discoverer's UUID is held
+ * as two primitive longs in fixed-size pages indexed by ordinal, so there is no boxed
+ * UUID per entry. A per-slot stamp makes claiming a slot a single compare-and-set: of
+ * two players discovering an entry at once, exactly one wins. Readers never lock;
+ * they retry a read that overlapped a write, like a seqlock.
+ */
+public class FirstDiscovererRegistry {
+    private static final int PAGE_BITS = 10;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    private static final int WRITING = 1;
+    private static final int PRESENT = 2;
+
+    /**
+     * One block of slots. Each slot's stamp holds a writing bit, a present bit and a
+     * version above them that changes on every write, so a reader that saw the same
+     * stamp before and after reading the UUID halves knows they belong together.
+     */
+    private static final class Page {
+        private final AtomicIntegerArray stamps = new AtomicIntegerArray(PAGE_SIZE);
+        private final long[] msb = new long[PAGE_SIZE];
+        private final long[] lsb = new long[PAGE_SIZE];
+    }
+
+    private final Map<String, Integer> ordinals = new ConcurrentHashMap<>();
+    private final AtomicInteger nextOrdinal = new AtomicInteger();
+    private final AtomicInteger size = new AtomicInteger();
+    private volatile Page[] pages = new Page[0];
+
+    /**
+     * Claim the first discovery of an entry.
+     *
+     * @return true if the player is now the first discoverer, false if someone else was first
+     */
+    public boolean claim(String entryId, UUID playerUuid) {
+        return write(entryId, playerUuid, false);
+    }
+
+    /**
+     * Set the first discoverer of an entry, replacing any current value.
+     * Used to load stored discoverers and to correct a claim the database rejected.
+     */
+    public void set(String entryId, UUID playerUuid) {
+        write(entryId, playerUuid, true);
+    }
+
+    /**
+     * Undo a claim that was not recorded, if the player still holds it.
+     *
+     * @return true if the claim was released
+     */
+    public boolean release(String entryId, UUID playerUuid) {
+        Integer ordinal = ordinals.get(entryId);
+        Page page = ordinal == null ? null : page(ordinal, false);
+        if (page == null) {
+            return false;
+        }
+        int slot = ordinal & PAGE_MASK;
+        while (true) {
+            int stamp = page.stamps.get(slot);
+            if ((stamp & WRITING) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            if ((stamp & PRESENT) == 0
+                    || page.msb[slot] != playerUuid.getMostSignificantBits()
+                    || page.lsb[slot] != playerUuid.getLeastSignificantBits()) {
+                return false;
+            }
+            if (page.stamps.compareAndSet(slot, stamp, nextVersion(stamp))) {
+                size.decrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return Whether anyone has discovered the entry first
+     */
+    public boolean isClaimed(String entryId) {
+        Integer ordinal = ordinals.get(entryId);
+        Page page = ordinal == null ? null : page(ordinal, false);
+        return page != null && (page.stamps.get(ordinal & PAGE_MASK) & (WRITING | PRESENT)) != 0;
+    }
+
+    /**
+     * @return The first discoverer of an entry, or null if there is none
+     */
+    public UUID get(String entryId) {
+        Integer ordinal = ordinals.get(entryId);
+        Page page = ordinal == null ? null : page(ordinal, false);
+        if (page == null) {
+            return null;
+        }
+        int slot = ordinal & PAGE_MASK;
+        while (true) {
+            int stamp = page.stamps.get(slot);
+            if ((stamp & WRITING) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            if ((stamp & PRESENT) == 0) {
+                return null;
+            }
+            long most = page.msb[slot];
+            long least = page.lsb[slot];
+            // Keep the plain reads above from moving past the validating stamp read
+            VarHandle.acquireFence();
+            if (page.stamps.get(slot) == stamp) {
+                return new UUID(most, least);
+            }
+        }
+    }
+
+    /**
+     * @return The number of entries with a first discoverer
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Take a slot's write lock with a compare-and-set, store the UUID, then publish it
+     * under a new version.
+     *
+     * @param replace Whether to overwrite an existing discoverer
+     * @return false if the slot already had a discoverer and {@code replace} is false
+     */
+    private boolean write(String entryId, UUID playerUuid, boolean replace) {
+        int ordinal = ordinals.computeIfAbsent(entryId, id -> nextOrdinal.getAndIncrement());
+        Page page = page(ordinal, true);
+        int slot = ordinal & PAGE_MASK;
+        while (true) {
+            int stamp = page.stamps.get(slot);
+            if ((stamp & WRITING) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            boolean present = (stamp & PRESENT) != 0;
+            if (present && !replace) {
+                return false;
+            }
+            if (page.stamps.compareAndSet(slot, stamp, stamp | WRITING)) {
+                page.msb[slot] = playerUuid.getMostSignificantBits();
+                page.lsb[slot] = playerUuid.getLeastSignificantBits();
+                page.stamps.set(slot, nextVersion(stamp) | PRESENT);
+                if (!present) {
+                    size.incrementAndGet();
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return An empty, unlocked stamp with the next version
+     */
+    private static int nextVersion(int stamp) {
+        return ((stamp >>> 2) + 1) << 2;
+    }
+
+    private Page page(int ordinal, boolean create) {
+        int index = ordinal >>> PAGE_BITS;
+        Page[] current = pages;
+        if (index < current.length) {
+            return current[index];
+        }
+        if (!create) {
+            return null;
+        }
+        synchronized (this) {
+            current = pages;
+            if (index >= current.length) {
+                // Pages are shared with the old array, so a claim is never lost to growth
+                Page[] grown = Arrays.copyOf(current, Math.max(index + 1, current.length * 2));
+                for (int i = current.length; i < grown.length; i++) {
+                    grown[i] = new Page();
+                }
+                pages = grown;
+                current = grown;
+            }
+            return current[index];
+        }
+    }
+}
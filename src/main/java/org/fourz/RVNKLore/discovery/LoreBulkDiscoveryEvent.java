@@ -0,0 +1,166 @@
+package org.fourz.RVNKLore.discovery;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.fourz.RVNKLore.lore.LoreEntry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Event fired once when a player discovers several lore entries together, for example
+ * every location on a new map or the starter entries granted on first join.
+ *
+ * <p>Only entries the player had not discovered before are included. No
+ * {@link LoreDiscoveryEvent} is fired for them. This event is cancellable - cancelling
+ * prevents every discovery in it from being recorded and suppresses the notification.</p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * @EventHandler
+ * public void onBulkDiscovery(LoreBulkDiscoveryEvent event) {
+ *     for (LoreEntry entry : event.getFirstDiscoveries()) {
+ *         // The player is the first to discover each of these entries
+ *         grantBonus(event.getPlayer(), entry);
+ *     }
+ * }
+ * }</pre>
+ */
+public class LoreBulkDiscoveryEvent extends Event implements Cancellable {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    private final Player player;
+    private final List<LoreEntry> loreEntries;
+    private final Set<String> firstDiscoveryIds;
+    private final DiscoveryTriggerType triggerType;
+    private final Location triggerLocation;
+
+    private boolean cancelled = false;
+    private boolean suppressNotification = false;
+    private String customMessage = null;
+
+    /**
+     * Creates a new bulk discovery event.
+     *
+     * @param player The player who discovered the lore
+     * @param loreEntries The entries discovered, none of them known to the player before
+     * @param firstDiscoveryIds IDs of the entries nobody had discovered before
+     * @param triggerType The type of trigger that caused the discoveries
+     * @param triggerLocation The location where the discoveries occurred
+     */
+    public LoreBulkDiscoveryEvent(Player player, List<LoreEntry> loreEntries, Set<String> firstDiscoveryIds,
+                                  DiscoveryTriggerType triggerType, Location triggerLocation) {
+        this.player = player;
+        this.loreEntries = Collections.unmodifiableList(loreEntries);
+        this.firstDiscoveryIds = Collections.unmodifiableSet(firstDiscoveryIds);
+        this.triggerType = triggerType;
+        this.triggerLocation = triggerLocation;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public UUID getPlayerUuid() {
+        return player.getUniqueId();
+    }
+
+    /**
+     * Gets the discovered lore entries.
+     *
+     * @return The entries, in the order they were requested
+     */
+    public List<LoreEntry> getLoreEntries() {
+        return loreEntries;
+    }
+
+    /**
+     * Gets the entries this player is the first on the server to discover.
+     *
+     * @return The first discoveries, possibly empty
+     */
+    public List<LoreEntry> getFirstDiscoveries() {
+        List<LoreEntry> firsts = new ArrayList<>();
+        for (LoreEntry entry : loreEntries) {
+            if (firstDiscoveryIds.contains(entry.getId())) {
+                firsts.add(entry);
+            }
+        }
+        return firsts;
+    }
+
+    /**
+     * Checks if an entry in this event is a server-wide first discovery.
+     */
+    public boolean isFirstDiscovery(LoreEntry entry) {
+        return firstDiscoveryIds.contains(entry.getId());
+    }
+
+    /**
+     * @return IDs of the entries nobody had discovered before
+     */
+    public Set<String> getFirstDiscoveryIds() {
+        return firstDiscoveryIds;
+    }
+
+    public DiscoveryTriggerType getTriggerType() {
+        return triggerType;
+    }
+
+    /**
+     * @return The trigger location, or null if not applicable
+     */
+    public Location getTriggerLocation() {
+        return triggerLocation;
+    }
+
+    /**
+     * Sets whether to suppress the default summary notification.
+     */
+    public void setSuppressNotification(boolean suppress) {
+        this.suppressNotification = suppress;
+    }
+
+    public boolean isSuppressNotification() {
+        return suppressNotification;
+    }
+
+    /**
+     * Sets a custom message to display instead of the default summary.
+     *
+     * @param message The custom message, or null to use default
+     */
+    public void setCustomMessage(String message) {
+        this.customMessage = message;
+    }
+
+    public String getCustomMessage() {
+        return customMessage;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public void setCancelled(boolean cancel) {
+        this.cancelled = cancel;
+    }
+
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
@@ -94,6 +94,13 @@ public abstract class MenuHolder implements InventoryHolder {
         viewer.openInventory(inventory);
     }
 
+    /**
+     * Check whether the viewer currently has this menu open.
+     */
+    public boolean isOpen() {
+        return viewer.isOnline() && viewer.getOpenInventory().getTopInventory().getHolder() == this;
+    }
+
     /**
      * Close the menu.
      */
@@ -3,9 +3,10 @@ package org.fourz.RVNKLore.gui;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.ItemStack;
+import org.fourz.RVNKLore.util.scheduler.LoreScheduler;
 
 import java.util.List;
-import java.util.function.BiConsumer;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A paginated menu that supports navigating through items.
@@ -18,6 +19,9 @@ public abstract class PaginatedMenu<T> extends MenuHolder {
     protected int page;
     protected int itemsPerPage;
 
+    private CompletableFuture<ItemStack[]> preparedPage;
+    private int preparedPageNumber;
+
     // Slot layout (for 54-slot inventory)
     protected static final int[] ITEM_SLOTS = {
         10, 11, 12, 13, 14, 15, 16,
@@ -56,13 +60,14 @@ public abstract class PaginatedMenu<T> extends MenuHolder {
 
         // Add items for current page
         int startIndex = (page - 1) * itemsPerPage;
-        int endIndex = Math.min(startIndex + itemsPerPage, items.size());
+        ItemStack[] displays = takePreparedPage(page);
+        if (displays == null) {
+            displays = renderPage(items, page);
+        }
 
-        for (int i = 0; i < itemsPerPage && startIndex + i < items.size(); i++) {
+        for (int i = 0; i < displays.length; i++) {
             int slot = ITEM_SLOTS[i];
-            T item = items.get(startIndex + i);
-            ItemStack display = createItemDisplay(item);
-            inventory.setItem(slot, display);
+            inventory.setItem(slot, displays[i]);
 
             // Set click handler
             final int itemIndex = startIndex + i;
@@ -71,6 +76,82 @@ public abstract class PaginatedMenu<T> extends MenuHolder {
 
         // Add navigation
         addNavigation();
+
+        prepareNextPage();
+    }
+
+    /**
+     * Render the display items for one page.
+     */
+    private ItemStack[] renderPage(List<T> source, int pageNumber) {
+        int startIndex = (pageNumber - 1) * itemsPerPage;
+        int count = Math.max(0, Math.min(itemsPerPage, source.size() - startIndex));
+        ItemStack[] displays = new ItemStack[count];
+        for (int i = 0; i < count; i++) {
+            displays[i] = createItemDisplay(source.get(startIndex + i));
+        }
+        return displays;
+    }
+
+    /**
+     * Render the page after the current one on a later tick, so that paging forward
+     * only has to place items. Does nothing unless the menu opts in.
+     */
+    private void prepareNextPage() {
+        LoreScheduler scheduler = getPrerenderScheduler();
+        int next = page + 1;
+        if (scheduler == null || next > getTotalPages()) {
+            return;
+        }
+        if (preparedPage != null && preparedPageNumber == next) {
+            return;
+        }
+        List<T> source = items;
+        CompletableFuture<ItemStack[]> prepared = new CompletableFuture<>();
+        preparedPageNumber = next;
+        preparedPage = prepared;
+        // Item meta is not thread-safe, so render on the viewer's thread after this click is answered
+        scheduler.runForEntityLater(viewer, () -> {
+            if (preparedPage != prepared) {
+                return; // Taken or invalidated meanwhile
+            }
+            try {
+                prepared.complete(renderPage(source, next));
+            } catch (RuntimeException e) {
+                prepared.completeExceptionally(e);
+            }
+        }, 1L);
+    }
+
+    /**
+     * Take the pre-rendered page if it is for the requested page and already finished.
+     */
+    private ItemStack[] takePreparedPage(int pageNumber) {
+        CompletableFuture<ItemStack[]> prepared = preparedPage;
+        if (prepared == null || preparedPageNumber != pageNumber) {
+            return null;
+        }
+        preparedPage = null;
+        if (!prepared.isDone() || prepared.isCompletedExceptionally()) {
+            return null;
+        }
+        return prepared.join();
+    }
+
+    /**
+     * Discard the pre-rendered page. Call when the item displays change.
+     */
+    protected void invalidatePreparedPage() {
+        preparedPage = null;
+    }
+
+    /**
+     * Scheduler used to pre-render the next page on the viewer's thread, or null to
+     * render each page only when it is shown. Menus whose item displays are cheap to
+     * cache, and stay valid for an immutable item list, can opt in.
+     */
+    protected LoreScheduler getPrerenderScheduler() {
+        return null;
     }
 
     /**
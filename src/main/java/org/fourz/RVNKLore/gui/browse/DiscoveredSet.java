@@ -0,0 +1,59 @@
+package org.fourz.RVNKLore.gui.browse;
+
+import org.fourz.RVNKLore.RVNKLore;
+import org.fourz.RVNKLore.lore.LoreEntry;
+import org.fourz.RVNKLore.lore.LoreType;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Immutable snapshot of the entries one player has discovered, held as a bitset over
+ * {@link LoreBrowseIndex} ordinals, with per-type totals.
+ *
+ * <p>Built from a single query when a browse menu opens, so rendering a page never
+ * has to ask the database about individual entries.
+ */
+public final class DiscoveredSet {
+    private final LoreBrowseIndex index;
+    private final BitSet bits;
+    private final int[] perType;
+    private final int total;
+
+    DiscoveredSet(LoreBrowseIndex index, BitSet bits, int[] perType, int total) {
+        this.index = index;
+        this.bits = bits;
+        this.perType = perType;
+        this.total = total;
+    }
+
+    /**
+     * Load a player's discovered entries in the background.
+     *
+     * @param plugin The RVNKLore plugin instance
+     * @param playerUuid The player
+     * @return The discovered set, completed off the main thread
+     */
+    public static CompletableFuture<DiscoveredSet> load(RVNKLore plugin, UUID playerUuid) {
+        LoreBrowseIndex index = plugin.getBrowseIndex();
+        if (plugin.getDiscoveryManager() == null) {
+            return CompletableFuture.completedFuture(index.createDiscoveredSet(List.of()));
+        }
+        return plugin.getDiscoveryManager().getDiscoveredEntryIds(playerUuid)
+            .thenApply(index::createDiscoveredSet);
+    }
+
+    public boolean contains(LoreEntry entry) {
+        return bits.get(index.ordinalOf(entry.getId()));
+    }
+
+    /**
+     * @param type The lore type, or null for all types
+     * @return The number of discovered entries of the type
+     */
+    public int getCount(LoreType type) {
+        return type == null ? total : perType[type.ordinal()];
+    }
+}
@@ -0,0 +1,209 @@
+package org.fourz.RVNKLore.gui.browse;
+
+import org.bukkit.inventory.ItemStack;
+import org.fourz.RVNKLore.lore.LoreChange;
+import org.fourz.RVNKLore.lore.LoreChangeFeed;
+import org.fourz.RVNKLore.lore.LoreEntry;
+import org.fourz.RVNKLore.lore.LoreManager;
+import org.fourz.RVNKLore.lore.LoreType;
+import org.fourz.RVNKLore.lore.SortedLoreViews;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Pre-sorted views of the lore cache for the browse menus.
+ *
+ * <p>The index follows the lore change feed and keeps every cached entry in
+ * {@link SortedLoreViews}, the same sorted views the lore statistics use for approved
+ * entries. Menus get an immutable copy of a view, which is reused until that view changes.
+ *
+ * <p>Rendered icons are cached per entry together with the feed sequence of the entry's
+ * last change. An icon rendered from an older version of an entry is never served.
+ *
+ * <p>Every entry also gets a small, stable ordinal so per-player state such as
+ * {@link DiscoveredSet} can be held as a bitset.
+ */
+public class LoreBrowseIndex {
+    private final LoreChangeFeed feed;
+    private final Function<LoreType, List<LoreEntry>> loader;
+    private final BiConsumer<LoreChange, LoreEntry> listener = this::onChange;
+
+    private final SortedLoreViews views = new SortedLoreViews();
+    private boolean initialized;
+
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+    private final Map<IconKey, CachedIcon> icons = new ConcurrentHashMap<>();
+    private volatile long baseVersion;
+
+    private final Map<String, Integer> ordinals = new ConcurrentHashMap<>();
+    private final AtomicInteger nextOrdinal = new AtomicInteger();
+
+    public LoreBrowseIndex(LoreManager loreManager) {
+        this(loreManager.getChangeFeed(), loreManager::getLoreEntriesByTypeSync);
+    }
+
+    /**
+     * @param feed   Feed of lore cache changes to follow
+     * @param loader Reads the cached entries of a type; used at first read and after a full reload
+     */
+    LoreBrowseIndex(LoreChangeFeed feed, Function<LoreType, List<LoreEntry>> loader) {
+        this.feed = feed;
+        this.loader = loader;
+        feed.addEntryListener(listener);
+    }
+
+    /**
+     * Stop following the change feed and drop all cached views and icons.
+     */
+    public synchronized void close() {
+        feed.removeEntryListener(listener);
+        reset();
+        icons.clear();
+        versions.clear();
+        ordinals.clear();
+    }
+
+    /**
+     * Get the entries of a type sorted by name.
+     *
+     * @param type The lore type, or null for every entry
+     * @return An unmodifiable snapshot that is not affected by later changes
+     */
+    public synchronized List<LoreEntry> getView(LoreType type) {
+        ensureInitialized();
+        return views.snapshot(type);
+    }
+
+    /**
+     * @param type The lore type, or null for the total
+     * @return The number of cached entries of the type
+     */
+    public synchronized int getCount(LoreType type) {
+        ensureInitialized();
+        return views.size(type);
+    }
+
+    /**
+     * Get the rendered icon for an entry, rendering it only if the entry changed since
+     * the cached icon was made. Call on the viewer's thread: rendering builds item meta.
+     *
+     * <p>The returned stack is shared; callers must not modify it. Bukkit copies the
+     * stack when it is placed in an inventory.
+     *
+     * @param entry The entry to render
+     * @param discovered Whether the viewer discovered the entry, or null if unknown
+     * @param renderer Builds the icon for an entry and discovery state
+     */
+    public ItemStack getIcon(LoreEntry entry, Boolean discovered, BiFunction<LoreEntry, Boolean, ItemStack> renderer) {
+        String id = entry.getId();
+        IconKey key = new IconKey(id, discovered);
+        long version = versions.getOrDefault(id, baseVersion);
+        CachedIcon cached = icons.get(key);
+        if (cached != null && cached.version == version) {
+            return cached.icon;
+        }
+        ItemStack icon = renderer.apply(entry, discovered);
+        icons.merge(key, new CachedIcon(version, icon),
+            (existing, fresh) -> fresh.version >= existing.version ? fresh : existing);
+        return icon;
+    }
+
+    /**
+     * @return The number of cached icons
+     */
+    public int getCachedIconCount() {
+        return icons.size();
+    }
+
+    /**
+     * Get the stable ordinal of an entry, assigning one on first use.
+     * Ordinals are dense and never reused while the index is open.
+     */
+    public int ordinalOf(String entryId) {
+        return ordinals.computeIfAbsent(entryId, id -> nextOrdinal.getAndIncrement());
+    }
+
+    /**
+     * Build a discovered set from a player's discovered entry IDs. IDs of entries that
+     * are no longer cached are ignored. Safe to call off the main thread.
+     *
+     * @param entryIds The discovered entry IDs
+     */
+    public DiscoveredSet createDiscoveredSet(Collection<String> entryIds) {
+        BitSet bits = new BitSet(nextOrdinal.get());
+        int[] perType = new int[LoreType.values().length];
+        int total = 0;
+        synchronized (this) {
+            ensureInitialized();
+            for (String id : entryIds) {
+                LoreType type = views.typeOf(id);
+                if (type == null) {
+                    continue;
+                }
+                int ordinal = ordinalOf(id);
+                if (!bits.get(ordinal)) {
+                    bits.set(ordinal);
+                    perType[type.ordinal()]++;
+                    total++;
+                }
+            }
+        }
+        return new DiscoveredSet(this, bits, perType, total);
+    }
+
+    private synchronized void onChange(LoreChange change, LoreEntry entry) {
+        if (change.getType() == LoreChange.Type.RELOADED) {
+            baseVersion = change.getSequence();
+            versions.clear();
+            icons.clear();
+            reset();
+            return;
+        }
+
+        String id = change.getEntryId();
+        versions.put(id, change.getSequence());
+        icons.remove(new IconKey(id, null));
+        icons.remove(new IconKey(id, Boolean.TRUE));
+        icons.remove(new IconKey(id, Boolean.FALSE));
+        if (!initialized) {
+            return;
+        }
+
+        if (change.getType() == LoreChange.Type.REMOVED || entry == null) {
+            views.remove(id);
+            versions.remove(id);
+        } else {
+            views.put(entry);
+        }
+    }
+
+    private void reset() {
+        views.clear();
+        initialized = false;
+    }
+
+    private void ensureInitialized() {
+        if (initialized) {
+            return;
+        }
+        reset();
+        List<LoreEntry> entries = new ArrayList<>();
+        for (LoreType type : LoreType.values()) {
+            entries.addAll(loader.apply(type));
+        }
+        // Sorted once instead of inserting one by one
+        views.load(entries);
+        initialized = true;
+    }
+
+    private record IconKey(String entryId, Boolean discovered) {
+    }
+
+    private record CachedIcon(long version, ItemStack icon) {
+    }
+}
@@ -16,12 +16,29 @@ import org.fourz.RVNKLore.lore.LoreType;
 public class LoreBrowseMainMenu extends MenuHolder {
 
     private final RVNKLore plugin;
+    private DiscoveredSet discovered;
 
     public LoreBrowseMainMenu(RVNKLore plugin, Player viewer) {
         super(viewer, ChatColor.DARK_PURPLE + "✦ " + ChatColor.BOLD + "Lore Browser", 54);
         this.plugin = plugin;
     }
 
+    /**
+     * Open the menu and refresh the viewer's discoveries with a single query.
+     * Progress is shown once the query completes.
+     */
+    @Override
+    public void open() {
+        super.open();
+        DiscoveredSet.load(plugin, viewer.getUniqueId()).thenAccept(loaded ->
+            plugin.getLoreScheduler().runForEntity(viewer, () -> {
+                discovered = loaded;
+                if (isOpen()) {
+                    build();
+                }
+            }));
+    }
+
     @Override
     protected void build() {
         inventory.clear();
@@ -116,17 +133,18 @@ public class LoreBrowseMainMenu extends MenuHolder {
      */
     private void addCategoryItem(int slot, Material material, LoreType type,
                                   String name, String... loreLines) {
-        // Get count for this type
-        long count = plugin.getLoreManager().getAllLoreEntriesSync().stream()
-            .filter(e -> e.getType() == type)
-            .count();
+        int count = plugin.getBrowseIndex().getCount(type);
 
         var builder = new ItemBuilder(material)
             .name(name)
             .lore(loreLines)
             .addLore("")
-            .addLore("&7Entries: &f" + count)
-            .addLore("")
+            .addLore("&7Entries: &f" + count);
+        if (discovered != null) {
+            builder.addLore("&7Discovered: &f" + discovered.getCount(type) + "/" + count
+                + " &8(" + percent(discovered.getCount(type), count) + "%)");
+        }
+        builder.addLore("")
             .addLore("&eClick to browse");
 
         if (count > 0) {
@@ -141,7 +159,7 @@ public class LoreBrowseMainMenu extends MenuHolder {
      * Open a category menu.
      */
     private void openCategoryMenu(LoreType type) {
-        LoreCategoryMenu categoryMenu = new LoreCategoryMenu(plugin, viewer, type);
+        LoreCategoryMenu categoryMenu = new LoreCategoryMenu(plugin, viewer, type, discovered);
         categoryMenu.setParent(this);
         categoryMenu.open();
     }
@@ -150,17 +168,23 @@ public class LoreBrowseMainMenu extends MenuHolder {
      * Add stats display to bottom corners.
      */
     private void addStatsDisplay() {
-        int totalEntries = plugin.getLoreManager().getAllLoreEntriesSync().size();
-        // TODO: Get discovered count from PlayerService
-        int discovered = 0;
-
-        inventory.setItem(45, new ItemBuilder(Material.BOOK)
-            .name("&eYour Progress")
-            .lore(
-                "&7Discovered: &f" + discovered + "/" + totalEntries,
-                "&7Completion: &f" + (totalEntries > 0 ? (discovered * 100 / totalEntries) : 0) + "%"
-            )
-            .build());
+        int totalEntries = plugin.getBrowseIndex().getCount(null);
+
+        if (discovered != null) {
+            int discoveredCount = discovered.getCount(null);
+            inventory.setItem(45, new ItemBuilder(Material.BOOK)
+                .name("&eYour Progress")
+                .lore(
+                    "&7Discovered: &f" + discoveredCount + "/" + totalEntries,
+                    "&7Completion: &f" + percent(discoveredCount, totalEntries) + "%"
+                )
+                .build());
+        } else {
+            inventory.setItem(45, new ItemBuilder(Material.BOOK)
+                .name("&eYour Progress")
+                .lore("&7Loading...")
+                .build());
+        }
 
         int achievementPoints = 0;
         if (plugin.getAchievementManager() != null) {
@@ -172,4 +196,8 @@ public class LoreBrowseMainMenu extends MenuHolder {
             .lore("&7Total: &f" + achievementPoints)
             .build());
     }
+
+    private static int percent(int part, int total) {
+        return total > 0 ? part * 100 / total : 0;
+    }
 }
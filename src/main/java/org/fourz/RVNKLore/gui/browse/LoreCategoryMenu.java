@@ -10,10 +10,9 @@ import org.fourz.RVNKLore.gui.ItemBuilder;
 import org.fourz.RVNKLore.gui.PaginatedMenu;
 import org.fourz.RVNKLore.lore.LoreEntry;
 import org.fourz.RVNKLore.lore.LoreType;
+import org.fourz.RVNKLore.util.scheduler.LoreScheduler;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Menu for browsing lore entries of a specific type.
@@ -22,11 +21,37 @@ public class LoreCategoryMenu extends PaginatedMenu<LoreEntry> {
 
     private final RVNKLore plugin;
     private final LoreType type;
+    private final LoreBrowseIndex index;
+    private volatile DiscoveredSet discovered;
 
     public LoreCategoryMenu(RVNKLore plugin, Player viewer, LoreType type) {
-        super(viewer, buildTitle(type), getEntriesForType(plugin, type));
+        this(plugin, viewer, type, null);
+    }
+
+    /**
+     * @param discovered The viewer's discovered entries, or null to load them when the menu opens
+     */
+    public LoreCategoryMenu(RVNKLore plugin, Player viewer, LoreType type, DiscoveredSet discovered) {
+        super(viewer, buildTitle(type), plugin.getBrowseIndex().getView(type));
         this.plugin = plugin;
         this.type = type;
+        this.index = plugin.getBrowseIndex();
+        this.discovered = discovered;
+    }
+
+    @Override
+    public void open() {
+        super.open();
+        if (discovered == null) {
+            DiscoveredSet.load(plugin, viewer.getUniqueId()).thenAccept(loaded ->
+                plugin.getLoreScheduler().runForEntity(viewer, () -> {
+                    discovered = loaded;
+                    if (isOpen()) {
+                        invalidatePreparedPage();
+                        build();
+                    }
+                }));
+        }
     }
 
     private static String buildTitle(LoreType type) {
@@ -37,15 +62,25 @@ public class LoreCategoryMenu extends PaginatedMenu<LoreEntry> {
         return ChatColor.DARK_PURPLE + "✦ " + typeName + " Lore";
     }
 
-    private static List<LoreEntry> getEntriesForType(RVNKLore plugin, LoreType type) {
-        return plugin.getLoreManager().getAllLoreEntriesSync().stream()
-            .filter(e -> type == null || e.getType() == type)
-            .sorted(Comparator.comparing(LoreEntry::getName))
-            .collect(Collectors.toList());
+    @Override
+    protected ItemStack createItemDisplay(LoreEntry entry) {
+        DiscoveredSet current = discovered;
+        return index.getIcon(entry, current != null ? current.contains(entry) : null, this::renderIcon);
     }
 
+    /**
+     * Icons only depend on the entry and the immutable discovered set, and the entry
+     * list is an immutable snapshot.
+     */
     @Override
-    protected ItemStack createItemDisplay(LoreEntry entry) {
+    protected LoreScheduler getPrerenderScheduler() {
+        return plugin.getLoreScheduler();
+    }
+
+    /**
+     * @param discovered Whether the viewer discovered the entry, or null while still loading
+     */
+    private ItemStack renderIcon(LoreEntry entry, Boolean discovered) {
         Material material = getMaterialForType(entry.getType());
 
         String typeColor = getTypeColor(entry.getType());
@@ -69,13 +104,18 @@ public class LoreCategoryMenu extends PaginatedMenu<LoreEntry> {
         lore.add("&7ID: &8" + shortId);
         lore.add("");
 
-        // TODO: Check if discovered
+        if (discovered != null) {
+            lore.add(discovered ? "&a✔ Discovered" : "&8✖ Not yet discovered");
+        }
         lore.add("&eClick for details");
 
-        return new ItemBuilder(material)
+        ItemBuilder builder = new ItemBuilder(material)
             .name(typeColor + entry.getName())
-            .lore(lore)
-            .build();
+            .lore(lore);
+        if (Boolean.TRUE.equals(discovered)) {
+            builder.glow();
+        }
+        return builder.build();
     }
 
     @Override
@@ -1,5 +1,7 @@
 package org.fourz.RVNKLore.handler;
 
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
 import org.bukkit.event.HandlerList;
 import org.bukkit.plugin.PluginManager;
 import org.fourz.RVNKLore.RVNKLore;
@@ -17,6 +19,8 @@ import org.fourz.RVNKLore.lore.LoreType;
 import org.fourz.RVNKLore.lore.QuestLoreHandler;
 import org.fourz.rvnkcore.util.log.LogManager;
 
+import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.EnumMap;
@@ -26,6 +30,9 @@ import java.util.HashSet;
 /**
  * Factory for creating and managing lore handlers
  * Combines functionality from LoreHandlerManager to prevent duplicate initialization
+ *
+ * <p>Handlers' event methods are registered through {@link TimedEventExecutor}, so their
+ * cost can be measured with {@code diagnostics.handlerTimings} or {@code /lore debug handlers timing on}.
  */
 public class HandlerFactory {
     private final RVNKLore plugin;
@@ -36,6 +43,8 @@ public class HandlerFactory {
     private final Map<String, Class<? extends LoreHandler>> handlerClasses = new HashMap<>();
     // Track registered event listeners
     private final Set<LoreHandler> registeredListeners = new HashSet<>();
+    // Per-method event timings, recorded only while enabled
+    private final HandlerTimings timings = new HandlerTimings();
     // Track initialization state
     private boolean initialized = false;
     private boolean initializing = false; // Add flag to prevent recursion
@@ -64,6 +73,7 @@ public class HandlerFactory {
         try {
             initializing = true;
             logger.debug("Initializing HandlerFactory");
+            applyConfig();
             
             // First register handler classes - this doesn't create instances yet
             registerDefaultHandlers();
@@ -168,8 +178,7 @@ public class HandlerFactory {
 
                     // Register as listener but don't initialize yet
                     if (!registeredListeners.contains(handler)) {
-                        PluginManager pm = plugin.getServer().getPluginManager();
-                        pm.registerEvents(handler, plugin);
+                        registerTimedEvents(handler);
                         registeredListeners.add(handler);
                     }
                 } catch (Exception e) {
@@ -190,8 +199,7 @@ public class HandlerFactory {
                 Class<? extends LoreHandler> handlerClass = handlerClasses.get(key);
                 if (handlerClass != null) {
                     LoreHandler handler = handlerClass.getConstructor(RVNKLore.class).newInstance(plugin);
-                    PluginManager pm = plugin.getServer().getPluginManager();
-                    pm.registerEvents(handler, plugin);
+                    registerTimedEvents(handler);
                     registeredListeners.add(handler);
                     logger.debug("Registered event handler: " + key);
                 }
@@ -272,14 +280,58 @@ public class HandlerFactory {
         }
         
         try {
-            PluginManager pm = plugin.getServer().getPluginManager();
-            pm.registerEvents(handler, plugin);
+            registerTimedEvents(handler);
             registeredListeners.add(handler);
             logger.debug("Registered event listener for handler: " + handler.getHandlerType());
         } catch (Exception e) {
             logger.error("Failed to register event listener for handler", e);
         }
     }
+
+    /**
+     * Register a handler's {@code @EventHandler} methods the way {@code registerEvents} does,
+     * but through a {@link TimedEventExecutor} for each method.
+     */
+    @SuppressWarnings("unchecked")
+    private void registerTimedEvents(LoreHandler handler) {
+        PluginManager pm = plugin.getServer().getPluginManager();
+        Class<?> handlerClass = handler.getClass();
+        Set<Method> methods = new HashSet<>(Arrays.asList(handlerClass.getMethods()));
+        methods.addAll(Arrays.asList(handlerClass.getDeclaredMethods()));
+
+        for (Method method : methods) {
+            EventHandler annotation = method.getAnnotation(EventHandler.class);
+            if (annotation == null || method.isBridge() || method.isSynthetic()) {
+                continue;
+            }
+            Class<?>[] parameters = method.getParameterTypes();
+            if (parameters.length != 1 || !Event.class.isAssignableFrom(parameters[0])) {
+                logger.warning(handlerClass.getSimpleName() + "#" + method.getName() + " is not a valid event handler, skipping");
+                continue;
+            }
+            Class<? extends Event> eventClass = (Class<? extends Event>) parameters[0];
+            try {
+                TimedEventExecutor executor = new TimedEventExecutor(handlerClass, eventClass, method, timings);
+                pm.registerEvent(eventClass, handler, annotation.priority(), executor, plugin, annotation.ignoreCancelled());
+            } catch (IllegalAccessException e) {
+                logger.error("Cannot access event handler " + handlerClass.getSimpleName() + "#" + method.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Apply settings from config.yml; called on initialization and on {@code /lore reload}.
+     */
+    public void applyConfig() {
+        timings.setEnabled(plugin.getConfig().getBoolean("diagnostics.handlerTimings", false));
+    }
+
+    /**
+     * @return The per-method event timings of every registered handler
+     */
+    public HandlerTimings getTimings() {
+        return timings;
+    }
     
     /**
      * Unregister all handlers from event handling
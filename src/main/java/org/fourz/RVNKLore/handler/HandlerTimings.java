@@ -0,0 +1,202 @@
+package org.fourz.RVNKLore.handler;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records how long each lore handler's event methods take.
+ *
+ * <p>Every method gets its own counters, keyed like {@code BossKillLoreHandler#onEntityDeath}.
+ * Counts and totals are {@link LongAdder}s, and durations also go into a log-linear histogram
+ * (four buckets per power of two) so percentiles are accurate to within 25% without keeping
+ * samples. Recording is lock-free and can be switched on and off while the server runs.
+ */
+public class HandlerTimings {
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final Map<String, Timing> timings = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Get the timing for a handler method, creating it if needed. Executors look theirs up
+     * once at registration so recording never touches the map.
+     *
+     * @param key The handler method, e.g. {@code BossKillLoreHandler#onEntityDeath}
+     */
+    public Timing timing(String key) {
+        return timings.computeIfAbsent(key, Timing::new);
+    }
+
+    /**
+     * Record one invocation of a handler method.
+     */
+    public void record(String key, long nanos) {
+        timing(key).record(nanos);
+    }
+
+    /**
+     * @return A snapshot of every method that has run, most total time first
+     */
+    public List<Snapshot> snapshot() {
+        List<Snapshot> result = new ArrayList<>();
+        for (Timing timing : timings.values()) {
+            Snapshot snapshot = timing.snapshot();
+            if (snapshot.count() > 0) {
+                result.add(snapshot);
+            }
+        }
+        result.sort(Comparator.comparingLong(Snapshot::totalNanos).reversed());
+        return result;
+    }
+
+    /**
+     * Zero every counter. Registered executors keep their timings.
+     */
+    public void reset() {
+        timings.values().forEach(Timing::reset);
+    }
+
+    /**
+     * Format a duration for chat and logs, e.g. {@code 850ns}, {@code 42.0\u00b5s} or {@code 3.25ms}.
+     */
+    public static String formatNanos(long nanos) {
+        if (nanos < 1_000) {
+            return nanos + "ns";
+        }
+        if (nanos < 1_000_000) {
+            return String.format("%.1f\u00b5s", nanos / 1_000.0);
+        }
+        return String.format("%.2fms", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Describe a snapshot on one line, e.g. for {@code /lore debug handlers}.
+     */
+    public static String describe(Snapshot snapshot) {
+        return snapshot.key() + ": " + snapshot.count() + " calls, " + formatNanos(snapshot.totalNanos())
+            + " total, avg " + formatNanos(snapshot.averageNanos()) + ", p99 " + formatNanos(snapshot.p99Nanos())
+            + ", max " + formatNanos(snapshot.maxNanos());
+    }
+
+    /**
+     * Bucket index for a duration: values below 4 get their own bucket, larger ones are
+     * split into four buckets per power of two.
+     */
+    static int bucketIndex(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) Math.max(nanos, 0);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * @return The largest duration that falls into a bucket
+     */
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = (index - SUB_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS;
+        int sub = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        long lower = (long) (SUB_BUCKETS + sub) << (exponent - SUB_BUCKET_BITS);
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return lower + width - 1;
+    }
+
+    /**
+     * Counters for one handler method.
+     */
+    public static final class Timing {
+        private final String key;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKET_COUNT);
+        private volatile long maxNanos;
+
+        private Timing(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            histogram.incrementAndGet(bucketIndex(nanos));
+            if (nanos > maxNanos) {
+                maxNanos = nanos;
+            }
+        }
+
+        void reset() {
+            count.reset();
+            totalNanos.reset();
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                histogram.set(i, 0);
+            }
+            maxNanos = 0;
+        }
+
+        Snapshot snapshot() {
+            long[] buckets = new long[BUCKET_COUNT];
+            long recorded = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                buckets[i] = histogram.get(i);
+                recorded += buckets[i];
+            }
+            long max = maxNanos;
+            return new Snapshot(key, count.sum(), totalNanos.sum(),
+                percentile(buckets, recorded, 0.50, max), percentile(buckets, recorded, 0.99, max), max);
+        }
+
+        private static long percentile(long[] buckets, long recorded, double quantile, long max) {
+            if (recorded == 0) {
+                return 0;
+            }
+            long target = (long) Math.ceil(recorded * quantile);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= target) {
+                    return Math.min(bucketUpperBound(i), max);
+                }
+            }
+            return max;
+        }
+    }
+
+    /**
+     * Point-in-time view of one handler method's counters.
+     *
+     * @param key The handler method
+     * @param count Invocations recorded
+     * @param totalNanos Total time spent in the method
+     * @param p50Nanos Median duration (bucket upper bound)
+     * @param p99Nanos 99th percentile duration (bucket upper bound)
+     * @param maxNanos Longest single invocation
+     */
+    public record Snapshot(String key, long count, long totalNanos, long p50Nanos, long p99Nanos, long maxNanos) {
+        public long averageNanos() {
+            return count > 0 ? totalNanos / count : 0;
+        }
+    }
+}
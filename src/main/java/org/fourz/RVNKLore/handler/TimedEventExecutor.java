@@ -0,0 +1,65 @@
+package org.fourz.RVNKLore.handler;
+
+import org.bukkit.event.Event;
+import org.bukkit.event.EventException;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+
+/**
+ * Calls one {@code @EventHandler} method of a lore handler and, while timings are enabled,
+ * records how long the call took.
+ *
+ * <p>Stands in for the executor Bukkit would generate in {@code registerEvents}, so the
+ * handler is still unregistered by {@code HandlerList.unregisterAll(handler)}.
+ */
+class TimedEventExecutor implements EventExecutor {
+    private final Class<? extends Event> eventClass;
+    private final MethodHandle handle;
+    private final HandlerTimings timings;
+    private final HandlerTimings.Timing timing;
+
+    /**
+     * @param listenerClass The handler's class, which names the timing even for inherited methods
+     * @param eventClass The event the method handles
+     * @param method The {@code @EventHandler} method
+     * @param timings Where to record durations
+     */
+    TimedEventExecutor(Class<?> listenerClass, Class<? extends Event> eventClass, Method method,
+                       HandlerTimings timings) throws IllegalAccessException {
+        this.eventClass = eventClass;
+        method.setAccessible(true);
+        this.handle = MethodHandles.lookup().unreflect(method);
+        this.timings = timings;
+        this.timing = timings.timing(listenerClass.getSimpleName() + "#" + method.getName());
+    }
+
+    @Override
+    public void execute(Listener listener, Event event) throws EventException {
+        // Handler lists are shared with sibling event classes; Bukkit's own executors check this too
+        if (!eventClass.isInstance(event)) {
+            return;
+        }
+        if (!timings.isEnabled()) {
+            invoke(listener, event);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            invoke(listener, event);
+        } finally {
+            timing.record(System.nanoTime() - start);
+        }
+    }
+
+    private void invoke(Listener listener, Event event) throws EventException {
+        try {
+            handle.invoke(listener, event);
+        } catch (Throwable t) {
+            throw new EventException(t);
+        }
+    }
+}
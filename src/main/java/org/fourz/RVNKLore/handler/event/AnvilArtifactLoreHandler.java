@@ -1,6 +1,5 @@
 package org.fourz.RVNKLore.handler.event;
 
-import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.enchantments.Enchantment;
@@ -108,7 +107,7 @@ public class AnvilArtifactLoreHandler extends DefaultLoreHandler {
         entry.setApproved(autoApprove || player.hasPermission("rvnklore.approve.own"));
 
         plugin.getLoreManager().addLoreEntry(entry).thenAccept(success -> {
-            Bukkit.getScheduler().runTask(plugin, () -> {
+            plugin.getLoreScheduler().runForEntity(player, () -> {
                 if (success) {
                     player.sendMessage(ChatColor.GREEN + "Artifact '" + artifactName + "' has been " +
                         (entry.isApproved() ? "registered in the lore." : "submitted for approval."));
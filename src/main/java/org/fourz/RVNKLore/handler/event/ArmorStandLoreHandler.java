@@ -1,6 +1,5 @@
 package org.fourz.RVNKLore.handler.event;
 
-import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.entity.ArmorStand;
@@ -67,7 +66,7 @@ public class ArmorStandLoreHandler extends DefaultLoreHandler {
         String statueName = ChatColor.stripColor(armorStand.getCustomName()).trim();
 
         // Schedule 1 tick later so the equipment is actually placed
-        Bukkit.getScheduler().runTaskLater(plugin, () ->
+        plugin.getLoreScheduler().runForEntityLater(armorStand, () ->
             createStatueEntry(player, armorStand, statueName, standUuid), 1L);
     }
 
@@ -104,7 +103,7 @@ public class ArmorStandLoreHandler extends DefaultLoreHandler {
         entry.setApproved(autoApprove || player.hasPermission("rvnklore.approve.own"));
 
         plugin.getLoreManager().addLoreEntry(entry).thenAccept(success -> {
-            Bukkit.getScheduler().runTask(plugin, () -> {
+            plugin.getLoreScheduler().runForEntity(player, () -> {
                 if (success) {
                     registeredStatues.add(standUuid);
                     player.sendMessage(ChatColor.GREEN + "Statue '" + statueName + "' has been " +
@@ -116,7 +116,7 @@ public class BossKillLoreHandler extends DefaultLoreHandler {
         plugin.getLoreManager().addLoreEntry(entry).thenAccept(success -> {
             if (success) {
                 logger.debug("Boss kill lore entry created: " + entry.getName());
-                Bukkit.getScheduler().runTask(plugin, () ->
+                plugin.getLoreScheduler().runGlobal(() ->
                     announceBossKill(bossName, killer, participants));
             } else {
                 logger.warning("Failed to save boss kill lore entry: " + entry.getName());
@@ -15,6 +15,7 @@ import org.fourz.rvnkcore.util.log.LogManager;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Utility class to track and debug handler events
@@ -22,7 +23,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public class HandlerEventLogger implements Listener {
     private final RVNKLore plugin;
     private final LogManager logger;
-    private final Map<Class<? extends Event>, Integer> eventCounts = new ConcurrentHashMap<>();
+    private final Map<Class<? extends Event>, LongAdder> eventCounts = new ConcurrentHashMap<>();
     private boolean enabled = false;
     
     // Events to monitor
@@ -93,7 +94,7 @@ public class HandlerEventLogger implements Listener {
      */
     private void logEvent(Event event) {
         Class<? extends Event> eventClass = event.getClass();
-        eventCounts.compute(eventClass, (k, v) -> (v == null) ? 1 : v + 1);
+        eventCounts.computeIfAbsent(eventClass, k -> new LongAdder()).increment();
         // Only log detailed info for debug level
         if (logger.getLogLevel().intValue() <= java.util.logging.Level.FINE.intValue()) {
             logDetailedEventInfo(event);
@@ -126,7 +127,7 @@ public class HandlerEventLogger implements Listener {
     public void sendStatisticsToPlayer(Player player) {
         player.sendMessage("Â§6Â§lHandler Event Statistics:");
         eventCounts.forEach((eventClass, count) -> 
-            player.sendMessage("Â§e  " + eventClass.getSimpleName() + "Â§7: " + count + " events")
+            player.sendMessage("Â§e  " + eventClass.getSimpleName() + "Â§7: " + count.sum() + " events")
         );
     }
 }
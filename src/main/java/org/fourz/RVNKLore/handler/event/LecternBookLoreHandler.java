@@ -1,6 +1,5 @@
 package org.fourz.RVNKLore.handler.event;
 
-import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
@@ -105,7 +104,7 @@ public class LecternBookLoreHandler extends DefaultLoreHandler {
         entry.setApproved(autoApprove || player.hasPermission("rvnklore.approve.own"));
 
         plugin.getLoreManager().addLoreEntry(entry).thenAccept(success -> {
-            Bukkit.getScheduler().runTask(plugin, () -> {
+            plugin.getLoreScheduler().runForEntity(player, () -> {
                 if (success) {
                     player.sendMessage(ChatColor.GREEN + "Book '" + bookTitle + "' has been " +
                         (entry.isApproved() ? "added to the lore library." : "submitted for approval."));
@@ -12,6 +12,7 @@ import org.fourz.rvnkcore.util.log.LogManager;
 import org.fourz.RVNKLore.handler.DefaultLoreHandler;
 import org.fourz.RVNKLore.lore.LoreEntry;
 import org.fourz.RVNKLore.lore.LoreType;
+import org.fourz.RVNKLore.lore.player.PlayerSessionManager;
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -39,7 +40,13 @@ public class PlayerJoinLoreHandler extends DefaultLoreHandler {
         Player player = event.getPlayer();
         
         try {
-            // Only log debug information for the actual handling
+            // Lookups were done during login; the entry is written in the background
+            PlayerSessionManager sessions = plugin.getPlayerSessions();
+            if (sessions != null) {
+                sessions.handleJoin(player);
+                return;
+            }
+
             // Use the centralized PlayerManager for all player join processing
             boolean processed = plugin.getPlayerManager().processPlayerJoin(player);
             
@@ -4,6 +4,7 @@ import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 import org.fourz.RVNKLore.RVNKLore;
+import org.fourz.RVNKLore.lore.LoreStatistics;
 import org.fourz.RVNKLore.lore.LoreType;
 import org.fourz.RVNKLore.service.ICollectionService;
 import org.fourz.RVNKLore.service.ILoreService;
@@ -210,16 +211,26 @@ public class RVNKLorePlaceholderExpansion extends PlaceholderExpansion {
      */
     private String getTotalEntries() {
         try {
-            CompletableFuture<Integer> future = loreService.getApprovedLoreEntries()
-                .thenApply(entries -> entries.size());
-
-            return String.valueOf(future.get(1, TimeUnit.SECONDS));
+            return String.valueOf(approvedEntryCount());
         } catch (Exception e) {
             logger.debug("Failed to get total entries");
             return "0";
         }
     }
 
+    /**
+     * Number of approved entries, from the maintained statistics when available.
+     */
+    private int approvedEntryCount() throws Exception {
+        LoreStatistics statistics = plugin.getLoreStatistics();
+        if (statistics != null) {
+            return statistics.getApprovedCount();
+        }
+        return loreService.getApprovedLoreEntries()
+            .thenApply(entries -> entries.size())
+            .get(1, TimeUnit.SECONDS);
+    }
+
     /**
      * Get discovery completion percentage.
      */
@@ -228,11 +239,8 @@ public class RVNKLorePlaceholderExpansion extends PlaceholderExpansion {
             CompletableFuture<Integer> totalDiscovered = playerService.getPlayerLoreEntryIds(playerId)
                 .thenApply(entries -> entries.size());
 
-            CompletableFuture<Integer> totalEntries = loreService.getApprovedLoreEntries()
-                .thenApply(entries -> entries.size());
-
             int discovered = totalDiscovered.get(1, TimeUnit.SECONDS);
-            int total = totalEntries.get(1, TimeUnit.SECONDS);
+            int total = approvedEntryCount();
 
             if (total == 0) {
                 return "0%";
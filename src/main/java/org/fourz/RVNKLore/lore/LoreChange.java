@@ -0,0 +1,56 @@
+package org.fourz.RVNKLore.lore;
+
+/**
+ * A single sequenced change published by {@link LoreChangeFeed}.
+ */
+public class LoreChange {
+
+    /**
+     * Kind of change applied to the lore cache.
+     */
+    public enum Type {
+        ADDED,
+        UPDATED,
+        APPROVED,
+        REMOVED,
+        /** The whole cache was reloaded; consumers should resynchronize from scratch. */
+        RELOADED
+    }
+
+    private final long sequence;
+    private final Type type;
+    private final String entryId;
+    private final LoreType loreType;
+    private final long timestamp;
+
+    public LoreChange(long sequence, Type type, String entryId, LoreType loreType, long timestamp) {
+        this.sequence = sequence;
+        this.type = type;
+        this.entryId = entryId;
+        this.loreType = loreType;
+        this.timestamp = timestamp;
+    }
+
+    public long getSequence() { return sequence; }
+    public Type getType() { return type; }
+
+    /**
+     * @return The affected entry ID, or null for {@link Type#RELOADED}
+     */
+    public String getEntryId() { return entryId; }
+
+    /**
+     * @return The affected entry's lore type, or null for {@link Type#RELOADED}
+     */
+    public LoreType getLoreType() { return loreType; }
+
+    /**
+     * @return Epoch millis when the change was published
+     */
+    public long getTimestamp() { return timestamp; }
+
+    @Override
+    public String toString() {
+        return "LoreChange{seq=" + sequence + ", type=" + type + ", entry=" + entryId + "}";
+    }
+}
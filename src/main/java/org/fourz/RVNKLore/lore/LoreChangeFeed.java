@@ -0,0 +1,156 @@
+package org.fourz.RVNKLore.lore;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Append-only, sequenced feed of lore cache changes backed by a bounded ring buffer.
+ *
+ * <p>Incremental consumers remember the last sequence they applied and call
+ * {@link #changesSince(long)} to fetch only what happened afterwards. When a
+ * consumer falls further behind than the buffer holds (or the feed restarted),
+ * the returned {@link ChangeSet} is marked {@linkplain ChangeSet#isResyncRequired()
+ * resync required} and the consumer must fall back to a full read.
+ *
+ * <p>Sequences start at 1 and only grow for the lifetime of the feed.
+ */
+public class LoreChangeFeed {
+    private final LoreChange[] ring;
+    private final long epoch = System.currentTimeMillis();
+    private final List<Consumer<LoreChange>> listeners = new CopyOnWriteArrayList<>();
+    private final List<BiConsumer<LoreChange, LoreEntry>> entryListeners = new CopyOnWriteArrayList<>();
+    // Held across a publish, so listeners see changes in sequence order
+    private final Object dispatchLock = new Object();
+    private long latestSequence = 0L;
+
+    /**
+     * @param capacity Number of most recent changes retained
+     */
+    public LoreChangeFeed(int capacity) {
+        this.ring = new LoreChange[Math.max(1, capacity)];
+    }
+
+    /**
+     * Publish a change and notify listeners on the calling thread.
+     *
+     * <p>Concurrent publishers are serialized until their listeners return, so every
+     * listener receives changes in sequence order. Readers of the buffer are not held up
+     * by listeners.
+     *
+     * @param type The kind of change
+     * @param entry The affected entry, or null for {@link LoreChange.Type#RELOADED}
+     * @return The published change
+     */
+    public LoreChange publish(LoreChange.Type type, LoreEntry entry) {
+        synchronized (dispatchLock) {
+            LoreChange change;
+            synchronized (this) {
+                long sequence = ++latestSequence;
+                change = new LoreChange(sequence, type,
+                    entry != null ? entry.getId() : null,
+                    entry != null ? entry.getType() : null,
+                    System.currentTimeMillis());
+                ring[(int) (sequence % ring.length)] = change;
+            }
+            for (Consumer<LoreChange> listener : listeners) {
+                listener.accept(change);
+            }
+            for (BiConsumer<LoreChange, LoreEntry> listener : entryListeners) {
+                listener.accept(change, entry);
+            }
+            return change;
+        }
+    }
+
+    /**
+     * Get every retained change with a sequence greater than {@code sequence}, oldest first.
+     *
+     * @param sequence The last sequence the caller has applied (0 for none)
+     */
+    public synchronized ChangeSet changesSince(long sequence) {
+        long oldestRetained = Math.max(1, latestSequence - ring.length + 1);
+        if (sequence > latestSequence || sequence < oldestRetained - 1) {
+            return new ChangeSet(Collections.emptyList(), latestSequence, epoch, true);
+        }
+
+        List<LoreChange> changes = new ArrayList<>((int) (latestSequence - sequence));
+        for (long seq = sequence + 1; seq <= latestSequence; seq++) {
+            changes.add(ring[(int) (seq % ring.length)]);
+        }
+        return new ChangeSet(changes, latestSequence, epoch, false);
+    }
+
+    /**
+     * @return The sequence of the most recent change (0 if nothing was published)
+     */
+    public synchronized long getLatestSequence() {
+        return latestSequence;
+    }
+
+    /**
+     * @return Creation time of this feed; sequences from a different epoch are meaningless
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    public int getCapacity() {
+        return ring.length;
+    }
+
+    /**
+     * Register a listener called synchronously for every published change.
+     * Listeners must be cheap and must not publish changes themselves.
+     */
+    public void addListener(Consumer<LoreChange> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<LoreChange> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Register a listener that also receives the changed entry (null for
+     * {@link LoreChange.Type#RELOADED}), for consumers that would otherwise have to look
+     * the entry up by ID. Same rules as {@link #addListener}.
+     */
+    public void addEntryListener(BiConsumer<LoreChange, LoreEntry> listener) {
+        entryListeners.add(listener);
+    }
+
+    public void removeEntryListener(BiConsumer<LoreChange, LoreEntry> listener) {
+        entryListeners.remove(listener);
+    }
+
+    /**
+     * Result of {@link #changesSince(long)}.
+     */
+    public static class ChangeSet {
+        private final List<LoreChange> changes;
+        private final long latestSequence;
+        private final long epoch;
+        private final boolean resyncRequired;
+
+        ChangeSet(List<LoreChange> changes, long latestSequence, long epoch, boolean resyncRequired) {
+            this.changes = changes;
+            this.latestSequence = latestSequence;
+            this.epoch = epoch;
+            this.resyncRequired = resyncRequired;
+        }
+
+        public List<LoreChange> getChanges() { return changes; }
+        public long getLatestSequence() { return latestSequence; }
+        public long getEpoch() { return epoch; }
+
+        /**
+         * @return true if the requested sequence is no longer (or not yet) in the buffer
+         *         and the caller must reload everything, then continue from {@link #getLatestSequence()}
+         */
+        public boolean isResyncRequired() { return resyncRequired; }
+    }
+}
@@ -7,6 +7,7 @@ import org.bukkit.entity.Player;
 import java.sql.Timestamp;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -254,6 +255,42 @@ public class LoreEntry {
         return metadata != null ? new HashMap<>(metadata) : new HashMap<>();
     }
     
+    /**
+     * Check whether another instance of the same entry carries identical state.
+     *
+     * @param other A freshly loaded copy of this entry
+     * @return true if every persisted field matches
+     */
+    public boolean hasSameState(LoreEntry other) {
+        return other != null
+            && Objects.equals(name, other.name)
+            && Objects.equals(description, other.description)
+            && type == other.type
+            && Objects.equals(nbtData, other.nbtData)
+            && Objects.equals(location, other.location)
+            && Objects.equals(submittedBy, other.submittedBy)
+            && approved == other.approved
+            && Objects.equals(getAllMetadata(), other.getAllMetadata());
+    }
+
+    /**
+     * Replace this entry's state with a freshly loaded copy of the same entry.
+     * Used by incremental reloads so references held by other components stay valid.
+     *
+     * @param other A freshly loaded copy of this entry
+     */
+    public void copyStateFrom(LoreEntry other) {
+        this.name = other.name;
+        this.description = other.description;
+        this.type = other.type;
+        this.nbtData = other.nbtData;
+        this.location = other.location;
+        this.submittedBy = other.submittedBy;
+        this.approved = other.approved;
+        this.createdAt = other.createdAt;
+        this.metadata = other.metadata != null ? new HashMap<>(other.metadata) : null;
+    }
+
     /**
      * Convert the lore entry to a JSON object
      */
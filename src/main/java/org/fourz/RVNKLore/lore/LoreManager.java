@@ -2,11 +2,13 @@ package org.fourz.RVNKLore.lore;
 
 import org.bukkit.Location;
 import org.fourz.RVNKLore.RVNKLore;
+import org.fourz.RVNKLore.data.model.LoreEntryDelta;
 import org.fourz.rvnkcore.util.log.LogManager;
 import org.fourz.RVNKLore.handler.LoreHandler;
 import org.fourz.RVNKLore.lore.item.ItemManager;
 import org.fourz.RVNKLore.service.ILoreService;
 
+import java.sql.Timestamp;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
@@ -20,6 +22,9 @@ public class LoreManager implements ILoreService {
     private final LogManager logger;
     private final Set<LoreEntry> cachedEntries = new HashSet<>();
     private final Map<LoreType, List<LoreEntry>> loreByType = new HashMap<>();
+    private final LoreChangeFeed changeFeed;
+    private volatile Timestamp syncWatermark;
+    private CompletableFuture<ReloadResult> pendingReload;
     private static LoreManager instance;
     private LoreFinder loreFinder;
     private ItemManager itemManager;
@@ -28,6 +33,7 @@ public class LoreManager implements ILoreService {
     public LoreManager(RVNKLore plugin) {
         this.plugin = plugin;
         this.logger = LogManager.getInstance(plugin, "LoreManager");
+        this.changeFeed = new LoreChangeFeed(plugin.getConfig().getInt("lore.changeFeed.capacity", 1024));
         // Use the configured log level from ConfigManager instead of hardcoding Level.FINE
         //this.debug = Debug.createDebugger(plugin, "LoreManager", plugin.getConfigManager().getLogLevel());
         // Initialize lists for all lore types
@@ -78,11 +84,16 @@ public class LoreManager implements ILoreService {
     private void loadLoreEntries() {
         logger.debug("Loading lore entries from database...");
         cachedEntries.clear();
-        List<LoreEntry> entries = plugin.getDatabaseManager().getAllLoreEntries();
-        cachedEntries.addAll(entries);
-        // Populate loreByType map
-        for (LoreEntry entry : entries) {
-            loreByType.get(entry.getType()).add(entry);
+        loreByType.values().forEach(List::clear);
+        try {
+            LoreEntryDelta delta = plugin.getDatabaseManager().getLoreEntriesChangedSince(null).join();
+            for (LoreEntry entry : delta.getChangedEntries()) {
+                cachedEntries.add(entry);
+                loreByType.get(entry.getType()).add(entry);
+            }
+            syncWatermark = delta.getWatermark();
+        } catch (Exception e) {
+            logger.error("Failed to load lore entries", e);
         }
         logger.debug("Loaded " + cachedEntries.size() + " lore entries");
     }
@@ -194,6 +205,8 @@ public class LoreManager implements ILoreService {
                 }
             }
 
+            changeFeed.publish(LoreChange.Type.ADDED, entry);
+
             // Create Dynmap marker if integration is available
             if (plugin.isDynmapAvailable()) {
                 try {
@@ -274,6 +287,7 @@ public class LoreManager implements ILoreService {
         if (success) {
             entry.setApproved(true);
             logger.debug("Lore entry approved: " + id);
+            changeFeed.publish(LoreChange.Type.APPROVED, entry);
 
             // Create Dynmap marker now that entry is approved
             if (plugin.isDynmapAvailable()) {
@@ -302,6 +316,7 @@ public class LoreManager implements ILoreService {
         boolean success = plugin.getDatabaseManager().rejectLoreEntry(id.toString());
         if (success) {
             logger.debug("Lore entry rejected: " + id);
+            changeFeed.publish(LoreChange.Type.UPDATED, entry);
         } else {
             logger.warning("Failed to reject lore entry: " + id);
         }
@@ -309,11 +324,133 @@ public class LoreManager implements ILoreService {
     }
 
     /**
-     * Reload all lore entries from the database
+     * Persist changes to an existing lore entry and publish an update to the change feed.
+     *
+     * @param entry The modified lore entry
+     * @return True if successful, false otherwise
      */
-    public void reloadLore() {
-        logger.debug("Reloading lore entries...");
+    public boolean updateLoreEntrySync(LoreEntry entry) {
+        boolean success = plugin.getDatabaseManager().updateLoreEntry(entry);
+        if (success) {
+            changeFeed.publish(LoreChange.Type.UPDATED, entry);
+        } else {
+            logger.warning("Failed to update lore entry: " + entry.getId());
+        }
+        return success;
+    }
+
+    /**
+     * Reload lore entries from the database incrementally.
+     *
+     * <p>Only entries whose current submission changed since the last sync are read
+     * (off the main thread); the in-memory caches are then patched in place on the
+     * main thread and every difference is published to the change feed. Existing
+     * {@link LoreEntry} instances are updated rather than replaced, so components
+     * holding references keep seeing current data. Concurrent calls share one reload.
+     *
+     * @return Future completing on the main thread with what changed
+     */
+    public synchronized CompletableFuture<ReloadResult> reloadLore() {
+        if (pendingReload != null && !pendingReload.isDone()) {
+            return pendingReload;
+        }
+        logger.debug("Reloading lore entries since " + (syncWatermark != null ? syncWatermark : "start"));
+
+        CompletableFuture<ReloadResult> result = new CompletableFuture<>();
+        plugin.getDatabaseManager().getLoreEntriesChangedSince(syncWatermark).whenComplete((delta, error) -> {
+            if (error != null) {
+                logger.error("Failed to read lore changes", error);
+                result.completeExceptionally(error);
+                return;
+            }
+            plugin.getLoreScheduler().runGlobal(() -> {
+                try {
+                    result.complete(applyDelta(delta));
+                } catch (Exception e) {
+                    logger.error("Failed to apply lore changes", e);
+                    result.completeExceptionally(e);
+                }
+            });
+        });
+        pendingReload = result;
+        return result;
+    }
+
+    /**
+     * Patch the caches with an incremental delta. Must run on the main thread.
+     */
+    private ReloadResult applyDelta(LoreEntryDelta delta) {
+        Map<String, LoreEntry> byId = new HashMap<>(cachedEntries.size() * 2);
+        for (LoreEntry entry : cachedEntries) {
+            byId.put(entry.getId(), entry);
+        }
+
+        int added = 0;
+        int updated = 0;
+        int removed = 0;
+        for (LoreEntry fresh : delta.getChangedEntries()) {
+            LoreEntry existing = byId.get(fresh.getId());
+            if (existing == null) {
+                cachedEntries.add(fresh);
+                loreByType.get(fresh.getType()).add(fresh);
+                byId.put(fresh.getId(), fresh);
+                changeFeed.publish(LoreChange.Type.ADDED, fresh);
+                added++;
+                continue;
+            }
+            if (existing.hasSameState(fresh)) {
+                continue; // Re-read because of the inclusive watermark, nothing changed
+            }
+
+            boolean wasApproved = existing.isApproved();
+            LoreType oldType = existing.getType();
+            existing.copyStateFrom(fresh);
+            if (oldType != existing.getType()) {
+                loreByType.get(oldType).remove(existing);
+                loreByType.get(existing.getType()).add(existing);
+            }
+            changeFeed.publish(!wasApproved && existing.isApproved() ? LoreChange.Type.APPROVED : LoreChange.Type.UPDATED, existing);
+            updated++;
+        }
+
+        Set<String> liveIds = delta.getLiveEntryIds();
+        for (LoreEntry entry : new ArrayList<>(cachedEntries)) {
+            if (!liveIds.contains(entry.getId())) {
+                removeLoreEntry(entry);
+                removed++;
+            }
+        }
+
+        syncWatermark = delta.getWatermark();
+        logger.debug("Lore reload applied: " + added + " added, " + updated + " updated, " + removed + " removed");
+        return new ReloadResult(added, updated, removed);
+    }
+
+    /**
+     * Discard all cached lore and read everything from the database again.
+     * Blocks the calling thread; prefer {@link #reloadLore()}.
+     */
+    public void fullReloadLore() {
+        logger.debug("Fully reloading lore entries...");
         loadLoreEntries();
+        changeFeed.publish(LoreChange.Type.RELOADED, null);
+    }
+
+    /**
+     * Get the sequenced feed of lore cache changes.
+     */
+    public LoreChangeFeed getChangeFeed() {
+        return changeFeed;
+    }
+
+    /**
+     * Get the lore changes published after a sequence number.
+     *
+     * @param sequence The last sequence the caller has applied (0 for none)
+     * @return The changes, or a change set flagged for full resync if the sequence is no longer retained
+     */
+    public LoreChangeFeed.ChangeSet changesSince(long sequence) {
+        return changeFeed.changesSince(sequence);
     }
 
     /**
@@ -364,6 +501,30 @@ public class LoreManager implements ILoreService {
         if (typeList != null) {
             typeList.remove(entry);
         }
+        changeFeed.publish(LoreChange.Type.REMOVED, entry);
+    }
+
+    /**
+     * Counts of cache changes applied by an incremental reload.
+     */
+    public static class ReloadResult {
+        private final int added;
+        private final int updated;
+        private final int removed;
+
+        public ReloadResult(int added, int updated, int removed) {
+            this.added = added;
+            this.updated = updated;
+            this.removed = removed;
+        }
+
+        public int getAdded() { return added; }
+        public int getUpdated() { return updated; }
+        public int getRemoved() { return removed; }
+
+        public int getTotal() {
+            return added + updated + removed;
+        }
     }
 
     /**
@@ -489,6 +650,7 @@ public class LoreManager implements ILoreService {
         for (List<LoreEntry> entries : loreByType.values()) {
             entries.clear();
         }
+        changeFeed.publish(LoreChange.Type.RELOADED, null);
     }
 
     /**
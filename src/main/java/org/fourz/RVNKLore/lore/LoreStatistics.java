@@ -0,0 +1,217 @@
+package org.fourz.RVNKLore.lore;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Entry counts and sorted approved-entry views, kept current from the lore change feed.
+ *
+ * <p>Counts by type, category, approval state and world are adjusted on each change
+ * instead of being recomputed from the entry list, so the REST statistics endpoint and
+ * placeholders never touch the cache. Approved entries are also kept in
+ * {@link SortedLoreViews}, so a page of them is copied without filtering or sorting.
+ *
+ * <p>Each entry's counted state is remembered when it is added, because lore entries
+ * are updated in place before the change is published.
+ */
+public class LoreStatistics {
+    private final LoreChangeFeed feed;
+    private final Supplier<? extends Collection<LoreEntry>> loader;
+    private final BiConsumer<LoreChange, LoreEntry> listener = this::onChange;
+
+    private final Map<String, Facts> facts = new HashMap<>();
+    private final int[] byType = new int[LoreType.values().length];
+    private final int[] byCategory = new int[LoreCategory.values().length];
+    private final Map<String, Integer> byWorld = new HashMap<>();
+    private final SortedLoreViews approved = new SortedLoreViews();
+    private long appliedSequence;
+    private boolean initialized;
+
+    /**
+     * The counted state of one entry.
+     */
+    record Facts(LoreEntry entry, String id, LoreType type, boolean approved, String world) {
+        static Facts of(LoreEntry entry) {
+            var location = entry.getLocation();
+            String world = location != null && location.getWorld() != null ? location.getWorld().getName() : null;
+            return new Facts(entry, entry.getId(), entry.getType(), entry.isApproved(), world);
+        }
+    }
+
+    /**
+     * Counts at one point in time.
+     *
+     * @param byWorld Entry counts by world name; entries without a location are not counted
+     */
+    public record Snapshot(int total, int approved, Map<LoreType, Integer> byType,
+                           Map<LoreCategory, Integer> byCategory, Map<String, Integer> byWorld) {
+        public int pending() {
+            return total - approved;
+        }
+    }
+
+    public LoreStatistics(LoreManager loreManager) {
+        this(loreManager.getChangeFeed(), loreManager::getAllLoreEntriesSync);
+    }
+
+    /**
+     * @param feed   Feed of lore cache changes to follow
+     * @param loader Reads every cached entry; used at first read and after a full reload
+     */
+    LoreStatistics(LoreChangeFeed feed, Supplier<? extends Collection<LoreEntry>> loader) {
+        this.feed = feed;
+        this.loader = loader;
+        feed.addEntryListener(listener);
+    }
+
+    /**
+     * Stop following the change feed and drop all counts.
+     */
+    public synchronized void close() {
+        feed.removeEntryListener(listener);
+        reset();
+    }
+
+    public synchronized int getTotalCount() {
+        ensureInitialized();
+        return facts.size();
+    }
+
+    public synchronized int getApprovedCount() {
+        ensureInitialized();
+        return approved.size(null);
+    }
+
+    /**
+     * @param type The lore type, or null for every type
+     * @return Number of approved entries of the type
+     */
+    public synchronized int getApprovedCount(LoreType type) {
+        ensureInitialized();
+        return approved.size(type);
+    }
+
+    public synchronized int getCount(LoreType type) {
+        ensureInitialized();
+        return byType[type.ordinal()];
+    }
+
+    public synchronized int getCount(LoreCategory category) {
+        ensureInitialized();
+        return byCategory[category.ordinal()];
+    }
+
+    /**
+     * Get every count at once.
+     */
+    public synchronized Snapshot snapshot() {
+        ensureInitialized();
+        Map<LoreType, Integer> types = new EnumMap<>(LoreType.class);
+        for (LoreType type : LoreType.values()) {
+            types.put(type, byType[type.ordinal()]);
+        }
+        Map<LoreCategory, Integer> categories = new EnumMap<>(LoreCategory.class);
+        for (LoreCategory category : LoreCategory.values()) {
+            categories.put(category, byCategory[category.ordinal()]);
+        }
+        return new Snapshot(facts.size(), approved.size(null), types, categories, new TreeMap<>(byWorld));
+    }
+
+    /**
+     * Get the sequence of the last feed change applied. Anything read from these
+     * statistics after this call reflects at least that change, so it can version
+     * responses built from them.
+     */
+    public synchronized long getAppliedSequence() {
+        return appliedSequence;
+    }
+
+    /**
+     * Get one page of approved entries sorted by name.
+     *
+     * @param type   The lore type, or null for every type
+     * @param offset Number of entries to skip
+     * @param limit  Maximum number of entries to return
+     */
+    public synchronized List<LoreEntry> getApprovedPage(LoreType type, int offset, int limit) {
+        ensureInitialized();
+        return approved.page(type, offset, limit);
+    }
+
+    private synchronized void onChange(LoreChange change, LoreEntry entry) {
+        appliedSequence = change.getSequence();
+        if (change.getType() == LoreChange.Type.RELOADED) {
+            reset();
+            return;
+        }
+        if (!initialized) {
+            return;
+        }
+        Facts previous = facts.remove(change.getEntryId());
+        if (previous != null) {
+            count(previous, -1);
+        }
+        if (change.getType() != LoreChange.Type.REMOVED && entry != null) {
+            Facts current = Facts.of(entry);
+            facts.put(current.id(), current);
+            count(current, 1);
+        }
+    }
+
+    private void count(Facts entry, int delta) {
+        if (entry.type() != null) {
+            byType[entry.type().ordinal()] += delta;
+            byCategory[entry.type().getCategory().ordinal()] += delta;
+        }
+        if (entry.world() != null) {
+            byWorld.merge(entry.world(), delta, (a, b) -> a + b == 0 ? null : a + b);
+        }
+        if (entry.approved()) {
+            if (delta > 0) {
+                approved.put(entry.entry());
+            } else {
+                approved.remove(entry.id());
+            }
+        }
+    }
+
+    private void reset() {
+        facts.clear();
+        Arrays.fill(byType, 0);
+        Arrays.fill(byCategory, 0);
+        byWorld.clear();
+        approved.clear();
+        initialized = false;
+    }
+
+    private void ensureInitialized() {
+        if (initialized) {
+            return;
+        }
+        reset();
+        List<Facts> loaded = new ArrayList<>();
+        List<LoreEntry> approvedEntries = new ArrayList<>();
+        for (LoreEntry entry : loader.get()) {
+            Facts current = Facts.of(entry);
+            if (facts.putIfAbsent(current.id(), current) == null) {
+                loaded.add(current);
+            }
+        }
+        for (Facts entry : loaded) {
+            if (entry.type() != null) {
+                byType[entry.type().ordinal()]++;
+                byCategory[entry.type().getCategory().ordinal()]++;
+            }
+            if (entry.world() != null) {
+                byWorld.merge(entry.world(), 1, Integer::sum);
+            }
+            if (entry.approved()) {
+                approvedEntries.add(entry.entry());
+            }
+        }
+        // Sorted once instead of inserting into the views one by one
+        approved.load(approvedEntries);
+        initialized = true;
+    }
+}
@@ -0,0 +1,180 @@
+package org.fourz.RVNKLore.lore;
+
+import java.util.*;
+
+/**
+ * Lore entries kept sorted by name, overall and per type, for readers that page through
+ * them without filtering or sorting.
+ *
+ * <p>Each change removes the entry's previous position and inserts the new one by binary
+ * search, so the views are sorted once when they are filled and never again. Readers get
+ * an immutable copy of a view, which is reused until that view changes.
+ *
+ * <p>Each entry's name and type are remembered when it is added, because lore entries
+ * are updated in place before the change is published.
+ *
+ * <p>Not thread-safe; owners synchronize access.
+ */
+public class SortedLoreViews {
+    static final Comparator<Key> BY_NAME = Comparator
+        .comparing(Key::name, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(Key::id);
+
+    private final Map<String, Key> keys = new HashMap<>();
+    private final List<Key> all = new ArrayList<>();
+    private final Map<LoreType, List<Key>> byType = new EnumMap<>(LoreType.class);
+    private final Map<LoreType, List<LoreEntry>> snapshots = new EnumMap<>(LoreType.class);
+    private List<LoreEntry> allSnapshot;
+
+    /**
+     * The sort key and type of one entry as it was added.
+     */
+    record Key(LoreEntry entry, String id, String name, LoreType type) {
+        static Key of(LoreEntry entry) {
+            return new Key(entry, entry.getId(), entry.getName(), entry.getType());
+        }
+    }
+
+    public SortedLoreViews() {
+        for (LoreType type : LoreType.values()) {
+            byType.put(type, new ArrayList<>());
+        }
+    }
+
+    /**
+     * Add an entry, or move it to its new position if it was added before.
+     */
+    public void put(LoreEntry entry) {
+        remove(entry.getId());
+        Key key = Key.of(entry);
+        keys.put(key.id(), key);
+        update(key, true);
+    }
+
+    /**
+     * Remove an entry from every view.
+     *
+     * @return Whether the entry was in the views
+     */
+    public boolean remove(String entryId) {
+        Key previous = keys.remove(entryId);
+        if (previous == null) {
+            return false;
+        }
+        update(previous, false);
+        return true;
+    }
+
+    /**
+     * Replace the contents with the given entries, sorting each view once. Entries with
+     * an ID already seen are skipped.
+     */
+    public void load(Collection<LoreEntry> entries) {
+        clear();
+        for (LoreEntry entry : entries) {
+            Key key = Key.of(entry);
+            if (keys.putIfAbsent(key.id(), key) == null) {
+                all.add(key);
+                if (key.type() != null) {
+                    byType.get(key.type()).add(key);
+                }
+            }
+        }
+        all.sort(BY_NAME);
+        byType.values().forEach(view -> view.sort(BY_NAME));
+    }
+
+    public void clear() {
+        keys.clear();
+        all.clear();
+        byType.values().forEach(List::clear);
+        snapshots.clear();
+        allSnapshot = null;
+    }
+
+    public boolean contains(String entryId) {
+        return keys.containsKey(entryId);
+    }
+
+    /**
+     * @return The type the entry had when it was added, or null if it is not in the views
+     */
+    public LoreType typeOf(String entryId) {
+        Key key = keys.get(entryId);
+        return key != null ? key.type() : null;
+    }
+
+    /**
+     * @param type The lore type, or null for every entry
+     * @return The number of entries in the view
+     */
+    public int size(LoreType type) {
+        return view(type).size();
+    }
+
+    /**
+     * Get the entries of a type sorted by name.
+     *
+     * @param type The lore type, or null for every entry
+     * @return An unmodifiable snapshot that is not affected by later changes
+     */
+    public List<LoreEntry> snapshot(LoreType type) {
+        if (type == null) {
+            if (allSnapshot == null) {
+                allSnapshot = copy(all);
+            }
+            return allSnapshot;
+        }
+        return snapshots.computeIfAbsent(type, t -> copy(byType.get(t)));
+    }
+
+    /**
+     * Get one page of a view.
+     *
+     * @param type   The lore type, or null for every entry
+     * @param offset Number of entries to skip
+     * @param limit  Maximum number of entries to return
+     */
+    public List<LoreEntry> page(LoreType type, int offset, int limit) {
+        List<Key> view = view(type);
+        int from = Math.max(0, offset);
+        int to = (int) Math.min(view.size(), (long) from + Math.max(0, limit));
+        if (from >= to) {
+            return List.of();
+        }
+        return copy(view.subList(from, to));
+    }
+
+    private List<Key> view(LoreType type) {
+        return type == null ? all : byType.get(type);
+    }
+
+    private void update(Key key, boolean add) {
+        updateView(all, key, add);
+        allSnapshot = null;
+        if (key.type() != null) {
+            updateView(byType.get(key.type()), key, add);
+            snapshots.remove(key.type());
+        }
+    }
+
+    /**
+     * Insert into or remove from a sorted view by binary search.
+     */
+    private static void updateView(List<Key> view, Key key, boolean add) {
+        int index = Collections.binarySearch(view, key, BY_NAME);
+        if (add && index < 0) {
+            view.add(-index - 1, key);
+        } else if (!add && index >= 0) {
+            view.remove(index);
+        }
+    }
+
+    private static List<LoreEntry> copy(List<Key> view) {
+        List<LoreEntry> entries = new ArrayList<>(view.size());
+        for (Key key : view) {
+            entries.add(key.entry());
+        }
+        return Collections.unmodifiableList(entries);
+    }
+}
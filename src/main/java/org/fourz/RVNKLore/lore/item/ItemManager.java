@@ -67,7 +67,7 @@ public class ItemManager implements IItemService {
         this.collectionManager = new CollectionManager(plugin);
         
         // Initial cache load in async task to avoid blocking startup
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, this::initializeCache);
+        plugin.getLoreScheduler().runAsync(this::initializeCache);
     }
     
     /**
@@ -368,7 +368,7 @@ public class ItemManager implements IItemService {
      * Refresh the item cache synchronously (internal use, called from async wrapper).
      */
     private void refreshCacheSync() {
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, this::initializeCache);
+        plugin.getLoreScheduler().runAsync(this::initializeCache);
     }
     
     /**
@@ -207,8 +207,8 @@ public class LoreBookManager implements ILoreBookService {
 
             ItemStack book = optBook.get();
 
-            // Add to player inventory on main thread
-            plugin.getServer().getScheduler().runTask(plugin, () -> {
+            // Add to player inventory on the player's thread
+            plugin.getLoreScheduler().runForEntity(player, () -> {
                 HashMap<Integer, ItemStack> overflow = player.getInventory().addItem(book);
                 if (!overflow.isEmpty()) {
                     // Drop at player's feet if inventory is full
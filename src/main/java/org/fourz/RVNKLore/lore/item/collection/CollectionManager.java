@@ -11,6 +11,7 @@ import org.fourz.RVNKLore.lore.item.cosmetic.HeadCollection;
 import org.fourz.RVNKLore.data.DatabaseConnection;
 import org.fourz.RVNKLore.data.ItemRepository;
 import org.fourz.RVNKLore.data.model.CollectionReward;
+import org.fourz.RVNKLore.lore.player.PlayerSession;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -23,6 +24,7 @@ import org.fourz.RVNKLore.service.ICollectionService;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Manages item collections and thematic groupings within the lore system.
@@ -41,6 +43,8 @@ public class CollectionManager implements ICollectionService {
     private final Map<String, ItemCollection> collections = new ConcurrentHashMap<>();
     private final Map<String, CollectionTheme> themes = new ConcurrentHashMap<>();
     private final RewardHandlerRegistry rewardHandlers;
+    /** Advanced whenever a collection or its items change in memory; versions cached API responses */
+    private final AtomicLong generation = new AtomicLong();
 
     public CollectionManager(RVNKLore plugin) {
         this.plugin = plugin;
@@ -103,6 +107,7 @@ public class CollectionManager implements ICollectionService {
         
         ItemCollection collection = new ItemCollection(id, name, description);
         collections.put(id, collection);
+        generation.incrementAndGet();
         logger.debug("Created collection: " + name + " (" + id + ")");
         return collection;
     }
@@ -265,6 +270,7 @@ public class CollectionManager implements ICollectionService {
             return false;
         }
         collection.addItem(item);
+        generation.incrementAndGet();
         logger.debug("Added item to collection: " + collectionId);
         return true;
     }
@@ -288,6 +294,7 @@ public class CollectionManager implements ICollectionService {
         }
         boolean removed = collection.removeItem(item);
         if (removed) {
+            generation.incrementAndGet();
             logger.debug("Removed item from collection: " + collectionId);
         }
         return removed;
@@ -338,6 +345,13 @@ public class CollectionManager implements ICollectionService {
         return new HashMap<>(themes);
     }
 
+    /**
+     * @return A counter that changes whenever collection names, descriptions or items change
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
     public void shutdown() {
         collections.clear();
         themes.clear();
@@ -387,6 +401,7 @@ public class CollectionManager implements ICollectionService {
                 logger.debug("Successfully saved collection: " + collection.getId());
                 // Update the in-memory collection
                 collections.put(collection.getId(), collection);
+                generation.incrementAndGet();
             } else {
                 logger.warning("Failed to save collection: " + collection.getId());
             }
@@ -462,6 +477,7 @@ public class CollectionManager implements ICollectionService {
                     collection.addItem(item);
                 }
             }
+            generation.incrementAndGet();
 
             logger.debug("Loaded " + itemProps.size() + " items for collection: " + collection.getId());
             return true;
@@ -520,9 +536,30 @@ public class CollectionManager implements ICollectionService {
             return 0.0;
         }
         
+        PlayerSession session = plugin.getPlayerSessions() != null ? plugin.getPlayerSessions().getSession(playerId) : null;
+        Double cached = session != null ? session.getCollectionProgress(collectionId) : null;
+        if (cached != null) {
+            return cached;
+        }
+
         ItemRepository repository = new ItemRepository(plugin, plugin.getDatabaseManager().getDatabaseConnection());
         return repository.getPlayerCollectionProgress(playerId.toString(), collectionId).join();
     }
+
+    /**
+     * Get a player's progress for every collection they have started, in one query.
+     *
+     * @param playerId The player's UUID
+     * @return Future with progress by collection ID (empty if the database is unavailable)
+     */
+    public CompletableFuture<Map<String, Double>> getAllPlayerProgress(UUID playerId) {
+        if (playerId == null || plugin.getDatabaseManager() == null || !plugin.getDatabaseManager().isConnected()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+
+        ItemRepository repository = new ItemRepository(plugin, plugin.getDatabaseManager().getDatabaseConnection());
+        return repository.getAllPlayerCollectionProgress(playerId.toString());
+    }
     
     /**
      * Get a player's progress for a specific collection (async interface method).
@@ -556,6 +593,9 @@ public class CollectionManager implements ICollectionService {
         boolean updated = repository.updatePlayerCollectionProgress(playerId.toString(), collectionId, progress).join();
         
         if (updated) {
+            if (plugin.getPlayerSessions() != null) {
+                plugin.getPlayerSessions().updateCollectionProgress(playerId, collectionId, progress);
+            }
             logger.debug("Updated progress for player " + playerId + " in collection " + collectionId + ": " + String.format("%.1f%%", progress * 100));
             
             // Check for completion and trigger rewards
@@ -834,6 +874,7 @@ public class CollectionManager implements ICollectionService {
         for (ItemCollection collection : loadedCollections) {
             collections.put(collection.getId(), collection);
         }
+        generation.incrementAndGet();
         logger.debug("Reloaded " + loadedCollections.size() + " collections from database");
     }
 
@@ -1076,23 +1117,26 @@ public class CollectionManager implements ICollectionService {
                           " WHERE collection_id = ? AND entry_id IS NOT NULL";
         String insertSql = "INSERT INTO " + dbConn.table(DatabaseConnection.TABLE_COLLECTION_ITEM) +
                            " (collection_id, item_id, entry_id) VALUES (?, ?, ?)";
-        try (Connection conn = dbConn.getConnection()) {
-            int entryCount;
-            try (PreparedStatement cs = conn.prepareStatement(countSql)) {
-                cs.setInt(1, collectionDbId);
-                try (ResultSet rs = cs.executeQuery()) {
-                    entryCount = rs.next() ? rs.getInt(1) : 0;
+        try {
+            // Count and insert in one write so two additions cannot claim the same item_id
+            dbConn.executeWriteSync(conn -> {
+                int entryCount;
+                try (PreparedStatement cs = conn.prepareStatement(countSql)) {
+                    cs.setInt(1, collectionDbId);
+                    try (ResultSet rs = cs.executeQuery()) {
+                        entryCount = rs.next() ? rs.getInt(1) : 0;
+                    }
                 }
-            }
-            try (PreparedStatement stmt = conn.prepareStatement(insertSql)) {
-                stmt.setInt(1, collectionDbId);
-                stmt.setInt(2, -entryCount); // 0, -1, -2, ...
-                stmt.setString(3, entryId.toString());
-                stmt.executeUpdate();
-            }
+                try (PreparedStatement stmt = conn.prepareStatement(insertSql)) {
+                    stmt.setInt(1, collectionDbId);
+                    stmt.setInt(2, -entryCount); // 0, -1, -2, ...
+                    stmt.setString(3, entryId.toString());
+                    return stmt.executeUpdate();
+                }
+            });
             logger.debug("Added entry " + entryId + " to collection " + collectionId);
             return true;
-        } catch (SQLException e) {
+        } catch (SQLException | RuntimeException e) {
             logger.error("Failed to add entry to collection: " + e.getMessage());
             return false;
         }
@@ -1154,15 +1198,18 @@ public class CollectionManager implements ICollectionService {
         DatabaseConnection dbConn = plugin.getDatabaseManager().getDatabaseConnection();
         String sql = "INSERT INTO " + dbConn.table(DatabaseConnection.TABLE_PLAYER_COLLECTION_ITEMS) +
                      " (player_uuid, collection_id, item_id, entry_uuid) VALUES (?, ?, 0, ?)";
-        try (Connection conn = dbConn.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, playerUuid.toString());
-            stmt.setInt(2, collectionDbId);
-            stmt.setString(3, entryId.toString());
-            stmt.executeUpdate();
+        try {
+            dbConn.executeWriteSync(conn -> {
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    stmt.setString(1, playerUuid.toString());
+                    stmt.setInt(2, collectionDbId);
+                    stmt.setString(3, entryId.toString());
+                    return stmt.executeUpdate();
+                }
+            });
             logger.debug("Recorded entry collected: player=" + playerUuid + " collection=" + collectionId + " entry=" + entryId);
             return true;
-        } catch (SQLException e) {
+        } catch (SQLException | RuntimeException e) {
             logger.error("Failed to record entry collected: " + e.getMessage());
             return false;
         }
@@ -1,5 +1,6 @@
 package org.fourz.RVNKLore.lore.player;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -71,6 +72,15 @@ public interface IPlayerRepository {
      */
     CompletableFuture<Boolean> recordLoreDiscovery(UUID playerUuid, String entryId);
 
+    /**
+     * Record that a player has discovered several lore entries, skipping any already recorded.
+     *
+     * @param playerUuid The UUID of the player
+     * @param entryIds The IDs of the lore entries discovered
+     * @return CompletableFuture that completes with true if the write succeeded
+     */
+    CompletableFuture<Boolean> recordLoreDiscoveries(UUID playerUuid, Collection<String> entryIds);
+
     /**
      * Check if the repository is operating in fallback mode.
      * Fallback mode indicates degraded operation due to database connectivity issues.
@@ -11,6 +11,7 @@ import org.fourz.RVNKLore.lore.LoreEntry;
 import org.fourz.RVNKLore.lore.LoreType;
 
 import java.text.SimpleDateFormat;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -164,6 +165,18 @@ public class PlayerManager implements IPlayerLoreService {
         return playerRepository.recordLoreDiscovery(playerId, entryId);
     }
 
+    /**
+     * Record that a player has discovered several lore entries with multi-row inserts.
+     *
+     * @param playerId The UUID of the player
+     * @param entryIds The IDs of the lore entries discovered
+     * @return Future containing true if the discoveries were recorded, false otherwise
+     */
+    public CompletableFuture<Boolean> recordLoreDiscoveries(UUID playerId, Collection<String> entryIds) {
+        logger.debug("Recording " + entryIds.size() + " lore discoveries: player=" + playerId);
+        return playerRepository.recordLoreDiscoveries(playerId, entryIds);
+    }
+
     /**
      * Check if a player has discovered a specific lore entry.
      *
@@ -205,44 +218,54 @@ public class PlayerManager implements IPlayerLoreService {
         return playerRepository.getStoredPlayerName(playerUuid).join().orElse(null);
     }
 
+    /**
+     * Get the name stored in the player's lore entries, without consulting PlayerLookup.
+     *
+     * @param playerUuid The UUID of the player
+     * @return Future containing Optional with the stored name, or empty if the player is unknown
+     */
+    public CompletableFuture<Optional<String>> getStoredName(UUID playerUuid) {
+        return playerRepository.getStoredPlayerName(playerUuid);
+    }
+
     /**
      * Process a player join event
      * - Creates a first join entry if the player is new
      * - Checks for and records name changes if the player exists
      *
+     * <p>Blocks on two database lookups, so it must not run on the main thread during
+     * normal play; {@link PlayerSessionManager} does the same work during login instead.
+     *
      * @param player The player who joined
      * @return true if any action was taken, false otherwise
+     * @deprecated Use {@link PlayerSessionManager#handleJoin(Player)} instead
      */
+    @Deprecated
     public boolean processPlayerJoin(Player player) {
         UUID playerUuid = player.getUniqueId();
         String currentName = player.getName();
 
         try {
             logger.debug("Processing player join: " + currentName + " (" + playerUuid + ")");
-            
-            // Check for existence in a thread-safe manner with synchronization
-            // to avoid race conditions with multiple handlers
-            synchronized (this) {
-                boolean exists = playerExists(playerUuid);
-                logger.debug("Player exists check for " + currentName + ": " + exists);
-                
-                if (!exists) {
-                    // New player, create first join entry
-                    logger.debug("Creating first join entry for new player: " + currentName);
-                    return createPlayerLoreEntry(player);
-                } else {
-                    // Existing player, check for name change
-                    String storedName = getStoredPlayerName(playerUuid);
-                    logger.debug("Stored name for " + currentName + ": " + storedName);
-                    
-                    if (storedName != null && !storedName.equals(currentName)) {
-                        logger.debug("Detected name change for player: " + storedName + " → " + currentName);
-                        return createNameChangeLoreEntry(player, storedName);
-                    } else {
-                        logger.debug("No action needed for existing player: " + currentName);
-                    }
-                }
+
+            boolean exists = playerExists(playerUuid);
+            logger.debug("Player exists check for " + currentName + ": " + exists);
+
+            if (!exists) {
+                // New player, create first join entry
+                logger.debug("Creating first join entry for new player: " + currentName);
+                return createPlayerLoreEntry(player);
             }
+
+            // Existing player, check for name change
+            String storedName = getStoredPlayerName(playerUuid);
+            logger.debug("Stored name for " + currentName + ": " + storedName);
+
+            if (storedName != null && !storedName.equals(currentName)) {
+                logger.debug("Detected name change for player: " + storedName + " → " + currentName);
+                return createNameChangeLoreEntry(player, storedName);
+            }
+            logger.debug("No action needed for existing player: " + currentName);
         } catch (Exception e) {
             logger.error("Error processing player join: " + player.getName(), e);
         }
@@ -276,26 +299,8 @@ public class PlayerManager implements IPlayerLoreService {
         logger.debug("Creating player lore entry for: " + player.getName());
 
         try {
-            // Use the player's display name for readability; UUID is stored in metadata
-            String uniqueName = player.getName();
-
-            LoreEntry entry = new LoreEntry();
-            entry.setType(LoreType.PLAYER);
-            entry.setName(uniqueName);
-            entry.setDescription("A player who joined the realm on " +
-                              java.time.LocalDate.now().toString());
-            entry.setLocation(player.getLocation());
-            entry.setSubmittedBy("Server");
-
-            // Add metadata
-            entry.addMetadata("player_uuid", player.getUniqueId().toString());
-            entry.addMetadata("player_name", player.getName());
-            entry.addMetadata("first_join_date", System.currentTimeMillis() + "");
-            entry.addMetadata("entry_type", "player_character");
-
-            // Save to database - automatically approved since this is server-generated
-            entry.setApproved(true);
-            boolean success = plugin.getLoreManager().addLoreEntrySync(entry);
+            boolean success = plugin.getLoreManager().addLoreEntrySync(
+                buildPlayerLoreEntry(player.getUniqueId(), player.getName(), player.getLocation()));
 
             if (success) {
                 logger.debug("Player lore entry created for: " + player.getName());
@@ -310,6 +315,53 @@ public class PlayerManager implements IPlayerLoreService {
         }
     }
 
+    /**
+     * Create a lore entry for a player's character without blocking the caller.
+     *
+     * @param playerUuid The player's UUID
+     * @param playerName The player's current name
+     * @param location Where the player joined, captured on the main thread
+     * @return Future containing true if the entry was created successfully
+     */
+    public CompletableFuture<Boolean> createPlayerLoreEntryAsync(UUID playerUuid, String playerName, Location location) {
+        logger.debug("Creating player lore entry for: " + playerName);
+
+        return plugin.getLoreManager().addLoreEntry(buildPlayerLoreEntry(playerUuid, playerName, location))
+            .handle((success, ex) -> {
+                if (ex != null) {
+                    logger.error("Error creating player lore entry", ex);
+                    return false;
+                }
+                if (success) {
+                    logger.debug("Player lore entry created for: " + playerName);
+                } else {
+                    logger.warning("Failed to create player lore entry for: " + playerName);
+                }
+                return success;
+            });
+    }
+
+    private LoreEntry buildPlayerLoreEntry(UUID playerUuid, String playerName, Location location) {
+        // Use the player's display name for readability; UUID is stored in metadata
+        LoreEntry entry = new LoreEntry();
+        entry.setType(LoreType.PLAYER);
+        entry.setName(playerName);
+        entry.setDescription("A player who joined the realm on " +
+                          java.time.LocalDate.now().toString());
+        entry.setLocation(location);
+        entry.setSubmittedBy("Server");
+
+        // Add metadata
+        entry.addMetadata("player_uuid", playerUuid.toString());
+        entry.addMetadata("player_name", playerName);
+        entry.addMetadata("first_join_date", System.currentTimeMillis() + "");
+        entry.addMetadata("entry_type", "player_character");
+
+        // Save to database - automatically approved since this is server-generated
+        entry.setApproved(true);
+        return entry;
+    }
+
     /**
      * Create a lore entry for a player's first join
      *
@@ -375,32 +427,8 @@ public class PlayerManager implements IPlayerLoreService {
         logger.debug("Creating name change lore entry: " + oldName + " → " + player.getName());
 
         try {
-            // Create a guaranteed unique entry name with UUID and timestamp
-            String uniqueName = "NameChange_" + player.getUniqueId().toString() + "_" + System.currentTimeMillis();
-
-            LoreEntry entry = new LoreEntry();
-            entry.setType(LoreType.PLAYER);
-            entry.setName(uniqueName);
-
-            // Format date using SimpleDateFormat for consistent display
-            SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm");
-            String dateString = dateFormat.format(new Date());
-
-            entry.setDescription("The adventurer known as " + oldName + " shall henceforth be known as " +
-                              player.getName() + ".\nName changed on " + dateString + ".");
-            entry.setLocation(player.getLocation());
-            entry.setSubmittedBy("Server");
-
-            // Add essential metadata
-            entry.addMetadata("player_uuid", player.getUniqueId().toString());
-            entry.addMetadata("player_name", player.getName());
-            entry.addMetadata("previous_name", oldName);
-            entry.addMetadata("name_change_date", System.currentTimeMillis() + "");
-            entry.addMetadata("entry_type", "name_change");
-
-            // Auto-approve server-generated entries
-            entry.setApproved(true);
-            boolean success = plugin.getLoreManager().addLoreEntrySync(entry);
+            boolean success = plugin.getLoreManager().addLoreEntrySync(
+                buildNameChangeLoreEntry(player.getUniqueId(), player.getName(), oldName, player.getLocation()));
 
             if (success) {
                 // Notify the player
@@ -417,6 +445,64 @@ public class PlayerManager implements IPlayerLoreService {
         }
     }
 
+    /**
+     * Create a lore entry for a player name change without blocking the caller.
+     * The caller is responsible for notifying the player on the main thread.
+     *
+     * @param playerUuid The player's UUID
+     * @param playerName The player's new name
+     * @param oldName The previous name of the player
+     * @param location Where the player joined, captured on the main thread
+     * @return Future containing true if the entry was created successfully
+     */
+    public CompletableFuture<Boolean> createNameChangeLoreEntryAsync(UUID playerUuid, String playerName,
+                                                                     String oldName, Location location) {
+        logger.debug("Creating name change lore entry: " + oldName + " → " + playerName);
+
+        return plugin.getLoreManager().addLoreEntry(buildNameChangeLoreEntry(playerUuid, playerName, oldName, location))
+            .handle((success, ex) -> {
+                if (ex != null) {
+                    logger.error("Error creating name change lore entry", ex);
+                    return false;
+                }
+                if (success) {
+                    logger.debug("Name change lore entry created: " + oldName + " → " + playerName);
+                } else {
+                    logger.warning("Failed to create name change lore entry: " + oldName + " → " + playerName);
+                }
+                return success;
+            });
+    }
+
+    private LoreEntry buildNameChangeLoreEntry(UUID playerUuid, String playerName, String oldName, Location location) {
+        // Create a guaranteed unique entry name with UUID and timestamp
+        String uniqueName = "NameChange_" + playerUuid.toString() + "_" + System.currentTimeMillis();
+
+        LoreEntry entry = new LoreEntry();
+        entry.setType(LoreType.PLAYER);
+        entry.setName(uniqueName);
+
+        // Format date using SimpleDateFormat for consistent display
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm");
+        String dateString = dateFormat.format(new Date());
+
+        entry.setDescription("The adventurer known as " + oldName + " shall henceforth be known as " +
+                          playerName + ".\nName changed on " + dateString + ".");
+        entry.setLocation(location);
+        entry.setSubmittedBy("Server");
+
+        // Add essential metadata
+        entry.addMetadata("player_uuid", playerUuid.toString());
+        entry.addMetadata("player_name", playerName);
+        entry.addMetadata("previous_name", oldName);
+        entry.addMetadata("name_change_date", System.currentTimeMillis() + "");
+        entry.addMetadata("entry_type", "name_change");
+
+        // Auto-approve server-generated entries
+        entry.setApproved(true);
+        return entry;
+    }
+
     /**
      * Format a location as a string
      *
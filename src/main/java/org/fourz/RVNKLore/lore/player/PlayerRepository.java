@@ -5,6 +5,8 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -28,6 +30,9 @@ import org.json.simple.parser.ParseException;
  * All methods return CompletableFuture<T> for async operations per RVNKCore standard.
  */
 public class PlayerRepository implements IPlayerRepository {
+    /** Rows per multi-row discovery insert. */
+    private static final int BULK_INSERT_ROWS = 200;
+
     private final RVNKLore plugin;
     private final LogManager logger;
     private final DatabaseConnection dbConnection;
@@ -277,53 +282,99 @@ public class PlayerRepository implements IPlayerRepository {
      */
     @Override
     public CompletableFuture<Boolean> recordLoreDiscovery(UUID playerUuid, String entryId) {
-        return CompletableFuture.supplyAsync(() -> {
-            // First check if already discovered to avoid duplicates
-            String checkSql = "SELECT COUNT(*) FROM " + t("player_discoveries") + " WHERE player_uuid = ? AND entry_id = ?";
-            String insertSql = "INSERT INTO " + t("player_discoveries") + " (player_uuid, entry_id, discovered_at) VALUES (?, ?, ?)";
-
-            try (Connection conn = dbConnection.getConnection()) {
-                // Check if already exists
-                try (PreparedStatement checkStmt = conn.prepareStatement(checkSql)) {
-                    checkStmt.setString(1, playerUuid.toString());
-                    checkStmt.setString(2, entryId);
-                    try (ResultSet rs = checkStmt.executeQuery()) {
-                        if (rs.next() && rs.getInt(1) > 0) {
-                            // Already discovered
-                            logger.debug("Player " + playerUuid + " already discovered entry " + entryId);
-                            return false;
-                        }
+        // First check if already discovered to avoid duplicates
+        String checkSql = "SELECT COUNT(*) FROM " + t("player_discoveries") + " WHERE player_uuid = ? AND entry_id = ?";
+        String insertSql = "INSERT INTO " + t("player_discoveries") + " (player_uuid, entry_id, discovered_at) VALUES (?, ?, ?)";
+
+        return dbConnection.executeWrite(conn -> {
+            // Check if already exists
+            try (PreparedStatement checkStmt = conn.prepareStatement(checkSql)) {
+                checkStmt.setString(1, playerUuid.toString());
+                checkStmt.setString(2, entryId);
+                try (ResultSet rs = checkStmt.executeQuery()) {
+                    if (rs.next() && rs.getInt(1) > 0) {
+                        // Already discovered
+                        logger.debug("Player " + playerUuid + " already discovered entry " + entryId);
+                        return false;
                     }
                 }
+            }
 
-                // Insert new discovery
-                try (PreparedStatement insertStmt = conn.prepareStatement(insertSql)) {
-                    insertStmt.setString(1, playerUuid.toString());
-                    insertStmt.setString(2, entryId);
-                    insertStmt.setTimestamp(3, new java.sql.Timestamp(System.currentTimeMillis()));
+            // Insert new discovery
+            try (PreparedStatement insertStmt = conn.prepareStatement(insertSql)) {
+                insertStmt.setString(1, playerUuid.toString());
+                insertStmt.setString(2, entryId);
+                insertStmt.setTimestamp(3, new java.sql.Timestamp(System.currentTimeMillis()));
 
-                    int rows = insertStmt.executeUpdate();
-                    if (rows > 0) {
-                        logger.debug("Recorded discovery: player=" + playerUuid + ", entry=" + entryId);
-                        return true;
-                    }
+                if (insertStmt.executeUpdate() > 0) {
+                    logger.debug("Recorded discovery: player=" + playerUuid + ", entry=" + entryId);
+                    return true;
                 }
-            } catch (SQLException e) {
-                // Table might not exist - try to create it
-                if (e.getMessage().contains("player_discoveries") || e.getMessage().contains("no such table")) {
-                    logger.warning("player_discoveries table may not exist, attempting to create...");
-                    if (createDiscoveriesTable()) {
-                        // Retry the insert
+            }
+            return false;
+        }).exceptionallyCompose(e -> {
+            Throwable cause = DatabaseConnection.unwrap(e);
+            if (cause instanceof SQLException && cause.getMessage() != null
+                    && (cause.getMessage().contains("player_discoveries") || cause.getMessage().contains("no such table"))) {
+                // Table might not exist - try to create it, then retry the insert
+                logger.warning("player_discoveries table may not exist, attempting to create...");
+                return createDiscoveriesTable().thenCompose(created -> {
+                    if (created) {
                         return recordLoreDiscoveryDirect(playerUuid, entryId);
                     }
-                }
-                logger.error("Error recording lore discovery: " + playerUuid + ", " + entryId, e);
-                fallbackTracker.recordFailure();
-            } catch (IllegalStateException e) {
-                logger.error("Database unavailable recording discovery: " + playerUuid, e);
-                fallbackTracker.recordFailure();
+                    logger.error("Error recording lore discovery: " + playerUuid + ", " + entryId, cause);
+                    fallbackTracker.recordFailure();
+                    return CompletableFuture.completedFuture(false);
+                });
             }
+            if (cause instanceof IllegalStateException) {
+                logger.error("Database unavailable recording discovery: " + playerUuid, cause);
+            } else {
+                logger.error("Error recording lore discovery: " + playerUuid + ", " + entryId, cause);
+            }
+            fallbackTracker.recordFailure();
+            return CompletableFuture.completedFuture(false);
+        });
+    }
 
+    @Override
+    public CompletableFuture<Boolean> recordLoreDiscoveries(UUID playerUuid, Collection<String> entryIds) {
+        if (entryIds.isEmpty()) {
+            return CompletableFuture.completedFuture(true);
+        }
+        List<String> ids = List.copyOf(entryIds);
+        // The unique (player_uuid, entry_id) key skips entries already recorded
+        String ignoreKeyword = "MySQL".equals(dbConnection.getDialect().getName()) ? "INSERT IGNORE INTO " : "INSERT OR IGNORE INTO ";
+        java.sql.Timestamp now = new java.sql.Timestamp(System.currentTimeMillis());
+
+        return dbConnection.executeWrite(conn -> {
+            for (int start = 0; start < ids.size(); start += BULK_INSERT_ROWS) {
+                List<String> chunk = ids.subList(start, Math.min(ids.size(), start + BULK_INSERT_ROWS));
+                String insertSql = ignoreKeyword + t("player_discoveries") + " (player_uuid, entry_id, discovered_at) VALUES " +
+                    String.join(", ", Collections.nCopies(chunk.size(), "(?, ?, ?)"));
+                try (PreparedStatement stmt = conn.prepareStatement(insertSql)) {
+                    int index = 1;
+                    for (String entryId : chunk) {
+                        stmt.setString(index++, playerUuid.toString());
+                        stmt.setString(index++, entryId);
+                        stmt.setTimestamp(index++, now);
+                    }
+                    stmt.executeUpdate();
+                }
+            }
+            return true;
+        }).handle((recorded, e) -> {
+            if (e == null) {
+                logger.debug("Recorded " + ids.size() + " discoveries for player " + playerUuid);
+                return true;
+            }
+            Throwable cause = DatabaseConnection.unwrap(e);
+            if (cause instanceof IllegalStateException) {
+                logger.error("Database unavailable recording discoveries: " + playerUuid, cause);
+            } else {
+                logger.error("Error recording " + ids.size() + " lore discoveries: " + playerUuid, cause);
+            }
+            fallbackTracker.recordFailure();
             return false;
         });
     }
@@ -331,7 +382,7 @@ public class PlayerRepository implements IPlayerRepository {
     /**
      * Helper to create the player_discoveries table if it doesn't exist.
      */
-    private boolean createDiscoveriesTable() {
+    private CompletableFuture<Boolean> createDiscoveriesTable() {
         String createSql = "CREATE TABLE IF NOT EXISTS " + t("player_discoveries") + " (" +
             "id " + dbConnection.getDialect().getAutoIncrementPK() + ", " +
             "player_uuid VARCHAR(36) NOT NULL, " +
@@ -339,33 +390,37 @@ public class PlayerRepository implements IPlayerRepository {
             "discovered_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
             "UNIQUE(player_uuid, entry_id))";
 
-        try (Connection conn = dbConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(createSql)) {
-            stmt.executeUpdate();
+        return dbConnection.executeWrite(conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(createSql)) {
+                return stmt.executeUpdate();
+            }
+        }).handle((updated, e) -> {
+            if (e != null) {
+                logger.error("Failed to create player_discoveries table", DatabaseConnection.unwrap(e));
+                return false;
+            }
             logger.debug("Created player_discoveries table");
             return true;
-        } catch (SQLException e) {
-            logger.error("Failed to create player_discoveries table", e);
-            return false;
-        }
+        });
     }
 
     /**
      * Direct insert without checking (used after table creation).
      */
-    private boolean recordLoreDiscoveryDirect(UUID playerUuid, String entryId) {
+    private CompletableFuture<Boolean> recordLoreDiscoveryDirect(UUID playerUuid, String entryId) {
         String ignoreKeyword = "MySQL".equals(dbConnection.getDialect().getName()) ? "INSERT IGNORE INTO " : "INSERT OR IGNORE INTO ";
         String insertSql = ignoreKeyword + t("player_discoveries") + " (player_uuid, entry_id, discovered_at) VALUES (?, ?, ?)";
-        try (Connection conn = dbConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(insertSql)) {
-            stmt.setString(1, playerUuid.toString());
-            stmt.setString(2, entryId);
-            stmt.setTimestamp(3, new java.sql.Timestamp(System.currentTimeMillis()));
-            return stmt.executeUpdate() > 0;
-        } catch (SQLException e) {
-            logger.error("Failed to record discovery after table creation", e);
+        return dbConnection.executeWrite(conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(insertSql)) {
+                stmt.setString(1, playerUuid.toString());
+                stmt.setString(2, entryId);
+                stmt.setTimestamp(3, new java.sql.Timestamp(System.currentTimeMillis()));
+                return stmt.executeUpdate() > 0;
+            }
+        }).exceptionally(e -> {
+            logger.error("Failed to record discovery after table creation", DatabaseConnection.unwrap(e));
             return false;
-        }
+        });
     }
 
     /**
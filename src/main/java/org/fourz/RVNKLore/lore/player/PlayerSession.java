@@ -0,0 +1,146 @@
+package org.fourz.RVNKLore.lore.player;
+
+import org.fourz.RVNKLore.achievement.AchievementProgress;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-player state fetched once while the player logs in and kept until they quit.
+ *
+ * <p>Holds the lore lookups a join needs (whether the player is known and the name stored
+ * for them) together with their discovered entries, collection progress and achievement
+ * progress, so gameplay checks read memory instead of the database. Any part that failed
+ * to load is left unloaded and callers fall back to querying the database.
+ */
+public class PlayerSession {
+    private final UUID playerId;
+    private final String loginName;
+    private final long loadedAt = System.currentTimeMillis();
+    private final Boolean knownPlayer;
+    private volatile boolean recorded;
+    private volatile String storedName;
+    private final Set<String> discoveredEntryIds;
+    private final Map<String, Double> collectionProgress;
+    private final Map<String, AchievementProgress> achievementProgress;
+
+    /**
+     * @param playerId The player's UUID
+     * @param loginName The name the player logged in with
+     * @param knownPlayer Whether the player has a lore entry, or null if the lookup failed
+     * @param storedName The name stored in the player's lore entries, or null if none
+     * @param discoveredEntryIds Discovered entry IDs, or null if they could not be loaded
+     * @param collectionProgress Progress by collection ID, or null if it could not be loaded
+     * @param achievementProgress Achievement progress by achievement ID, or null if not loaded
+     */
+    public PlayerSession(UUID playerId, String loginName, Boolean knownPlayer, String storedName,
+                         Collection<String> discoveredEntryIds, Map<String, Double> collectionProgress,
+                         Map<String, AchievementProgress> achievementProgress) {
+        this.playerId = playerId;
+        this.loginName = loginName;
+        this.knownPlayer = knownPlayer;
+        this.storedName = storedName;
+        if (discoveredEntryIds != null) {
+            this.discoveredEntryIds = ConcurrentHashMap.newKeySet();
+            this.discoveredEntryIds.addAll(discoveredEntryIds);
+        } else {
+            this.discoveredEntryIds = null;
+        }
+        this.collectionProgress = collectionProgress != null ? new ConcurrentHashMap<>(collectionProgress) : null;
+        this.achievementProgress = achievementProgress;
+    }
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    public String getLoginName() {
+        return loginName;
+    }
+
+    /**
+     * @return When the session was loaded, in epoch milliseconds
+     */
+    public long getLoadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * @return Whether the player lookup succeeded, so {@link #isKnownPlayer()} can be trusted
+     */
+    public boolean isPlayerLoaded() {
+        return knownPlayer != null;
+    }
+
+    /**
+     * @return Whether the player already had a lore entry or one has been created this session
+     */
+    public boolean isKnownPlayer() {
+        return recorded || Boolean.TRUE.equals(knownPlayer);
+    }
+
+    /**
+     * @return The name stored in the player's lore entries, or null if none
+     */
+    public String getStoredName() {
+        return storedName;
+    }
+
+    /**
+     * Record that a lore entry now exists for the player under the given name.
+     */
+    public void recordName(String name) {
+        this.storedName = name;
+        this.recorded = true;
+    }
+
+    /**
+     * @return Whether the player's discoveries were loaded
+     */
+    public boolean isDiscoveriesLoaded() {
+        return discoveredEntryIds != null;
+    }
+
+    /**
+     * @return Whether the player has discovered the entry; false if discoveries were not loaded
+     */
+    public boolean hasDiscovered(String entryId) {
+        return discoveredEntryIds != null && discoveredEntryIds.contains(entryId);
+    }
+
+    /**
+     * @return The discovered entry IDs, or an empty set if they were not loaded
+     */
+    public Set<String> getDiscoveredEntryIds() {
+        return discoveredEntryIds != null ? Set.copyOf(discoveredEntryIds) : Set.of();
+    }
+
+    public void markDiscovered(String entryId) {
+        if (discoveredEntryIds != null) {
+            discoveredEntryIds.add(entryId);
+        }
+    }
+
+    /**
+     * @return Progress for a collection the player has started, or null if unknown
+     */
+    public Double getCollectionProgress(String collectionId) {
+        return collectionProgress != null ? collectionProgress.get(collectionId) : null;
+    }
+
+    public void setCollectionProgress(String collectionId, double progress) {
+        if (collectionProgress != null) {
+            collectionProgress.put(collectionId, progress);
+        }
+    }
+
+    /**
+     * @return Achievement progress by achievement ID, or null if it was not loaded
+     */
+    public Map<String, AchievementProgress> getAchievementProgress() {
+        return achievementProgress;
+    }
+}
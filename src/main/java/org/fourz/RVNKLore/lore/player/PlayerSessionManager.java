@@ -0,0 +1,265 @@
+package org.fourz.RVNKLore.lore.player;
+
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.fourz.RVNKLore.RVNKLore;
+import org.fourz.RVNKLore.achievement.AchievementManager;
+import org.fourz.RVNKLore.achievement.AchievementProgress;
+import org.fourz.RVNKLore.discovery.DiscoveryManager;
+import org.fourz.RVNKLore.lore.item.collection.CollectionManager;
+import org.fourz.rvnkcore.util.log.LogManager;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Loads a {@link PlayerSession} for each player while they log in and records first
+ * joins and name changes without blocking the main thread.
+ *
+ * <p>The session's lookups are issued together from {@link AsyncPlayerPreLoginEvent},
+ * which runs off the main thread, and login waits up to
+ * {@code players.session.loginLoadTimeoutMs} for them. When the player joins, only their
+ * location is read on the main thread; the lore entry is written in the background and
+ * the player is messaged back on their own thread.
+ *
+ * <p>Work for one player runs in order (a rejoin's lookups wait for the previous join's
+ * entry to be written), while different players never wait on each other.
+ */
+public class PlayerSessionManager implements Listener {
+    private final RVNKLore plugin;
+    private final LogManager logger;
+    private final Map<UUID, CompletableFuture<PlayerSession>> sessions = new ConcurrentHashMap<>();
+    private final Map<UUID, CompletableFuture<?>> tails = new ConcurrentHashMap<>();
+    private final long loginLoadTimeoutMs;
+
+    public PlayerSessionManager(RVNKLore plugin) {
+        this.plugin = plugin;
+        this.logger = LogManager.getInstance(plugin, "PlayerSessionManager");
+        this.loginLoadTimeoutMs = Math.max(0, plugin.getConfig().getLong("players.session.loginLoadTimeoutMs", 3000));
+    }
+
+    /**
+     * Start loading sessions for players as they log in, including any already online.
+     */
+    public void initialize() {
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            UUID playerId = player.getUniqueId();
+            String name = player.getName();
+            sessions.computeIfAbsent(playerId, id -> serialize(id, () -> load(id, name)));
+        }
+    }
+
+    /**
+     * Runs off the main thread, so the player's lookups finish before they are in the world.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            return;
+        }
+        UUID playerId = event.getUniqueId();
+        String name = event.getName();
+        CompletableFuture<PlayerSession> loading = serialize(playerId, () -> load(playerId, name));
+        sessions.put(playerId, loading);
+        try {
+            loading.get(loginLoadTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            logger.debug("Session for " + name + " still loading after login: " + e.getMessage());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onLogin(PlayerLoginEvent event) {
+        if (event.getResult() != PlayerLoginEvent.Result.ALLOWED) {
+            sessions.remove(event.getPlayer().getUniqueId());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        sessions.remove(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Record a first join or name change for a player who just joined.
+     * Must be called on the main thread; returns without waiting for the database.
+     */
+    public void handleJoin(Player player) {
+        UUID playerId = player.getUniqueId();
+        String name = player.getName();
+        Location location = player.getLocation().clone();
+
+        // Sessions are missing only for players who logged in before the plugin was enabled
+        CompletableFuture<PlayerSession> loading = sessions.computeIfAbsent(playerId,
+            id -> serialize(id, () -> load(id, name)));
+
+        loading.thenCompose(session -> serialize(playerId, () -> recordJoin(session, name, location)))
+            .thenAccept(message -> {
+                if (message != null) {
+                    // Look the player up again: after a quick rejoin the Player object is a new one
+                    Player online = Bukkit.getPlayer(playerId);
+                    if (online != null) {
+                        plugin.getLoreScheduler().runForEntity(online, () -> online.sendMessage(message));
+                    }
+                }
+            })
+            .exceptionally(ex -> {
+                logger.error("Error processing player join: " + name, ex);
+                return null;
+            });
+    }
+
+    /**
+     * @return The player's session, or null if it is not loaded (yet)
+     */
+    public PlayerSession getSession(UUID playerId) {
+        CompletableFuture<PlayerSession> loading = sessions.get(playerId);
+        return loading != null ? loading.getNow(null) : null;
+    }
+
+    /**
+     * Record a discovery in the player's session, including one that is still loading.
+     */
+    public void markDiscovered(UUID playerId, String entryId) {
+        CompletableFuture<PlayerSession> loading = sessions.get(playerId);
+        if (loading != null) {
+            loading.thenAccept(session -> session.markDiscovered(entryId));
+        }
+    }
+
+    /**
+     * Record collection progress in the player's session, including one that is still loading.
+     */
+    public void updateCollectionProgress(UUID playerId, String collectionId, double progress) {
+        CompletableFuture<PlayerSession> loading = sessions.get(playerId);
+        if (loading != null) {
+            loading.thenAccept(session -> session.setCollectionProgress(collectionId, progress));
+        }
+    }
+
+    /**
+     * @return The number of players with a session
+     */
+    public int size() {
+        return sessions.size();
+    }
+
+    public void shutdown() {
+        HandlerList.unregisterAll(this);
+        sessions.clear();
+        tails.clear();
+    }
+
+    /**
+     * Issue every lookup for a player at once. Failed lookups leave their part of the
+     * session unloaded instead of failing the whole session.
+     */
+    private CompletableFuture<PlayerSession> load(UUID playerId, String loginName) {
+        PlayerManager playerManager = plugin.getPlayerManager();
+        DiscoveryManager discoveryManager = plugin.getDiscoveryManager();
+        AchievementManager achievementManager = plugin.getAchievementManager();
+        CollectionManager collectionManager = plugin.getLoreManager() != null && plugin.getLoreManager().getItemManager() != null
+            ? plugin.getLoreManager().getItemManager().getCollectionManager()
+            : null;
+
+        CompletableFuture<Boolean> known = lookup("player entry", playerId,
+            playerManager != null ? playerManager.hasPlayer(playerId) : null);
+        CompletableFuture<String> storedName = lookup("stored name", playerId,
+            playerManager != null ? playerManager.getStoredName(playerId).thenApply(name -> name.orElse(null)) : null);
+        CompletableFuture<List<String>> discovered = lookup("discoveries", playerId,
+            discoveryManager != null ? discoveryManager.getDiscoveredEntryIds(playerId) : null);
+        CompletableFuture<Map<String, Double>> progress = lookup("collection progress", playerId,
+            collectionManager != null ? collectionManager.getAllPlayerProgress(playerId) : null);
+        CompletableFuture<Map<String, AchievementProgress>> achievements = lookup("achievements", playerId,
+            achievementManager != null ? achievementManager.loadPlayer(playerId) : null);
+
+        long start = System.nanoTime();
+        return CompletableFuture.allOf(known, storedName, discovered, progress, achievements)
+            .thenApply(ignored -> {
+                logger.debug("Loaded session for " + loginName + " in "
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms");
+                return new PlayerSession(playerId, loginName, known.join(), storedName.join(),
+                    discovered.join(), progress.join(), achievements.join());
+            });
+    }
+
+    private <T> CompletableFuture<T> lookup(String what, UUID playerId, CompletableFuture<T> future) {
+        if (future == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return future.exceptionally(ex -> {
+            logger.warning("Failed to load " + what + " for " + playerId + ": " + ex.getMessage());
+            return null;
+        });
+    }
+
+    /**
+     * Create the player's first join or name change entry if needed.
+     *
+     * @return Future with a message for the player, or null if there is nothing to say
+     */
+    private CompletableFuture<String> recordJoin(PlayerSession session, String name, Location location) {
+        if (!session.isPlayerLoaded()) {
+            logger.debug("Skipping join lore for " + name + ": player lookup failed");
+            return CompletableFuture.completedFuture(null);
+        }
+        PlayerManager playerManager = plugin.getPlayerManager();
+        UUID playerId = session.getPlayerId();
+
+        if (!session.isKnownPlayer()) {
+            logger.debug("Creating first join entry for new player: " + name);
+            return playerManager.createPlayerLoreEntryAsync(playerId, name, location).thenApply(created -> {
+                if (created) {
+                    session.recordName(name);
+                }
+                return null;
+            });
+        }
+
+        String storedName = session.getStoredName();
+        if (storedName != null && !storedName.equals(name)) {
+            logger.debug("Detected name change for player: " + storedName + " → " + name);
+            return playerManager.createNameChangeLoreEntryAsync(playerId, name, storedName, location).thenApply(created -> {
+                if (!created) {
+                    return null;
+                }
+                session.recordName(name);
+                return ChatColor.GOLD + "Your name change has been recorded in the annals of history!";
+            });
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Run a task after every earlier task for the same player has finished.
+     */
+    private <T> CompletableFuture<T> serialize(UUID playerId, Supplier<CompletableFuture<T>> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture<?> previous = tails.put(playerId, result);
+        CompletableFuture<?> ready = previous != null
+            ? previous.handle((value, ex) -> null)
+            : CompletableFuture.completedFuture(null);
+        ready.thenCompose(ignored -> task.get()).whenComplete((value, ex) -> {
+            tails.remove(playerId, result);
+            if (ex != null) {
+                result.completeExceptionally(ex);
+            } else {
+                result.complete(value);
+            }
+        });
+        return result;
+    }
+}
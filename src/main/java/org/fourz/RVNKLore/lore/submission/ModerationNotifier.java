@@ -0,0 +1,57 @@
+package org.fourz.RVNKLore.lore.submission;
+
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.fourz.RVNKLore.RVNKLore;
+import org.fourz.RVNKLore.data.dto.SubmissionSummaryDTO;
+
+/**
+ * Tells online staff about new submissions as they arrive, and staff who join about the
+ * size of the moderation queue. Both read the in-memory queue, never the database.
+ */
+public class ModerationNotifier implements Listener {
+    /** Permission of players who review submissions */
+    public static final String STAFF_PERMISSION = "rvnklore.admin";
+
+    private final RVNKLore plugin;
+    private final ModerationQueue queue;
+
+    public ModerationNotifier(RVNKLore plugin, ModerationQueue queue) {
+        this.plugin = plugin;
+        this.queue = queue;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQueueChange(ModerationQueueEvent event) {
+        if (event.getAction() != ModerationQueueEvent.Action.SUBMITTED) {
+            return;
+        }
+        SubmissionSummaryDTO submission = event.getSubmission();
+        String entry = submission.entryName() != null ? submission.entryName() : submission.entryId();
+        String message = ChatColor.YELLOW + "[RVNKLore] " + ChatColor.GRAY + "New submission for " +
+            ChatColor.WHITE + entry + ChatColor.GRAY + " awaiting review (" +
+            ChatColor.YELLOW + event.getPendingCount() + ChatColor.GRAY + " pending).";
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            plugin.getLoreScheduler().runForEntity(player, () -> {
+                if (player.hasPermission(STAFF_PERMISSION)) {
+                    player.sendMessage(message);
+                }
+            });
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        Player player = event.getPlayer();
+        int pending = queue.size();
+        if (pending > 0 && player.hasPermission(STAFF_PERMISSION)) {
+            player.sendMessage(ChatColor.YELLOW + "[RVNKLore] " + ChatColor.GRAY + pending +
+                (pending == 1 ? " lore submission is" : " lore submissions are") + " awaiting review.");
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package org.fourz.RVNKLore.lore.submission;
+
+import org.fourz.RVNKLore.data.dto.SubmissionSummaryDTO;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * In-memory mirror of the submissions awaiting approval, oldest first.
+ *
+ * <p>Loaded once from the database and then kept current by the submission workflow, so
+ * staff tools can read the queue and its size without querying. Entries are summaries
+ * only; content is loaded when a submission is opened. Thread-safe.
+ */
+public class ModerationQueue {
+    private static final Comparator<SubmissionSummaryDTO> OLDEST_FIRST = Comparator
+        .comparing((SubmissionSummaryDTO s) -> s.submissionDate() != null ? s.submissionDate().getTime() : 0L)
+        .thenComparingInt(SubmissionSummaryDTO::id);
+
+    private final TreeSet<SubmissionSummaryDTO> ordered = new TreeSet<>(OLDEST_FIRST);
+    private final Map<Integer, SubmissionSummaryDTO> byId = new HashMap<>();
+    private volatile int size;
+
+    /**
+     * Replace the whole queue, e.g. after loading it from the database.
+     */
+    public synchronized void replaceAll(Collection<SubmissionSummaryDTO> pending) {
+        ordered.clear();
+        byId.clear();
+        for (SubmissionSummaryDTO summary : pending) {
+            put(summary);
+        }
+        size = byId.size();
+    }
+
+    /**
+     * Add a pending submission, replacing an older summary with the same ID.
+     *
+     * @return Whether the submission was not queued before
+     */
+    public synchronized boolean add(SubmissionSummaryDTO summary) {
+        boolean added = put(summary);
+        size = byId.size();
+        return added;
+    }
+
+    /**
+     * Remove a submission that was approved, rejected or deleted.
+     *
+     * @return The removed summary, or null if it was not queued
+     */
+    public synchronized SubmissionSummaryDTO remove(int submissionId) {
+        SubmissionSummaryDTO removed = byId.remove(submissionId);
+        if (removed != null) {
+            ordered.remove(removed);
+            size = byId.size();
+        }
+        return removed;
+    }
+
+    /**
+     * Submissions that entered and left the queue in one {@link #replaceEntry} call.
+     */
+    public record Changes(List<SubmissionSummaryDTO> added, List<SubmissionSummaryDTO> removed) {
+    }
+
+    /**
+     * Replace the queued submissions of one entry with what the database now holds for it.
+     *
+     * @param pending Every pending submission of the entry
+     */
+    public synchronized Changes replaceEntry(String entryId, Collection<SubmissionSummaryDTO> pending) {
+        Map<Integer, SubmissionSummaryDTO> previous = new HashMap<>();
+        for (SubmissionSummaryDTO queued : byId.values()) {
+            if (queued.entryId().equals(entryId)) {
+                previous.put(queued.id(), queued);
+            }
+        }
+        for (SubmissionSummaryDTO queued : previous.values()) {
+            byId.remove(queued.id());
+            ordered.remove(queued);
+        }
+
+        List<SubmissionSummaryDTO> added = new ArrayList<>();
+        for (SubmissionSummaryDTO summary : pending) {
+            put(summary);
+            if (previous.remove(summary.id()) == null) {
+                added.add(summary);
+            }
+        }
+        size = byId.size();
+        return new Changes(added, new ArrayList<>(previous.values()));
+    }
+
+    /**
+     * @return Whether the submission is waiting for review
+     */
+    public synchronized boolean contains(int submissionId) {
+        return byId.containsKey(submissionId);
+    }
+
+    /**
+     * Get one page of the queue, oldest first.
+     */
+    public synchronized List<SubmissionSummaryDTO> page(int offset, int limit) {
+        List<SubmissionSummaryDTO> page = new ArrayList<>(Math.max(0, Math.min(limit, size - offset)));
+        int index = 0;
+        for (SubmissionSummaryDTO summary : ordered) {
+            if (page.size() >= limit) {
+                break;
+            }
+            if (index++ >= offset) {
+                page.add(summary);
+            }
+        }
+        return page;
+    }
+
+    /**
+     * @return Every queued submission, oldest first
+     */
+    public synchronized List<SubmissionSummaryDTO> snapshot() {
+        return new ArrayList<>(ordered);
+    }
+
+    /**
+     * @return Number of submissions waiting for review; does not lock
+     */
+    public int size() {
+        return size;
+    }
+
+    private boolean put(SubmissionSummaryDTO summary) {
+        SubmissionSummaryDTO previous = byId.put(summary.id(), summary);
+        if (previous != null) {
+            ordered.remove(previous);
+        }
+        ordered.add(summary);
+        return previous == null;
+    }
+}
@@ -0,0 +1,77 @@
+package org.fourz.RVNKLore.lore.submission;
+
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.fourz.RVNKLore.data.dto.SubmissionSummaryDTO;
+
+/**
+ * Event fired on the global thread when a submission enters or leaves the moderation
+ * queue. Staff tools should listen for this instead of polling for pending submissions.
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * @EventHandler
+ * public void onQueueChange(ModerationQueueEvent event) {
+ *     if (event.getAction() == ModerationQueueEvent.Action.SUBMITTED) {
+ *         webhook.post("New lore submission for " + event.getSubmission().entryName());
+ *     }
+ * }
+ * }</pre>
+ */
+public class ModerationQueueEvent extends Event {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    /**
+     * How the queue changed.
+     */
+    public enum Action {
+        /** A submission is waiting for review */
+        SUBMITTED,
+        /** A queued submission was approved */
+        APPROVED,
+        /** A queued submission was rejected */
+        REJECTED,
+        /** A queued submission left the queue another way, e.g. it was superseded or its entry was approved or deleted */
+        RESOLVED
+    }
+
+    private final Action action;
+    private final SubmissionSummaryDTO submission;
+    private final int pendingCount;
+
+    /**
+     * @param action       How the queue changed
+     * @param submission   The submission that entered or left the queue
+     * @param pendingCount Queue size after the change
+     */
+    public ModerationQueueEvent(Action action, SubmissionSummaryDTO submission, int pendingCount) {
+        this.action = action;
+        this.submission = submission;
+        this.pendingCount = pendingCount;
+    }
+
+    public Action getAction() {
+        return action;
+    }
+
+    public SubmissionSummaryDTO getSubmission() {
+        return submission;
+    }
+
+    /**
+     * @return Number of submissions waiting for review after this change
+     */
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    @Override
+    public HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+}
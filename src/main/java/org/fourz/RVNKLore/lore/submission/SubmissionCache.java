@@ -0,0 +1,154 @@
+package org.fourz.RVNKLore.lore.submission;
+
+import org.fourz.RVNKLore.data.dto.LoreSubmissionDTO;
+import org.fourz.RVNKLore.util.BoundedCache;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Bounded read-through cache for submission reads: single submissions by ID, the version
+ * history of an entry, and the current version of an entry.
+ *
+ * <p>Each cache is limited by entry count and by the amount of content it holds; histories
+ * get half of the content budget and the other two a quarter each. Writes invalidate only
+ * what they change, so approving one entry does not drop the cached submissions of others.
+ */
+public class SubmissionCache {
+    public static final String MAX_ENTRIES_PATH = "storage.submissions.cache.maxEntries";
+    public static final String MAX_CONTENT_KB_PATH = "storage.submissions.cache.maxContentKb";
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+    public static final int DEFAULT_MAX_CONTENT_KB = 4096;
+
+    /** Weight charged per submission on top of its content, for the row's other fields */
+    private static final long ROW_OVERHEAD = 256;
+
+    private final BoundedCache<Integer, LoreSubmissionDTO> byId;
+    private final BoundedCache<String, List<LoreSubmissionDTO>> historyByEntry;
+    private final BoundedCache<String, Optional<LoreSubmissionDTO>> currentByEntry;
+
+    /**
+     * A read of the caches' generations, taken before loading from the database.
+     */
+    public record Generation(long byId, long history, long current) {
+    }
+
+    /**
+     * @param maxEntries      Most submissions (or histories) kept by each cache
+     * @param maxContentChars Total content characters kept across all caches
+     */
+    public SubmissionCache(int maxEntries, long maxContentChars) {
+        this.byId = new BoundedCache<>("submissions", maxEntries, maxContentChars / 4,
+            SubmissionCache::weigh);
+        this.historyByEntry = new BoundedCache<>("histories", maxEntries / 4, maxContentChars / 2,
+            history -> history.stream().mapToLong(SubmissionCache::weigh).sum());
+        this.currentByEntry = new BoundedCache<>("current", maxEntries, maxContentChars / 4,
+            current -> current.map(SubmissionCache::weigh).orElse(ROW_OVERHEAD));
+    }
+
+    public Generation generation() {
+        return new Generation(byId.generation(), historyByEntry.generation(), currentByEntry.generation());
+    }
+
+    public LoreSubmissionDTO getSubmission(int submissionId) {
+        return byId.get(submissionId);
+    }
+
+    public void putSubmission(LoreSubmissionDTO submission, Generation generation) {
+        byId.putIfCurrent(submission.id(), submission, generation.byId());
+    }
+
+    public List<LoreSubmissionDTO> getHistory(String entryId) {
+        return historyByEntry.get(entryId);
+    }
+
+    /**
+     * Cache the full history of an entry, and with it the entry's current version.
+     */
+    public void putHistory(String entryId, List<LoreSubmissionDTO> history, Generation generation) {
+        historyByEntry.putIfCurrent(entryId, List.copyOf(history), generation.history());
+        currentByEntry.putIfCurrent(entryId,
+            history.stream().filter(LoreSubmissionDTO::isCurrentVersion).findFirst(), generation.current());
+    }
+
+    /**
+     * @return The cached current version, an empty optional if the entry is known to have
+     *     none, or null on a miss
+     */
+    public Optional<LoreSubmissionDTO> getCurrent(String entryId) {
+        return currentByEntry.get(entryId);
+    }
+
+    public void putCurrent(String entryId, Optional<LoreSubmissionDTO> current, Generation generation) {
+        currentByEntry.putIfCurrent(entryId, current, generation.current());
+        current.ifPresent(submission -> putSubmission(submission, generation));
+    }
+
+    /**
+     * A new version was added to an entry. Its current version is unchanged.
+     */
+    public void onCreated(String entryId) {
+        historyByEntry.invalidate(entryId);
+    }
+
+    /**
+     * A submission became the current version of its entry, superseding the previous one.
+     */
+    public void onApproved(String entryId, int submissionId) {
+        byId.invalidate(submissionId);
+        historyByEntry.invalidate(entryId);
+        Optional<LoreSubmissionDTO> superseded = currentByEntry.invalidate(entryId);
+        if (superseded != null && superseded.isPresent()) {
+            byId.invalidate(superseded.get().id());
+        } else {
+            // The superseded version is not known here; drop the entry's cached current rows
+            byId.invalidateIf((id, submission) -> submission.isCurrentVersion()
+                && submission.entryId().equals(entryId));
+        }
+    }
+
+    /**
+     * A submission was rejected.
+     */
+    public void onRejected(int submissionId) {
+        LoreSubmissionDTO rejected = byId.invalidate(submissionId);
+        if (rejected != null) {
+            historyByEntry.invalidate(rejected.entryId());
+        } else {
+            historyByEntry.invalidateIf((entryId, history) ->
+                history.stream().anyMatch(submission -> submission.id() == submissionId));
+        }
+        currentByEntry.invalidateIf((entryId, current) ->
+            current.isPresent() && current.get().id() == submissionId);
+    }
+
+    /**
+     * An entry's submissions were changed outside the submission workflow, e.g. edited or
+     * deleted through the lore manager.
+     */
+    public void onEntryChanged(String entryId) {
+        historyByEntry.invalidate(entryId);
+        currentByEntry.invalidate(entryId);
+        byId.invalidateIf((id, submission) -> submission.entryId().equals(entryId));
+    }
+
+    public void clear() {
+        byId.clear();
+        historyByEntry.clear();
+        currentByEntry.clear();
+    }
+
+    public void resetStats() {
+        byId.resetStats();
+        historyByEntry.resetStats();
+        currentByEntry.resetStats();
+    }
+
+    public List<BoundedCache.Stats> stats() {
+        return List.of(byId.stats(), historyByEntry.stats(), currentByEntry.stats());
+    }
+
+    private static long weigh(LoreSubmissionDTO submission) {
+        return ROW_OVERHEAD + (submission.content() != null ? submission.content().length() : 0);
+    }
+}
@@ -1,8 +1,14 @@
 package org.fourz.RVNKLore.lore.submission;
 
+import org.bukkit.Bukkit;
 import org.fourz.RVNKLore.RVNKLore;
 import org.fourz.RVNKLore.data.DatabaseConnection;
+import org.fourz.RVNKLore.data.SubmissionDelta;
+import org.fourz.RVNKLore.data.SubmissionVersionStore;
 import org.fourz.RVNKLore.data.dto.LoreSubmissionDTO;
+import org.fourz.RVNKLore.data.dto.SubmissionSummaryDTO;
+import org.fourz.RVNKLore.lore.LoreChange;
+import org.fourz.RVNKLore.lore.LoreManager;
 import org.fourz.rvnkcore.util.log.LogManager;
 import org.fourz.RVNKLore.lore.LoreSubmission;
 import org.fourz.RVNKLore.service.ISubmissionService;
@@ -11,6 +17,8 @@ import java.sql.*;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 /**
  * Manager for lore submission/approval workflow operations.
@@ -19,7 +27,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * This manager handles:
  * - Creating new submissions for lore entries
  * - Submission approval/rejection workflow
- * - Querying pending submissions
+ * - Querying pending submissions and keeping the in-memory moderation queue
  * - Managing submission versions and history
  */
 public class SubmissionManager implements ISubmissionService {
@@ -28,9 +36,14 @@ public class SubmissionManager implements ISubmissionService {
     private final LogManager logger;
     private volatile boolean fallbackMode = false;
     
-    // Cache for frequently accessed submissions
-    private final Map<Integer, LoreSubmission> submissionCache = new ConcurrentHashMap<>();
-    private final Map<String, List<LoreSubmission>> entrySubmissionsCache = new ConcurrentHashMap<>();
+    // Bounded cache for frequently read submissions, invalidated by each write
+    private final SubmissionCache cache;
+    
+    // Submissions awaiting approval, mirrored from approval_status = 'PENDING'
+    private final ModerationQueue moderationQueue = new ModerationQueue();
+    private final Consumer<LoreChange> loreChangeListener = this::onLoreChange;
+    private final Set<String> entriesToRefresh = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
     
     /**
      * Creates a new SubmissionManager.
@@ -41,6 +54,9 @@ public class SubmissionManager implements ISubmissionService {
         this.plugin = plugin;
         this.logger = LogManager.getInstance(plugin, "SubmissionManager");
         logger.debug("Initializing SubmissionManager...");
+        this.cache = new SubmissionCache(
+            plugin.getConfig().getInt(SubmissionCache.MAX_ENTRIES_PATH, SubmissionCache.DEFAULT_MAX_ENTRIES),
+            plugin.getConfig().getLong(SubmissionCache.MAX_CONTENT_KB_PATH, SubmissionCache.DEFAULT_MAX_CONTENT_KB) * 1024L);
 
         // Verify database availability
         if (plugin.getDatabaseManager() == null || !plugin.getDatabaseManager().isConnected()) {
@@ -49,6 +65,18 @@ public class SubmissionManager implements ISubmissionService {
         }
     }
 
+    /**
+     * Load the moderation queue and follow lore entry changes, since lore entries are
+     * created, approved and deleted outside this manager and carry their own submissions.
+     */
+    public void initialize() {
+        reloadModerationQueue();
+        LoreManager loreManager = plugin.getLoreManager();
+        if (loreManager != null) {
+            loreManager.getChangeFeed().addListener(loreChangeListener);
+        }
+    }
+
     /** Helper to get prefixed table name */
     private String t(String baseName) {
         DatabaseConnection conn = plugin.getDatabaseManager().getDatabaseConnection();
@@ -70,11 +98,9 @@ public class SubmissionManager implements ISubmissionService {
         }
         
         // Check cache first
-        List<LoreSubmission> cached = entrySubmissionsCache.get(entryId);
+        List<LoreSubmissionDTO> cached = cache.getHistory(entryId);
         if (cached != null) {
-            return cached.stream()
-                .map(LoreSubmissionDTO::from)
-                .toList();
+            return cached;
         }
         
         List<LoreSubmission> submissions = new ArrayList<>();
@@ -83,19 +109,30 @@ public class SubmissionManager implements ISubmissionService {
             fallbackMode = true;
             return Collections.emptyList();
         }
+        SubmissionCache.Generation generation = cache.generation();
         
         String sql = "SELECT * FROM " + t("lore_submission") + " WHERE entry_id = ? ORDER BY content_version DESC";
         
         try (Connection conn = dbConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, entryId);
+            List<SubmissionDelta.StoredVersion> stored = new ArrayList<>();
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
                     submissions.add(mapResultSetToSubmission(rs));
+                    stored.add(SubmissionVersionStore.readVersion(rs));
                 }
             }
-            // Update cache
-            entrySubmissionsCache.put(entryId, submissions);
+            // Superseded versions are stored as deltas; rebuild them from this result
+            Map<Integer, String> contents = SubmissionDelta.reconstruct(stored);
+            for (LoreSubmission submission : submissions) {
+                submission.setContent(contents.get(submission.getContentVersion()));
+            }
+            List<LoreSubmissionDTO> history = submissions.stream()
+                .map(LoreSubmissionDTO::from)
+                .toList();
+            cache.putHistory(entryId, history, generation);
+            return history;
         } catch (SQLException e) {
             logger.error("Failed to get submissions for entry: " + entryId, e);
             fallbackMode = true;
@@ -114,9 +151,9 @@ public class SubmissionManager implements ISubmissionService {
      */
     public Optional<LoreSubmissionDTO> getSubmissionSync(int submissionId) {
         // Check cache first
-        LoreSubmission cached = submissionCache.get(submissionId);
+        LoreSubmissionDTO cached = cache.getSubmission(submissionId);
         if (cached != null) {
-            return Optional.of(LoreSubmissionDTO.from(cached));
+            return Optional.of(cached);
         }
         
         DatabaseConnection dbConnection = getDbConnection();
@@ -124,6 +161,7 @@ public class SubmissionManager implements ISubmissionService {
             fallbackMode = true;
             return Optional.empty();
         }
+        SubmissionCache.Generation generation = cache.generation();
         
         String sql = "SELECT * FROM " + t("lore_submission") + " WHERE id = ?";
         
@@ -133,8 +171,12 @@ public class SubmissionManager implements ISubmissionService {
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
                     LoreSubmission submission = mapResultSetToSubmission(rs);
-                    submissionCache.put(submissionId, submission);
-                    return Optional.of(LoreSubmissionDTO.from(submission));
+                    if (isSuperseded(rs)) {
+                        decodeSuperseded(dbConnection, conn, List.of(submission));
+                    }
+                    LoreSubmissionDTO dto = LoreSubmissionDTO.from(submission);
+                    cache.putSubmission(dto, generation);
+                    return Optional.of(dto);
                 }
             }
         } catch (SQLException e) {
@@ -165,45 +207,53 @@ public class SubmissionManager implements ISubmissionService {
             return Optional.empty();
         }
         
-        // Get next version number
-        int nextVersion = getNextVersionNumber(entryId);
-        String slug = "lore-" + entryId + "-v" + nextVersion + "-" + System.currentTimeMillis();
-        
         String sql = "INSERT INTO " + t("lore_submission") + " (entry_id, submitter_uuid, content, slug, " +
                      "content_version, is_current_version, status, approval_status) " +
                      "VALUES (?, ?, ?, ?, ?, FALSE, 'PENDING_APPROVAL', 'PENDING')";
         
-        try (Connection conn = dbConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            stmt.setString(1, entryId);
-            stmt.setString(2, submitterUuid.toString());
-            stmt.setString(3, content);
-            stmt.setString(4, slug);
-            stmt.setInt(5, nextVersion);
-            
-            int affected = stmt.executeUpdate();
-            if (affected > 0) {
-                try (ResultSet keys = stmt.getGeneratedKeys()) {
-                    if (keys.next()) {
-                        int newId = keys.getInt(1);
-                        // Invalidate cache
-                        entrySubmissionsCache.remove(entryId);
-                        // Auto-approve if approval workflow is disabled
-                        if (!plugin.getConfigManager().requireApproval()) {
-                            approveSubmissionSync(newId, submitterUuid);
-                            logger.debug("Auto-approved submission " + newId + " (requireApproval=false)");
+        int newId;
+        try {
+            newId = dbConnection.executeWriteSync(conn -> {
+                // Claim the next version number from the entry's counter
+                int nextVersion = versionStore(dbConnection).claimNextVersion(conn, entryId);
+                String slug = "lore-" + entryId + "-v" + nextVersion + "-" + System.currentTimeMillis();
+
+                try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                    stmt.setString(1, entryId);
+                    stmt.setString(2, submitterUuid.toString());
+                    stmt.setString(3, content);
+                    stmt.setString(4, slug);
+                    stmt.setInt(5, nextVersion);
+
+                    if (stmt.executeUpdate() > 0) {
+                        try (ResultSet keys = stmt.getGeneratedKeys()) {
+                            if (keys.next()) {
+                                return keys.getInt(1);
+                            }
                         }
-                        // Return the new submission
-                        return getSubmissionSync(newId);
                     }
                 }
-            }
-        } catch (SQLException e) {
+                return -1;
+            });
+        } catch (SQLException | RuntimeException e) {
             logger.error("Failed to create submission for entry: " + entryId, e);
             fallbackMode = true;
+            return Optional.empty();
         }
         
-        return Optional.empty();
+        if (newId < 0) {
+            return Optional.empty();
+        }
+        cache.onCreated(entryId);
+        // Auto-approve if approval workflow is disabled, otherwise queue it for staff
+        if (!plugin.getConfigManager().requireApproval()) {
+            approveSubmissionSync(newId, submitterUuid);
+            logger.debug("Auto-approved submission " + newId + " (requireApproval=false)");
+        } else {
+            enqueue(newId);
+        }
+        // Return the new submission
+        return getSubmissionSync(newId);
     }
     
     /**
@@ -227,56 +277,41 @@ public class SubmissionManager implements ISubmissionService {
             return false;
         }
         
-        Connection conn = null;
+        // Approve this submission and mark as current
+        String approveSql = "UPDATE " + t("lore_submission") + " SET approval_status = 'APPROVED', " +
+                           "status = 'ACTIVE', approved_by = ?, approved_at = ?, " +
+                           "is_current_version = TRUE, updated_at = CURRENT_TIMESTAMP " +
+                           "WHERE id = ?";
         try {
-            conn = dbConnection.getConnection();
-            conn.setAutoCommit(false);
-            
-            // Mark previous current version as not current
-            String unsetCurrentSql = "UPDATE " + t("lore_submission") + " SET is_current_version = FALSE " +
-                                     "WHERE entry_id = ? AND is_current_version = TRUE";
-            try (PreparedStatement stmt = conn.prepareStatement(unsetCurrentSql)) {
-                stmt.setString(1, submission.entryId());
-                stmt.executeUpdate();
-            }
-            
-            // Approve this submission and mark as current
-            String approveSql = "UPDATE " + t("lore_submission") + " SET approval_status = 'APPROVED', " +
-                               "status = 'ACTIVE', approved_by = ?, approved_at = ?, " +
-                               "is_current_version = TRUE, updated_at = ? " +
-                               "WHERE id = ?";
-            Timestamp now = new Timestamp(System.currentTimeMillis());
-            try (PreparedStatement stmt = conn.prepareStatement(approveSql)) {
-                stmt.setString(1, approverUuid.toString());
-                stmt.setTimestamp(2, now);
-                stmt.setTimestamp(3, now);
-                stmt.setInt(4, submissionId);
-                stmt.executeUpdate();
-            }
-            
-            conn.commit();
+            List<Integer> superseded = dbConnection.executeWriteSync(conn -> {
+                // The approved version is stored in full, then the previous current version is
+                // superseded and stored as a delta against it
+                SubmissionVersionStore versionStore = versionStore(dbConnection);
+                String content = versionStore.materialize(conn, submissionId);
+                List<Integer> stale = versionStore.supersedeCurrent(conn, submission.entryId(), submissionId,
+                    content, submission.contentVersion());
+
+                try (PreparedStatement stmt = conn.prepareStatement(approveSql)) {
+                    stmt.setString(1, approverUuid.toString());
+                    stmt.setTimestamp(2, new Timestamp(System.currentTimeMillis()));
+                    stmt.setInt(3, submissionId);
+                    stmt.executeUpdate();
+                }
+                return stale;
+            });
             
-            // Invalidate caches
-            submissionCache.remove(submissionId);
-            entrySubmissionsCache.remove(submission.entryId());
+            cache.onApproved(submission.entryId(), submissionId);
+            dequeue(submissionId, ModerationQueueEvent.Action.APPROVED);
+            // Older pending versions of the entry were closed as superseded
+            superseded.forEach(id -> dequeue(id, ModerationQueueEvent.Action.RESOLVED));
             
             logger.debug("Approved submission " + submissionId + " by " + approverUuid);
             return true;
             
-        } catch (SQLException e) {
+        } catch (SQLException | RuntimeException e) {
             logger.error("Failed to approve submission: " + submissionId, e);
             fallbackMode = true;
-            if (conn != null) {
-                try { conn.rollback(); } catch (SQLException ex) { /* ignore */ }
-            }
             return false;
-        } finally {
-            if (conn != null) {
-                try { 
-                    conn.setAutoCommit(true);
-                    conn.close();
-                } catch (SQLException ex) { /* ignore */ }
-            }
         }
     }
     
@@ -295,25 +330,23 @@ public class SubmissionManager implements ISubmissionService {
         }
         
         String sql = "UPDATE " + t("lore_submission") + " SET approval_status = 'REJECTED', " +
-                     "status = 'ARCHIVED', updated_at = ? WHERE id = ?";
-        Timestamp now = new Timestamp(System.currentTimeMillis());
-        
-        try (Connection conn = dbConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setTimestamp(1, now);
-            stmt.setInt(2, submissionId);
-            int affected = stmt.executeUpdate();
+                     "status = 'ARCHIVED', updated_at = CURRENT_TIMESTAMP WHERE id = ?";
+
+        try {
+            int affected = dbConnection.executeWriteSync(conn -> {
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    stmt.setInt(1, submissionId);
+                    return stmt.executeUpdate();
+                }
+            });
             
             if (affected > 0) {
-                // Invalidate cache
-                LoreSubmission cached = submissionCache.remove(submissionId);
-                if (cached != null) {
-                    entrySubmissionsCache.remove(cached.getEntryId());
-                }
+                cache.onRejected(submissionId);
+                dequeue(submissionId, ModerationQueueEvent.Action.REJECTED);
                 logger.debug("Rejected submission " + submissionId + ": " + reason);
                 return true;
             }
-        } catch (SQLException e) {
+        } catch (SQLException | RuntimeException e) {
             logger.error("Failed to reject submission: " + submissionId, e);
             fallbackMode = true;
         }
@@ -353,6 +386,18 @@ public class SubmissionManager implements ISubmissionService {
             .toList();
     }
     
+    /**
+     * Get one page of the moderation queue, oldest first. Served from memory; load the
+     * content of a submission with {@link #getSubmissionSync(int)} when it is opened.
+     *
+     * @param offset Number of queued submissions to skip
+     * @param limit Maximum number of summaries to return
+     * @return Summaries of pending submissions
+     */
+    public List<SubmissionSummaryDTO> getPendingSummariesSync(int offset, int limit) {
+        return moderationQueue.page(offset, limit);
+    }
+    
     /**
      * Get submissions by a specific player (sync internal method).
      *
@@ -377,11 +422,17 @@ public class SubmissionManager implements ISubmissionService {
         try (Connection conn = dbConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, submitterUuid.toString());
+            List<LoreSubmission> superseded = new ArrayList<>();
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
-                    submissions.add(mapResultSetToSubmission(rs));
+                    LoreSubmission submission = mapResultSetToSubmission(rs);
+                    submissions.add(submission);
+                    if (isSuperseded(rs)) {
+                        superseded.add(submission);
+                    }
                 }
             }
+            decodeSuperseded(dbConnection, conn, superseded);
         } catch (SQLException e) {
             logger.error("Failed to get submissions for player: " + submitterUuid, e);
             fallbackMode = true;
@@ -403,22 +454,31 @@ public class SubmissionManager implements ISubmissionService {
             return Optional.empty();
         }
         
+        Optional<LoreSubmissionDTO> cached = cache.getCurrent(entryId);
+        if (cached != null) {
+            return cached;
+        }
+        
         DatabaseConnection dbConnection = getDbConnection();
         if (dbConnection == null) {
             fallbackMode = true;
             return Optional.empty();
         }
+        SubmissionCache.Generation generation = cache.generation();
         
         String sql = "SELECT * FROM " + t("lore_submission") + " WHERE entry_id = ? AND is_current_version = TRUE";
         
         try (Connection conn = dbConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, entryId);
+            Optional<LoreSubmissionDTO> current = Optional.empty();
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return Optional.of(LoreSubmissionDTO.from(mapResultSetToSubmission(rs)));
+                    current = Optional.of(LoreSubmissionDTO.from(mapResultSetToSubmission(rs)));
                 }
             }
+            cache.putCurrent(entryId, current, generation);
+            return current;
         } catch (SQLException e) {
             logger.error("Failed to get current submission for entry: " + entryId, e);
             fallbackMode = true;
@@ -459,6 +519,16 @@ public class SubmissionManager implements ISubmissionService {
         return CompletableFuture.supplyAsync(this::getPendingSubmissionsSync);
     }
     
+    @Override
+    public CompletableFuture<List<SubmissionSummaryDTO>> getPendingSummaries() {
+        return CompletableFuture.completedFuture(moderationQueue.snapshot());
+    }
+    
+    @Override
+    public int getPendingCount() {
+        return moderationQueue.size();
+    }
+    
     @Override
     public CompletableFuture<List<LoreSubmissionDTO>> getSubmissionsByPlayer(UUID submitterUuid) {
         return CompletableFuture.supplyAsync(() -> getSubmissionsByPlayerSync(submitterUuid));
@@ -487,30 +557,173 @@ public class SubmissionManager implements ISubmissionService {
     }
     
     /**
-     * Get the next version number for a lore entry.
+     * Get the in-memory moderation queue.
+     */
+    public ModerationQueue getModerationQueue() {
+        return moderationQueue;
+    }
+    
+    /**
+     * Reload the whole moderation queue from the database.
      */
-    private int getNextVersionNumber(String entryId) {
+    public void reloadModerationQueue() {
         DatabaseConnection dbConnection = getDbConnection();
         if (dbConnection == null) {
-            return 1;
+            return;
         }
-        
-        String sql = "SELECT MAX(content_version) FROM " + t("lore_submission") + " WHERE entry_id = ?";
-        
         try (Connection conn = dbConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, entryId);
+             PreparedStatement stmt = conn.prepareStatement(pendingSummarySql(""));
+             ResultSet rs = stmt.executeQuery()) {
+            List<SubmissionSummaryDTO> pending = new ArrayList<>();
+            while (rs.next()) {
+                pending.add(mapResultSetToSummary(rs));
+            }
+            moderationQueue.replaceAll(pending);
+            logger.debug("Moderation queue loaded: " + pending.size() + " pending submission(s)");
+        } catch (SQLException e) {
+            logger.error("Failed to load moderation queue", e);
+            fallbackMode = true;
+        }
+    }
+    
+    /**
+     * Summary query for pending submissions, served by the (approval_status, submission_date) index.
+     */
+    private String pendingSummarySql(String filter) {
+        return "SELECT s.id, s.entry_id, e.name, e.entry_type, s.submitter_uuid, s.submission_date, " +
+               "s.content_version FROM " + t("lore_submission") + " s " +
+               "JOIN " + t("lore_entry") + " e ON e.id = s.entry_id " +
+               "WHERE s.approval_status = 'PENDING'" + filter + " ORDER BY s.submission_date ASC";
+    }
+    
+    /**
+     * Queue a newly created pending submission and tell staff about it.
+     */
+    private void enqueue(int submissionId) {
+        DatabaseConnection dbConnection = getDbConnection();
+        if (dbConnection == null) {
+            return;
+        }
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(pendingSummarySql(" AND s.id = ?"))) {
+            stmt.setInt(1, submissionId);
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    int max = rs.getInt(1);
-                    return max + 1;
+                    SubmissionSummaryDTO summary = mapResultSetToSummary(rs);
+                    if (moderationQueue.add(summary)) {
+                        fireQueueEvent(ModerationQueueEvent.Action.SUBMITTED, summary);
+                    }
                 }
             }
         } catch (SQLException e) {
-            logger.error("Failed to get next version for entry: " + entryId, e);
+            logger.error("Failed to queue submission: " + submissionId, e);
+        }
+    }
+    
+    private void dequeue(int submissionId, ModerationQueueEvent.Action action) {
+        SubmissionSummaryDTO removed = moderationQueue.remove(submissionId);
+        if (removed != null) {
+            fireQueueEvent(action, removed);
+        }
+    }
+    
+    private void fireQueueEvent(ModerationQueueEvent.Action action, SubmissionSummaryDTO summary) {
+        int pendingCount = moderationQueue.size();
+        plugin.getLoreScheduler().runGlobal(() ->
+            Bukkit.getPluginManager().callEvent(new ModerationQueueEvent(action, summary, pendingCount)));
+    }
+    
+    /**
+     * Drop cached submissions of entries changed through the lore manager and re-read their
+     * pending submissions. Changes are collected and drained by one async task so bulk imports do not flood the pool.
+     */
+    private void onLoreChange(LoreChange change) {
+        if (change.getType() == LoreChange.Type.RELOADED) {
+            cache.clear();
+            plugin.getLoreScheduler().runAsync(this::reloadModerationQueue);
+            return;
+        }
+        if (change.getEntryId() == null) {
+            return;
+        }
+        cache.onEntryChanged(change.getEntryId());
+        entriesToRefresh.add(change.getEntryId());
+        if (refreshScheduled.compareAndSet(false, true)) {
+            plugin.getLoreScheduler().runAsync(this::refreshChangedEntries);
+        }
+    }
+    
+    private void refreshChangedEntries() {
+        refreshScheduled.set(false);
+        DatabaseConnection dbConnection = getDbConnection();
+        if (dbConnection == null || entriesToRefresh.isEmpty()) {
+            return;
+        }
+        try (Connection conn = dbConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(pendingSummarySql(" AND s.entry_id = ?"))) {
+            Iterator<String> it = entriesToRefresh.iterator();
+            while (it.hasNext()) {
+                String entryId = it.next();
+                it.remove();
+                stmt.setString(1, entryId);
+                List<SubmissionSummaryDTO> pending = new ArrayList<>();
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        pending.add(mapResultSetToSummary(rs));
+                    }
+                }
+                ModerationQueue.Changes changes = moderationQueue.replaceEntry(entryId, pending);
+                changes.added().forEach(s -> fireQueueEvent(ModerationQueueEvent.Action.SUBMITTED, s));
+                changes.removed().forEach(s -> fireQueueEvent(ModerationQueueEvent.Action.RESOLVED, s));
+            }
+        } catch (SQLException e) {
+            logger.error("Failed to refresh moderation queue", e);
+        }
+    }
+    
+    private SubmissionSummaryDTO mapResultSetToSummary(ResultSet rs) throws SQLException {
+        return new SubmissionSummaryDTO(
+            rs.getInt("id"),
+            rs.getString("entry_id"),
+            rs.getString("name"),
+            rs.getString("entry_type"),
+            rs.getString("submitter_uuid"),
+            rs.getTimestamp("submission_date"),
+            rs.getInt("content_version")
+        );
+    }
+    
+    private SubmissionVersionStore versionStore(DatabaseConnection dbConnection) {
+        return new SubmissionVersionStore(dbConnection, plugin.getConfig().getInt(
+            SubmissionVersionStore.SNAPSHOT_INTERVAL_PATH, SubmissionVersionStore.DEFAULT_SNAPSHOT_INTERVAL));
+    }
+    
+    /**
+     * Whether a row holds a superseded version stored as a delta or compressed snapshot.
+     */
+    private boolean isSuperseded(ResultSet rs) throws SQLException {
+        String encoding = rs.getString("content_encoding");
+        return encoding != null && !SubmissionDelta.FULL.equals(encoding);
+    }
+    
+    /**
+     * Replace the stored content of superseded submissions with their full content.
+     */
+    private void decodeSuperseded(DatabaseConnection dbConnection, Connection conn,
+                                  List<LoreSubmission> submissions) throws SQLException {
+        if (submissions.isEmpty()) {
+            return;
+        }
+        SubmissionVersionStore versionStore = versionStore(dbConnection);
+        Map<String, Map<Integer, String>> histories = new HashMap<>();
+        for (LoreSubmission submission : submissions) {
+            Map<Integer, String> history = histories.get(submission.getEntryId());
+            if (history == null) {
+                history = versionStore.loadHistory(conn, submission.getEntryId());
+                histories.put(submission.getEntryId(), history);
+            }
+            submission.setContent(history.get(submission.getContentVersion()));
         }
-        
-        return 1;
     }
     
     /**
@@ -539,12 +752,18 @@ public class SubmissionManager implements ISubmissionService {
         );
     }
     
+    /**
+     * Get the submission cache, for its statistics.
+     */
+    public SubmissionCache getCache() {
+        return cache;
+    }
+    
     /**
      * Clear all caches.
      */
     public void clearCaches() {
-        submissionCache.clear();
-        entrySubmissionsCache.clear();
+        cache.clear();
         logger.debug("Submission caches cleared");
     }
     
@@ -552,6 +771,10 @@ public class SubmissionManager implements ISubmissionService {
      * Shutdown and cleanup resources.
      */
     public void shutdown() {
+        LoreManager loreManager = plugin.getLoreManager();
+        if (loreManager != null) {
+            loreManager.getChangeFeed().removeListener(loreChangeListener);
+        }
         clearCaches();
         logger.debug("SubmissionManager shutdown complete");
     }
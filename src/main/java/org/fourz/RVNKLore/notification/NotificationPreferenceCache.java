@@ -0,0 +1,142 @@
+package org.fourz.RVNKLore.notification;
+
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.fourz.RVNKLore.RVNKLore;
+import org.fourz.rvnkcore.RVNKCore;
+import org.fourz.rvnkcore.api.service.PlayerPreferencesService;
+import org.fourz.rvnkcore.util.log.LogManager;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches each online player's notification preferences as a single snapshot.
+ *
+ * <p>The snapshot is loaded when the player joins, with every type and channel lookup
+ * issued together, and is reused for every notification until it expires, the player
+ * changes a preference through {@code /lore prefs}, or the player quits. Expiry picks
+ * up changes made elsewhere (for example quiet hours or RVNKCore's own commands).
+ */
+public class NotificationPreferenceCache implements Listener {
+    static final String PLUGIN_ID = "rvnklore";
+
+    /** Notification types and the channels each one uses. */
+    private static final Map<String, List<String>> CHANNELS = Map.of(
+        "discovery", List.of("TITLE", "ACTION_BAR", "CHAT", "SOUND"),
+        "achievement", List.of("TITLE", "CHAT", "SOUND")
+    );
+
+    private final RVNKLore plugin;
+    private final LogManager logger;
+    private final Map<UUID, CompletableFuture<NotificationPreferences>> snapshots = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+
+    public NotificationPreferenceCache(RVNKLore plugin) {
+        this.plugin = plugin;
+        this.logger = LogManager.getInstance(plugin, "NotificationPreferenceCache");
+        this.ttlMillis = Math.max(0, plugin.getConfig().getLong("notifications.preferenceCacheSeconds", 60)) * 1000L;
+    }
+
+    /**
+     * Start caching preferences for players as they join.
+     */
+    public void initialize() {
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        for (var player : Bukkit.getOnlinePlayers()) {
+            get(player.getUniqueId());
+        }
+    }
+
+    /**
+     * Get a player's preferences, loading them if they are not cached or have expired.
+     *
+     * @return Future with the snapshot, or with null when PlayerPreferencesService is not
+     *     available (callers should use their config defaults)
+     */
+    public CompletableFuture<NotificationPreferences> get(UUID playerId) {
+        PlayerPreferencesService service = RVNKCore.getServiceSafe(PlayerPreferencesService.class);
+        if (service == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<NotificationPreferences> cached = snapshots.get(playerId);
+        if (cached != null && !isExpired(cached)) {
+            return cached;
+        }
+        CompletableFuture<NotificationPreferences> loading = load(service, playerId);
+        if (cached == null ? snapshots.putIfAbsent(playerId, loading) != null : !snapshots.replace(playerId, cached, loading)) {
+            // Another caller started a load first; share it
+            return snapshots.getOrDefault(playerId, loading);
+        }
+        loading.whenComplete((prefs, ex) -> {
+            if (ex != null) {
+                // Do not cache failures; the next notification retries
+                snapshots.remove(playerId, loading);
+            }
+        });
+        return loading;
+    }
+
+    /**
+     * Drop a player's snapshot so the next notification reloads it.
+     * Call after changing the player's preferences.
+     */
+    public void invalidate(UUID playerId) {
+        snapshots.remove(playerId);
+    }
+
+    public void shutdown() {
+        HandlerList.unregisterAll(this);
+        snapshots.clear();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        get(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        invalidate(event.getPlayer().getUniqueId());
+    }
+
+    private boolean isExpired(CompletableFuture<NotificationPreferences> cached) {
+        if (!cached.isDone() || cached.isCompletedExceptionally()) {
+            return false;
+        }
+        NotificationPreferences prefs = cached.join();
+        return prefs != null && System.currentTimeMillis() - prefs.getLoadedAt() > ttlMillis;
+    }
+
+    private CompletableFuture<NotificationPreferences> load(PlayerPreferencesService service, UUID playerId) {
+        Map<String, CompletableFuture<Boolean>> types = new HashMap<>();
+        Map<String, CompletableFuture<Boolean>> channels = new HashMap<>();
+        for (Map.Entry<String, List<String>> type : CHANNELS.entrySet()) {
+            types.put(type.getKey(), service.isNotificationEnabled(playerId, PLUGIN_ID, type.getKey()));
+            for (String channel : type.getValue()) {
+                channels.put(NotificationPreferences.channelKey(type.getKey(), channel),
+                    service.isChannelEnabled(playerId, PLUGIN_ID, type.getKey(), channel));
+            }
+        }
+
+        List<CompletableFuture<Boolean>> all = new ArrayList<>(types.values());
+        all.addAll(channels.values());
+        return CompletableFuture.allOf(all.toArray(new CompletableFuture[0])).thenApply(ignored -> {
+            Map<String, Boolean> typeValues = new HashMap<>();
+            types.forEach((key, future) -> typeValues.put(key, future.join()));
+            Map<String, Boolean> channelValues = new HashMap<>();
+            channels.forEach((key, future) -> channelValues.put(key, future.join()));
+            return new NotificationPreferences(playerId, typeValues, channelValues, System.currentTimeMillis());
+        }).whenComplete((prefs, ex) -> {
+            if (ex != null) {
+                logger.debug("Failed to load notification preferences for " + playerId + ": " + ex.getMessage());
+            }
+        });
+    }
+}
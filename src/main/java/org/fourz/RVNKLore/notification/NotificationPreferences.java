@@ -0,0 +1,53 @@
+package org.fourz.RVNKLore.notification;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of one player's RVNKLore notification preferences.
+ */
+public final class NotificationPreferences {
+    private final UUID playerId;
+    private final Map<String, Boolean> types;
+    private final Map<String, Boolean> channels;
+    private final long loadedAt;
+
+    NotificationPreferences(UUID playerId, Map<String, Boolean> types, Map<String, Boolean> channels, long loadedAt) {
+        this.playerId = playerId;
+        this.types = Map.copyOf(types);
+        this.channels = Map.copyOf(channels);
+        this.loadedAt = loadedAt;
+    }
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    /**
+     * @param type Notification type, e.g. {@code achievement}
+     * @return Whether the player wants notifications of the type (true if unknown)
+     */
+    public boolean isEnabled(String type) {
+        return types.getOrDefault(type, true);
+    }
+
+    /**
+     * @param type Notification type, e.g. {@code achievement}
+     * @param channel Delivery channel, e.g. {@code TITLE}
+     * @return Whether the type is enabled and delivered on the channel (true if unknown)
+     */
+    public boolean isChannelEnabled(String type, String channel) {
+        return isEnabled(type) && channels.getOrDefault(channelKey(type, channel), true);
+    }
+
+    /**
+     * @return Epoch millis when the snapshot was loaded
+     */
+    public long getLoadedAt() {
+        return loadedAt;
+    }
+
+    static String channelKey(String type, String channel) {
+        return type + ":" + channel;
+    }
+}
@@ -1,6 +1,7 @@
 package org.fourz.RVNKLore.service;
 
 import org.fourz.RVNKLore.data.dto.LoreSubmissionDTO;
+import org.fourz.RVNKLore.data.dto.SubmissionSummaryDTO;
 
 import java.util.List;
 import java.util.Optional;
@@ -64,6 +65,23 @@ public interface ISubmissionService {
      */
     CompletableFuture<List<LoreSubmissionDTO>> getPendingSubmissions();
 
+    /**
+     * Get summaries of pending submissions, oldest first, without their content.
+     * Prefer this for list views and load a submission with {@link #getSubmission(int)}
+     * when it is opened.
+     *
+     * @return Future containing the moderation queue
+     */
+    CompletableFuture<List<SubmissionSummaryDTO>> getPendingSummaries();
+
+    /**
+     * Get the number of submissions awaiting approval. Cheap enough to call on every
+     * request; listen for {@code ModerationQueueEvent} to be told when it changes.
+     *
+     * @return Number of pending submissions
+     */
+    int getPendingCount();
+
     /**
      * Get submissions by a specific player.
      *
@@ -0,0 +1,184 @@
+package org.fourz.RVNKLore.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Least-recently-used cache bounded by entry count and by total weight, with hit and miss
+ * counters for diagnostics.
+ *
+ * <p>Read-through callers should take a {@link #generation()} before loading a value and
+ * store it with {@link #putIfCurrent}, so a load that raced an invalidation cannot put the
+ * old value back. Every invalidation advances the generation. Thread-safe.
+ *
+ * @param <K> Key type
+ * @param <V> Value type; values should be immutable
+ */
+public class BoundedCache<K, V> {
+    private final String name;
+    private final int maxEntries;
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+    private final LinkedHashMap<K, Weighted<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long weight;
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    private record Weighted<V>(V value, long weight) {
+    }
+
+    /**
+     * Hit and size counters of a cache at one point in time.
+     */
+    public record Stats(String name, long hits, long misses, long evictions,
+                        int size, int maxEntries, long weight, long maxWeight) {
+        /**
+         * @return Fraction of lookups served from the cache, or 0 before the first lookup
+         */
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0.0 : (double) hits / lookups;
+        }
+    }
+
+    /**
+     * @param name       Name shown in diagnostics
+     * @param maxEntries Most values kept; 0 disables the cache
+     * @param maxWeight  Most total weight kept
+     * @param weigher    Weight of one value, e.g. its content length
+     */
+    public BoundedCache(String name, int maxEntries, long maxWeight, ToLongFunction<V> weigher) {
+        this.name = name;
+        this.maxEntries = Math.max(0, maxEntries);
+        this.maxWeight = Math.max(0, maxWeight);
+        this.weigher = weigher;
+    }
+
+    /**
+     * @return The cached value, or null on a miss
+     */
+    public synchronized V get(K key) {
+        Weighted<V> entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.value();
+    }
+
+    /**
+     * @return The current generation, to pass to {@link #putIfCurrent} after loading
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Cache a value, evicting the least recently used values until the cache is within
+     * its bounds. A value heavier than the whole cache is not kept.
+     */
+    public synchronized void put(K key, V value) {
+        long valueWeight = Math.max(0, weigher.applyAsLong(value));
+        Weighted<V> previous = entries.remove(key);
+        if (previous != null) {
+            weight -= previous.weight();
+        }
+        if (maxEntries == 0 || valueWeight > maxWeight) {
+            return;
+        }
+        entries.put(key, new Weighted<>(value, valueWeight));
+        weight += valueWeight;
+        evict();
+    }
+
+    /**
+     * Cache a loaded value unless the cache was invalidated since the load began.
+     *
+     * @param generation The {@link #generation()} taken before loading
+     * @return Whether the value was cached
+     */
+    public synchronized boolean putIfCurrent(K key, V value, long generation) {
+        if (generation != this.generation) {
+            return false;
+        }
+        put(key, value);
+        return true;
+    }
+
+    /**
+     * Remove one value.
+     *
+     * @return The removed value, or null if it was not cached
+     */
+    public synchronized V invalidate(K key) {
+        generation++;
+        Weighted<V> removed = entries.remove(key);
+        if (removed == null) {
+            return null;
+        }
+        weight -= removed.weight();
+        return removed.value();
+    }
+
+    /**
+     * Remove every value that matches.
+     *
+     * @return Number of values removed
+     */
+    public synchronized int invalidateIf(BiPredicate<K, V> predicate) {
+        generation++;
+        int removed = 0;
+        Iterator<Map.Entry<K, Weighted<V>>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<K, Weighted<V>> entry = it.next();
+            if (predicate.test(entry.getKey(), entry.getValue().value())) {
+                weight -= entry.getValue().weight();
+                it.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Remove every value. Counters are kept.
+     */
+    public synchronized void clear() {
+        generation++;
+        entries.clear();
+        weight = 0;
+    }
+
+    /**
+     * Zero the hit, miss and eviction counters.
+     */
+    public synchronized void resetStats() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(name, hits, misses, evictions, entries.size(), maxEntries, weight, maxWeight);
+    }
+
+    private void evict() {
+        Iterator<Weighted<V>> it = entries.values().iterator();
+        while ((entries.size() > maxEntries || weight > maxWeight) && it.hasNext()) {
+            weight -= it.next().weight();
+            it.remove();
+            evictions++;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.bukkit.plugin.Plugin;
 import org.fourz.RVNKLore.RVNKLore;
 import org.fourz.rvnkcore.util.log.LogManager;
 import org.fourz.RVNKLore.handler.HandlerFactory;
+import org.fourz.RVNKLore.handler.HandlerTimings;
 import org.fourz.RVNKLore.handler.LoreHandler;
 import org.fourz.RVNKLore.lore.LoreEntry;
 import org.fourz.RVNKLore.lore.LoreManager;
@@ -317,9 +318,29 @@ public class DiagnosticUtil {
             if (unloadedCount > 0) {
                 sender.sendMessage(prefix + "  " + unloadedCount + " type(s) not yet accessed (will load on first use)");
             }
+
+            for (String line : describeHandlerTimings(factory.getTimings())) {
+                sender.sendMessage(prefix + line);
+            }
         }
     }
 
+    /**
+     * Describe the most expensive handler event methods, or nothing if timing never ran.
+     */
+    private List<String> describeHandlerTimings(HandlerTimings timings) {
+        List<HandlerTimings.Snapshot> snapshots = timings.snapshot();
+        if (snapshots.isEmpty()) {
+            return List.of();
+        }
+        List<String> lines = new ArrayList<>();
+        lines.add("Handler event timings (" + (timings.isEnabled() ? "recording" : "paused") + "):");
+        for (HandlerTimings.Snapshot snapshot : snapshots.subList(0, Math.min(snapshots.size(), 5))) {
+            lines.add("  " + HandlerTimings.describe(snapshot));
+        }
+        return lines;
+    }
+
     private void addDependencyStatus(CommandSender sender, String prefix) {
         String[] dependencies = plugin.getDescription().getDepend().toArray(new String[0]);
 
@@ -385,6 +406,10 @@ public class DiagnosticUtil {
         } else {
             results.add("WARNING: " + missingHandlers + " lore types are missing handlers");
         }
+
+        if (verbose) {
+            results.addAll(describeHandlerTimings(factory.getTimings()));
+        }
     }
 
     /**
@@ -0,0 +1,255 @@
+package org.fourz.RVNKLore.util;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs plugin startup as a dependency graph of named phases.
+ *
+ * <p>Main-thread phases run on the thread that calls {@link #run()}, in the order they
+ * were added, as soon as their dependencies have finished. Async phases are started on a
+ * short-lived worker pool as soon as their dependencies have finished, so independent
+ * loads overlap and startup takes about as long as its longest dependency chain. The
+ * calling thread waits for async phases only when no main-thread phase is ready.
+ *
+ * <p>Dependencies must be added before the phases that use them, which also rules out
+ * cycles. The first failure stops startup: no further phases are started and
+ * {@link #run()} throws.
+ */
+public class StartupOrchestrator {
+
+    /**
+     * Work done by one phase.
+     */
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    /**
+     * How long a phase took.
+     *
+     * @param name The phase name
+     * @param async Whether the phase ran off the main thread
+     * @param millis Duration in milliseconds
+     */
+    public record PhaseTiming(String name, boolean async, long millis) {
+    }
+
+    private static final class Phase {
+        private final String name;
+        private final boolean async;
+        private final Action action;
+        private final List<Phase> dependencies;
+        private boolean started;
+        private boolean finished;
+        private long millis;
+
+        private Phase(String name, boolean async, Action action, List<Phase> dependencies) {
+            this.name = name;
+            this.async = async;
+            this.action = action;
+            this.dependencies = dependencies;
+        }
+
+        private boolean isReady() {
+            if (started) {
+                return false;
+            }
+            for (Phase dependency : dependencies) {
+                if (!dependency.finished) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private record Completion(Phase phase, long millis, Throwable error) {
+    }
+
+    private final String threadPrefix;
+    private final int maxThreads;
+    private final Map<String, Phase> phases = new LinkedHashMap<>();
+    private final List<PhaseTiming> timings = new ArrayList<>();
+    private long totalMillis;
+
+    /**
+     * @param threadPrefix Name prefix for worker threads
+     * @param maxThreads Upper bound on concurrently running async phases
+     */
+    public StartupOrchestrator(String threadPrefix, int maxThreads) {
+        this.threadPrefix = threadPrefix;
+        this.maxThreads = Math.max(1, maxThreads);
+    }
+
+    /**
+     * Add a phase that runs on the calling thread (for Bukkit registration and other
+     * work that must stay on the main thread).
+     */
+    public StartupOrchestrator phase(String name, Action action, String... dependsOn) {
+        return add(name, false, action, dependsOn);
+    }
+
+    /**
+     * Add a phase that runs on a worker thread (for database loads and other work that
+     * does not touch the Bukkit API).
+     */
+    public StartupOrchestrator asyncPhase(String name, Action action, String... dependsOn) {
+        return add(name, true, action, dependsOn);
+    }
+
+    private StartupOrchestrator add(String name, boolean async, Action action, String... dependsOn) {
+        if (phases.containsKey(name)) {
+            throw new IllegalArgumentException("Duplicate startup phase: " + name);
+        }
+        List<Phase> dependencies = new ArrayList<>(dependsOn.length);
+        for (String dependency : dependsOn) {
+            Phase phase = phases.get(dependency);
+            if (phase == null) {
+                throw new IllegalArgumentException("Startup phase " + name + " depends on unknown phase " + dependency);
+            }
+            dependencies.add(phase);
+        }
+        phases.put(name, new Phase(name, async, action, dependencies));
+        return this;
+    }
+
+    /**
+     * Run every phase.
+     *
+     * @throws Exception The first phase failure; remaining phases are not started
+     */
+    public void run() throws Exception {
+        long start = System.nanoTime();
+        long asyncCount = phases.values().stream().filter(phase -> phase.async).count();
+        ExecutorService executor = asyncCount == 0 ? null : createExecutor((int) Math.min(asyncCount, maxThreads));
+        BlockingQueue<Completion> completions = new LinkedBlockingQueue<>();
+        int remaining = phases.size();
+        int running = 0;
+        try {
+            while (remaining > 0) {
+                // Record async phases that finished while the main thread was busy
+                Completion done;
+                while ((done = completions.poll()) != null) {
+                    running--;
+                    complete(done);
+                    remaining--;
+                }
+                if (remaining == 0) {
+                    break;
+                }
+
+                // Start every async phase that became ready, then run one ready main-thread phase
+                Phase next = null;
+                for (Phase phase : phases.values()) {
+                    if (!phase.isReady()) {
+                        continue;
+                    }
+                    if (phase.async) {
+                        phase.started = true;
+                        running++;
+                        executor.execute(() -> completions.add(execute(phase)));
+                    } else if (next == null) {
+                        next = phase;
+                    }
+                }
+
+                if (next != null) {
+                    next.started = true;
+                    complete(execute(next));
+                    remaining--;
+                } else if (running > 0) {
+                    complete(completions.take());
+                    running--;
+                    remaining--;
+                } else {
+                    throw new IllegalStateException("Startup phases cannot make progress");
+                }
+            }
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+            totalMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @return Timings of the finished phases, in completion order
+     */
+    public List<PhaseTiming> getTimings() {
+        return Collections.unmodifiableList(timings);
+    }
+
+    /**
+     * @return Wall-clock duration of the last {@link #run()}
+     */
+    public long getTotalMillis() {
+        return totalMillis;
+    }
+
+    /**
+     * @return The names of the phases on the longest chain of dependencies, by duration
+     */
+    public List<String> getCriticalPath() {
+        Map<Phase, Long> finish = new HashMap<>();
+        Map<Phase, Phase> previous = new HashMap<>();
+        Phase last = null;
+        for (Phase phase : phases.values()) {
+            if (!phase.finished) {
+                continue;
+            }
+            long ready = 0;
+            for (Phase dependency : phase.dependencies) {
+                long end = finish.getOrDefault(dependency, 0L);
+                if (end >= ready) {
+                    ready = end;
+                    previous.put(phase, dependency);
+                }
+            }
+            finish.put(phase, ready + phase.millis);
+            if (last == null || finish.get(phase) >= finish.get(last)) {
+                last = phase;
+            }
+        }
+        LinkedList<String> path = new LinkedList<>();
+        for (Phase phase = last; phase != null; phase = previous.get(phase)) {
+            path.addFirst(phase.name);
+        }
+        return path;
+    }
+
+    /**
+     * Record a finished phase, or rethrow its failure.
+     */
+    private void complete(Completion completion) throws Exception {
+        if (completion.error != null) {
+            throw completion.error instanceof Exception e ? e : new ExecutionException(completion.error);
+        }
+        completion.phase.finished = true;
+        completion.phase.millis = completion.millis;
+        timings.add(new PhaseTiming(completion.phase.name, completion.phase.async, completion.millis));
+    }
+
+    private static Completion execute(Phase phase) {
+        long start = System.nanoTime();
+        Throwable error = null;
+        try {
+            phase.action.run();
+        } catch (Throwable t) {
+            error = t;
+        }
+        return new Completion(phase, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), error);
+    }
+
+    private ExecutorService createExecutor(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, threadPrefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
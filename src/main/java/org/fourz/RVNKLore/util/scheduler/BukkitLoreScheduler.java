@@ -0,0 +1,82 @@
+package org.fourz.RVNKLore.util.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * {@link LoreScheduler} for servers with a single main thread: every scope runs there.
+ */
+public class BukkitLoreScheduler implements LoreScheduler {
+    private final Plugin plugin;
+
+    public BukkitLoreScheduler(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public void runForEntity(Entity entity, Runnable task, Runnable retired) {
+        Bukkit.getScheduler().runTask(plugin, task);
+    }
+
+    @Override
+    public LoreTask runForEntityLater(Entity entity, Runnable task, long delayTicks) {
+        return wrap(Bukkit.getScheduler().runTaskLater(plugin, task, delayTicks));
+    }
+
+    @Override
+    public void runAtLocation(Location location, Runnable task) {
+        Bukkit.getScheduler().runTask(plugin, task);
+    }
+
+    @Override
+    public void runGlobal(Runnable task) {
+        Bukkit.getScheduler().runTask(plugin, task);
+    }
+
+    @Override
+    public LoreTask runGlobalLater(Runnable task, long delayTicks) {
+        return wrap(Bukkit.getScheduler().runTaskLater(plugin, task, delayTicks));
+    }
+
+    @Override
+    public LoreTask runGlobalTimer(Runnable task, long delayTicks, long periodTicks) {
+        return wrap(Bukkit.getScheduler().runTaskTimer(plugin, task, delayTicks, periodTicks));
+    }
+
+    @Override
+    public void runAsync(Runnable task) {
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, task);
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(Entity entity) {
+        return Bukkit.isPrimaryThread();
+    }
+
+    @Override
+    public boolean isRegionized() {
+        return false;
+    }
+
+    @Override
+    public void cancelAll() {
+        Bukkit.getScheduler().cancelTasks(plugin);
+    }
+
+    private static LoreTask wrap(BukkitTask task) {
+        return new LoreTask() {
+            @Override
+            public void cancel() {
+                task.cancel();
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return task.isCancelled();
+            }
+        };
+    }
+}
@@ -0,0 +1,125 @@
+package org.fourz.RVNKLore.util.scheduler;
+
+import org.bukkit.Location;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Schedules RVNKLore's work on the thread that owns the data it touches.
+ *
+ * <p>On a regular server every scope runs on the main thread. On a region-threaded server
+ * (Folia) an entity's tasks run on the thread of the region the entity is in, a location's
+ * on that location's region and global tasks on the global region, so work for players in
+ * different regions runs in parallel. Code should pick the narrowest scope that fits:
+ * <ul>
+ *   <li>{@link #runForEntity} - anything touching a player or entity (messages, inventory, events)</li>
+ *   <li>{@link #runAtLocation} - blocks or world state at a location</li>
+ *   <li>{@link #runGlobal} - server-wide state such as the lore cache, broadcasts and console commands</li>
+ *   <li>{@link #runAsync} - work that touches no game state</li>
+ * </ul>
+ * Delays and periods are in ticks.
+ */
+public interface LoreScheduler {
+
+    /**
+     * Run a task on the thread that owns the entity.
+     *
+     * @param retired Run instead of the task if the entity is removed first (regionized
+     *                servers only), or null
+     */
+    void runForEntity(Entity entity, Runnable task, Runnable retired);
+
+    default void runForEntity(Entity entity, Runnable task) {
+        runForEntity(entity, task, null);
+    }
+
+    /**
+     * Run a task on the thread that owns the entity after a delay. On a regionized server
+     * the task is dropped if the entity is removed first.
+     */
+    LoreTask runForEntityLater(Entity entity, Runnable task, long delayTicks);
+
+    /**
+     * Run a task on the thread that owns a location.
+     */
+    void runAtLocation(Location location, Runnable task);
+
+    /**
+     * Run a task on the global (main) thread.
+     */
+    void runGlobal(Runnable task);
+
+    LoreTask runGlobalLater(Runnable task, long delayTicks);
+
+    LoreTask runGlobalTimer(Runnable task, long delayTicks, long periodTicks);
+
+    /**
+     * Run a task off the game threads.
+     */
+    void runAsync(Runnable task);
+
+    /**
+     * @return Whether the current thread may touch the entity without scheduling
+     */
+    boolean isOwnedByCurrentThread(Entity entity);
+
+    /**
+     * @return Whether this server runs regions on separate threads
+     */
+    boolean isRegionized();
+
+    /**
+     * Cancel every task this plugin has scheduled.
+     */
+    void cancelAll();
+
+    /**
+     * Run a task where a command sender can be messaged: on the player's thread for players,
+     * otherwise on the global thread.
+     */
+    default void runFor(CommandSender sender, Runnable task) {
+        if (sender instanceof Entity entity) {
+            runForEntity(entity, task);
+        } else {
+            runGlobal(task);
+        }
+    }
+
+    /**
+     * Compute a value on the thread that owns the entity, immediately if that is this thread.
+     *
+     * @return Future completed with the value, or exceptionally if the supplier throws or the
+     *         entity is removed first
+     */
+    default <T> CompletableFuture<T> supplyForEntity(Entity entity, Supplier<T> supplier) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable task = () -> {
+            try {
+                future.complete(supplier.get());
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        };
+        if (isOwnedByCurrentThread(entity)) {
+            task.run();
+        } else {
+            runForEntity(entity, task, () -> future.completeExceptionally(
+                new IllegalStateException("Entity was removed before the task ran")));
+        }
+        return future;
+    }
+
+    /**
+     * Create the scheduler for this server: regionized on Folia, the Bukkit scheduler otherwise.
+     */
+    static LoreScheduler create(Plugin plugin) {
+        if (RegionizedLoreScheduler.isSupported()) {
+            return new RegionizedLoreScheduler(plugin);
+        }
+        return new BukkitLoreScheduler(plugin);
+    }
+}
@@ -0,0 +1,28 @@
+package org.fourz.RVNKLore.util.scheduler;
+
+/**
+ * A delayed or repeating task scheduled through a {@link LoreScheduler}.
+ */
+public interface LoreTask {
+
+    /**
+     * A task that never ran, e.g. one scheduled for an entity that was already removed.
+     */
+    LoreTask CANCELLED = new LoreTask() {
+        @Override
+        public void cancel() {
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return true;
+        }
+    };
+
+    /**
+     * Stop the task from running (again). Does nothing if it already finished.
+     */
+    void cancel();
+
+    boolean isCancelled();
+}
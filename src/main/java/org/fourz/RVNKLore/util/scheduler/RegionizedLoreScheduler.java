@@ -0,0 +1,236 @@
+package org.fourz.RVNKLore.util.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * {@link LoreScheduler} for region-threaded servers (Folia), using their entity, region,
+ * global and async schedulers.
+ *
+ * <p>RVNKLore compiles against the Spigot API, which does not have these schedulers, so they
+ * are looked up reflectively once when this scheduler is created.
+ *
+ * <p>The global and async schedulers can cancel all of a plugin's tasks, but the entity and
+ * region schedulers cannot, so tasks scheduled on those are remembered until they run or
+ * retire and cancelled one by one by {@link #cancelAll()}.
+ */
+public class RegionizedLoreScheduler implements LoreScheduler {
+    private static final String SCHEDULER_PACKAGE = "io.papermc.paper.threadedregions.scheduler.";
+
+    private final Plugin plugin;
+    private final Object globalScheduler;
+    private final Object regionScheduler;
+    private final Object asyncScheduler;
+    private final Set<Object> pendingTasks = ConcurrentHashMap.newKeySet();
+
+    private final Method globalExecute;
+    private final Method globalRunDelayed;
+    private final Method globalRunAtFixedRate;
+    private final Method globalCancelTasks;
+    private final Method regionRun;
+    private final Method asyncRunNow;
+    private final Method asyncCancelTasks;
+    private final Method entityGetScheduler;
+    private final Method entityRunDelayed;
+    private final Method ownedByCurrentRegion;
+    private final Method taskCancel;
+    private final Method taskIsCancelled;
+
+    /**
+     * @return Whether this server is region-threaded
+     */
+    public static boolean isSupported() {
+        try {
+            Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @throws IllegalStateException If the server does not have the regionized scheduler API
+     */
+    public RegionizedLoreScheduler(Plugin plugin) {
+        this.plugin = plugin;
+        try {
+            Class<?> globalClass = Class.forName(SCHEDULER_PACKAGE + "GlobalRegionScheduler");
+            Class<?> regionClass = Class.forName(SCHEDULER_PACKAGE + "RegionScheduler");
+            Class<?> asyncClass = Class.forName(SCHEDULER_PACKAGE + "AsyncScheduler");
+            Class<?> entityClass = Class.forName(SCHEDULER_PACKAGE + "EntityScheduler");
+            Class<?> taskClass = Class.forName(SCHEDULER_PACKAGE + "ScheduledTask");
+
+            this.globalScheduler = Bukkit.class.getMethod("getGlobalRegionScheduler").invoke(null);
+            this.regionScheduler = Bukkit.class.getMethod("getRegionScheduler").invoke(null);
+            this.asyncScheduler = Bukkit.class.getMethod("getAsyncScheduler").invoke(null);
+
+            this.globalExecute = globalClass.getMethod("execute", Plugin.class, Runnable.class);
+            this.globalRunDelayed = globalClass.getMethod("runDelayed", Plugin.class, Consumer.class, long.class);
+            this.globalRunAtFixedRate = globalClass.getMethod("runAtFixedRate", Plugin.class, Consumer.class, long.class, long.class);
+            this.globalCancelTasks = globalClass.getMethod("cancelTasks", Plugin.class);
+            this.regionRun = regionClass.getMethod("run", Plugin.class, Location.class, Consumer.class);
+            this.asyncRunNow = asyncClass.getMethod("runNow", Plugin.class, Consumer.class);
+            this.asyncCancelTasks = asyncClass.getMethod("cancelTasks", Plugin.class);
+            this.entityGetScheduler = Entity.class.getMethod("getScheduler");
+            this.entityRunDelayed = entityClass.getMethod("runDelayed", Plugin.class, Consumer.class, Runnable.class, long.class);
+            this.ownedByCurrentRegion = Bukkit.class.getMethod("isOwnedByCurrentRegion", Entity.class);
+            this.taskCancel = taskClass.getMethod("cancel");
+            this.taskIsCancelled = taskClass.getMethod("isCancelled");
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Regionized scheduler API not available", e);
+        }
+    }
+
+    @Override
+    public void runForEntity(Entity entity, Runnable task, Runnable retired) {
+        Object scheduler = invoke(entityGetScheduler, entity);
+        Object scheduled = schedulePending(task, retired,
+            (consumer, onRetired) -> invoke(entityRunDelayed, scheduler, plugin, consumer, onRetired, 1L));
+        if (scheduled == null && retired != null) {
+            retired.run();
+        }
+    }
+
+    @Override
+    public LoreTask runForEntityLater(Entity entity, Runnable task, long delayTicks) {
+        Object scheduler = invoke(entityGetScheduler, entity);
+        return wrap(schedulePending(task, null, (consumer, onRetired) ->
+            invoke(entityRunDelayed, scheduler, plugin, consumer, onRetired, Math.max(1L, delayTicks))));
+    }
+
+    @Override
+    public void runAtLocation(Location location, Runnable task) {
+        schedulePending(task, null, (consumer, onRetired) -> invoke(regionRun, regionScheduler, plugin, location, consumer));
+    }
+
+    @Override
+    public void runGlobal(Runnable task) {
+        invoke(globalExecute, globalScheduler, plugin, task);
+    }
+
+    @Override
+    public LoreTask runGlobalLater(Runnable task, long delayTicks) {
+        Consumer<Object> consumer = scheduled -> task.run();
+        return wrap(invoke(globalRunDelayed, globalScheduler, plugin, consumer, Math.max(1L, delayTicks)));
+    }
+
+    @Override
+    public LoreTask runGlobalTimer(Runnable task, long delayTicks, long periodTicks) {
+        Consumer<Object> consumer = scheduled -> task.run();
+        return wrap(invoke(globalRunAtFixedRate, globalScheduler, plugin, consumer,
+            Math.max(1L, delayTicks), Math.max(1L, periodTicks)));
+    }
+
+    @Override
+    public void runAsync(Runnable task) {
+        Consumer<Object> consumer = scheduled -> task.run();
+        invoke(asyncRunNow, asyncScheduler, plugin, consumer);
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(Entity entity) {
+        return (boolean) invoke(ownedByCurrentRegion, null, entity);
+    }
+
+    @Override
+    public boolean isRegionized() {
+        return true;
+    }
+
+    @Override
+    public void cancelAll() {
+        invoke(globalCancelTasks, globalScheduler, plugin);
+        invoke(asyncCancelTasks, asyncScheduler, plugin);
+        for (Object task : pendingTasks) {
+            invoke(taskCancel, task);
+        }
+        pendingTasks.clear();
+    }
+
+    /**
+     * Schedule a task on the entity or region scheduler and remember it until it runs or
+     * retires, so {@link #cancelAll()} can cancel it.
+     *
+     * @param schedule Schedules the wrapped task and retired callback; returns the
+     *     ScheduledTask, or null if nothing was scheduled
+     * @return The ScheduledTask, or null if nothing was scheduled
+     */
+    private Object schedulePending(Runnable task, Runnable retired, BiFunction<Consumer<Object>, Runnable, Object> schedule) {
+        AtomicBoolean finished = new AtomicBoolean();
+        AtomicReference<Object> handle = new AtomicReference<>();
+        Runnable finish = () -> {
+            finished.set(true);
+            Object scheduled = handle.get();
+            if (scheduled != null) {
+                pendingTasks.remove(scheduled);
+            }
+        };
+        Consumer<Object> consumer = scheduled -> {
+            try {
+                task.run();
+            } finally {
+                finish.run();
+            }
+        };
+        Runnable onRetired = () -> {
+            finish.run();
+            if (retired != null) {
+                retired.run();
+            }
+        };
+
+        Object scheduled = schedule.apply(consumer, onRetired);
+        if (scheduled != null) {
+            handle.set(scheduled);
+            pendingTasks.add(scheduled);
+            // The task may already have run on another region's thread
+            if (finished.get()) {
+                pendingTasks.remove(scheduled);
+            }
+        }
+        return scheduled;
+    }
+
+    private LoreTask wrap(Object task) {
+        if (task == null) {
+            // The entity was removed before the task could be scheduled
+            return LoreTask.CANCELLED;
+        }
+        return new LoreTask() {
+            @Override
+            public void cancel() {
+                invoke(taskCancel, task);
+                pendingTasks.remove(task);
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return (boolean) invoke(taskIsCancelled, task);
+            }
+        };
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package org.fourz.RVNKLore.achievement;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the bookkeeping of achievement progress writes.
+ */
+@DisplayName("AchievementProgressWriter")
+class AchievementProgressWriterTest {
+
+    private static final UUID PLAYER = UUID.fromString("00000000-0000-0000-0000-000000000004");
+    private static final UUID OTHER = UUID.fromString("00000000-0000-0000-0000-000000000005");
+
+    private final List<CompletableFuture<Boolean>> writes = new ArrayList<>();
+    private final List<List<AchievementProgress>> batches = new ArrayList<>();
+    private AchievementProgressWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new AchievementProgressWriter(batch -> {
+            CompletableFuture<Boolean> write = new CompletableFuture<>();
+            batches.add(List.copyOf(batch));
+            writes.add(write);
+            return write;
+        });
+    }
+
+    private static AchievementProgress progress(UUID playerId, String achievementId, int current) {
+        return new AchievementProgress(playerId, achievementId, current, 10, false, false, 0L, 0L);
+    }
+
+    @Nested
+    @DisplayName("Quit")
+    class Quit {
+
+        @Test
+        @DisplayName("writes only the player's dirty records")
+        void writesDirtyRecords() {
+            AchievementProgress dirty = progress(PLAYER, "explorer", 3);
+            AchievementProgress clean = progress(PLAYER, "scholar", 1);
+            writer.markDirty(List.of(dirty));
+
+            writer.unload(List.of(dirty, clean));
+
+            assertEquals(List.of(List.of(dirty)), batches);
+            assertFalse(writer.isDirty(dirty));
+        }
+
+        @Test
+        @DisplayName("keeps records whose save failed for the next flush and the next load")
+        void saveFailureKeepsRecords() {
+            AchievementProgress record = progress(PLAYER, "explorer", 3);
+            writer.markDirty(List.of(record));
+
+            CompletableFuture<Boolean> saved = writer.unload(List.of(record));
+            writes.get(0).complete(false);
+
+            assertFalse(saved.join());
+            assertTrue(writer.isDirty(record));
+            assertEquals(List.of(record), writer.pendingFor(PLAYER));
+
+            writer.flush();
+            assertEquals(List.of(record), batches.get(1));
+        }
+
+        @Test
+        @DisplayName("keeps records whose save threw")
+        void saveExceptionKeepsRecords() {
+            AchievementProgress record = progress(PLAYER, "explorer", 3);
+            writer.markDirty(List.of(record));
+
+            CompletableFuture<Boolean> saved = writer.unload(List.of(record));
+            writes.get(0).completeExceptionally(new IllegalStateException("database down"));
+
+            assertFalse(saved.join());
+            assertTrue(writer.isDirty(record));
+        }
+
+        @Test
+        @DisplayName("succeeds without writing when nothing is dirty")
+        void nothingDirty() {
+            assertTrue(writer.unload(List.of(progress(PLAYER, "explorer", 3))).join());
+            assertTrue(batches.isEmpty());
+            assertTrue(writer.awaitWrites(PLAYER).isDone());
+        }
+    }
+
+    @Nested
+    @DisplayName("Rejoin")
+    class Rejoin {
+
+        @Test
+        @DisplayName("waits for the quit save before loading")
+        void waitsForQuitSave() {
+            AchievementProgress record = progress(PLAYER, "explorer", 3);
+            writer.markDirty(List.of(record));
+            writer.unload(List.of(record));
+
+            CompletableFuture<Void> ready = writer.awaitWrites(PLAYER);
+            assertFalse(ready.isDone());
+
+            writes.get(0).complete(true);
+            assertTrue(ready.isDone());
+            assertTrue(writer.pendingFor(PLAYER).isEmpty());
+        }
+
+        @Test
+        @DisplayName("waits for a flush that started before the player quit")
+        void waitsForFlushInFlight() {
+            AchievementProgress record = progress(PLAYER, "explorer", 3);
+            writer.markDirty(List.of(record));
+            writer.flush();
+
+            // The flush holds the record, so the quit finds nothing dirty
+            assertTrue(writer.unload(List.of(record)).join());
+
+            CompletableFuture<Void> ready = writer.awaitWrites(PLAYER);
+            assertFalse(ready.isDone());
+            assertTrue(writer.awaitWrites(OTHER).isDone());
+
+            writes.get(0).complete(false);
+            assertTrue(ready.isDone());
+            assertEquals(List.of(record), writer.pendingFor(PLAYER));
+        }
+
+        @Test
+        @DisplayName("completes normally when the write it waited for failed")
+        void awaitNeverFails() {
+            AchievementProgress record = progress(PLAYER, "explorer", 3);
+            writer.save(List.of(record));
+            CompletableFuture<Void> ready = writer.awaitWrites(PLAYER);
+
+            writes.get(0).completeExceptionally(new IllegalStateException("database down"));
+
+            assertFalse(ready.isCompletedExceptionally());
+            assertTrue(ready.isDone());
+        }
+    }
+
+    @Nested
+    @DisplayName("Flush")
+    class Flush {
+
+        @Test
+        @DisplayName("writes every dirty record in one batch and reports the count")
+        void flushesAll() {
+            AchievementProgress first = progress(PLAYER, "explorer", 3);
+            AchievementProgress second = progress(OTHER, "explorer", 5);
+            writer.markDirty(List.of(first, second));
+
+            CompletableFuture<Integer> flushed = writer.flush();
+            writes.get(0).complete(true);
+
+            assertEquals(2, flushed.join());
+            assertEquals(1, batches.size());
+            assertFalse(writer.isDirty(first));
+        }
+
+        @Test
+        @DisplayName("keeps a record changed again while its write was in flight")
+        void changedDuringWrite() {
+            AchievementProgress record = progress(PLAYER, "explorer", 3);
+            writer.markDirty(List.of(record));
+            writer.flush();
+
+            writer.markDirty(List.of(record));
+            writes.get(0).complete(true);
+
+            assertTrue(writer.isDirty(record));
+        }
+
+        @Test
+        @DisplayName("skips the write when nothing is dirty")
+        void emptyFlush() {
+            assertEquals(0, writer.flush().join());
+            assertTrue(batches.isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("drops a revoked record so no retry restores it")
+    void discardRevoked() {
+        AchievementProgress revoked = progress(PLAYER, "explorer", 3);
+        AchievementProgress kept = progress(PLAYER, "scholar", 1);
+        writer.markDirty(List.of(revoked, kept));
+
+        writer.discard(PLAYER, "explorer");
+
+        assertEquals(List.of(kept), writer.pendingFor(PLAYER));
+    }
+}
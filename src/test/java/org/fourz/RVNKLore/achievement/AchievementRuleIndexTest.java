@@ -0,0 +1,90 @@
+package org.fourz.RVNKLore.achievement;
+
+import org.fourz.RVNKLore.lore.LoreCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for indexing achievements by the events that advance them.
+ */
+@DisplayName("AchievementRuleIndex")
+class AchievementRuleIndexTest {
+
+    private AchievementRuleIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new AchievementRuleIndex();
+        index.register(new Achievement.Builder("first", "First", AchievementType.DISCOVERY_COUNT).targetCount(1).build());
+        index.register(new Achievement.Builder("ten", "Ten", AchievementType.DISCOVERY_COUNT).targetCount(10).build());
+        index.register(new Achievement.Builder("items", "Items", AchievementType.CATEGORY_COMPLETE)
+            .targetCategory("item").targetCount(5).build());
+        index.register(new Achievement.Builder("explorer", "Explorer", AchievementType.MULTI_CATEGORY).targetCount(3).build());
+        index.register(new Achievement.Builder("collector", "Collector", AchievementType.COLLECTION_COMPLETE).build());
+        index.register(new Achievement.Builder("dragons", "Dragons", AchievementType.COLLECTION_COMPLETE)
+            .collectionId("dragon_set").build());
+    }
+
+    private static Set<String> ids(List<AchievementRuleIndex.ProgressUpdate> updates) {
+        return updates.stream().map(u -> u.achievement().getId()).collect(Collectors.toSet());
+    }
+
+    @Nested
+    @DisplayName("Discoveries")
+    class Discoveries {
+
+        @Test
+        @DisplayName("Advance discovery counters and the matching category only")
+        void countersAndCategory() {
+            assertEquals(Set.of("first", "ten", "items"), ids(index.evaluateDiscovery(LoreCategory.ITEM, false, 1)));
+            assertEquals(Set.of("first", "ten"), ids(index.evaluateDiscovery(LoreCategory.LOCATION, false, 1)));
+        }
+
+        @Test
+        @DisplayName("A new category sets breadth achievements to the category count")
+        void newCategorySetsBreadth() {
+            AchievementRuleIndex.ProgressUpdate breadth = index.evaluateDiscovery(LoreCategory.NARRATIVE, true, 2).stream()
+                .filter(u -> u.achievement().getId().equals("explorer"))
+                .findFirst()
+                .orElseThrow();
+            assertTrue(breadth.absolute());
+            assertEquals(2, breadth.value());
+        }
+    }
+
+    @Nested
+    @DisplayName("Collections")
+    class CollectionCompletions {
+
+        @Test
+        @DisplayName("Generic collection achievements apply to every collection")
+        void genericApplies() {
+            assertEquals(Set.of("collector"), ids(index.evaluateCollectionComplete("other")));
+        }
+
+        @Test
+        @DisplayName("Targeted achievements apply only to their collection")
+        void targetedApplies() {
+            assertEquals(Set.of("collector", "dragons"), ids(index.evaluateCollectionComplete("dragon_set")));
+        }
+    }
+
+    @Test
+    @DisplayName("Re-registering and unregistering update the index")
+    void registrationUpdatesIndex() {
+        index.register(new Achievement.Builder("ten", "Ten", AchievementType.CUSTOM).build());
+        assertEquals(Set.of("first"), ids(index.evaluateDiscovery(LoreCategory.LOCATION, false, 1)));
+
+        index.unregister("first");
+        assertTrue(index.evaluateDiscovery(LoreCategory.LOCATION, false, 1).isEmpty());
+        assertEquals(1, index.getByType(AchievementType.CUSTOM).size());
+    }
+}
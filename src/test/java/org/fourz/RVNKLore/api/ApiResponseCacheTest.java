@@ -0,0 +1,151 @@
+package org.fourz.RVNKLore.api;
+
+import com.google.gson.Gson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the versioned REST response cache.
+ */
+@DisplayName("ApiResponseCache")
+class ApiResponseCacheTest {
+
+    private static final String KEY = ApiResponseCache.key("entries", 0, 50, true);
+
+    private long now;
+    private ApiResponseCache cache;
+    private AtomicInteger builds;
+
+    @BeforeEach
+    void setUp() {
+        now = 1_000L;
+        cache = new ApiResponseCache(new Gson(), 10, 1_000_000L, 30, 100, () -> now);
+        builds = new AtomicInteger();
+    }
+
+    private ApiResponseCache.CachedResponse get(long version, Object body) {
+        return cache.get(KEY, version, () -> {
+            builds.incrementAndGet();
+            return body;
+        });
+    }
+
+    @Nested
+    @DisplayName("Reuse")
+    class Reuse {
+
+        @Test
+        @DisplayName("reuses a response while its version is unchanged")
+        void reusesSameVersion() {
+            ApiResponseCache.CachedResponse first = get(5, Map.of("a", 1));
+            ApiResponseCache.CachedResponse second = get(5, Map.of("a", 2));
+
+            assertSame(first, second);
+            assertEquals(1, builds.get());
+        }
+
+        @Test
+        @DisplayName("rebuilds with a new ETag when the version changes")
+        void rebuildsOnNewVersion() {
+            ApiResponseCache.CachedResponse first = get(5, Map.of("a", 1));
+            ApiResponseCache.CachedResponse second = get(6, Map.of("a", 2));
+
+            assertNotSame(first, second);
+            assertNotEquals(first.getEtag(), second.getEtag());
+        }
+
+        @Test
+        @DisplayName("rebuilds once the response expires")
+        void rebuildsWhenExpired() {
+            get(5, Map.of("a", 1));
+            now += 30_000L;
+            get(5, Map.of("a", 1));
+
+            assertEquals(2, builds.get());
+        }
+
+        @Test
+        @DisplayName("keeps the ETag when an expired response is rebuilt unchanged")
+        void sameBodySameTag() {
+            ApiResponseCache.CachedResponse first = get(5, Map.of("a", 1));
+            now += 30_000L;
+            ApiResponseCache.CachedResponse second = get(5, Map.of("a", 1));
+
+            assertNotSame(first, second);
+            assertEquals(first.getEtag(), second.getEtag());
+        }
+
+        @Test
+        @DisplayName("evicts responses once their bodies exceed the byte limit")
+        void boundedByBytes() {
+            ApiResponseCache small = new ApiResponseCache(new Gson(), 10, 200, 30, 100, () -> now);
+            for (int page = 0; page < 3; page++) {
+                small.get(ApiResponseCache.key("entries", page), 1, () -> Map.of("text", "lore ".repeat(16)));
+            }
+
+            assertEquals(2, small.stats().size());
+            assertTrue(small.stats().weight() <= 200);
+        }
+
+        @Test
+        @DisplayName("does not cache a failed build")
+        void failureNotCached() {
+            assertThrows(IllegalStateException.class, () -> cache.get(KEY, 1, () -> {
+                throw new IllegalStateException("boom");
+            }));
+            assertEquals(0, cache.stats().size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Conditional requests")
+    class Conditional {
+
+        @Test
+        @DisplayName("matches its own ETag, weak or strong, alone or in a list")
+        void matchesOwnTag() {
+            ApiResponseCache.CachedResponse response = get(5, Map.of("a", 1));
+            String strong = response.getEtag().substring(2);
+
+            assertTrue(response.getEtag().startsWith("W/\""));
+            assertTrue(response.isNotModified(response.getEtag()));
+            assertTrue(response.isNotModified("\"other\", " + strong));
+            assertTrue(response.isNotModified("*"));
+        }
+
+        @Test
+        @DisplayName("does not match another ETag or a missing header")
+        void rejectsOtherTags() {
+            ApiResponseCache.CachedResponse response = get(5, Map.of("a", 1));
+
+            assertFalse(response.isNotModified(null));
+            assertFalse(response.isNotModified("W/\"other\""));
+        }
+    }
+
+    @Test
+    @DisplayName("compresses only bodies above the threshold")
+    void gzipVariant() throws IOException {
+        ApiResponseCache.CachedResponse large = get(5, Map.of("text", "lore ".repeat(200)));
+        byte[] gzip = large.getGzip();
+
+        assertNotNull(gzip);
+        assertTrue(gzip.length < large.getJson().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            assertArrayEquals(large.getJson(), in.readAllBytes());
+        }
+
+        ApiResponseCache.CachedResponse small = cache.get("types", 0, () -> Map.of("a", 1));
+        assertNull(small.getGzip());
+    }
+}
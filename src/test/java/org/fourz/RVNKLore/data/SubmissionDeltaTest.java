@@ -0,0 +1,141 @@
+package org.fourz.RVNKLore.data;
+
+import org.fourz.RVNKLore.data.SubmissionDelta.Encoded;
+import org.fourz.RVNKLore.data.SubmissionDelta.StoredVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the encoding of superseded submission versions.
+ */
+@DisplayName("SubmissionDelta")
+class SubmissionDeltaTest {
+
+    private static final String[] HISTORY = {
+        "{\"description\":\"An old watchtower\",\"world\":\"world\"}",
+        "{\"description\":\"An old stone watchtower\",\"world\":\"world\"}",
+        "{\"description\":\"An old stone watchtower on the cliffs\",\"world\":\"world\"}",
+        "{\"description\":\"An old stone watchtower on the cliffs\",\"world\":\"world_nether\"}",
+        "{\"description\":\"A ruined watchtower \uD83D\uDE00\",\"world\":\"world_nether\"}",
+        "{\"description\":\"A ruined watchtower \uD83D\uDE01\",\"world\":\"world_nether\"}",
+        ""
+    };
+
+    /**
+     * Store HISTORY the way writers do: every version but the last is superseded by the next.
+     */
+    private static List<StoredVersion> store(int snapshotInterval) {
+        List<StoredVersion> stored = new ArrayList<>();
+        for (int i = 0; i < HISTORY.length - 1; i++) {
+            Encoded encoded = SubmissionDelta.encode(HISTORY[i], i + 1, HISTORY[i + 1], i + 2, snapshotInterval);
+            stored.add(new StoredVersion(i + 1, encoded.encoding(), encoded.baseVersion(), encoded.content()));
+        }
+        stored.add(new StoredVersion(HISTORY.length, SubmissionDelta.FULL, null, HISTORY[HISTORY.length - 1]));
+        return stored;
+    }
+
+    @Nested
+    @DisplayName("encode")
+    class Encode {
+
+        @Test
+        @DisplayName("stores small edits as deltas against the newer version")
+        void delta() {
+            Encoded encoded = SubmissionDelta.encode(HISTORY[1], 2, HISTORY[2], 3, 10);
+
+            assertEquals(SubmissionDelta.DELTA, encoded.encoding());
+            assertEquals(Integer.valueOf(3), encoded.baseVersion());
+        }
+
+        @Test
+        @DisplayName("stores a snapshot on every interval boundary")
+        void snapshotInterval() {
+            Encoded encoded = SubmissionDelta.encode(HISTORY[1], 10, HISTORY[2], 11, 10);
+
+            assertEquals(SubmissionDelta.SNAPSHOT, encoded.encoding());
+            assertNull(encoded.baseVersion());
+        }
+
+        @Test
+        @DisplayName("falls back to a snapshot when the delta would not be smaller")
+        void snapshotWhenSmaller() {
+            Encoded encoded = SubmissionDelta.encode(HISTORY[0], 1, "", 2, 10);
+
+            assertEquals(SubmissionDelta.SNAPSHOT, encoded.encoding());
+        }
+
+        @Test
+        @DisplayName("compresses repetitive content")
+        void compresses() {
+            String large = "{\"description\":\"" + "the tower stands ".repeat(500) + "\"}";
+
+            Encoded encoded = SubmissionDelta.encode(large, 1, large.replace("stands", "stood"), 2, 10);
+
+            assertTrue(encoded.content().length() < large.length() / 10);
+        }
+    }
+
+    @Nested
+    @DisplayName("reconstruct")
+    class Reconstruct {
+
+        @Test
+        @DisplayName("rebuilds every version from deltas and snapshots")
+        void history() {
+            for (int interval : new int[] {1, 3, 10}) {
+                Map<Integer, String> contents = SubmissionDelta.reconstruct(store(interval));
+
+                for (int i = 0; i < HISTORY.length; i++) {
+                    assertEquals(HISTORY[i], contents.get(i + 1), "version " + (i + 1) + ", interval " + interval);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("does not split surrogate pairs")
+        void surrogates() {
+            String diff = SubmissionDelta.diff(HISTORY[5], HISTORY[4]);
+
+            assertTrue(diff.contains("\uD83D\uDE00"), diff);
+        }
+
+        @Test
+        @DisplayName("maps versions with a missing base to null")
+        void brokenChain() {
+            Encoded encoded = SubmissionDelta.encode(HISTORY[0], 1, HISTORY[1], 2, 10);
+
+            Map<Integer, String> contents = SubmissionDelta.reconstruct(List.of(
+                new StoredVersion(1, encoded.encoding(), encoded.baseVersion(), encoded.content())));
+
+            assertTrue(contents.containsKey(1));
+            assertNull(contents.get(1));
+        }
+
+        @Test
+        @DisplayName("maps corrupt content to null")
+        void corrupt() {
+            Map<Integer, String> contents = SubmissionDelta.reconstruct(List.of(
+                new StoredVersion(1, SubmissionDelta.SNAPSHOT, null, "not deflated")));
+
+            assertNull(contents.get(1));
+        }
+
+        @Test
+        @DisplayName("passes full and legacy rows through")
+        void full() {
+            Map<Integer, String> contents = SubmissionDelta.reconstruct(List.of(
+                new StoredVersion(1, null, null, "legacy"),
+                new StoredVersion(2, SubmissionDelta.FULL, null, "current")));
+
+            assertEquals("legacy", contents.get(1));
+            assertEquals("current", contents.get(2));
+        }
+    }
+}
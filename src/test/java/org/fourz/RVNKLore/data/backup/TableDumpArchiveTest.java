@@ -0,0 +1,114 @@
+package org.fourz.RVNKLore.data.backup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for verifying logical backup archives before they are kept.
+ */
+@DisplayName("TableDumpArchive verification")
+class TableDumpArchiveTest {
+
+    @TempDir
+    Path dir;
+
+    /**
+     * Write an archive in the dump layout: one NDJSON entry per table and a manifest
+     * with the given row counts.
+     */
+    private File archive(Map<String, String> tables, Map<String, Long> manifestCounts) throws IOException {
+        File file = dir.resolve("backup.zip").toFile();
+        try (ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(file))) {
+            for (Map.Entry<String, String> table : tables.entrySet()) {
+                zip.putNextEntry(new ZipEntry(TableDumpArchive.TABLE_DIR + table.getKey() + ".ndjson"));
+                zip.write(table.getValue().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+            StringBuilder manifest = new StringBuilder("{\"format_version\":" + TableDumpArchive.FORMAT_VERSION + ",\"tables\":{");
+            String separator = "";
+            for (Map.Entry<String, Long> count : manifestCounts.entrySet()) {
+                manifest.append(separator).append('"').append(count.getKey()).append("\":").append(count.getValue());
+                separator = ",";
+            }
+            manifest.append("}}");
+            zip.putNextEntry(new ZipEntry(TableDumpArchive.MANIFEST));
+            zip.write(manifest.toString().getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        return file;
+    }
+
+    private static Map<String, String> tables(String... nameAndRows) {
+        Map<String, String> tables = new LinkedHashMap<>();
+        for (int i = 0; i < nameAndRows.length; i += 2) {
+            tables.put(nameAndRows[i], nameAndRows[i + 1]);
+        }
+        return tables;
+    }
+
+    @Test
+    @DisplayName("An intact archive passes, including an empty table")
+    void intact() throws IOException {
+        File file = archive(
+            tables("lore_entry", "{\"id\":\"a\"}\n{\"id\":\"b\"}\n", "lore_location", ""),
+            Map.of("lore_entry", 2L, "lore_location", 0L));
+
+        assertNull(TableDumpArchive.verify(file, List.of("lore_entry", "lore_location")));
+    }
+
+    @Test
+    @DisplayName("A table the backup must contain is reported missing")
+    void missingTable() throws IOException {
+        File file = archive(tables("lore_entry", "{\"id\":\"a\"}\n"), Map.of("lore_entry", 1L));
+
+        String problem = TableDumpArchive.verify(file, List.of("lore_entry", "player_achievement"));
+        assertNotNull(problem);
+        assertTrue(problem.contains("player_achievement"));
+    }
+
+    @Test
+    @DisplayName("A row count that differs from the manifest is reported")
+    void countMismatch() throws IOException {
+        File file = archive(tables("lore_entry", "{\"id\":\"a\"}\n"), Map.of("lore_entry", 2L));
+
+        String problem = TableDumpArchive.verify(file, List.of("lore_entry"));
+        assertNotNull(problem);
+        assertTrue(problem.contains("Row count mismatch"));
+    }
+
+    @Test
+    @DisplayName("A row that is not a JSON object is reported")
+    void malformedRow() throws IOException {
+        File file = archive(tables("lore_entry", "{\"id\":\"a\"}\n[1,2]\n"), Map.of("lore_entry", 2L));
+
+        String problem = TableDumpArchive.verify(file, List.of("lore_entry"));
+        assertNotNull(problem);
+        assertTrue(problem.contains("Malformed row"));
+    }
+
+    @Test
+    @DisplayName("A truncated archive is unreadable")
+    void truncated() throws IOException {
+        File file = archive(tables("lore_entry", "{\"id\":\"a\"}\n"), Map.of("lore_entry", 1L));
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        Files.write(file.toPath(), Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertNotNull(TableDumpArchive.verify(file, List.of("lore_entry")));
+    }
+}
@@ -0,0 +1,101 @@
+package org.fourz.RVNKLore.data.dialect;
+
+import org.junit.jupiter.api.*;
+
+import java.sql.*;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that SQLite timestamps written by {@code CURRENT_TIMESTAMP} and by
+ * {@code setTimestamp} compare as times against a bound watermark, as incremental
+ * lore reload relies on.
+ *
+ * <p>Runs against an in-memory database; skipped if the SQLite JDBC driver is not on
+ * the test classpath.
+ */
+@DisplayName("SQLite comparable timestamps")
+class SQLiteDialectTimestampTest {
+
+    private static final String SYNC_TS = "COALESCE(updated_at, created_at)";
+
+    private final SQLiteDialect dialect = new SQLiteDialect();
+    private Connection connection;
+
+    @BeforeEach
+    void openDatabase() throws SQLException {
+        try {
+            Class.forName("org.sqlite.JDBC");
+        } catch (ClassNotFoundException e) {
+            Assumptions.abort("SQLite JDBC driver not available");
+        }
+        connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE test_submission (id INTEGER, created_at " + dialect.getTimestampType(true) +
+                ", updated_at " + dialect.getTimestampType(false) + ")");
+            // CURRENT_TIMESTAMP stores UTC text
+            stmt.execute("INSERT INTO test_submission VALUES (1, '2026-01-01 10:00:00', NULL)");
+            stmt.execute("INSERT INTO test_submission VALUES (2, '2026-01-01 09:00:00', '2026-01-01 11:00:00')");
+        }
+        try (PreparedStatement stmt = connection.prepareStatement("INSERT INTO test_submission VALUES (3, '2026-01-01 09:00:00', ?)")) {
+            stmt.setTimestamp(1, utc("2026-01-01T12:00:00Z"));
+            stmt.executeUpdate();
+        }
+    }
+
+    @AfterEach
+    void closeDatabase() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    private static Timestamp utc(String instant) {
+        return Timestamp.from(Instant.parse(instant));
+    }
+
+    private List<Integer> changedSince(Timestamp watermark) throws SQLException {
+        String ts = dialect.getComparableTimestamp(SYNC_TS);
+        List<Integer> ids = new ArrayList<>();
+        try (PreparedStatement stmt = connection.prepareStatement(
+                "SELECT id FROM test_submission WHERE " + ts + " >= ? ORDER BY id")) {
+            stmt.setTimestamp(1, watermark);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getInt(1));
+                }
+            }
+        }
+        return ids;
+    }
+
+    @Test
+    @DisplayName("Rows are compared by time, whichever way they were written")
+    void comparesByTime() throws SQLException {
+        assertEquals(List.of(2, 3), changedSince(utc("2026-01-01T10:30:00Z")));
+        assertEquals(List.of(3), changedSince(utc("2026-01-01T11:00:01Z")));
+    }
+
+    @Test
+    @DisplayName("The watermark is inclusive")
+    void inclusive() throws SQLException {
+        assertEquals(List.of(1, 2, 3), changedSince(utc("2026-01-01T10:00:00Z")));
+    }
+
+    @Test
+    @DisplayName("The expression reads back as the same instant")
+    void readsBack() throws SQLException {
+        String ts = dialect.getComparableTimestamp(SYNC_TS);
+        try (PreparedStatement stmt = connection.prepareStatement(
+                "SELECT " + ts + " AS sync_ts FROM test_submission WHERE id = ?")) {
+            stmt.setInt(1, 2);
+            try (ResultSet rs = stmt.executeQuery()) {
+                assertTrue(rs.next());
+                assertEquals(utc("2026-01-01T11:00:00Z"), rs.getTimestamp("sync_ts"));
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.fourz.RVNKLore.data.io;
+
+import com.google.gson.JsonElement;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for streaming exported lore files back in, compressed or not.
+ */
+@DisplayName("JsonEntryReader")
+class JsonEntryReaderTest {
+
+    @TempDir
+    Path dir;
+
+    private Path write(String name, String content) throws IOException {
+        Path file = dir.resolve(name);
+        try (OutputStream out = Compression.fromFilename(name).wrap(Files.newOutputStream(file))) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return file;
+    }
+
+    private static String ndjson(int count) {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            content.append("{\"id\":\"entry-").append(i).append("\",\"name\":\"Entry ").append(i).append("\"}\n");
+        }
+        return content.toString();
+    }
+
+    @Nested
+    @DisplayName("NDJSON")
+    class Ndjson {
+
+        @Test
+        @DisplayName("Reads a gzip file in chunks without losing or reordering entries")
+        void gzipChunks() throws IOException {
+            Path file = write("lore.ndjson.gz", ndjson(5));
+
+            try (JsonEntryReader reader = new JsonEntryReader(file.toFile(), true)) {
+                assertNull(reader.open());
+                List<JsonElement> first = reader.readChunk(2);
+                List<JsonElement> second = reader.readChunk(2);
+                List<JsonElement> third = reader.readChunk(2);
+
+                assertEquals(2, first.size());
+                assertEquals(2, second.size());
+                assertEquals(1, third.size());
+                assertEquals("entry-0", first.get(0).getAsJsonObject().get("id").getAsString());
+                assertEquals("entry-4", third.get(0).getAsJsonObject().get("id").getAsString());
+                assertTrue(reader.readChunk(2).isEmpty());
+            }
+        }
+
+        @Test
+        @DisplayName("Reads a deflate file")
+        void deflate() throws IOException {
+            Path file = write("lore.ndjson.deflate", ndjson(3));
+
+            try (JsonEntryReader reader = new JsonEntryReader(file.toFile(), true)) {
+                assertNull(reader.open());
+                assertEquals(3, reader.readChunk(10).size());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("JSON document")
+    class Document {
+
+        @Test
+        @DisplayName("Streams the entries array and skips the other fields")
+        void entriesArray() throws IOException {
+            Path file = write("lore.json.gz",
+                "{\"version\":2,\"meta\":{\"count\":2},\"entries\":[{\"id\":\"a\"},{\"id\":\"b\"}]}");
+
+            try (JsonEntryReader reader = new JsonEntryReader(file.toFile(), false)) {
+                assertNull(reader.open());
+                List<JsonElement> entries = reader.readChunk(10);
+                assertEquals(2, entries.size());
+                assertEquals("b", entries.get(1).getAsJsonObject().get("id").getAsString());
+            }
+        }
+
+        @Test
+        @DisplayName("Reports a document without an entries array")
+        void missingEntries() throws IOException {
+            Path file = write("lore.json", "{\"version\":2}");
+
+            try (JsonEntryReader reader = new JsonEntryReader(file.toFile(), false)) {
+                assertNotNull(reader.open());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Compression is chosen by suffix and stripped to the format extension")
+    void compressionSuffix() {
+        assertEquals(Compression.GZIP, Compression.fromFilename("lore.ndjson.GZ"));
+        assertEquals(Compression.NONE, Compression.fromFilename("lore.json"));
+        assertEquals("lore.ndjson", Compression.stripSuffix("lore.ndjson.deflate"));
+        assertEquals(Compression.DEFLATE, Compression.fromFlag("--deflate"));
+        assertNull(Compression.fromFlag("--preview"));
+    }
+}
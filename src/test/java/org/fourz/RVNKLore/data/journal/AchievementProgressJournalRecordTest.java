@@ -0,0 +1,127 @@
+package org.fourz.RVNKLore.data.journal;
+
+import org.fourz.RVNKLore.achievement.AchievementProgress;
+import org.fourz.RVNKLore.data.DatabaseUnavailableException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for replaying journaled achievement progress over newer writes.
+ */
+@DisplayName("AchievementProgressJournalRecord")
+class AchievementProgressJournalRecordTest {
+
+    @TempDir
+    Path dir;
+
+    private final UUID player = UUID.randomUUID();
+
+    /**
+     * Journal the progress to disk and read it back, as replay after a restart would.
+     */
+    private AchievementProgress journalAndRead(AchievementProgress progress) throws IOException {
+        try (JournalFile file = new JournalFile(dir, false)) {
+            file.open();
+            file.append(new AchievementProgressJournalRecord(progress));
+            JournalFile.ScanResult scan = file.read(JournalFile.HEADER_SIZE, 10);
+            return ((AchievementProgressJournalRecord) scan.entries.get(0).record).getProgress();
+        }
+    }
+
+    @Nested
+    @DisplayName("Replay merge")
+    class ReplayMerge {
+
+        @Test
+        @DisplayName("A stale snapshot does not roll back a newer direct write")
+        void staleSnapshotDoesNotRegress() throws IOException {
+            AchievementProgress live = new AchievementProgress(player, "explorer", 2, 5, false, false, 100L, 0L);
+            AchievementProgress journaled = journalAndRead(live);
+
+            // The database comes back and a later save succeeds directly
+            live.setProgress(5);
+            AchievementProgress stored = new AchievementProgress(player, "explorer", live.getCurrentProgress(),
+                live.getTargetProgress(), live.isCompleted(), true, live.getStartedAt(), live.getCompletedAt());
+
+            AchievementProgress replayed = AchievementProgressJournalRecord.merge(stored, journaled);
+
+            assertEquals(5, replayed.getCurrentProgress());
+            assertTrue(replayed.isCompleted());
+            assertTrue(replayed.isRewardsClaimed());
+            assertEquals(stored.getCompletedAt(), replayed.getCompletedAt());
+        }
+
+        @Test
+        @DisplayName("A newer snapshot still moves older stored progress forward")
+        void newerSnapshotAdvances() throws IOException {
+            AchievementProgress journaled = journalAndRead(
+                new AchievementProgress(player, "explorer", 5, 5, true, false, 100L, 900L));
+            AchievementProgress stored = new AchievementProgress(player, "explorer", 1, 5, false, false, 100L, 0L);
+
+            AchievementProgress replayed = AchievementProgressJournalRecord.merge(stored, journaled);
+
+            assertEquals(5, replayed.getCurrentProgress());
+            assertTrue(replayed.isCompleted());
+            assertEquals(900L, replayed.getCompletedAt());
+        }
+
+        @Test
+        @DisplayName("Replaying twice converges on the same row")
+        void idempotent() throws IOException {
+            AchievementProgress journaled = journalAndRead(
+                new AchievementProgress(player, "explorer", 3, 5, false, false, 100L, 0L));
+            AchievementProgress stored = new AchievementProgress(player, "explorer", 4, 5, false, false, 100L, 0L);
+
+            AchievementProgress once = AchievementProgressJournalRecord.merge(stored, journaled);
+            AchievementProgress twice = AchievementProgressJournalRecord.merge(once, journaled);
+
+            assertEquals(4, once.getCurrentProgress());
+            assertEquals(once.getCurrentProgress(), twice.getCurrentProgress());
+            assertEquals(once.isCompleted(), twice.isCompleted());
+            assertEquals(once.getCompletedAt(), twice.getCompletedAt());
+        }
+
+        @Test
+        @DisplayName("Without a stored row the snapshot is written as is")
+        void noStoredRow() throws IOException {
+            AchievementProgress journaled = journalAndRead(
+                new AchievementProgress(player, "explorer", 3, 5, false, false, 100L, 0L));
+
+            assertSame(journaled, AchievementProgressJournalRecord.merge(null, journaled));
+        }
+    }
+
+    @Nested
+    @DisplayName("Connectivity failures")
+    class Connectivity {
+
+        @Test
+        @DisplayName("Connection errors and an unavailable database are retried")
+        void connectivity() {
+            assertTrue(OfflineWriteJournal.isConnectivityFailure(
+                new CompletionException(new SQLTransientConnectionException("pool timeout"))));
+            assertTrue(OfflineWriteJournal.isConnectivityFailure(new SQLException("link failure", "08S01")));
+            assertTrue(OfflineWriteJournal.isConnectivityFailure(
+                new CompletionException(new DatabaseUnavailableException("SQLite writer is shut down"))));
+        }
+
+        @Test
+        @DisplayName("Other failures are not mistaken for connectivity")
+        void otherFailures() {
+            assertFalse(OfflineWriteJournal.isConnectivityFailure(new IllegalStateException("bad state")));
+            assertFalse(OfflineWriteJournal.isConnectivityFailure(new SQLException("constraint", "23000")));
+            assertFalse(OfflineWriteJournal.isConnectivityFailure(new CompletionException(new NullPointerException())));
+        }
+    }
+}
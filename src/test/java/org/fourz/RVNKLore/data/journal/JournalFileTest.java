@@ -0,0 +1,158 @@
+package org.fourz.RVNKLore.data.journal;
+
+import org.fourz.RVNKLore.achievement.AchievementProgress;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the offline write journal file format.
+ */
+@DisplayName("JournalFile")
+class JournalFileTest {
+
+    @TempDir
+    Path dir;
+
+    private static DiscoveryJournalRecord discovery(String entryId) {
+        return new DiscoveryJournalRecord(UUID.randomUUID(), entryId, "LOCATION", "world", 1.0, 64.0, -3.5, false);
+    }
+
+    @Nested
+    @DisplayName("Append and read")
+    class AppendAndRead {
+
+        @Test
+        @DisplayName("Records round-trip in order with increasing sequences")
+        void roundTrip() throws IOException {
+            UUID player = UUID.randomUUID();
+            AchievementProgress progress = new AchievementProgress(player, "explorer", 3, 10, false, false, 100L, 0L);
+
+            try (JournalFile file = new JournalFile(dir, false)) {
+                file.open();
+                assertEquals(1, file.append(discovery("entry-1")));
+                assertEquals(2, file.append(new AchievementProgressJournalRecord(progress)));
+
+                JournalFile.ScanResult scan = file.read(JournalFile.HEADER_SIZE, 10);
+                assertEquals(2, scan.entries.size());
+                assertEquals("entry-1", ((DiscoveryJournalRecord) scan.entries.get(0).record).getEntryId());
+
+                AchievementProgress read = ((AchievementProgressJournalRecord) scan.entries.get(1).record).getProgress();
+                assertEquals(player, read.getPlayerId());
+                assertEquals("explorer", read.getAchievementId());
+                assertEquals(3, read.getCurrentProgress());
+                assertEquals(10, read.getTargetProgress());
+            }
+        }
+
+        @Test
+        @DisplayName("Read honours the batch limit and resume offset")
+        void batchedRead() throws IOException {
+            try (JournalFile file = new JournalFile(dir, false)) {
+                file.open();
+                for (int i = 0; i < 5; i++) {
+                    file.append(discovery("entry-" + i));
+                }
+
+                JournalFile.ScanResult first = file.read(JournalFile.HEADER_SIZE, 2);
+                JournalFile.ScanResult second = file.read(first.nextOffset, 10);
+                assertEquals(2, first.entries.size());
+                assertEquals(3, second.entries.size());
+                assertEquals(3, second.entries.get(0).sequence);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Recovery")
+    class Recovery {
+
+        @Test
+        @DisplayName("Sequence and pending count survive a reopen")
+        void reopen() throws IOException {
+            try (JournalFile file = new JournalFile(dir, false)) {
+                file.open();
+                file.append(discovery("a"));
+                file.append(discovery("b"));
+                file.writeCheckpoint(1);
+            }
+
+            try (JournalFile file = new JournalFile(dir, false)) {
+                file.open();
+                assertEquals(2, file.getLastSequence());
+                assertEquals(1, file.getCheckpoint());
+                assertEquals(1, file.getPendingCount());
+                assertEquals(3, file.append(discovery("c")));
+            }
+        }
+
+        @Test
+        @DisplayName("A torn final frame is truncated on open")
+        void tornTail() throws IOException {
+            Path log = dir.resolve("pending-writes.log");
+            try (JournalFile file = new JournalFile(dir, false)) {
+                file.open();
+                file.append(discovery("a"));
+                file.append(discovery("b"));
+            }
+            long size = Files.size(log);
+            try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+                channel.truncate(size - 3);
+            }
+
+            try (JournalFile file = new JournalFile(dir, false)) {
+                file.open();
+                assertTrue(file.getTruncatedBytes() > 0);
+                assertEquals(1, file.getLastSequence());
+                assertEquals(1, file.read(JournalFile.HEADER_SIZE, 10).entries.size());
+            }
+        }
+
+        @Test
+        @DisplayName("A frame with a bad checksum ends the readable log")
+        void corruptChecksum() throws IOException {
+            Path log = dir.resolve("pending-writes.log");
+            try (JournalFile file = new JournalFile(dir, false)) {
+                file.open();
+                file.append(discovery("a"));
+                file.append(discovery("b"));
+            }
+            byte[] bytes = Files.readAllBytes(log);
+            bytes[bytes.length - 1] ^= 0x5A;
+            Files.write(log, bytes);
+
+            try (JournalFile file = new JournalFile(dir, false)) {
+                file.open();
+                assertEquals(1, file.read(JournalFile.HEADER_SIZE, 10).entries.size());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Compaction only happens once every record is checkpointed")
+    void compactIfDrained() throws IOException {
+        try (JournalFile file = new JournalFile(dir, false)) {
+            file.open();
+            file.append(discovery("a"));
+            file.append(discovery("b"));
+
+            file.writeCheckpoint(1);
+            assertFalse(file.compactIfDrained());
+
+            file.writeCheckpoint(2);
+            assertTrue(file.compactIfDrained());
+            assertTrue(file.read(JournalFile.HEADER_SIZE, 10).entries.isEmpty());
+            assertEquals(3, file.append(discovery("c")));
+        }
+    }
+}
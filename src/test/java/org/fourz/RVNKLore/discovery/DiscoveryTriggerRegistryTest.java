@@ -0,0 +1,121 @@
+package org.fourz.RVNKLore.discovery;
+
+import org.fourz.RVNKLore.discovery.DiscoveryTriggerRegistry.Kind;
+import org.fourz.RVNKLore.lore.LoreEntry;
+import org.fourz.RVNKLore.lore.LoreType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for indexing lore entries by discovery trigger.
+ */
+@DisplayName("DiscoveryTriggerRegistry")
+class DiscoveryTriggerRegistryTest {
+
+    private DiscoveryTriggerRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new DiscoveryTriggerRegistry();
+    }
+
+    private static LoreEntry entry(String id, String name, LoreType type, String trigger) {
+        LoreEntry entry = new LoreEntry(id, name, "", type);
+        entry.setApproved(true);
+        if (trigger != null) {
+            entry.addMetadata(DiscoveryTriggerRegistry.METADATA_KEY, trigger);
+        }
+        return entry;
+    }
+
+    @Nested
+    @DisplayName("Lookup")
+    class Lookup {
+
+        @Test
+        @DisplayName("finds entries by normalized trigger key")
+        void findByKey() {
+            LoreEntry quest = entry("1", "Quest Lore", LoreType.GENERIC, "quest:Dragon_Slayer");
+            LoreEntry boss = entry("2", "Wither Tale", LoreType.GENERIC, "boss:minecraft:wither, item:DIAMOND_SWORD");
+            LoreEntry starter = entry("3", "Welcome", LoreType.GENERIC, "FIRST_JOIN");
+            registry.rebuild(List.of(quest, boss, starter));
+
+            assertEquals(List.of(quest), registry.find(Kind.QUEST, "dragon_slayer", 0));
+            assertEquals(List.of(boss), registry.find(Kind.BOSS, "WITHER", 0));
+            assertEquals(List.of(boss), registry.find(Kind.ITEM, "diamond_sword", 0));
+            assertEquals(List.of(starter), registry.find(Kind.FIRST_JOIN, null, 0));
+            assertTrue(registry.find(Kind.QUEST, "unknown", 0).isEmpty());
+            assertTrue(registry.hasTriggers(Kind.BOSS));
+            assertFalse(registry.hasTriggers(Kind.BIOME));
+        }
+
+        @Test
+        @DisplayName("applies time windows, including ones that wrap past midnight")
+        void timeWindow() {
+            LoreEntry night = entry("1", "Night Quest", LoreType.GENERIC, "quest:moon, time:13000-1000");
+            registry.rebuild(List.of(night));
+
+            assertEquals(List.of(night), registry.find(Kind.QUEST, "moon", 14000));
+            assertEquals(List.of(night), registry.find(Kind.QUEST, "moon", 500));
+            assertTrue(registry.find(Kind.QUEST, "moon", 6000).isEmpty());
+        }
+
+        @Test
+        @DisplayName("matches mobs by entry name, falling back to event names")
+        void mobNames() {
+            LoreEntry named = entry("1", "Grimtooth", LoreType.GENERIC, null);
+            LoreEntry event = entry("2", "Night of the Goblin King", LoreType.EVENT, null);
+            registry.rebuild(List.of(named, event));
+
+            assertEquals(List.of(named), registry.findMob("grimtooth", 0));
+            assertEquals(List.of(event), registry.findMob("Goblin King", 0));
+            assertTrue(registry.findMob("Nobody", 0).isEmpty());
+        }
+
+        @Test
+        @DisplayName("ignores unapproved entries and malformed triggers")
+        void ignored() {
+            LoreEntry hidden = entry("1", "Hidden", LoreType.GENERIC, "FIRST_JOIN");
+            hidden.setApproved(false);
+            registry.rebuild(List.of(hidden));
+
+            assertEquals(0, registry.size());
+            assertTrue(DiscoveryTriggerRegistry.parse("bogus, time:x-y, quest:").keys().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Changes")
+    class Changes {
+
+        @Test
+        @DisplayName("update replaces an entry's triggers")
+        void update() {
+            registry.rebuild(List.of(entry("1", "Lore", LoreType.GENERIC, "FIRST_JOIN")));
+
+            registry.update(entry("1", "Lore", LoreType.GENERIC, "biome:plains"));
+
+            assertTrue(registry.find(Kind.FIRST_JOIN, null, 0).isEmpty());
+            assertFalse(registry.hasTriggers(Kind.FIRST_JOIN));
+            assertEquals(1, registry.find(Kind.BIOME, "minecraft:plains", 0).size());
+        }
+
+        @Test
+        @DisplayName("remove drops every key of the entry")
+        void remove() {
+            registry.rebuild(List.of(entry("1", "Wither Tale", LoreType.GENERIC, "boss:wither")));
+
+            registry.remove("1");
+
+            assertTrue(registry.find(Kind.BOSS, "wither", 0).isEmpty());
+            assertTrue(registry.findMob("Wither Tale", 0).isEmpty());
+            assertFalse(registry.hasTriggers(Kind.BOSS));
+        }
+    }
+}
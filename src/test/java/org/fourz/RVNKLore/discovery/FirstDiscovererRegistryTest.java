@@ -0,0 +1,124 @@
+package org.fourz.RVNKLore.discovery;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the primitive first-discoverer registry.
+ */
+@DisplayName("FirstDiscovererRegistry")
+class FirstDiscovererRegistryTest {
+
+    private FirstDiscovererRegistry registry;
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        registry = new FirstDiscovererRegistry();
+    }
+
+    @Nested
+    @DisplayName("Claims")
+    class Claims {
+
+        @Test
+        @DisplayName("only the first claim of an entry wins")
+        void firstClaimWins() {
+            assertTrue(registry.claim("entry", alice));
+            assertFalse(registry.claim("entry", bob));
+            assertEquals(alice, registry.get("entry"));
+            assertTrue(registry.isClaimed("entry"));
+            assertEquals(1, registry.size());
+        }
+
+        @Test
+        @DisplayName("unknown entries have no discoverer")
+        void unknownEntry() {
+            assertNull(registry.get("missing"));
+            assertFalse(registry.isClaimed("missing"));
+        }
+
+        @Test
+        @DisplayName("release only frees the holder's claim")
+        void release() {
+            registry.claim("entry", alice);
+
+            assertFalse(registry.release("entry", bob));
+            assertTrue(registry.release("entry", alice));
+            assertNull(registry.get("entry"));
+            assertTrue(registry.claim("entry", bob));
+        }
+
+        @Test
+        @DisplayName("exactly one of many concurrent claims wins")
+        void concurrentClaims() throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                for (int round = 0; round < 50; round++) {
+                    String entryId = "entry-" + round;
+                    AtomicInteger wins = new AtomicInteger();
+                    CountDownLatch start = new CountDownLatch(1);
+                    List<Future<?>> claims = new ArrayList<>();
+                    for (int i = 0; i < 8; i++) {
+                        UUID player = UUID.randomUUID();
+                        claims.add(executor.submit(() -> {
+                            start.await();
+                            if (registry.claim(entryId, player)) {
+                                wins.incrementAndGet();
+                            }
+                            return null;
+                        }));
+                    }
+                    start.countDown();
+                    for (Future<?> claim : claims) {
+                        claim.get();
+                    }
+                    assertEquals(1, wins.get());
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Loading")
+    class Loading {
+
+        @Test
+        @DisplayName("set replaces an existing discoverer")
+        void setReplaces() {
+            registry.claim("entry", alice);
+            registry.set("entry", bob);
+
+            assertEquals(bob, registry.get("entry"));
+            assertEquals(1, registry.size());
+        }
+
+        @Test
+        @DisplayName("entries beyond the first page are stored")
+        void manyEntries() {
+            for (int i = 0; i < 3000; i++) {
+                registry.set("entry-" + i, new UUID(i, -i));
+            }
+
+            assertEquals(3000, registry.size());
+            assertEquals(new UUID(2999, -2999), registry.get("entry-2999"));
+            assertEquals(new UUID(0, 0), registry.get("entry-0"));
+        }
+    }
+}
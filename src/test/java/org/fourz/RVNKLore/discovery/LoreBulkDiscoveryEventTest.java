@@ -0,0 +1,91 @@
+package org.fourz.RVNKLore.discovery;
+
+import org.bukkit.entity.Player;
+import org.fourz.RVNKLore.lore.LoreEntry;
+import org.fourz.RVNKLore.lore.LoreType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the event fired when a player discovers several entries together.
+ */
+@DisplayName("LoreBulkDiscoveryEvent")
+class LoreBulkDiscoveryEventTest {
+
+    private Player player;
+    private LoreEntry keep;
+    private LoreEntry bridge;
+    private LoreEntry tower;
+
+    @BeforeEach
+    void setUp() {
+        player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(UUID.fromString("00000000-0000-0000-0000-000000000003"));
+        keep = new LoreEntry("keep", "Keep", "", LoreType.LANDMARK);
+        bridge = new LoreEntry("bridge", "Bridge", "", LoreType.LANDMARK);
+        tower = new LoreEntry("tower", "Tower", "", LoreType.LANDMARK);
+    }
+
+    private LoreBulkDiscoveryEvent event(List<LoreEntry> entries, Set<String> firsts) {
+        return new LoreBulkDiscoveryEvent(player, entries, firsts, DiscoveryTriggerType.CARTOGRAPHY, null);
+    }
+
+    @Test
+    @DisplayName("lists first discoveries in the order the entries were given")
+    void firstDiscoveriesInOrder() {
+        LoreBulkDiscoveryEvent event = event(List.of(keep, bridge, tower), Set.of("tower", "keep"));
+
+        assertEquals(List.of(keep, tower), event.getFirstDiscoveries());
+        assertTrue(event.isFirstDiscovery(keep));
+        assertFalse(event.isFirstDiscovery(bridge));
+    }
+
+    @Test
+    @DisplayName("has no first discoveries when every entry was found before")
+    void noFirstDiscoveries() {
+        LoreBulkDiscoveryEvent event = event(List.of(keep, bridge), Set.of());
+
+        assertTrue(event.getFirstDiscoveries().isEmpty());
+        assertEquals(List.of(keep, bridge), event.getLoreEntries());
+    }
+
+    @Test
+    @DisplayName("exposes the entries and first discoveries read-only")
+    void readOnlyViews() {
+        LoreBulkDiscoveryEvent event = event(new ArrayList<>(List.of(keep)), new HashSet<>(Set.of("keep")));
+
+        assertThrows(UnsupportedOperationException.class, () -> event.getLoreEntries().add(bridge));
+        assertThrows(UnsupportedOperationException.class, () -> event.getFirstDiscoveryIds().add("bridge"));
+    }
+
+    @Test
+    @DisplayName("carries cancellation, notification and message overrides")
+    void listenerOverrides() {
+        LoreBulkDiscoveryEvent event = event(List.of(keep), Set.of());
+
+        assertFalse(event.isCancelled());
+        assertFalse(event.isSuppressNotification());
+        assertNull(event.getCustomMessage());
+
+        event.setCancelled(true);
+        event.setSuppressNotification(true);
+        event.setCustomMessage("Your map reveals the keep");
+
+        assertTrue(event.isCancelled());
+        assertTrue(event.isSuppressNotification());
+        assertEquals("Your map reveals the keep", event.getCustomMessage());
+        assertEquals(player.getUniqueId(), event.getPlayerUuid());
+        assertSame(LoreBulkDiscoveryEvent.getHandlerList(), event.getHandlers());
+    }
+}
@@ -0,0 +1,93 @@
+package org.fourz.RVNKLore.gui.browse;
+
+import org.fourz.RVNKLore.lore.LoreChange;
+import org.fourz.RVNKLore.lore.LoreChangeFeed;
+import org.fourz.RVNKLore.lore.LoreEntry;
+import org.fourz.RVNKLore.lore.LoreType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for a viewer's discovered entries as used by the browse menus.
+ */
+@DisplayName("DiscoveredSet")
+class DiscoveredSetTest {
+
+    private LoreChangeFeed feed;
+    private List<LoreEntry> cache;
+    private LoreBrowseIndex index;
+    private LoreEntry keep;
+    private LoreEntry bridge;
+    private LoreEntry sword;
+
+    @BeforeEach
+    void setUp() {
+        feed = new LoreChangeFeed(64);
+        cache = new ArrayList<>();
+        keep = new LoreEntry("keep", "Keep", "", LoreType.LANDMARK);
+        bridge = new LoreEntry("bridge", "Bridge", "", LoreType.LANDMARK);
+        sword = new LoreEntry("sword", "Sword", "", LoreType.ITEM);
+        cache.addAll(List.of(keep, bridge, sword));
+        index = new LoreBrowseIndex(feed, type -> cache.stream().filter(e -> e.getType() == type).toList());
+    }
+
+    @Test
+    @DisplayName("counts discovered entries per type and overall")
+    void counts() {
+        DiscoveredSet set = index.createDiscoveredSet(List.of("keep", "sword"));
+
+        assertEquals(1, set.getCount(LoreType.LANDMARK));
+        assertEquals(1, set.getCount(LoreType.ITEM));
+        assertEquals(0, set.getCount(LoreType.CITY));
+        assertEquals(2, set.getCount(null));
+    }
+
+    @Test
+    @DisplayName("answers per entry without another lookup")
+    void contains() {
+        DiscoveredSet set = index.createDiscoveredSet(List.of("keep"));
+
+        assertTrue(set.contains(keep));
+        assertFalse(set.contains(bridge));
+        assertFalse(set.contains(sword));
+    }
+
+    @Test
+    @DisplayName("ignores duplicate IDs and entries that are no longer cached")
+    void ignoresUnknownAndDuplicates() {
+        DiscoveredSet set = index.createDiscoveredSet(List.of("keep", "keep", "deleted-entry"));
+
+        assertEquals(1, set.getCount(null));
+        assertEquals(1, set.getCount(LoreType.LANDMARK));
+    }
+
+    @Test
+    @DisplayName("uses an entry's current type after it changes")
+    void followsTypeChanges() {
+        sword.setType(LoreType.ENCHANTMENT);
+        feed.publish(LoreChange.Type.UPDATED, sword);
+
+        DiscoveredSet set = index.createDiscoveredSet(List.of("sword"));
+
+        assertEquals(0, set.getCount(LoreType.ITEM));
+        assertEquals(1, set.getCount(LoreType.ENCHANTMENT));
+        assertTrue(set.contains(sword));
+    }
+
+    @Test
+    @DisplayName("an earlier set keeps its counts when the player discovers more")
+    void immutable() {
+        DiscoveredSet before = index.createDiscoveredSet(List.of("keep"));
+        DiscoveredSet after = index.createDiscoveredSet(List.of("keep", "bridge"));
+
+        assertEquals(1, before.getCount(LoreType.LANDMARK));
+        assertFalse(before.contains(bridge));
+        assertEquals(2, after.getCount(LoreType.LANDMARK));
+    }
+}
@@ -0,0 +1,151 @@
+package org.fourz.RVNKLore.gui.browse;
+
+import org.fourz.RVNKLore.lore.LoreChange;
+import org.fourz.RVNKLore.lore.LoreChangeFeed;
+import org.fourz.RVNKLore.lore.LoreEntry;
+import org.fourz.RVNKLore.lore.LoreType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the sorted browse views kept current from the lore change feed.
+ */
+@DisplayName("LoreBrowseIndex")
+class LoreBrowseIndexTest {
+
+    private LoreChangeFeed feed;
+    private List<LoreEntry> cache;
+    private LoreBrowseIndex index;
+
+    @BeforeEach
+    void setUp() {
+        feed = new LoreChangeFeed(64);
+        cache = new ArrayList<>();
+        index = new LoreBrowseIndex(feed, type -> cache.stream().filter(e -> e.getType() == type).toList());
+    }
+
+    private static LoreEntry entry(String id, String name, LoreType type) {
+        return new LoreEntry(id, name, "", type);
+    }
+
+    private static List<String> names(List<LoreEntry> entries) {
+        return entries.stream().map(LoreEntry::getName).toList();
+    }
+
+    private LoreEntry add(String id, String name, LoreType type) {
+        LoreEntry entry = entry(id, name, type);
+        cache.add(entry);
+        feed.publish(LoreChange.Type.ADDED, entry);
+        return entry;
+    }
+
+    @Test
+    @DisplayName("loads sorted views from the cache on first read")
+    void initialLoad() {
+        cache.add(entry("1", "Keep", LoreType.LANDMARK));
+        cache.add(entry("2", "Sword", LoreType.ITEM));
+        cache.add(entry("3", "Bridge", LoreType.LANDMARK));
+
+        assertEquals(List.of("Bridge", "Keep"), names(index.getView(LoreType.LANDMARK)));
+        assertEquals(List.of("Bridge", "Keep", "Sword"), names(index.getView(null)));
+        assertEquals(3, index.getCount(null));
+        assertEquals(1, index.getCount(LoreType.ITEM));
+    }
+
+    @Nested
+    @DisplayName("Changes")
+    class Changes {
+
+        @BeforeEach
+        void load() {
+            index.getCount(null);
+        }
+
+        @Test
+        @DisplayName("adding entries inserts them in name order")
+        void add() {
+            LoreBrowseIndexTest.this.add("1", "Mill", LoreType.LANDMARK);
+            LoreBrowseIndexTest.this.add("2", "Abbey", LoreType.LANDMARK);
+            LoreBrowseIndexTest.this.add("3", "Lance", LoreType.ITEM);
+
+            assertEquals(List.of("Abbey", "Mill"), names(index.getView(LoreType.LANDMARK)));
+            assertEquals(List.of("Abbey", "Lance", "Mill"), names(index.getView(null)));
+            assertEquals(3, index.getCount(null));
+        }
+
+        @Test
+        @DisplayName("an in-place rename or retype moves the entry under its new key")
+        void updateInPlace() {
+            LoreEntry mill = LoreBrowseIndexTest.this.add("1", "Mill", LoreType.LANDMARK);
+            LoreBrowseIndexTest.this.add("2", "Keep", LoreType.LANDMARK);
+
+            mill.setName("Aqueduct");
+            mill.setType(LoreType.ITEM);
+            feed.publish(LoreChange.Type.UPDATED, mill);
+
+            assertEquals(List.of("Keep"), names(index.getView(LoreType.LANDMARK)));
+            assertEquals(List.of("Aqueduct"), names(index.getView(LoreType.ITEM)));
+            assertEquals(List.of("Aqueduct", "Keep"), names(index.getView(null)));
+            assertEquals(2, index.getCount(null));
+        }
+
+        @Test
+        @DisplayName("removal drops the entry from its views")
+        void remove() {
+            LoreEntry mill = LoreBrowseIndexTest.this.add("1", "Mill", LoreType.LANDMARK);
+            cache.remove(mill);
+            feed.publish(LoreChange.Type.REMOVED, mill);
+
+            assertTrue(index.getView(LoreType.LANDMARK).isEmpty());
+            assertTrue(index.getView(null).isEmpty());
+            assertEquals(0, index.getCount(LoreType.LANDMARK));
+        }
+
+        @Test
+        @DisplayName("a full reload rebuilds the views from the cache")
+        void reload() {
+            LoreBrowseIndexTest.this.add("1", "Mill", LoreType.LANDMARK);
+            cache.clear();
+            cache.add(entry("2", "Harbor", LoreType.CITY));
+            feed.publish(LoreChange.Type.RELOADED, null);
+
+            assertEquals(List.of("Harbor"), names(index.getView(null)));
+            assertEquals(0, index.getCount(LoreType.LANDMARK));
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshots")
+    class Snapshots {
+
+        @Test
+        @DisplayName("a view is reused until its type changes")
+        void reusedUntilChanged() {
+            cache.add(entry("1", "Mill", LoreType.LANDMARK));
+            List<LoreEntry> landmarks = index.getView(LoreType.LANDMARK);
+            List<LoreEntry> items = index.getView(LoreType.ITEM);
+
+            add("2", "Abbey", LoreType.LANDMARK);
+
+            assertSame(items, index.getView(LoreType.ITEM));
+            assertNotSame(landmarks, index.getView(LoreType.LANDMARK));
+        }
+
+        @Test
+        @DisplayName("a snapshot a menu holds is not affected by later changes")
+        void immutable() {
+            List<LoreEntry> before = index.getView(null);
+            add("1", "Mill", LoreType.LANDMARK);
+
+            assertTrue(before.isEmpty());
+            assertThrows(UnsupportedOperationException.class, () -> before.add(entry("2", "Keep", LoreType.LANDMARK)));
+        }
+    }
+}
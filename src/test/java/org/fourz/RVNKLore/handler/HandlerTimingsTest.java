@@ -0,0 +1,109 @@
+package org.fourz.RVNKLore.handler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for per-method handler event timings.
+ */
+@DisplayName("HandlerTimings")
+class HandlerTimingsTest {
+
+    private HandlerTimings timings;
+
+    @BeforeEach
+    void setUp() {
+        timings = new HandlerTimings();
+    }
+
+    @Nested
+    @DisplayName("Histogram buckets")
+    class Buckets {
+
+        @Test
+        @DisplayName("every duration falls inside its bucket's bounds")
+        void bucketBounds() {
+            long[] samples = {0, 1, 3, 4, 7, 8, 999, 1_000, 123_456, 50_000_000, Long.MAX_VALUE};
+            for (long nanos : samples) {
+                int index = HandlerTimings.bucketIndex(nanos);
+                assertTrue(nanos <= HandlerTimings.bucketUpperBound(index), "upper bound of " + nanos);
+                if (index > 0) {
+                    assertTrue(nanos > HandlerTimings.bucketUpperBound(index - 1), "lower bound of " + nanos);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("buckets are at most 25% wide")
+        void bucketPrecision() {
+            int index = HandlerTimings.bucketIndex(1_000_000);
+            long upper = HandlerTimings.bucketUpperBound(index);
+            long lower = HandlerTimings.bucketUpperBound(index - 1) + 1;
+            assertTrue((upper - lower) <= lower / 4);
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshots")
+    class Snapshots {
+
+        @Test
+        @DisplayName("aggregates count, total, percentiles and max")
+        void aggregates() {
+            for (int i = 0; i < 99; i++) {
+                timings.record("A#onEvent", 1_000);
+            }
+            timings.record("A#onEvent", 1_000_000);
+
+            HandlerTimings.Snapshot snapshot = timings.snapshot().get(0);
+
+            assertEquals("A#onEvent", snapshot.key());
+            assertEquals(100, snapshot.count());
+            assertEquals(99 * 1_000 + 1_000_000, snapshot.totalNanos());
+            assertEquals(1_000_000, snapshot.maxNanos());
+            assertTrue(snapshot.p50Nanos() >= 1_000 && snapshot.p50Nanos() < 1_250);
+            assertTrue(snapshot.p99Nanos() >= 1_000 && snapshot.p99Nanos() < 1_250);
+        }
+
+        @Test
+        @DisplayName("orders methods by total time and skips idle ones")
+        void ordering() {
+            timings.timing("Idle#onEvent");
+            timings.record("Cheap#onEvent", 10);
+            timings.record("Costly#onEvent", 10_000);
+
+            List<HandlerTimings.Snapshot> snapshots = timings.snapshot();
+
+            assertEquals(2, snapshots.size());
+            assertEquals("Costly#onEvent", snapshots.get(0).key());
+            assertEquals("Cheap#onEvent", snapshots.get(1).key());
+        }
+
+        @Test
+        @DisplayName("reset zeroes counters but keeps timings for registered executors")
+        void reset() {
+            HandlerTimings.Timing timing = timings.timing("A#onEvent");
+            timing.record(500);
+
+            timings.reset();
+            assertTrue(timings.snapshot().isEmpty());
+
+            timing.record(700);
+            assertEquals(700, timings.snapshot().get(0).maxNanos());
+        }
+    }
+
+    @Test
+    @DisplayName("formats durations in the largest fitting unit")
+    void formatNanos() {
+        assertEquals("850ns", HandlerTimings.formatNanos(850));
+        assertEquals("42.0\u00b5s", HandlerTimings.formatNanos(42_000).replace(',', '.'));
+        assertEquals("3.25ms", HandlerTimings.formatNanos(3_250_000).replace(',', '.'));
+    }
+}
@@ -0,0 +1,121 @@
+package org.fourz.RVNKLore.lore;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the sequenced lore change feed.
+ */
+@DisplayName("LoreChangeFeed")
+class LoreChangeFeedTest {
+
+    @Test
+    @DisplayName("Sequences start at 1 and increase monotonically")
+    void sequencesIncrease() {
+        LoreChangeFeed feed = new LoreChangeFeed(8);
+        assertEquals(0, feed.getLatestSequence());
+
+        assertEquals(1, feed.publish(LoreChange.Type.RELOADED, null).getSequence());
+        assertEquals(2, feed.publish(LoreChange.Type.RELOADED, null).getSequence());
+        assertEquals(2, feed.getLatestSequence());
+    }
+
+    @Test
+    @DisplayName("changesSince returns only newer changes, oldest first")
+    void changesSince() {
+        LoreChangeFeed feed = new LoreChangeFeed(8);
+        for (int i = 0; i < 5; i++) {
+            feed.publish(LoreChange.Type.RELOADED, null);
+        }
+
+        LoreChangeFeed.ChangeSet set = feed.changesSince(2);
+        assertFalse(set.isResyncRequired());
+        assertEquals(5, set.getLatestSequence());
+        assertEquals(List.of(3L, 4L, 5L), set.getChanges().stream().map(LoreChange::getSequence).toList());
+        assertTrue(feed.changesSince(5).getChanges().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Falling behind the ring buffer requires a resync")
+    void overflowRequiresResync() {
+        LoreChangeFeed feed = new LoreChangeFeed(4);
+        for (int i = 0; i < 10; i++) {
+            feed.publish(LoreChange.Type.RELOADED, null);
+        }
+
+        assertTrue(feed.changesSince(5).isResyncRequired());
+        LoreChangeFeed.ChangeSet set = feed.changesSince(6);
+        assertFalse(set.isResyncRequired());
+        assertEquals(4, set.getChanges().size());
+        assertEquals(7, set.getChanges().get(0).getSequence());
+    }
+
+    @Test
+    @DisplayName("A sequence from the future (e.g. before a restart) requires a resync")
+    void futureSequenceRequiresResync() {
+        LoreChangeFeed feed = new LoreChangeFeed(4);
+        feed.publish(LoreChange.Type.RELOADED, null);
+        assertTrue(feed.changesSince(42).isResyncRequired());
+    }
+
+    @Test
+    @DisplayName("Listeners receive every published change")
+    void listeners() {
+        LoreChangeFeed feed = new LoreChangeFeed(4);
+        List<LoreChange> received = new ArrayList<>();
+        feed.addListener(received::add);
+
+        feed.publish(LoreChange.Type.RELOADED, null);
+        feed.publish(LoreChange.Type.RELOADED, null);
+        assertEquals(2, received.size());
+        assertNull(received.get(0).getEntryId());
+    }
+
+    @Test
+    @DisplayName("Entry listeners also receive the changed entry")
+    void entryListeners() {
+        LoreChangeFeed feed = new LoreChangeFeed(4);
+        List<LoreEntry> received = new ArrayList<>();
+        feed.addEntryListener((change, entry) -> received.add(entry));
+        LoreEntry entry = new LoreEntry("1", "Mill", "", LoreType.LANDMARK);
+
+        feed.publish(LoreChange.Type.ADDED, entry);
+        feed.publish(LoreChange.Type.RELOADED, null);
+        assertEquals(2, received.size());
+        assertSame(entry, received.get(0));
+        assertNull(received.get(1));
+    }
+
+    @Test
+    @DisplayName("Concurrent publishers notify listeners in sequence order")
+    void listenersInSequenceOrder() throws InterruptedException {
+        LoreChangeFeed feed = new LoreChangeFeed(4);
+        List<Long> received = Collections.synchronizedList(new ArrayList<>());
+        feed.addListener(change -> received.add(change.getSequence()));
+
+        List<Thread> publishers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread publisher = new Thread(() -> {
+                for (int i = 0; i < 500; i++) {
+                    feed.publish(LoreChange.Type.RELOADED, null);
+                }
+            });
+            publishers.add(publisher);
+            publisher.start();
+        }
+        for (Thread publisher : publishers) {
+            publisher.join();
+        }
+
+        assertEquals(2000, received.size());
+        for (int i = 0; i < received.size(); i++) {
+            assertEquals(i + 1L, received.get(i));
+        }
+    }
+}
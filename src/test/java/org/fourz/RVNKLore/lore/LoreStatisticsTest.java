@@ -0,0 +1,194 @@
+package org.fourz.RVNKLore.lore;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the incrementally maintained lore statistics.
+ */
+@DisplayName("LoreStatistics")
+class LoreStatisticsTest {
+
+    private LoreChangeFeed feed;
+    private List<LoreEntry> cache;
+    private LoreStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        feed = new LoreChangeFeed(64);
+        cache = new ArrayList<>();
+        statistics = new LoreStatistics(feed, () -> cache);
+    }
+
+    private static LoreEntry entry(String id, String name, LoreType type, boolean approved) {
+        LoreEntry entry = new LoreEntry(id, name, "", type);
+        entry.setApproved(approved);
+        return entry;
+    }
+
+    private static List<String> names(List<LoreEntry> entries) {
+        return entries.stream().map(LoreEntry::getName).toList();
+    }
+
+    private void add(LoreEntry entry) {
+        cache.add(entry);
+        feed.publish(LoreChange.Type.ADDED, entry);
+    }
+
+    @Test
+    @DisplayName("loads counts from the cache on first read")
+    void initialLoad() {
+        cache.add(entry("1", "Keep", LoreType.LANDMARK, true));
+        cache.add(entry("2", "Sword", LoreType.ITEM, false));
+        cache.add(entry("3", "Bridge", LoreType.LANDMARK, true));
+
+        LoreStatistics.Snapshot snapshot = statistics.snapshot();
+        assertEquals(3, snapshot.total());
+        assertEquals(2, snapshot.approved());
+        assertEquals(1, snapshot.pending());
+        assertEquals(2, snapshot.byType().get(LoreType.LANDMARK));
+        assertEquals(2, snapshot.byCategory().get(LoreCategory.LOCATION));
+        assertEquals(1, snapshot.byCategory().get(LoreCategory.ITEM));
+        assertEquals(List.of("Bridge", "Keep"), names(statistics.getApprovedPage(null, 0, 10)));
+    }
+
+    @Nested
+    @DisplayName("Changes")
+    class Changes {
+
+        @BeforeEach
+        void load() {
+            statistics.getTotalCount();
+        }
+
+        @Test
+        @DisplayName("adding an approved entry inserts it in name order")
+        void addApproved() {
+            add(entry("1", "Mill", LoreType.LANDMARK, true));
+            add(entry("2", "Abbey", LoreType.LANDMARK, true));
+            add(entry("3", "Zither", LoreType.ITEM, true));
+
+            assertEquals(List.of("Abbey", "Mill", "Zither"), names(statistics.getApprovedPage(null, 0, 10)));
+            assertEquals(List.of("Mill"), names(statistics.getApprovedPage(null, 1, 1)));
+            assertEquals(List.of("Zither"), names(statistics.getApprovedPage(LoreType.ITEM, 0, 10)));
+            assertEquals(2, statistics.getApprovedCount(LoreType.LANDMARK));
+        }
+
+        @Test
+        @DisplayName("approval moves an entry from pending to approved")
+        void approve() {
+            LoreEntry entry = entry("1", "Mill", LoreType.LANDMARK, false);
+            add(entry);
+            assertEquals(0, statistics.getApprovedCount());
+
+            entry.setApproved(true);
+            feed.publish(LoreChange.Type.APPROVED, entry);
+
+            assertEquals(1, statistics.getTotalCount());
+            assertEquals(1, statistics.getApprovedCount());
+            assertEquals(List.of("Mill"), names(statistics.getApprovedPage(null, 0, 10)));
+        }
+
+        @Test
+        @DisplayName("an in-place rename or retype is counted under the new values")
+        void updateInPlace() {
+            LoreEntry entry = entry("1", "Mill", LoreType.LANDMARK, true);
+            add(entry);
+            add(entry("2", "Keep", LoreType.LANDMARK, true));
+
+            entry.setName("Aqueduct");
+            entry.setType(LoreType.ITEM);
+            feed.publish(LoreChange.Type.UPDATED, entry);
+
+            assertEquals(1, statistics.getCount(LoreType.LANDMARK));
+            assertEquals(1, statistics.getCount(LoreType.ITEM));
+            assertEquals(List.of("Aqueduct", "Keep"), names(statistics.getApprovedPage(null, 0, 10)));
+            assertEquals(List.of("Keep"), names(statistics.getApprovedPage(LoreType.LANDMARK, 0, 10)));
+        }
+
+        @Test
+        @DisplayName("removal drops the entry from every count")
+        void remove() {
+            LoreEntry entry = entry("1", "Mill", LoreType.LANDMARK, true);
+            add(entry);
+            cache.remove(entry);
+            feed.publish(LoreChange.Type.REMOVED, entry);
+
+            assertEquals(0, statistics.getTotalCount());
+            assertEquals(0, statistics.getCount(LoreCategory.LOCATION));
+            assertTrue(statistics.getApprovedPage(null, 0, 10).isEmpty());
+        }
+
+        @Test
+        @DisplayName("counts entries by world")
+        void byWorld() {
+            World world = mock(World.class);
+            when(world.getName()).thenReturn("world");
+            Location location = mock(Location.class);
+            when(location.getWorld()).thenReturn(world);
+            LoreEntry entry = entry("1", "Mill", LoreType.LANDMARK, true);
+            entry.setLocation(location);
+
+            add(entry);
+            assertEquals(Map.of("world", 1), statistics.snapshot().byWorld());
+
+            cache.remove(entry);
+            feed.publish(LoreChange.Type.REMOVED, entry);
+            assertTrue(statistics.snapshot().byWorld().isEmpty());
+        }
+
+        @Test
+        @DisplayName("a full reload rebuilds from the cache")
+        void reload() {
+            add(entry("1", "Mill", LoreType.LANDMARK, true));
+            cache.clear();
+            cache.add(entry("2", "Keep", LoreType.CITY, false));
+            feed.publish(LoreChange.Type.RELOADED, null);
+
+            assertEquals(1, statistics.getTotalCount());
+            assertEquals(0, statistics.getApprovedCount());
+            assertEquals(1, statistics.getCount(LoreType.CITY));
+        }
+    }
+
+    @Test
+    @DisplayName("pages past the end are empty")
+    void pageBounds() {
+        cache.add(entry("1", "Keep", LoreType.LANDMARK, true));
+
+        assertTrue(statistics.getApprovedPage(null, 5, 10).isEmpty());
+        assertTrue(statistics.getApprovedPage(null, 0, 0).isEmpty());
+        assertEquals(1, statistics.getApprovedPage(null, 0, Integer.MAX_VALUE).size());
+    }
+
+    @Test
+    @DisplayName("reports a change as applied only once it is counted")
+    void appliedSequence() {
+        LoreChangeFeed ordered = new LoreChangeFeed(8);
+        LoreStatistics[] holder = new LoreStatistics[1];
+        List<Long> seenByEarlierListener = new ArrayList<>();
+        ordered.addEntryListener((change, entry) -> seenByEarlierListener.add(holder[0].getAppliedSequence()));
+        holder[0] = new LoreStatistics(ordered, () -> cache);
+        assertEquals(0, holder[0].getAppliedSequence());
+
+        LoreEntry entry = entry("1", "Mill", LoreType.LANDMARK, true);
+        cache.add(entry);
+        ordered.publish(LoreChange.Type.ADDED, entry);
+        ordered.publish(LoreChange.Type.UPDATED, entry);
+
+        assertEquals(List.of(0L, 1L), seenByEarlierListener);
+        assertEquals(2, holder[0].getAppliedSequence());
+    }
+}
@@ -0,0 +1,147 @@
+package org.fourz.RVNKLore.lore;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the name-sorted lore views shared by the statistics and the browse index.
+ */
+@DisplayName("SortedLoreViews")
+class SortedLoreViewsTest {
+
+    private SortedLoreViews views;
+    private LoreEntry keep;
+    private LoreEntry bridge;
+    private LoreEntry sword;
+
+    @BeforeEach
+    void setUp() {
+        views = new SortedLoreViews();
+        keep = new LoreEntry("keep", "Keep", "", LoreType.LANDMARK);
+        bridge = new LoreEntry("bridge", "Bridge", "", LoreType.LANDMARK);
+        sword = new LoreEntry("sword", "Sword", "", LoreType.ITEM);
+    }
+
+    @Nested
+    @DisplayName("Loading")
+    class Loading {
+
+        @Test
+        @DisplayName("sorts every view by name")
+        void sortsViews() {
+            views.load(List.of(sword, keep, bridge));
+
+            assertEquals(List.of(bridge, keep, sword), views.snapshot(null));
+            assertEquals(List.of(bridge, keep), views.snapshot(LoreType.LANDMARK));
+            assertEquals(List.of(sword), views.snapshot(LoreType.ITEM));
+            assertEquals(3, views.size(null));
+        }
+
+        @Test
+        @DisplayName("skips entries with an ID already loaded")
+        void skipsDuplicates() {
+            views.load(List.of(keep, new LoreEntry("keep", "Other keep", "", LoreType.CITY)));
+
+            assertEquals(List.of(keep), views.snapshot(null));
+            assertEquals(0, views.size(LoreType.CITY));
+        }
+
+        @Test
+        @DisplayName("replaces what was there before")
+        void replaces() {
+            views.put(sword);
+            views.load(List.of(keep));
+
+            assertFalse(views.contains("sword"));
+            assertEquals(List.of(keep), views.snapshot(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Changes")
+    class Changes {
+
+        @BeforeEach
+        void load() {
+            views.load(List.of(keep, sword));
+        }
+
+        @Test
+        @DisplayName("inserts new entries in order")
+        void insertsInOrder() {
+            views.put(bridge);
+
+            assertEquals(List.of(bridge, keep, sword), views.snapshot(null));
+            assertEquals(LoreType.LANDMARK, views.typeOf("bridge"));
+        }
+
+        @Test
+        @DisplayName("moves an entry renamed or retyped in place")
+        void movesChangedEntry() {
+            keep.setName("Tower");
+            keep.setType(LoreType.CITY);
+            views.put(keep);
+
+            assertEquals(List.of(sword, keep), views.snapshot(null));
+            assertEquals(List.of(), views.snapshot(LoreType.LANDMARK));
+            assertEquals(List.of(keep), views.snapshot(LoreType.CITY));
+            assertEquals(LoreType.CITY, views.typeOf("keep"));
+        }
+
+        @Test
+        @DisplayName("removes entries by ID using the key they were added with")
+        void removes() {
+            keep.setName("Renamed before the change was published");
+
+            assertTrue(views.remove("keep"));
+            assertFalse(views.remove("keep"));
+            assertEquals(List.of(sword), views.snapshot(null));
+            assertNull(views.typeOf("keep"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Snapshots and pages")
+    class Reads {
+
+        @BeforeEach
+        void load() {
+            views.load(List.of(keep, bridge, sword));
+        }
+
+        @Test
+        @DisplayName("reuses a snapshot until its view changes")
+        void reusesSnapshot() {
+            List<LoreEntry> landmarks = views.snapshot(LoreType.LANDMARK);
+            List<LoreEntry> all = views.snapshot(null);
+
+            assertSame(landmarks, views.snapshot(LoreType.LANDMARK));
+            views.put(new LoreEntry("shield", "Shield", "", LoreType.ITEM));
+
+            assertSame(landmarks, views.snapshot(LoreType.LANDMARK));
+            assertNotSame(all, views.snapshot(null));
+            assertEquals(List.of(bridge, keep), landmarks);
+        }
+
+        @Test
+        @DisplayName("returns unmodifiable snapshots")
+        void unmodifiable() {
+            assertThrows(UnsupportedOperationException.class, () -> views.snapshot(null).add(sword));
+        }
+
+        @Test
+        @DisplayName("pages through a view and clamps out-of-range requests")
+        void pages() {
+            assertEquals(List.of(keep, sword), views.page(null, 1, 5));
+            assertEquals(List.of(bridge), views.page(LoreType.LANDMARK, 0, 1));
+            assertEquals(List.of(), views.page(null, 5, 5));
+            assertEquals(List.of(bridge, keep, sword), views.page(null, -1, Integer.MAX_VALUE));
+        }
+    }
+}
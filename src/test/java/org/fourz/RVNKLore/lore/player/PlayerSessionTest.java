@@ -0,0 +1,131 @@
+package org.fourz.RVNKLore.lore.player;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the per-player state loaded at login.
+ */
+@DisplayName("PlayerSession")
+class PlayerSessionTest {
+
+    private static final UUID PLAYER = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+    @Nested
+    @DisplayName("Collection progress")
+    class CollectionProgress {
+
+        @Test
+        @DisplayName("returns loaded progress and null for collections not started")
+        void loadedProgress() {
+            PlayerSession session = new PlayerSession(PLAYER, "Steve", true, "Steve",
+                List.of(), Map.of("relics", 0.25), Map.of());
+
+            assertEquals(0.25, session.getCollectionProgress("relics"));
+            assertNull(session.getCollectionProgress("maps"));
+        }
+
+        @Test
+        @DisplayName("records progress for started and new collections")
+        void updatesProgress() {
+            PlayerSession session = new PlayerSession(PLAYER, "Steve", true, "Steve",
+                List.of(), Map.of("relics", 0.25), Map.of());
+
+            session.setCollectionProgress("relics", 0.5);
+            session.setCollectionProgress("maps", 1.0);
+
+            assertEquals(0.5, session.getCollectionProgress("relics"));
+            assertEquals(1.0, session.getCollectionProgress("maps"));
+        }
+
+        @Test
+        @DisplayName("stays unknown when progress failed to load")
+        void unloadedProgress() {
+            PlayerSession session = new PlayerSession(PLAYER, "Steve", true, "Steve", List.of(), null, Map.of());
+
+            session.setCollectionProgress("relics", 0.5);
+
+            assertNull(session.getCollectionProgress("relics"));
+        }
+
+        @Test
+        @DisplayName("is not affected by later changes to the loaded map")
+        void copiesLoadedMap() {
+            Map<String, Double> loaded = new HashMap<>(Map.of("relics", 0.25));
+            PlayerSession session = new PlayerSession(PLAYER, "Steve", true, "Steve", List.of(), loaded, Map.of());
+
+            loaded.put("relics", 0.75);
+
+            assertEquals(0.25, session.getCollectionProgress("relics"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Discoveries")
+    class Discoveries {
+
+        @Test
+        @DisplayName("tracks loaded and newly marked discoveries")
+        void marksDiscovered() {
+            PlayerSession session = new PlayerSession(PLAYER, "Steve", true, "Steve",
+                List.of("a"), Map.of(), Map.of());
+
+            session.markDiscovered("b");
+
+            assertTrue(session.isDiscoveriesLoaded());
+            assertTrue(session.hasDiscovered("a"));
+            assertTrue(session.hasDiscovered("b"));
+            assertFalse(session.hasDiscovered("c"));
+            assertEquals(Set.of("a", "b"), session.getDiscoveredEntryIds());
+        }
+
+        @Test
+        @DisplayName("reports nothing discovered when discoveries failed to load")
+        void unloadedDiscoveries() {
+            PlayerSession session = new PlayerSession(PLAYER, "Steve", true, "Steve", null, Map.of(), Map.of());
+
+            session.markDiscovered("a");
+
+            assertFalse(session.isDiscoveriesLoaded());
+            assertFalse(session.hasDiscovered("a"));
+            assertEquals(Set.of(), session.getDiscoveredEntryIds());
+        }
+    }
+
+    @Nested
+    @DisplayName("Player lookup")
+    class PlayerLookup {
+
+        @Test
+        @DisplayName("becomes known once a join is recorded")
+        void recordName() {
+            PlayerSession session = new PlayerSession(PLAYER, "Alex", false, null, List.of(), Map.of(), Map.of());
+
+            assertTrue(session.isPlayerLoaded());
+            assertFalse(session.isKnownPlayer());
+
+            session.recordName("Alex");
+
+            assertTrue(session.isKnownPlayer());
+            assertEquals("Alex", session.getStoredName());
+        }
+
+        @Test
+        @DisplayName("is not loaded when the lookup failed")
+        void failedLookup() {
+            PlayerSession session = new PlayerSession(PLAYER, "Alex", null, null, List.of(), Map.of(), Map.of());
+
+            assertFalse(session.isPlayerLoaded());
+            assertFalse(session.isKnownPlayer());
+        }
+    }
+}
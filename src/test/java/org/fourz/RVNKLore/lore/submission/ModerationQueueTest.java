@@ -0,0 +1,100 @@
+package org.fourz.RVNKLore.lore.submission;
+
+import org.fourz.RVNKLore.data.dto.SubmissionSummaryDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the in-memory moderation queue.
+ */
+@DisplayName("ModerationQueue")
+class ModerationQueueTest {
+
+    private ModerationQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new ModerationQueue();
+    }
+
+    private static SubmissionSummaryDTO summary(int id, String entryId, long submittedAt) {
+        return new SubmissionSummaryDTO(id, entryId, "Entry " + entryId, "LANDMARK",
+            "00000000-0000-0000-0000-000000000001", new Timestamp(submittedAt), 1);
+    }
+
+    private static List<Integer> ids(List<SubmissionSummaryDTO> summaries) {
+        return summaries.stream().map(SubmissionSummaryDTO::id).toList();
+    }
+
+    @Test
+    @DisplayName("orders submissions oldest first, then by ID")
+    void ordering() {
+        queue.replaceAll(List.of(summary(3, "a", 2000), summary(1, "b", 3000), summary(2, "c", 2000)));
+
+        assertEquals(List.of(2, 3, 1), ids(queue.snapshot()));
+        assertEquals(3, queue.size());
+    }
+
+    @Test
+    @DisplayName("counts additions and removals")
+    void addRemove() {
+        assertTrue(queue.add(summary(1, "a", 1000)));
+        assertFalse(queue.add(summary(1, "a", 1000)));
+        assertTrue(queue.add(summary(2, "b", 2000)));
+        assertEquals(2, queue.size());
+
+        assertEquals(1, queue.remove(1).id());
+        assertNull(queue.remove(1));
+        assertEquals(1, queue.size());
+        assertFalse(queue.contains(1));
+    }
+
+    @Test
+    @DisplayName("pages through the queue")
+    void paging() {
+        for (int i = 1; i <= 5; i++) {
+            queue.add(summary(i, "e" + i, i * 1000L));
+        }
+
+        assertEquals(List.of(1, 2), ids(queue.page(0, 2)));
+        assertEquals(List.of(5), ids(queue.page(4, 2)));
+        assertTrue(queue.page(10, 2).isEmpty());
+    }
+
+    @Nested
+    @DisplayName("replaceEntry")
+    class ReplaceEntry {
+
+        @Test
+        @DisplayName("reports submissions that entered and left the queue")
+        void changes() {
+            queue.replaceAll(List.of(summary(1, "a", 1000), summary(2, "a", 2000), summary(3, "b", 3000)));
+
+            ModerationQueue.Changes changes = queue.replaceEntry("a", List.of(summary(2, "a", 2000), summary(4, "a", 4000)));
+
+            assertEquals(List.of(4), ids(changes.added()));
+            assertEquals(List.of(1), ids(changes.removed()));
+            assertEquals(List.of(2, 3, 4), ids(queue.snapshot()));
+            assertEquals(3, queue.size());
+        }
+
+        @Test
+        @DisplayName("empties an entry that has no pending submissions left")
+        void resolved() {
+            queue.replaceAll(List.of(summary(1, "a", 1000), summary(2, "b", 2000)));
+
+            ModerationQueue.Changes changes = queue.replaceEntry("a", List.of());
+
+            assertTrue(changes.added().isEmpty());
+            assertEquals(List.of(1), ids(changes.removed()));
+            assertEquals(List.of(2), ids(queue.snapshot()));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.fourz.RVNKLore.notification;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the per-player notification preference snapshot.
+ */
+@DisplayName("NotificationPreferences")
+class NotificationPreferencesTest {
+
+    private static final UUID PLAYER = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    private static NotificationPreferences snapshot(Map<String, Boolean> types, Map<String, Boolean> channels) {
+        return new NotificationPreferences(PLAYER, types, channels, 1_000L);
+    }
+
+    @Nested
+    @DisplayName("Types")
+    class Types {
+
+        @Test
+        @DisplayName("treats unknown types as enabled")
+        void unknownTypeEnabled() {
+            NotificationPreferences prefs = snapshot(Map.of(), Map.of());
+
+            assertTrue(prefs.isEnabled("achievement"));
+            assertTrue(prefs.isEnabled("discovery"));
+        }
+
+        @Test
+        @DisplayName("reports a disabled type")
+        void disabledType() {
+            NotificationPreferences prefs = snapshot(Map.of("achievement", false, "discovery", true), Map.of());
+
+            assertFalse(prefs.isEnabled("achievement"));
+            assertTrue(prefs.isEnabled("discovery"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Channels")
+    class Channels {
+
+        @Test
+        @DisplayName("treats unknown channels of an enabled type as enabled")
+        void unknownChannelEnabled() {
+            NotificationPreferences prefs = snapshot(Map.of("achievement", true), Map.of());
+
+            assertTrue(prefs.isChannelEnabled("achievement", "TITLE"));
+            assertTrue(prefs.isChannelEnabled("discovery", "SOUND"));
+        }
+
+        @Test
+        @DisplayName("disables every channel of a disabled type")
+        void disabledTypeDisablesChannels() {
+            NotificationPreferences prefs = snapshot(
+                Map.of("achievement", false),
+                Map.of(NotificationPreferences.channelKey("achievement", "TITLE"), true));
+
+            assertFalse(prefs.isChannelEnabled("achievement", "TITLE"));
+            assertFalse(prefs.isChannelEnabled("achievement", "CHAT"));
+        }
+
+        @Test
+        @DisplayName("disables only the channel turned off")
+        void perChannel() {
+            NotificationPreferences prefs = snapshot(
+                Map.of("discovery", true),
+                Map.of(NotificationPreferences.channelKey("discovery", "SOUND"), false));
+
+            assertFalse(prefs.isChannelEnabled("discovery", "SOUND"));
+            assertTrue(prefs.isChannelEnabled("discovery", "TITLE"));
+            assertTrue(prefs.isChannelEnabled("achievement", "SOUND"));
+        }
+
+        @Test
+        @DisplayName("keys channels by type and channel name")
+        void channelKey() {
+            assertEquals("discovery:ACTION_BAR", NotificationPreferences.channelKey("discovery", "ACTION_BAR"));
+        }
+    }
+
+    @Test
+    @DisplayName("is not affected by later changes to the maps it was built from")
+    void copiesInput() {
+        Map<String, Boolean> types = new HashMap<>(Map.of("achievement", true));
+        Map<String, Boolean> channels = new HashMap<>();
+        NotificationPreferences prefs = snapshot(types, channels);
+
+        types.put("achievement", false);
+        channels.put(NotificationPreferences.channelKey("discovery", "CHAT"), false);
+
+        assertTrue(prefs.isEnabled("achievement"));
+        assertTrue(prefs.isChannelEnabled("discovery", "CHAT"));
+        assertEquals(PLAYER, prefs.getPlayerId());
+        assertEquals(1_000L, prefs.getLoadedAt());
+    }
+}
@@ -0,0 +1,122 @@
+package org.fourz.RVNKLore.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the size- and weight-bounded LRU cache.
+ */
+@DisplayName("BoundedCache")
+class BoundedCacheTest {
+
+    private static BoundedCache<String, String> cache(int maxEntries, long maxWeight) {
+        return new BoundedCache<>("test", maxEntries, maxWeight, String::length);
+    }
+
+    @Nested
+    @DisplayName("Eviction")
+    class Eviction {
+
+        @Test
+        @DisplayName("evicts the least recently used entry when full")
+        void evictsLeastRecentlyUsed() {
+            BoundedCache<String, String> cache = cache(2, 100);
+            cache.put("a", "1");
+            cache.put("b", "2");
+            cache.get("a");
+            cache.put("c", "3");
+
+            assertEquals("1", cache.get("a"));
+            assertNull(cache.get("b"));
+            assertEquals("3", cache.get("c"));
+            assertEquals(1, cache.stats().evictions());
+        }
+
+        @Test
+        @DisplayName("evicts until the total weight fits")
+        void evictsByWeight() {
+            BoundedCache<String, String> cache = cache(10, 10);
+            cache.put("a", "aaaa");
+            cache.put("b", "bbbb");
+            cache.put("c", "cccccc");
+
+            assertNull(cache.get("a"));
+            assertEquals("bbbb", cache.get("b"));
+            assertEquals(10, cache.stats().weight());
+        }
+
+        @Test
+        @DisplayName("does not keep a value heavier than the cache")
+        void skipsOversizedValue() {
+            BoundedCache<String, String> cache = cache(10, 3);
+            cache.put("a", "aaaa");
+
+            assertEquals(0, cache.size());
+            assertEquals(0, cache.stats().weight());
+        }
+
+        @Test
+        @DisplayName("replacing a value updates the weight")
+        void replaceUpdatesWeight() {
+            BoundedCache<String, String> cache = cache(10, 100);
+            cache.put("a", "aaaa");
+            cache.put("a", "aa");
+
+            assertEquals(1, cache.size());
+            assertEquals(2, cache.stats().weight());
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation")
+    class Invalidation {
+
+        @Test
+        @DisplayName("rejects a load that raced an invalidation")
+        void rejectsStaleLoad() {
+            BoundedCache<String, String> cache = cache(10, 100);
+            long generation = cache.generation();
+            cache.invalidate("a");
+
+            assertFalse(cache.putIfCurrent("a", "stale", generation));
+            assertNull(cache.get("a"));
+            assertTrue(cache.putIfCurrent("a", "fresh", cache.generation()));
+        }
+
+        @Test
+        @DisplayName("removes matching entries")
+        void invalidateIf() {
+            BoundedCache<String, String> cache = cache(10, 100);
+            cache.put("a", "x");
+            cache.put("b", "yy");
+            cache.put("c", "x");
+
+            assertEquals(2, cache.invalidateIf((key, value) -> value.equals("x")));
+            assertEquals(1, cache.size());
+            assertEquals(2, cache.stats().weight());
+        }
+    }
+
+    @Test
+    @DisplayName("counts hits and misses")
+    void stats() {
+        BoundedCache<String, String> cache = cache(10, 100);
+        assertEquals(0.0, cache.stats().hitRate());
+        cache.put("a", "1");
+        cache.get("a");
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+
+        BoundedCache.Stats stats = cache.stats();
+        assertEquals(3, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(0.75, stats.hitRate(), 1e-9);
+
+        cache.resetStats();
+        assertEquals(0, cache.stats().hits());
+    }
+}
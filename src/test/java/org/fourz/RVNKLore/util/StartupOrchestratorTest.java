@@ -0,0 +1,111 @@
+package org.fourz.RVNKLore.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for running startup phases as a dependency graph.
+ */
+@DisplayName("StartupOrchestrator")
+class StartupOrchestratorTest {
+
+    @Nested
+    @DisplayName("Ordering")
+    class Ordering {
+
+        @Test
+        @DisplayName("runs main-thread phases on the calling thread in dependency order")
+        void mainThreadPhases() throws Exception {
+            Thread caller = Thread.currentThread();
+            List<String> order = Collections.synchronizedList(new ArrayList<>());
+            StartupOrchestrator startup = new StartupOrchestrator("test", 2);
+            startup.phase("first", () -> order.add("first"));
+            startup.asyncPhase("load", () -> {
+                assertNotSame(caller, Thread.currentThread());
+                order.add("load");
+            }, "first");
+            startup.phase("register", () -> {
+                assertSame(caller, Thread.currentThread());
+                order.add("register");
+            }, "load");
+
+            startup.run();
+
+            assertEquals(List.of("first", "load", "register"), order);
+            assertEquals(3, startup.getTimings().size());
+        }
+
+        @Test
+        @DisplayName("runs independent async phases concurrently")
+        void concurrentAsyncPhases() throws Exception {
+            CountDownLatch bothStarted = new CountDownLatch(2);
+            StartupOrchestrator startup = new StartupOrchestrator("test", 2);
+            startup.asyncPhase("a", () -> {
+                bothStarted.countDown();
+                assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+            });
+            startup.asyncPhase("b", () -> {
+                bothStarted.countDown();
+                assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+            });
+
+            startup.run();
+
+            assertEquals(0, bothStarted.getCount());
+        }
+
+        @Test
+        @DisplayName("reports the longest dependency chain")
+        void criticalPath() throws Exception {
+            StartupOrchestrator startup = new StartupOrchestrator("test", 2);
+            startup.phase("database", () -> { });
+            startup.asyncPhase("slow", () -> Thread.sleep(100), "database");
+            startup.asyncPhase("fast", () -> { }, "database");
+            startup.phase("commands", () -> { }, "slow", "fast");
+
+            startup.run();
+
+            assertEquals(List.of("database", "slow", "commands"), startup.getCriticalPath());
+        }
+    }
+
+    @Nested
+    @DisplayName("Failures")
+    class Failures {
+
+        @Test
+        @DisplayName("rethrows the first failure and skips dependent phases")
+        void failureStopsStartup() {
+            List<String> ran = new ArrayList<>();
+            StartupOrchestrator startup = new StartupOrchestrator("test", 2);
+            startup.asyncPhase("load", () -> {
+                throw new IllegalStateException("boom");
+            });
+            startup.phase("register", () -> ran.add("register"), "load");
+
+            IllegalStateException error = assertThrows(IllegalStateException.class, startup::run);
+
+            assertEquals("boom", error.getMessage());
+            assertTrue(ran.isEmpty());
+        }
+
+        @Test
+        @DisplayName("rejects unknown and duplicate phases")
+        void invalidGraph() {
+            StartupOrchestrator startup = new StartupOrchestrator("test", 1);
+            startup.phase("a", () -> { });
+
+            assertThrows(IllegalArgumentException.class, () -> startup.phase("b", () -> { }, "missing"));
+            assertThrows(IllegalArgumentException.class, () -> startup.phase("a", () -> { }));
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package org.fourz.RVNKLore.util.scheduler;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * {@link LoreScheduler} for unit tests: nothing runs until the test advances time with
+ * {@link #tick()} or runs the async queue, and every task records the scope it was
+ * scheduled in.
+ */
+class FakeLoreScheduler implements LoreScheduler {
+
+    enum Scope { ENTITY, LOCATION, GLOBAL, ASYNC }
+
+    final class Scheduled implements LoreTask {
+        final Scope scope;
+        final Entity entity;
+        final Runnable task;
+        final Runnable retired;
+        final long period;
+        long dueTick;
+        boolean cancelled;
+
+        private Scheduled(Scope scope, Entity entity, Runnable task, Runnable retired, long delay, long period) {
+            this.scope = scope;
+            this.entity = entity;
+            this.task = task;
+            this.retired = retired;
+            this.period = period;
+            this.dueTick = currentTick + Math.max(1, delay);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            pending.remove(this);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    private final List<Scheduled> pending = new ArrayList<>();
+    private final List<Runnable> async = new ArrayList<>();
+    private long currentTick;
+    private boolean ownedByCurrentThread;
+
+    /**
+     * Set whether the test thread counts as the owner of every entity.
+     */
+    void setOwnedByCurrentThread(boolean owned) {
+        this.ownedByCurrentThread = owned;
+    }
+
+    /**
+     * Advance one tick and run every task due by then, in scheduling order.
+     */
+    void tick() {
+        currentTick++;
+        for (Scheduled scheduled : new ArrayList<>(pending)) {
+            if (scheduled.cancelled || scheduled.dueTick > currentTick) {
+                continue;
+            }
+            if (scheduled.period > 0) {
+                scheduled.dueTick = currentTick + scheduled.period;
+            } else {
+                pending.remove(scheduled);
+            }
+            scheduled.task.run();
+        }
+    }
+
+    void tick(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            tick();
+        }
+    }
+
+    /**
+     * Run every queued async task.
+     */
+    void runAsyncTasks() {
+        List<Runnable> tasks = new ArrayList<>(async);
+        async.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    /**
+     * Remove an entity: its pending tasks are dropped and their retired callbacks run.
+     */
+    void retire(Entity entity) {
+        Iterator<Scheduled> it = pending.iterator();
+        List<Runnable> callbacks = new ArrayList<>();
+        while (it.hasNext()) {
+            Scheduled scheduled = it.next();
+            if (scheduled.entity == entity) {
+                it.remove();
+                scheduled.cancelled = true;
+                if (scheduled.retired != null) {
+                    callbacks.add(scheduled.retired);
+                }
+            }
+        }
+        callbacks.forEach(Runnable::run);
+    }
+
+    List<Scheduled> getPending() {
+        return List.copyOf(pending);
+    }
+
+    int getAsyncQueueSize() {
+        return async.size();
+    }
+
+    private Scheduled schedule(Scope scope, Entity entity, Runnable task, Runnable retired, long delay, long period) {
+        Scheduled scheduled = new Scheduled(scope, entity, task, retired, delay, period);
+        pending.add(scheduled);
+        return scheduled;
+    }
+
+    @Override
+    public void runForEntity(Entity entity, Runnable task, Runnable retired) {
+        schedule(Scope.ENTITY, entity, task, retired, 1, 0);
+    }
+
+    @Override
+    public LoreTask runForEntityLater(Entity entity, Runnable task, long delayTicks) {
+        return schedule(Scope.ENTITY, entity, task, null, delayTicks, 0);
+    }
+
+    @Override
+    public void runAtLocation(Location location, Runnable task) {
+        schedule(Scope.LOCATION, null, task, null, 1, 0);
+    }
+
+    @Override
+    public void runGlobal(Runnable task) {
+        schedule(Scope.GLOBAL, null, task, null, 1, 0);
+    }
+
+    @Override
+    public LoreTask runGlobalLater(Runnable task, long delayTicks) {
+        return schedule(Scope.GLOBAL, null, task, null, delayTicks, 0);
+    }
+
+    @Override
+    public LoreTask runGlobalTimer(Runnable task, long delayTicks, long periodTicks) {
+        return schedule(Scope.GLOBAL, null, task, null, delayTicks, Math.max(1, periodTicks));
+    }
+
+    @Override
+    public void runAsync(Runnable task) {
+        async.add(task);
+    }
+
+    @Override
+    public boolean isOwnedByCurrentThread(Entity entity) {
+        return ownedByCurrentThread;
+    }
+
+    @Override
+    public boolean isRegionized() {
+        return false;
+    }
+
+    @Override
+    public void cancelAll() {
+        new ArrayList<>(pending).forEach(Scheduled::cancel);
+        async.clear();
+    }
+}
@@ -0,0 +1,111 @@
+package org.fourz.RVNKLore.util.scheduler;
+
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for the scheduling helpers shared by every {@link LoreScheduler}, run against
+ * {@link FakeLoreScheduler}.
+ */
+@DisplayName("LoreScheduler")
+class LoreSchedulerTest {
+
+    private FakeLoreScheduler scheduler;
+    private Player player;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new FakeLoreScheduler();
+        player = mock(Player.class);
+    }
+
+    @Nested
+    @DisplayName("supplyForEntity")
+    class SupplyForEntity {
+
+        @Test
+        @DisplayName("runs immediately on the entity's own thread")
+        void inline() {
+            scheduler.setOwnedByCurrentThread(true);
+
+            CompletableFuture<String> result = scheduler.supplyForEntity(player, () -> "done");
+
+            assertEquals("done", result.getNow(null));
+            assertTrue(scheduler.getPending().isEmpty());
+        }
+
+        @Test
+        @DisplayName("waits for the entity's thread otherwise")
+        void scheduled() {
+            CompletableFuture<String> result = scheduler.supplyForEntity(player, () -> "done");
+
+            assertFalse(result.isDone());
+            assertEquals(FakeLoreScheduler.Scope.ENTITY, scheduler.getPending().get(0).scope);
+
+            scheduler.tick();
+            assertEquals("done", result.getNow(null));
+        }
+
+        @Test
+        @DisplayName("fails when the supplier throws")
+        void supplierThrows() {
+            scheduler.setOwnedByCurrentThread(true);
+
+            CompletableFuture<String> result = scheduler.supplyForEntity(player, () -> {
+                throw new IllegalArgumentException("boom");
+            });
+
+            ExecutionException error = assertThrows(ExecutionException.class, result::get);
+            assertInstanceOf(IllegalArgumentException.class, error.getCause());
+        }
+
+        @Test
+        @DisplayName("fails when the entity is removed before the task runs")
+        void retired() {
+            CompletableFuture<String> result = scheduler.supplyForEntity(player, () -> "done");
+
+            scheduler.retire(player);
+
+            assertTrue(result.isCompletedExceptionally());
+            scheduler.tick();
+            assertTrue(scheduler.getPending().isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("runFor uses the player's thread for players and the global thread otherwise")
+    void runForSender() {
+        scheduler.runFor(player, () -> { });
+        scheduler.runFor(mock(ConsoleCommandSender.class), () -> { });
+
+        assertEquals(FakeLoreScheduler.Scope.ENTITY, scheduler.getPending().get(0).scope);
+        assertSame(player, scheduler.getPending().get(0).entity);
+        assertEquals(FakeLoreScheduler.Scope.GLOBAL, scheduler.getPending().get(1).scope);
+    }
+
+    @Test
+    @DisplayName("timers repeat until cancelled")
+    void timer() {
+        AtomicInteger runs = new AtomicInteger();
+        LoreTask task = scheduler.runGlobalTimer(runs::incrementAndGet, 2, 3);
+
+        scheduler.tick(8);
+        assertEquals(3, runs.get());
+
+        task.cancel();
+        scheduler.tick(10);
+        assertEquals(3, runs.get());
+        assertTrue(task.isCancelled());
+    }
+}